@@ -0,0 +1,268 @@
+package com.tailf.jnc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A compact binary encoding of schema files, read by {@link SchemaParser}
+ * as an alternative to the XML format. All strings, tagpath segments,
+ * namespaces and children names, are stored once in a string table and
+ * referred to by index, so the nodes of a schema share their strings and
+ * loading needs no splitting or number parsing.
+ * <pre>
+ * int    magic "JNCS"
+ * short  version
+ * int    string count, then per string: int length, UTF-8 bytes
+ * int    node count, then per node:
+ *        int tagpath length, string indexes
+ *        int namespace
+ *        int primitive_type, int min_occurs, int max_occurs
+ *        int children count (-1 for none), string indexes
+ *        long flags
+ *        int desc
+ *        int revision info count (-1 for none), then per info:
+ *            int type, int idata, int data, int introduced
+ * </pre>
+ * Integers are big endian, string index -1 stands for null.
+ */
+public final class BinarySchema {
+
+    /** "JNCS" */
+    public static final int MAGIC = 0x4A4E4353;
+
+    public static final int VERSION = 1;
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private BinarySchema() {
+    }
+
+    /**
+     * @param header the first bytes of a schema file
+     * @return true if header starts with the magic number of the binary
+     * format
+     */
+    public static boolean isBinary(byte[] header, int length) {
+        return length >= 4 && ByteBuffer.wrap(header, 0, 4).getInt() == MAGIC;
+    }
+
+    /**
+     * Writes schema nodes in the binary format.
+     */
+    public static void write(Collection<SchemaNode> nodes, OutputStream out) throws IOException {
+        final Map<String, Integer> strings = new LinkedHashMap<String, Integer>();
+        for (final SchemaNode node : nodes) {
+            for (final String tag : node.tagpath.p) {
+                index(strings, tag);
+            }
+            index(strings, node.namespace);
+            if (node.children != null) {
+                for (final String child : node.children) {
+                    index(strings, child);
+                }
+            }
+            index(strings, node.desc);
+            if (node.revInfo != null) {
+                for (final RevisionInfo ri : node.revInfo) {
+                    index(strings, ri.data);
+                    index(strings, ri.introduced);
+                }
+            }
+        }
+
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        final DataOutputStream data = new DataOutputStream(buffer);
+        data.writeInt(MAGIC);
+        data.writeShort(VERSION);
+        data.writeInt(strings.size());
+        for (final String s : strings.keySet()) {
+            final byte[] bytes = s.getBytes(UTF8);
+            data.writeInt(bytes.length);
+            data.write(bytes);
+        }
+        data.writeInt(nodes.size());
+        for (final SchemaNode node : nodes) {
+            data.writeInt(node.tagpath.p.length);
+            for (final String tag : node.tagpath.p) {
+                data.writeInt(index(strings, tag));
+            }
+            data.writeInt(index(strings, node.namespace));
+            data.writeInt(node.primitive_type);
+            data.writeInt(node.min_occurs);
+            data.writeInt(node.max_occurs);
+            if (node.children == null) {
+                data.writeInt(-1);
+            } else {
+                data.writeInt(node.children.length);
+                for (final String child : node.children) {
+                    data.writeInt(index(strings, child));
+                }
+            }
+            data.writeLong(node.flags);
+            data.writeInt(index(strings, node.desc));
+            if (node.revInfo == null) {
+                data.writeInt(-1);
+            } else {
+                data.writeInt(node.revInfo.length);
+                for (final RevisionInfo ri : node.revInfo) {
+                    data.writeInt(ri.type);
+                    data.writeInt(ri.idata);
+                    data.writeInt(index(strings, ri.data));
+                    data.writeInt(index(strings, ri.introduced));
+                }
+            }
+        }
+        data.flush();
+        buffer.writeTo(out);
+    }
+
+    private static int index(Map<String, Integer> strings, String s) {
+        if (s == null) {
+            return -1;
+        }
+        Integer index = strings.get(s);
+        if (index == null) {
+            index = strings.size();
+            strings.put(s, index);
+        }
+        return index;
+    }
+
+    /**
+     * Reads a schema in the binary format and adds its nodes to h, which is
+     * grown once to fit them all.
+     *
+     * @throws JNCException if the input is not a schema in the binary format
+     */
+    public static void read(InputStream in, Map<Tagpath, SchemaNode> h) throws IOException, JNCException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] chunk = new byte[8192];
+        int n;
+        while ((n = in.read(chunk)) != -1) {
+            out.write(chunk, 0, n);
+        }
+        read(out.toByteArray(), h);
+    }
+
+    static void read(byte[] bytes, Map<Tagpath, SchemaNode> h) throws JNCException {
+        try {
+            final ByteBuffer buf = ByteBuffer.wrap(bytes);
+            if (buf.getInt() != MAGIC) {
+                throw new JNCException(JNCException.PARSER_ERROR, "not a binary schema");
+            }
+            final int version = buf.getShort();
+            if (version != VERSION) {
+                throw new JNCException(JNCException.PARSER_ERROR, "unsupported binary schema version " + version);
+            }
+            final String[] strings = new String[buf.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                final int length = buf.getInt();
+                strings[i] = new String(bytes, buf.position(), length, UTF8);
+                buf.position(buf.position() + length);
+            }
+            final SchemaNode[] nodes = new SchemaNode[buf.getInt()];
+            for (int i = 0; i < nodes.length; i++) {
+                final SchemaNode node = new SchemaNode();
+                node.tagpath = new Tagpath(buf.getInt());
+                for (int j = 0; j < node.tagpath.p.length; j++) {
+                    node.tagpath.p[j] = string(strings, buf.getInt());
+                }
+                node.namespace = string(strings, buf.getInt());
+                node.primitive_type = buf.getInt();
+                node.min_occurs = buf.getInt();
+                node.max_occurs = buf.getInt();
+                final int children = buf.getInt();
+                if (children >= 0) {
+                    node.children = new String[children];
+                    for (int j = 0; j < children; j++) {
+                        node.children[j] = string(strings, buf.getInt());
+                    }
+                }
+                node.flags = buf.getLong();
+                node.desc = string(strings, buf.getInt());
+                final int revInfos = buf.getInt();
+                if (revInfos >= 0) {
+                    node.revInfo = new RevisionInfo[revInfos];
+                    for (int j = 0; j < revInfos; j++) {
+                        final RevisionInfo ri = new RevisionInfo();
+                        ri.type = buf.getInt();
+                        ri.idata = buf.getInt();
+                        ri.data = string(strings, buf.getInt());
+                        ri.introduced = string(strings, buf.getInt());
+                        node.revInfo[j] = ri;
+                    }
+                }
+                nodes[i] = node;
+            }
+            h.putAll(new NodeMap(nodes));
+        } catch (final RuntimeException e) {
+            // truncated input or an index out of the string table
+            throw new JNCException(JNCException.PARSER_ERROR, "corrupt binary schema: " + e, e);
+        }
+    }
+
+    private static String string(String[] strings, int index) {
+        return index < 0 ? null : strings[index];
+    }
+
+    /**
+     * The nodes of a schema as a map by tagpath, putAll sizes the target
+     * map for all of them up front.
+     */
+    private static class NodeMap extends AbstractMap<Tagpath, SchemaNode> {
+        private final SchemaNode[] nodes;
+
+        NodeMap(SchemaNode[] nodes) {
+            this.nodes = nodes;
+        }
+
+        @Override
+        public Set<Entry<Tagpath, SchemaNode>> entrySet() {
+            return new AbstractSet<Entry<Tagpath, SchemaNode>>() {
+                @Override
+                public Iterator<Entry<Tagpath, SchemaNode>> iterator() {
+                    return new Iterator<Entry<Tagpath, SchemaNode>>() {
+                        private int i = 0;
+
+                        @Override
+                        public boolean hasNext() {
+                            return i < nodes.length;
+                        }
+
+                        @Override
+                        public Entry<Tagpath, SchemaNode> next() {
+                            if (i >= nodes.length) {
+                                throw new NoSuchElementException();
+                            }
+                            final SchemaNode node = nodes[i++];
+                            return new SimpleImmutableEntry<Tagpath, SchemaNode>(node.tagpath, node);
+                        }
+
+                        @Override
+                        public void remove() {
+                            throw new UnsupportedOperationException();
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return nodes.length;
+                }
+            };
+        }
+    }
+}
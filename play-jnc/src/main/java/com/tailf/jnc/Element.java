@@ -490,6 +490,7 @@ public class Element implements Serializable {
 
         children.add(child);
         child.parent = this;
+        childAdded(child);
     }
 
     /**
@@ -529,6 +530,7 @@ public class Element implements Serializable {
 
         child.parent = this;
         children.add(index, child);
+        childAdded(child);
         return children.indexOf(child);
     }
 
@@ -566,9 +568,57 @@ public class Element implements Serializable {
         }
 
         children.add(pos, child);
+        childAdded(child);
         return pos;
     }
 
+    /**
+     * Inserts a child element at the correct position by providing structure
+     * information (the position of each child name). The position is found
+     * by binary search, so the children must already be in order, which the
+     * insert methods taking structure information maintain. Children with
+     * names not in ordinals are placed last.
+     * 
+     * @param child Child element to be inserted
+     * @param ordinals The position of each name among the names of all
+     *            children.
+     * @throws JNCException If child is already a child of another element.
+     */
+    public int insertChild(Element child, Map<String, Integer> ordinals)
+            throws JNCException {
+        if (child.parent != null) {
+            throw new JNCException(JNCException.ELEMENT_ALREADY_IN_USE, this);
+        }
+
+        if (children == null) {
+            children = new NodeSet();
+        }
+
+        child.parent = this;
+
+        // after the last child with an ordinal not above the one of child
+        final int ordinal = ordinal(ordinals, child.name);
+        int low = 0;
+        int high = children.size();
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (ordinal(ordinals, children.getElement(mid).name) <= ordinal) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        children.add(low, child);
+        childAdded(child);
+        return low;
+    }
+
+    private static int ordinal(Map<String, Integer> ordinals, String name) {
+        final Integer ordinal = ordinals.get(name);
+        return ordinal == null ? Integer.MAX_VALUE : ordinal;
+    }
+
     /**
      * Inserts a child element first in the list of children. Always returns 0.
      * 
@@ -643,11 +693,34 @@ public class Element implements Serializable {
             if (child == children.getElement(i)) {
                 children.remove(i);
                 child.parent = null;
+                childDeleted(child);
                 break;
             }
         }
     }
 
+    /**
+     * Called when a child has been added by one of the add and insert
+     * methods. Generated classes keeping references to their children
+     * override this, the default implementation does nothing.
+     * <p>
+     * Children added to the {@link #getChildren() NodeSet} directly are not
+     * seen.
+     * 
+     * @param child The added child
+     */
+    protected void childAdded(Element child) {
+    }
+
+    /**
+     * Called when a child has been deleted by one of the delete methods.
+     * 
+     * @param child The deleted child
+     * @see #childAdded(Element)
+     */
+    protected void childDeleted(Element child) {
+    }
+
     /**
      * Returns <code>true</code> if this node has any children,
      * <code>false</code> otherwise.
@@ -1993,6 +2066,125 @@ public class Element implements Serializable {
         out.print("</" + qName + ">" + (newline_at_end ? "\n" : ""));
     }
 
+    /**
+     * Encode to XML and append it to the provided buffer. Gives the same
+     * output as encode(out, newline_at_end, <code>null</code>), but the
+     * prefix of this element is passed on to the children, so children of
+     * the same namespace are written without looking up their prefixes in
+     * the ancestors.
+     *
+     * @param out Buffer to append the encoded version of this element to.
+     * @param newline_at_end If 'true' a newline is appended at the end.
+     * @param parentPrefix The prefix of the parent, or <code>null</code> if
+     *            it is not known.
+     * @throws JNCException If a YangElement encode implementation fails.
+     */
+    protected void encode(StringBuilder out, boolean newline_at_end,
+            String parentPrefix) throws JNCException {
+        String prefix = null;
+        if (namespace != null && prefixes != null) {
+            prefix = prefixes.nsToPrefix(namespace);
+        }
+        if (prefix == null) {
+            if (parentPrefix != null && parent != null && namespace != null
+                    && namespace.equals(parent.namespace)) {
+                // not bound here, so bound as for the parent
+                prefix = parentPrefix;
+            } else {
+                prefix = prefix();
+                if (prefix == null) {
+                    prefix = "";
+                }
+            }
+        }
+        out.append('<');
+        appendName(out, prefix, name);
+        // add xmlns attributes (prefixes)
+        if (prefixes != null) {
+            for (final Prefix p : prefixes) {
+                final Prefix pPrefix = parent == null || parent.prefixes == null
+                        ? null : parent.prefixes.lookup(p.name);
+                if (pPrefix == null || !pPrefix.value.equals(p.value)) {
+                    // not declared by the parent already
+                    out.append(' ').append(p.toXMLString());
+                }
+            }
+        }
+        // add attributes
+        if (attrs != null) {
+            for (final Attribute attr : attrs) {
+                out.append(' ').append(attr.toXMLString(this));
+            }
+        }
+        if (hasChildren()) {
+            // add children elements if any
+            out.append(">\n");
+            for (final Element child : children) {
+                encodeChild(out, child, prefix);
+            }
+        } else if (value != null) {
+            // otherwise, add value (if any)
+            out.append('>');
+            appendEscaped(out, value.toString());
+        } else {
+            // self-closing tag
+            out.append("/>");
+            if (newline_at_end) {
+                out.append('\n');
+            }
+            return;
+        }
+        out.append("</");
+        appendName(out, prefix, name);
+        out.append('>');
+        if (newline_at_end) {
+            out.append('\n');
+        }
+    }
+
+    /**
+     * Appends a child to the buffer of
+     * {@link #encode(StringBuilder, boolean, String)}, overridden by
+     * generated classes that know how to write their leaves.
+     *
+     * @param out Buffer to append the encoded version of child to.
+     * @param child The child to encode.
+     * @param prefix The prefix of this element.
+     * @throws JNCException If a YangElement encode implementation fails.
+     */
+    protected void encodeChild(StringBuilder out, Element child, String prefix)
+            throws JNCException {
+        child.encode(out, true, prefix);
+    }
+
+    /**
+     * Appends name qualified with prefix, unless prefix is empty.
+     */
+    static void appendName(StringBuilder out, String prefix, String name) {
+        if (prefix.length() > 0) {
+            out.append(prefix).append(':');
+        }
+        out.append(name);
+    }
+
+    /**
+     * Appends s escaped as XML text. Strings without markup characters,
+     * control characters and surrogates, which escaping leaves as they are,
+     * are appended without the expense of {@link Utils#escapeXml(String)}.
+     */
+    static void appendEscaped(StringBuilder out, String s) {
+        for (int i = 0; i < s.length(); i++) {
+            final char c = s.charAt(i);
+            if (c < ' ' || c == '&' || c == '<' || c == '>'
+                    || (c > '~' && (c < '\u00a0' || c >= '\ud800'
+                            || c == '\u2028' || c == '\u2029'))) {
+                out.append(Utils.escapeXml(s));
+                return;
+            }
+        }
+        out.append(s);
+    }
+
     /**
      * Return the full tagpath for this Element
      * 
@@ -24,15 +24,32 @@ class ElementHandler extends DefaultHandler {
     public Element top;
     public PrefixMap prefixes = null;
     public int unknownLevel = 0;
+    ReplyVisitor.Tracker visitor = null;
+    Selection.Tracker selection = null;
     
-    private boolean leaf = false;
+    boolean leaf = false;
     private String leafNs;
     private String leafName;
-    private String leafValue;
+
+    // text of the current element or leaf since its last start or end tag
+    private final StringBuilder text = new StringBuilder();
+    private boolean hasText = false;
+    // the current element had a child that was not selected, or that was
+    // passed to the visitor
+    private boolean skippedChild = false;
 
     @Override
     public void startElement(String uri, String localName, String qName,
             Attributes attributes) throws SAXException {
+        if (selection != null && !selection.start(localName)) {
+            skippedChild = true;
+            prefixes = null;
+            return;
+        }
+        // the parent will have a child, so its text is not kept
+        text.setLength(0);
+        hasText = false;
+        skippedChild = false;
 
         if (unknownLevel > 0) {
             unkownStartElement(uri, localName, attributes);
@@ -65,7 +82,6 @@ class ElementHandler extends DefaultHandler {
             leaf = true;
             leafNs = uri;
             leafName = localName;
-            leafValue = "";
             return;
         }
         child.prefixes = prefixes;
@@ -98,19 +114,51 @@ class ElementHandler extends DefaultHandler {
         }
     }
 
-    private void unknownEndElement() {
+    private void unknownEndElement() throws SAXException {
+        endText();
+        stepUp();
+    }
+
+    private void stepUp() throws SAXException {
+        final Element child = current;
+        current = current.getParent();
+        if (visitor != null && visitor.ended(child)) {
+            skippedChild = true;
+        }
+    }
+
+    /**
+     * Tells if an element is not selected, handling it as a skipped child of
+     * the current element if so. None of its events are to be passed on then.
+     */
+    boolean skips(String localName) {
+        if (selection == null || selection.selects(localName)) {
+            return false;
+        }
+        skippedChild = true;
+        prefixes = null;
+        return true;
+    }
+
+    private void endText() {
         // check that we don't have mixed content
-        if (current.hasChildren() && current.value != null) {
+        if (current.hasChildren() || skippedChild) {
             // MIXED content not allowed
             current.value = null;
+        } else if (hasText) {
+            current.value = text.toString();
         }
-        // step up
-        current = current.getParent();
+        text.setLength(0);
+        hasText = false;
+        skippedChild = false;
     }
 
     @Override
     public void endElement(String uri, String localName, String qName)
             throws SAXException {
+        if (selection != null && !selection.end()) {
+            return;
+        }
         if (unknownLevel > 0) {
             unknownEndElement();
             unknownLevel--;
@@ -120,6 +168,9 @@ class ElementHandler extends DefaultHandler {
         if (leaf) {
             // If it's a Leaf - we need to set value properly using
             // the setLeafValue method which will check restrictions
+            final String leafValue = text.toString();
+            text.setLength(0);
+            hasText = false;
             try {
             ((YangElement) current).setLeafValue(leafNs, leafName, leafValue);
             } catch (final JNCException e) {
@@ -127,43 +178,24 @@ class ElementHandler extends DefaultHandler {
                 throw new SAXException(e.toString(),e);
             }
         } else {
-            // check that we don't have mixed content
-            if (current.hasChildren() && current.value != null) {
-                // MIXED content not allowed
-                current.value = null;
-            }
+            endText();
         }
 
         // step up
         if (!leaf) {
-            current = current.getParent();
+            stepUp();
         } else {
             leaf = false;
         }
     }
 
-    private void unknownCharacters(char[] ch, int start, int length) {
-        if (current.value == null) {
-            current.value = "";
-        }
-        current.value = current.value + new String(ch, start, length);
-    }
-
     @Override
     public void characters(char[] ch, int start, int length) {
-        if (unknownLevel > 0) {
-            unknownCharacters(ch, start, length);
+        if (selection != null && selection.skipping()) {
             return;
         }
-
-        if (leaf) {
-            leafValue = leafValue + new String(ch, start, length);
-        } else {
-            if (current.value == null) {
-                current.value = "";
-            }
-            current.value = current.value + new String(ch, start, length);
-        }
+        text.append(ch, start, length);
+        hasText = true;
     }
 
     @Override
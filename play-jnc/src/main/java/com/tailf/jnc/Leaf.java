@@ -86,7 +86,7 @@ public class Leaf extends Element {
 
     public boolean isKey() {
         final YangElement p = (YangElement) getParent();
-        final String[] keys = p.keyNames();
+        final String[] keys = p.sharedKeyNames();
         if (keys == null) {
             return false;
         }
@@ -1,8 +1,13 @@
 package com.tailf.jnc;
 
 import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
 
+import org.xml.sax.InputSource;
+
 /**
  * A NETCONF session class. It makes it possible to connect to a NETCONF agent
  * using a preferred transport mechanism. After a successful connect all
@@ -188,7 +193,7 @@ public class NetconfSession {
     }
 
     /**
-     * The XML parser instance.
+     * The XML parser instance. Parsers can be shared by sessions.
      */
     XMLParser parser;
 
@@ -301,9 +306,7 @@ public class NetconfSession {
         trace("hello: ");
         encode_hello(out);
         out.flush();
-        final StringBuffer reply = in.readOne();
-        // System.out.println("reply= "+ reply);
-        final Element t = parser.parse(reply.toString());
+        final Element t = recv_reply(parser, "hello");
         final Element capatree = t.getFirst("self::hello/capabilities");
         if (capatree == null) {
             throw new JNCException(JNCException.SESSION_ERROR,
@@ -343,8 +346,7 @@ public class NetconfSession {
     public Element rpc(String request) throws IOException, JNCException {
         out.print(request);
         out.flush();
-        final StringBuffer reply = in.readOne();
-        return parser.parse(reply.toString());
+        return recv_reply(parser, "reply");
     }
 
     /**
@@ -364,8 +366,7 @@ public class NetconfSession {
         // print, but no newline at the end
         request.encode(out, false, capabilities);
         out.flush();
-        final StringBuffer reply = in.readOne();
-        return parser.parse(reply.toString());
+        return recv_reply(parser, "reply");
     }
 
     /**
@@ -412,8 +413,7 @@ public class NetconfSession {
      * @see #sendRequest(Element)
      */
     public Element readReply() throws IOException, JNCException {
-        final StringBuffer reply = in.readOne();
-        return parser.parse(reply.toString());
+        return recv_reply(parser, "reply");
     }
 
     /**
@@ -484,12 +484,45 @@ public class NetconfSession {
      */
     public NodeSet getConfig(int datastore, Element subtreeFilter)
             throws JNCException, IOException {
+        return getConfig(datastore, subtreeFilter, null);
+    }
+
+    /**
+     * Gets the device configuration data specified by subtree filtering,
+     * passing the entries of the reply to a visitor while it is parsed.
+     * 
+     * @param datastore The datastore. One of {@link #RUNNING},
+     *            {@link #CANDIDATE}, {@link #STARTUP}
+     * @param subtreeFilter A subtree filter
+     * @param visitor Receives the entries of the reply
+     * @return The data of the reply, without the entries
+     * @see ReplyVisitor
+     */
+    public NodeSet getConfig(int datastore, Element subtreeFilter,
+            ReplyVisitor visitor) throws JNCException, IOException {
+        return getConfig(datastore, subtreeFilter, visitor, null);
+    }
+
+    /**
+     * Gets the device configuration data specified by subtree filtering,
+     * parsing only the selected parts of the reply.
+     * 
+     * @param datastore The datastore. One of {@link #RUNNING},
+     *            {@link #CANDIDATE}, {@link #STARTUP}
+     * @param subtreeFilter A subtree filter
+     * @param visitor Receives the entries of the reply, or <code>null</code>
+     * @param select The parts of the data to parse
+     * @see Selection
+     */
+    public NodeSet getConfig(int datastore, Element subtreeFilter,
+            ReplyVisitor visitor, Selection select) throws JNCException,
+            IOException {
         trace("getConfig: " + datastoreToString(datastore) + "\n"
                 + subtreeFilter.toXMLString());
         final int mid = encode_getConfig(out, encode_datastore(datastore),
                 subtreeFilter);
         out.flush();
-        return recv_rpc_reply_data(mid);
+        return recv_rpc_reply_data(mid, visitor, select);
     }
 
     /**
@@ -501,6 +534,39 @@ public class NetconfSession {
      */
     public NodeSet getConfig(int datastore, String xpath)
             throws JNCException, IOException {
+        return getConfig(datastore, xpath, null);
+    }
+
+    /**
+     * Gets the device configuration data specified by an xpath filter,
+     * passing the entries of the reply to a visitor while it is parsed.
+     * 
+     * @param datastore The datastore. One of {@link #RUNNING},
+     *            {@link #CANDIDATE}, {@link #STARTUP}
+     * @param xpath XPath expression
+     * @param visitor Receives the entries of the reply
+     * @return The data of the reply, without the entries
+     * @see ReplyVisitor
+     */
+    public NodeSet getConfig(int datastore, String xpath,
+            ReplyVisitor visitor) throws JNCException, IOException {
+        return getConfig(datastore, xpath, visitor, null);
+    }
+
+    /**
+     * Gets the device configuration data specified by an xpath filter,
+     * parsing only the selected parts of the reply.
+     * 
+     * @param datastore The datastore. One of {@link #RUNNING},
+     *            {@link #CANDIDATE}, {@link #STARTUP}
+     * @param xpath XPath expression
+     * @param visitor Receives the entries of the reply, or <code>null</code>
+     * @param select The parts of the data to parse
+     * @see Selection
+     */
+    public NodeSet getConfig(int datastore, String xpath,
+            ReplyVisitor visitor, Selection select) throws JNCException,
+            IOException {
         trace("getConfig: " + datastoreToString(datastore) + " \"" + xpath
                 + "\"");
         if (!capabilities.xpathCapability) {
@@ -510,7 +576,7 @@ public class NetconfSession {
         final int mid = encode_getConfig(out, encode_datastore(datastore),
                 xpath);
         out.flush();
-        return recv_rpc_reply_data(mid);
+        return recv_rpc_reply_data(mid, visitor, select);
     }
 
     /**
@@ -530,10 +596,40 @@ public class NetconfSession {
      */
     public NodeSet get(Element subtreeFilter) throws JNCException,
             IOException {
+        return get(subtreeFilter, (ReplyVisitor) null);
+    }
+
+    /**
+     * Retrieves running configuration and device state information, passing
+     * the entries of the reply to a visitor while it is parsed. Only the
+     * entries the visitor keeps stay in memory, however large the reply.
+     * 
+     * @param subtreeFilter A subtree filter
+     * @param visitor Receives the entries of the reply
+     * @return The data of the reply, without the entries
+     * @see ReplyVisitor
+     */
+    public NodeSet get(Element subtreeFilter, ReplyVisitor visitor)
+            throws JNCException, IOException {
+        return get(subtreeFilter, visitor, null);
+    }
+
+    /**
+     * Retrieves running configuration and device state information, parsing
+     * only the selected parts of the reply. The subtrees of the reply that
+     * select does not select are skipped without creating any elements.
+     * 
+     * @param subtreeFilter A subtree filter
+     * @param visitor Receives the entries of the reply, or <code>null</code>
+     * @param select The parts of the data to parse
+     * @see Selection
+     */
+    public NodeSet get(Element subtreeFilter, ReplyVisitor visitor,
+            Selection select) throws JNCException, IOException {
         trace("get: " + subtreeFilter.toXMLString());
         final int mid = encode_get(out, subtreeFilter);
         out.flush();
-        return recv_rpc_reply_data(mid);
+        return recv_rpc_reply_data(mid, visitor, select);
     }
 
     /**
@@ -543,6 +639,36 @@ public class NetconfSession {
      * @param xpath An xpath epxression.
      */
     public NodeSet get(String xpath) throws JNCException, IOException {
+        return get(xpath, (ReplyVisitor) null);
+    }
+
+    /**
+     * Retrieves running configuration and device state information, passing
+     * the entries of the reply to a visitor while it is parsed. The
+     * <code>:xpath</code> capability must be supported by the server.
+     * 
+     * @param xpath An xpath epxression.
+     * @param visitor Receives the entries of the reply
+     * @return The data of the reply, without the entries
+     * @see ReplyVisitor
+     */
+    public NodeSet get(String xpath, ReplyVisitor visitor)
+            throws JNCException, IOException {
+        return get(xpath, visitor, null);
+    }
+
+    /**
+     * Retrieves running configuration and device state information, parsing
+     * only the selected parts of the reply. The <code>:xpath</code>
+     * capability must be supported by the server.
+     * 
+     * @param xpath An xpath epxression.
+     * @param visitor Receives the entries of the reply, or <code>null</code>
+     * @param select The parts of the data to parse
+     * @see Selection
+     */
+    public NodeSet get(String xpath, ReplyVisitor visitor, Selection select)
+            throws JNCException, IOException {
         trace("get: \"" + xpath + "\"");
         if (!capabilities.hasXPath()) {
             throw new JNCException(JNCException.SESSION_ERROR,
@@ -550,7 +676,7 @@ public class NetconfSession {
         }
         final int mid = encode_get(out, xpath);
         out.flush();
-        return recv_rpc_reply_data(mid);
+        return recv_rpc_reply_data(mid, visitor, select);
     }
 
     /**
@@ -1384,12 +1510,7 @@ public class NetconfSession {
      */
 
     public Element receiveNotification() throws IOException, JNCException {
-        final StringBuffer notification = in.readOne();
-        trace("notification= " + notification);
-        if (notification.length() == 0) {
-            throw new JNCException(JNCException.PARSER_ERROR, "empty input");
-        }
-        final Element t = parser.parse(notification.toString());
+        final Element t = recv_reply(parser, "notification");
         final Element test = t.getFirst("self::notification");
         if (test != null) {
             return t;
@@ -1434,12 +1555,7 @@ public class NetconfSession {
      * @throws IOException
      */
     protected Element recv_rpc_reply_ok(String mid) throws JNCException, IOException {
-        final StringBuffer reply = in.readOne();
-        trace("reply= " + reply);
-        if (reply.length() == 0) {
-            throw new JNCException(JNCException.PARSER_ERROR, "empty input");
-        }
-        final Element t = parser.parse(reply.toString());
+        final Element t = recv_reply(parser, "reply");
         final Element ok;
 
         if (mid != null) {
@@ -1469,7 +1585,13 @@ public class NetconfSession {
      * NodeSet contained in the data tag.
      */
     NodeSet recv_rpc_reply_data(int mid) throws JNCException, IOException {
-        return recv_rpc_reply("/data", parser, Integer.toString(mid));
+        return recv_rpc_reply_data(mid, null, null);
+    }
+
+    NodeSet recv_rpc_reply_data(int mid, ReplyVisitor visitor,
+            Selection select) throws JNCException, IOException {
+        return recv_rpc_reply("/data", parser, Integer.toString(mid),
+                visitor, select);
     }
 
     NodeSet recv_rpc_reply_lockPartial(int mid) throws JNCException,
@@ -1479,7 +1601,9 @@ public class NetconfSession {
 
     NodeSet recv_call_rpc_reply(Element e, int mid) throws JNCException,
             IOException {
-        final XMLParser parser = new XMLParser(); // XXX: Why new parser?
+        // a plain parser, as there are no generated classes for the reply of
+        // any rpc; it only costs an allocation
+        final XMLParser parser = new XMLParser();
         return recv_rpc_reply("", parser, Integer.toString(mid));
     }
 
@@ -1487,12 +1611,89 @@ public class NetconfSession {
         return recv_rpc_reply(path, parser, null);
     }
 
+    /**
+     * Receives one message and parses it with parser. The message is parsed
+     * while it is read if the transport is a {@link StreamTransport}, unless
+     * session tracing is on, which needs the message as text.
+     * 
+     * @param what What the message is, for the trace
+     */
+    Element recv_reply(XMLParser parser, String what) throws JNCException,
+            IOException {
+        return recv_reply(parser, what, null, null);
+    }
+
+    /**
+     * Receives one message and parses it with parser, passing the entries
+     * of a rpc-reply to visitor and skipping what select does not select,
+     * if not null.
+     */
+    Element recv_reply(XMLParser parser, String what, ReplyVisitor visitor,
+            Selection select) throws JNCException, IOException {
+        if (!(in instanceof StreamTransport)
+                || Element.debugLevel >= Element.DEBUG_LEVEL_SESSION) {
+            final StringBuffer reply = in.readOne();
+            trace(what + "= " + reply);
+            if (reply.length() == 0) {
+                throw new JNCException(JNCException.PARSER_ERROR,
+                        "empty input");
+            }
+            if (visitor != null || select != null) {
+                return parser.parse(new InputSource(new StringReader(reply
+                        .toString())), visitor, select);
+            }
+            return parser.parse(reply.toString());
+        }
+        final Reader stream = ((StreamTransport) in).readOneStream();
+        final PushbackReader reply = new PushbackReader(stream);
+        Element t = null;
+        JNCException error = null;
+        IOException failure = null;
+        try {
+            // an empty message is reported as with readOne(), not as the
+            // syntax error of the parser
+            final int first = reply.read();
+            if (first < 0) {
+                error = new JNCException(JNCException.PARSER_ERROR,
+                        "empty input");
+            } else {
+                reply.unread(first);
+                t = parser.parse(new InputSource(reply), visitor, select);
+            }
+        } catch (final JNCException e) {
+            error = e;
+        } catch (final IOException e) {
+            failure = e;
+        }
+        // a transport failure is reported rather than the parse error it
+        // caused, and the rest of the message is skipped in any case; the
+        // stream itself is closed, as the parser may have closed reply
+        try {
+            stream.close();
+            if (failure != null) {
+                throw failure;
+            }
+        } catch (final IOException e) {
+            if (e.getCause() instanceof JNCException) {
+                throw (JNCException) e.getCause();
+            }
+            throw e;
+        }
+        if (error != null) {
+            throw error;
+        }
+        return t;
+    }
+
     NodeSet recv_rpc_reply(String path, XMLParser parser, String mid)
             throws JNCException, IOException {
-        final StringBuffer reply = in.readOne();
-        trace("reply= " + reply);
+        return recv_rpc_reply(path, parser, mid, null, null);
+    }
 
-        final Element t = parser.parse(reply.toString());
+    NodeSet recv_rpc_reply(String path, XMLParser parser, String mid,
+            ReplyVisitor visitor, Selection select) throws JNCException,
+            IOException {
+        final Element t = recv_reply(parser, "reply", visitor, select);
         final Element rep = t.getFirst("self::rpc-reply");
         if (rep != null) {
             check_mid(rep, mid);
@@ -0,0 +1,199 @@
+package com.tailf.jnc;
+
+import org.xml.sax.SAXException;
+
+/**
+ * Receives the entries of a rpc-reply while it is parsed, for example by
+ * {@link NetconfSession#get(Element, ReplyVisitor)}. Each entry is passed on
+ * as soon as it has been parsed and is then dropped from the reply, so the
+ * size of the reply does not matter as long as the visitor does not keep the
+ * entries.
+ * <p>
+ * By default the entries are the list entries of the data:
+ * <ul>
+ * <li>the top level elements that are list entries, such as the
+ * <code>route</code> elements of <code>&lt;data&gt;&lt;route&gt;...&lt;/route&gt;&lt;route&gt;...</code>
+ * <li>the children of the other top level elements, such as the
+ * <code>route</code> elements of <code>&lt;data&gt;&lt;routes&gt;&lt;route&gt;...</code>
+ * </ul>
+ * A top level element is known to be a list entry if it is parsed into a
+ * generated list class with keys, or if the schema registered for its
+ * namespace says so. Otherwise it is a list entry if none of its children
+ * were entries. Leaves are never entries, they stay in their parent, so the
+ * leaves of a top level container stay in it with both
+ * {@link XMLParser} and {@link YangXMLParser}.
+ * <p>
+ * Below a top level element that is not known to be a list entry, every
+ * child that has element children is taken for an entry, even a nested
+ * container. Where that matters, the depth of the entries can be given
+ * instead, see {@link #ReplyVisitor(int)}.
+ * <p>
+ * This is an abstract class. Example:
+ *
+ * <pre>
+ * session.get(filter, new ReplyVisitor() {
+ *     public void visit(Element entry) throws JNCException {
+ *         System.out.println(entry.getValue(&quot;name&quot;));
+ *     }
+ * });
+ * </pre>
+ */
+public abstract class ReplyVisitor {
+
+    /** the depth of the entries below the data, 0 to find them as above */
+    private final int depth;
+
+    /**
+     * Constructor for a visitor of the list entries of the data.
+     */
+    public ReplyVisitor() {
+        this(0);
+    }
+
+    /**
+     * Constructor for a visitor of the elements at a given depth below the
+     * data of a reply, other than leaves.
+     *
+     * @param depth 1 for the top level elements, 2 for their children, and
+     *            so on
+     */
+    public ReplyVisitor(int depth) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("depth " + depth);
+        }
+        this.depth = depth;
+    }
+
+    /**
+     * @param entry A complete entry, detached from its parent element. The
+     *            prefix mappings of its ancestors are merged into its own.
+     * @throws JNCException To stop parsing the reply; the exception is
+     *             passed on to the caller as it is.
+     */
+    abstract public void visit(Element entry) throws JNCException;
+
+    /**
+     * @return <code>true</code> if element has no place for entries: a
+     *         {@link Leaf}, or an element without children that is not a
+     *         {@link YangElement}.
+     */
+    private static boolean isLeaf(Element element) {
+        return element instanceof Leaf
+                || (!(element instanceof YangElement) && !element
+                        .hasChildren());
+    }
+
+    /**
+     * @return <code>true</code> if the top level element is known to be a
+     *         list entry, <code>false</code> if it is known not to be one,
+     *         <code>null</code> if this cannot be told.
+     */
+    private static Boolean isListEntry(Element top) {
+        if (top instanceof YangElement
+                && ((YangElement) top).sharedKeyNames() != null) {
+            return Boolean.TRUE;
+        }
+        final SchemaNode node = SchemaTree.lookup(top.namespace,
+                new Tagpath(new String[] { top.name }));
+        if (node == null) {
+            return null;
+        }
+        return node.max_occurs != 1;
+    }
+
+    /**
+     * Tracks the entries of the data of one parse.
+     */
+    static class Tracker {
+        private final ReplyVisitor visitor;
+
+        /** the top level element the last entry was detached from */
+        private Element container = null;
+
+        /** the last top level element asked about, and if it is a list entry */
+        private Element top = null;
+        private Boolean topIsListEntry = null;
+
+        Tracker(ReplyVisitor visitor) {
+            this.visitor = visitor;
+        }
+
+        /**
+         * @return The depth of element below the data of a rpc-reply, not
+         *         counting further than max, or 0 if it is not below it.
+         */
+        private static int depth(Element element, int max) {
+            int depth = 1;
+            for (Element e = element.parent; e != null && depth <= max; e = e.parent) {
+                if ("data".equals(e.name) && e.parent != null
+                        && e.parent.parent == null
+                        && "rpc-reply".equals(e.parent.name)) {
+                    return depth;
+                }
+                depth++;
+            }
+            return 0;
+        }
+
+        private boolean isEntry(Element element) {
+            if (visitor.depth > 0) {
+                return depth(element, visitor.depth) == visitor.depth;
+            }
+            final int depth = depth(element, 2);
+            if (depth == 2) {
+                // asked once for all children of a top level element
+                if (element.parent != top) {
+                    top = element.parent;
+                    topIsListEntry = isListEntry(top);
+                }
+                return !Boolean.TRUE.equals(topIsListEntry);
+            }
+            if (depth == 1) {
+                final Boolean listEntry = element == top ? topIsListEntry
+                        : isListEntry(element);
+                final boolean hadEntries = container == element;
+                top = null;
+                container = null;
+                if (listEntry == null) {
+                    return !hadEntries;
+                }
+                return listEntry.booleanValue();
+            }
+            return false;
+        }
+
+        /**
+         * Passes an element that has been parsed to the visitor, detached
+         * from its parent, if it is an entry.
+         *
+         * @return <code>true</code> if element was an entry, and is no
+         *         longer a child of its parent.
+         */
+        boolean ended(Element element) throws SAXException {
+            if (isLeaf(element) || !isEntry(element)) {
+                return false;
+            }
+            final Element parent = element.parent;
+            PrefixMap prefixes = element.prefixes;
+            for (Element e = parent; e != null; e = e.parent) {
+                if (e.prefixes == null) {
+                    continue;
+                }
+                if (prefixes == null) {
+                    prefixes = (PrefixMap) e.prefixes.clone();
+                } else {
+                    prefixes.merge(e.prefixes);
+                }
+            }
+            parent.deleteChild(element);
+            element.prefixes = prefixes;
+            container = parent;
+            try {
+                visitor.visit(element);
+            } catch (final JNCException e) {
+                throw new XMLParser.VisitorException(e);
+            }
+            return true;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.PrintWriter;
+import java.io.Reader;
 import java.io.StringWriter;
 import java.util.ArrayList;
 
@@ -30,7 +31,7 @@ import ch.ethz.ssh2.Session;
  *
  */
 
-public class SSHSession implements Transport {
+public class SSHSession implements StreamTransport {
 
     private SSHConnection connection = null;
     private Session session = null;
@@ -170,25 +171,7 @@ public class SSHSession implements Transport {
         final StringWriter wr = new StringWriter();
         int ch;
         while (true) {
-            if ((readTimeout > 0) && !in.ready()) { // else we want to block
-                final int conditionSet = session.waitForCondition(0xffffffff,
-                        readTimeout);
-                if ((conditionSet & ChannelCondition.TIMEOUT) == ChannelCondition.TIMEOUT) {
-                    // it's a timeout - there is nothing to
-                    // read, not even eof
-                    throw new JNCException(JNCException.TIMEOUT_ERROR,
-                             Long.valueOf(readTimeout));
-                }
-            }
-
-            // If readTimeout /= 0 we're guaranteed to not block
-            // If its == 0, we want to block
-
-            ch = in.read();
-            if (ch == -1) {
-                trace("end of input (-1)");
-                throw new SessionClosedException("Session closed");
-            }
+            ch = readChar();
 
             for (int i=0; i < endmarker.length(); i++) {
                 if (ch == endmarker.charAt(i)) {
@@ -209,20 +192,130 @@ public class SSHSession implements Transport {
         }
     }
 
-    private void subInputChar(StringWriter wr, int ch) {
-        wr.write(ch);
+    /**
+     * Reads in "one" reply from the SSH transport input stream, while the
+     * caller consumes it. The IO subscribers see the reply just as with
+     * {@link #readOne()}.
+     */
+    @Override
+    public Reader readOneStream() {
+        return new ReplyReader();
+    }
+
+    /**
+     * Reads one character, waiting at most readTimeout milliseconds for it
+     * if set.
+     */
+    private int readChar() throws IOException, JNCException {
+        if ((readTimeout > 0) && !in.ready()) { // else we want to block
+            final int conditionSet = session.waitForCondition(0xffffffff,
+                    readTimeout);
+            if ((conditionSet & ChannelCondition.TIMEOUT) == ChannelCondition.TIMEOUT) {
+                // it's a timeout - there is nothing to
+                // read, not even eof
+                throw new JNCException(JNCException.TIMEOUT_ERROR,
+                        Long.valueOf(readTimeout));
+            }
+        }
+
+        // If readTimeout /= 0 we're guaranteed to not block
+        // If its == 0, we want to block
+
+        final int ch = in.read();
+        if (ch == -1) {
+            trace("end of input (-1)");
+            throw new SessionClosedException("Session closed");
+        }
+        return ch;
+    }
+
+    private void subInputChar(int ch) {
         for (int i = 0; i < ioSubscribers.size(); i++) {
-            final IOSubscriber sub = ioSubscribers.get(i);
-            sub.inputChar(ch);
+            ioSubscribers.get(i).inputChar(ch);
         }
     }
 
+    private void subInputChar(StringWriter wr, int ch) {
+        wr.write(ch);
+        subInputChar(ch);
+    }
+
     private void subInputChar(StringWriter wr, String s) {
         for (int i = 0; i < s.length(); i++) {
             subInputChar(wr, s.charAt(i));
         }
     }
 
+    /**
+     * The reader returned by {@link #readOneStream()}. It ends at the
+     * <em>]]&gt;]]&gt;</em> sequence, which it consumes but does not return.
+     */
+    private class ReplyReader extends Reader {
+        private String pending = ""; // partial end marker to return first
+        private int pos = 0;
+        private boolean done = false;
+        private IOException failure = null;
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            int n = 0;
+            try {
+                while (n < len) {
+                    if (pos < pending.length()) {
+                        cbuf[off + n++] = pending.charAt(pos++);
+                        continue;
+                    }
+                    if (done) {
+                        break;
+                    }
+                    // blocks until len chars or the whole reply is read
+                    int ch = readChar();
+                    if (ch != endmarker.charAt(0)) {
+                        cbuf[off + n++] = (char) ch;
+                        subInputChar(ch);
+                        continue;
+                    }
+                    int i = 1;
+                    while (i <= end && (ch = readChar()) == endmarker.charAt(i)) {
+                        i++;
+                    }
+                    if (i > end) {
+                        done = true;
+                        for (final IOSubscriber sub : ioSubscribers) {
+                            sub.inputFlush(endmarker.substring(0, end));
+                        }
+                    } else {
+                        pending = endmarker.substring(0, i) + (char) ch;
+                        pos = 0;
+                        for (int j = 0; j < pending.length(); j++) {
+                            subInputChar(pending.charAt(j));
+                        }
+                    }
+                }
+            } catch (final JNCException e) {
+                failure = new IOException(e.getMessage(), e);
+                throw failure;
+            } catch (final IOException e) {
+                failure = e;
+                throw e;
+            }
+            return (n == 0 && done) ? -1 : n;
+        }
+
+        /**
+         * Skips the rest of the reply.
+         */
+        @Override
+        public void close() throws IOException {
+            final char[] skip = new char[1024];
+            while (read(skip, 0, skip.length) != -1) {
+            }
+        }
+    }
+
     /**
      * Prints an integer (as text) to the output stream.
      *
@@ -20,6 +20,30 @@ public class SchemaNode {
     public String desc;
     public RevisionInfo[] revInfo;
 
+    public SchemaNode() {
+    }
+
+    /**
+     * Creates a schema node of generated code, which builds its schema
+     * without reading a schema file.
+     *
+     * @param namespace The namespace of the node.
+     * @param tagpath The names of the node and its ancestors, from the top.
+     * @param minOccurs Minimum number of occurrences.
+     * @param maxOccurs Maximum number of occurrences, -1 for no limit.
+     * @param children The names of the children, space separated as in
+     *            schema files.
+     */
+    public SchemaNode(String namespace, String[] tagpath, int minOccurs,
+            int maxOccurs, String children) {
+        this.tagpath = new Tagpath(tagpath);
+        this.namespace = namespace;
+        min_occurs = minOccurs;
+        max_occurs = maxOccurs;
+        this.children = children.split(" ");
+        desc = "";
+    }
+
 //    public static final int CS_NODE_IS_DYN = (1 << 0);
 //    public static final int CS_NODE_IS_WRITE = (1 << 1);
 //    public static final int CS_NODE_IS_CDB = (1 << 2);
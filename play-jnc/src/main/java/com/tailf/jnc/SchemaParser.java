@@ -1,6 +1,10 @@
 package com.tailf.jnc;
 
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -37,6 +41,9 @@ import org.xml.sax.helpers.XMLReaderFactory;
  * <schema>
  * </pre>
  * into a hashtable with {@link SchemaNode} elements.
+ * <p>
+ * Schema files in the binary format of {@link BinarySchema} are recognized
+ * by their first bytes and loaded without the XML parser.
  */
 public class SchemaParser {
     protected XMLReader parser;
@@ -63,34 +70,44 @@ public class SchemaParser {
         protected SchemaNode node;
         protected RevisionInfo ri;
         protected ArrayList<RevisionInfo> riArrayList;
-        protected String value = null;
+        protected final StringBuilder text = new StringBuilder();
+        protected boolean collecting = false;
+        // names and namespaces are repeated across nodes, keep one of each
+        protected final HashMap<String, String> symbols =
+                new HashMap<String, String>();
 
         SchemaHandler(HashMap<Tagpath, SchemaNode> h2) {
             super();
             h = h2;
         }
 
+        private String symbol(String s) {
+            final String symbol = symbols.get(s);
+            if (symbol != null) {
+                return symbol;
+            }
+            symbols.put(s, s);
+            return s;
+        }
+
         @Override
         public void startElement(String uri, String localName, String qName,
                 Attributes attributes) throws SAXException {
             if (localName.equals("node")) {
                 node = new SchemaNode();
-                value = null;
             } else if (localName.equals("rev")) {
                 riArrayList = new ArrayList<RevisionInfo>();
-                value = null;
             } else if (localName.equals("info")) {
                 ri = new RevisionInfo();
-                value = null;
-            } else if (localName.equals("schema") || localName.equals("node")) {
-                value = null;
-            } else {
-                value = "";
             }
+            text.setLength(0);
+            collecting = !(localName.equals("node") || localName.equals("rev")
+                    || localName.equals("info") || localName.equals("schema"));
         }
 
         @Override
         public void endElement(String uri, String localName, String qName) {
+            final String value = collecting ? text.toString() : null;
             if (localName.equals("node")) {
                 h.put(node.tagpath, node);
             } else if (localName.equals("tagpath")) {
@@ -100,10 +117,12 @@ public class SchemaParser {
                     node.tagpath = new Tagpath(0);
                 } else {
                     node.tagpath = new Tagpath(splittedTagpath.length - 1);
-                    System.arraycopy(splittedTagpath, 1, node.tagpath.p, 0, splittedTagpath.length - 1);
+                    for (int i = 1; i < splittedTagpath.length; i++) {
+                        node.tagpath.p[i - 1] = symbol(splittedTagpath[i]);
+                    }
                 }
             } else if (localName.equals("namespace")) {
-                node.namespace = value;
+                node.namespace = symbol(value);
             } else if (localName.equals("primitive_type")) {
                 node.primitive_type = Integer.parseInt(value);
             } else if (localName.equals("min_occurs")) {
@@ -116,7 +135,9 @@ public class SchemaParser {
                     node.children = null;
                 } else {
                     node.children = new String[child.length];
-                    System.arraycopy(child, 0, node.children, 0, child.length);
+                    for (int i = 0; i < child.length; i++) {
+                        node.children[i] = symbol(child[i]);
+                    }
                 }
             } else if (localName.equals("flags")) {
                 node.flags = Integer.parseInt(value);
@@ -138,15 +159,14 @@ public class SchemaParser {
                 node.revInfo = riArrayList.toArray(riArray);
             }
 
-            value = null;
+            collecting = false;
         }
 
         @Override
         public void characters(char[] ch, int start, int length) {
-            if (value == null) {
-                return;
+            if (collecting) {
+                text.append(ch, start, length);
             }
-            value += new String(ch, start, length);
         }
     }
 
@@ -160,7 +180,23 @@ public class SchemaParser {
      */
     public void readFile(String filename, HashMap<Tagpath, SchemaNode> h)
             throws JNCException {
-        readFile(new InputSource(filename), h);
+        final File file = new File(filename);
+        if (!file.isFile()) {
+            // a system id the XML parser resolves on its own
+            readFile(new InputSource(filename), h);
+            return;
+        }
+        try {
+            final InputStream in = new FileInputStream(file);
+            try {
+                readStream(in, filename, h);
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            throw new JNCException(JNCException.PARSER_ERROR, "Unable to open" +
+                    " file: " + filename + ": " + e,e);
+        }
     }
 
     /**
@@ -174,7 +210,12 @@ public class SchemaParser {
     public void readFile(URL schemaUrl, HashMap<Tagpath, SchemaNode> h)
             throws JNCException {
         try {
-            readFile(new InputSource(schemaUrl.openStream()), h);
+            final InputStream in = schemaUrl.openStream();
+            try {
+                readStream(in, schemaUrl.toString(), h);
+            } finally {
+                in.close();
+            }
         } catch (IOException e) {
 //            e.printStackTrace();
             throw new JNCException(JNCException.PARSER_ERROR, "Unable to open" +
@@ -182,6 +223,31 @@ public class SchemaParser {
         }
     }
 
+    /**
+     * Parses a schema in the binary format if the stream starts with its
+     * magic number, as XML otherwise.
+     */
+    private void readStream(InputStream in, String systemId,
+            HashMap<Tagpath, SchemaNode> h) throws IOException, JNCException {
+        final BufferedInputStream buffered = new BufferedInputStream(in);
+        final byte[] header = new byte[4];
+        buffered.mark(header.length);
+        int n = 0;
+        int r;
+        while (n < header.length
+                && (r = buffered.read(header, n, header.length - n)) != -1) {
+            n += r;
+        }
+        buffered.reset();
+        if (BinarySchema.isBinary(header, n)) {
+            BinarySchema.read(buffered, h);
+        } else {
+            final InputSource inputSource = new InputSource(buffered);
+            inputSource.setSystemId(systemId);
+            readFile(inputSource, h);
+        }
+    }
+
     private void readFile(InputSource inputSource,
             HashMap<Tagpath, SchemaNode> h) throws JNCException {
         try {
@@ -196,7 +262,7 @@ public class SchemaParser {
     }
 
     /**
-     * Scans the classpath for the XML schema file and populates the hashtable with 
+     * Scans the classpath for the schema file and populates the hashtable with 
      * SchemaNode objects. Class is passed in so that in the case of multiple {@link ClassLoader}s 
      * the correct one can be used to locate the schema.
      * 
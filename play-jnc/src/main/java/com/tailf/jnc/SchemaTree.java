@@ -26,6 +26,24 @@ public class SchemaTree {
         return h;
     }
 
+    /**
+     * Makes the prebuilt schema of generated code the HashMap of namespace.
+     * If there is a HashMap for namespace already, the nodes are added to
+     * it.
+     * 
+     * @param namespace The namespace of the module as a String.
+     * @param nodes The schema nodes of the module.
+     */
+    public static void publish(String namespace,
+            HashMap<Tagpath, SchemaNode> nodes) {
+        final HashMap<Tagpath, SchemaNode> h = namespaces.get(namespace);
+        if (h == null) {
+            namespaces.put(namespace, nodes);
+        } else if (h != nodes) {
+            h.putAll(nodes);
+        }
+    }
+
     /**
      * @param namespace A YANG module namespace as a String
      * @return The HashMap associated with namespace, or null.
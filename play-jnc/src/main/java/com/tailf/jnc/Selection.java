@@ -0,0 +1,198 @@
+package com.tailf.jnc;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * The parts of a document to parse, given as tagpaths or paths. The parsers
+ * skip the subtrees that no path can select without creating any elements
+ * for them, see
+ * {@link XMLParser#parse(org.xml.sax.InputSource, ReplyVisitor, Selection)}.
+ * <p>
+ * The first step of a path names a top level element: a child of the data
+ * of a rpc-reply, or the document element of any other document. Each
+ * element along a path is kept, as is the whole subtree of its last step.
+ * Other elements of a rpc-reply than its data are always kept.
+ * <p>
+ * Example:
+ *
+ * <pre>
+ * Selection select = new Selection(new Tagpath(&quot;/interfaces/interface/name&quot;),
+ *         new Tagpath(&quot;/interfaces/interface/oper-status&quot;));
+ * NodeSet interfaces = session.get(filter, null, select);
+ * </pre>
+ */
+public class Selection {
+
+    /** selects an element and its whole subtree */
+    private static final Selection all = new Selection();
+
+    /** a rpc-reply, whose data is selected by the paths */
+    private static final Selection reply = new Selection();
+
+    private final HashMap<String, Selection> children = new HashMap<String, Selection>();
+    private boolean wildcard = false;
+
+    private Selection() {
+    }
+
+    /**
+     * Creates a selection of the given tagpaths. Empty tags, as the leading
+     * one of <code>new Tagpath("/a/b")</code>, are ignored.
+     */
+    public Selection(Tagpath... tagpaths) {
+        for (final Tagpath tagpath : tagpaths) {
+            final ArrayList<String> names = new ArrayList<String>();
+            for (final String name : tagpath.p) {
+                if (name.length() > 0) {
+                    names.add(name);
+                }
+            }
+            add(names);
+        }
+    }
+
+    /**
+     * Creates a selection of the elements that the given paths can select.
+     * Prefixes and predicates are ignored. A step on another axis than the
+     * child axis selects all children of the element before it.
+     */
+    public Selection(Path... paths) {
+        for (final Path path : paths) {
+            final ArrayList<String> names = new ArrayList<String>();
+            for (final Path.LocationStep step : path.locationSteps) {
+                if (step.axis == Path.AXIS_ROOT && names.isEmpty()) {
+                    continue;
+                }
+                if (step.axis != Path.AXIS_CHILD) {
+                    names.add(null);
+                    break;
+                }
+                names.add(step.name);
+            }
+            add(names);
+        }
+    }
+
+    /**
+     * Adds the path of names. A null name, for a step that cannot be told
+     * while parsing, selects every child of the element before it.
+     */
+    private void add(ArrayList<String> names) {
+        if (names.isEmpty()) {
+            wildcard = true;
+            return;
+        }
+        Selection node = this;
+        for (int i = 0; i < names.size(); i++) {
+            final String name = names.get(i);
+            if (name == null) {
+                node.wildcard = true;
+                return;
+            }
+            if (i == names.size() - 1) {
+                node.children.put(name, all);
+                return;
+            }
+            Selection child = node.children.get(name);
+            if (child == all) {
+                return;
+            }
+            if (child == null) {
+                child = new Selection();
+                node.children.put(name, child);
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns the selection of an element.
+     *
+     * @param parent The selection of the parent element, or
+     *            <code>null</code> for the document element
+     * @param name The name of the element
+     * @return <code>null</code> if the element is not selected
+     */
+    Selection enter(Selection parent, String name) {
+        if (parent == null) {
+            if ("rpc-reply".equals(name)) {
+                return reply;
+            }
+            parent = this;
+        } else if (parent == all) {
+            return all;
+        } else if (parent == reply) {
+            return "data".equals(name) ? this : all;
+        }
+        if (parent.wildcard) {
+            return all;
+        }
+        return parent.children.get(name);
+    }
+
+    /**
+     * Tracks the selections of the open elements of one parse.
+     */
+    static class Tracker {
+        private final Selection select;
+        private final ArrayList<Selection> open = new ArrayList<Selection>();
+        private int skipped = 0;
+
+        Tracker(Selection select) {
+            this.select = select;
+        }
+
+        private Selection current() {
+            return open.isEmpty() ? null : open.get(open.size() - 1);
+        }
+
+        /**
+         * @return If an element of the given name is selected at this point
+         *         of the parse.
+         */
+        boolean selects(String name) {
+            return skipped == 0 && select.enter(current(), name) != null;
+        }
+
+        /**
+         * Starts an element.
+         *
+         * @return <code>false</code> if it is to be skipped
+         */
+        boolean start(String name) {
+            if (skipped > 0) {
+                skipped++;
+                return false;
+            }
+            final Selection s = select.enter(current(), name);
+            if (s == null) {
+                skipped = 1;
+                return false;
+            }
+            open.add(s);
+            return true;
+        }
+
+        /**
+         * Ends an element.
+         *
+         * @return <code>false</code> if it was skipped
+         */
+        boolean end() {
+            if (skipped > 0) {
+                skipped--;
+                return false;
+            }
+            open.remove(open.size() - 1);
+            return true;
+        }
+
+        /**
+         * @return If the events of a skipped element are being received.
+         */
+        boolean skipping() {
+            return skipped > 0;
+        }
+    }
+}
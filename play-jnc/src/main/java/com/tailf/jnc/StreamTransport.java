@@ -0,0 +1,25 @@
+package com.tailf.jnc;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * A NETCONF transport that can hand out a reply while it is being received.
+ * {@link NetconfSession} parses the replies of such a transport straight from
+ * the stream returned by {@link #readOneStream()}, so a reply is never held
+ * in memory as text, only as the element tree built from it.
+ * {@link SSHSession} implements the StreamTransport interface.
+ * 
+ * @see SSHSession
+ */
+public interface StreamTransport extends Transport {
+
+    /**
+     * Reads "one" reply from the transport input stream, as it arrives. The
+     * returned reader ends where the reply ends. Closing it skips what is
+     * left of the reply, and throws if the transport failed while reading.
+     * An IOException caused by a {@link JNCException}, such as a read
+     * timeout, has the JNCException as its cause.
+     */
+    public Reader readOneStream() throws IOException, JNCException;
+}
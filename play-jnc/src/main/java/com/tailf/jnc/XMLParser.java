@@ -1,8 +1,10 @@
 package com.tailf.jnc;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 
 import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.XMLReader;
@@ -12,30 +14,82 @@ import org.xml.sax.helpers.XMLReaderFactory;
 /**
  * A simple SAX parser, for parsing NETCONF messages, into a simple
  * {@link Element} tree.
+ * <p>
+ * A parser keeps no state between parses, so one instance can be shared by
+ * several threads. The underlying SAX readers are cached per thread.
  * 
  */
 public class XMLParser {
 
-    /** the parser implementation */
+    /** the idle SAX reader of each thread */
+    private static final ThreadLocal<XMLReader> readers = new ThreadLocal<XMLReader>();
+
+    /** the content handler of idle readers, so they keep no parse tree */
+    private static final DefaultHandler noHandler = new DefaultHandler();
+
+    /**
+     * The parser implementation.
+     * 
+     * @deprecated The parse methods no longer use this reader. It is a
+     *             reader of this parser only, kept for subclasses that set
+     *             their own content handler on it. Use
+     *             {@link #parse(InputSource, ContentHandler)} instead.
+     */
+    @Deprecated
     protected XMLReader parser;
 
     /**
      * Constructor. Initializes the parser instance.
      */
     public XMLParser() throws JNCException {
+        parser = newReader();
+    }
+
+    /**
+     * Takes the idle SAX reader of this thread, or creates one if the
+     * thread has none, or is using it already.
+     */
+    private static XMLReader takeReader() throws JNCException {
+        final XMLReader reader = readers.get();
+        if (reader != null) {
+            readers.remove();
+            return reader;
+        }
+        return newReader();
+    }
+
+    private static XMLReader newReader() throws JNCException {
         try {
             final String javaVersion = System.getProperty("java.version");
             if (javaVersion.startsWith("1.4")) {
-                parser = XMLReaderFactory
+                return XMLReaderFactory
                         .createXMLReader("org.apache.crimson.parser.XMLReaderImpl");
-            } else {
-                parser = XMLReaderFactory.createXMLReader();
             }
+            return XMLReaderFactory.createXMLReader();
         } catch (final Exception e) {
             throw new JNCException(JNCException.PARSER_ERROR,
                     "failed to initialize parser: " + e);
         }
+    }
+
+    private static void releaseReader(XMLReader reader) {
+        reader.setContentHandler(noHandler);
+        readers.set(reader);
+    }
 
+    /**
+     * Parses is with a SAX reader of this thread, passing its events to
+     * handler.
+     */
+    protected static void parse(InputSource is, ContentHandler handler)
+            throws JNCException, IOException, SAXException {
+        final XMLReader reader = takeReader();
+        try {
+            reader.setContentHandler(handler);
+            reader.parse(is);
+        } finally {
+            releaseReader(reader);
+        }
     }
 
     /**
@@ -48,10 +102,28 @@ public class XMLParser {
         public Element current;
         public Element top;
         public PrefixMap prefixes = null;
+        public ReplyVisitor.Tracker visitor = null;
+        public Selection.Tracker selection = null;
+
+        // text of the current element since its last start or end tag
+        private final StringBuilder text = new StringBuilder();
+        private boolean hasText = false;
+        // the current element had a child that was not selected, or that
+        // was passed to the visitor
+        private boolean skippedChild = false;
 
         @Override
         public void startElement(String uri, String localName, String qName,
                 Attributes attributes) throws SAXException {
+            if (selection != null && !selection.start(localName)) {
+                skippedChild = true;
+                prefixes = null;
+                return;
+            }
+            // the parent will have a child, so its text is not kept
+            text.setLength(0);
+            hasText = false;
+            skippedChild = false;
             final Element child = new Element(uri, localName);
             child.prefixes = prefixes;
             prefixes = null;
@@ -80,22 +152,36 @@ public class XMLParser {
         }
 
         @Override
-        public void endElement(String uri, String localName, String qName) {
+        public void endElement(String uri, String localName, String qName)
+                throws SAXException {
+            if (selection != null && !selection.end()) {
+                return;
+            }
             // check that we don't have mixed content
-            if (current.hasChildren() && current.value != null) {
+            if (current.hasChildren() || skippedChild) {
                 // MIXED content not allowed
                 current.value = null;
+            } else if (hasText) {
+                current.value = text.toString();
             }
+            text.setLength(0);
+            hasText = false;
+            skippedChild = false;
             // step up
+            final Element child = current;
             current = current.getParent();
+            if (visitor != null && visitor.ended(child)) {
+                skippedChild = true;
+            }
         }
 
         @Override
         public void characters(char[] ch, int start, int length) {
-            if (current.value == null) {
-                current.value = "";
+            if (selection != null && selection.skipping()) {
+                return;
             }
-            current.value = current.value + new String(ch, start, length);
+            text.append(ch, start, length);
+            hasText = true;
         }
 
         @Override
@@ -115,8 +201,7 @@ public class XMLParser {
     public Element readFile(String filename) throws JNCException {
         try {
             final ConfHandler handler = new ConfHandler();
-            parser.setContentHandler(handler);
-            parser.parse(filename);
+            parse(new InputSource(filename), handler);
             return handler.top;
         } catch (final Exception e) {
             throw new JNCException(JNCException.PARSER_ERROR, "parse file: "
@@ -130,14 +215,69 @@ public class XMLParser {
      * @param is Inputsource (byte stream) where the XML text is read from
      */
     public Element parse(InputSource is) throws JNCException {
+        return parse(is, null, null);
+    }
+
+    /**
+     * Parses an XML string returning an element tree from it. If it is a
+     * rpc-reply, the entries of its data are passed to visitor instead of
+     * being kept in the tree.
+     * 
+     * @param is Inputsource (byte stream) where the XML text is read from
+     * @param visitor Receives the entries, or <code>null</code> to keep
+     *            them in the tree
+     */
+    public Element parse(InputSource is, ReplyVisitor visitor)
+            throws JNCException {
+        return parse(is, visitor, null);
+    }
+
+    /**
+     * Parses an XML string returning an element tree from it, without the
+     * subtrees that select does not select.
+     * 
+     * @param is Inputsource (byte stream) where the XML text is read from
+     * @param visitor Receives the entries of a rpc-reply, or
+     *            <code>null</code> to keep them in the tree
+     * @param select The parts of the document to parse, or <code>null</code>
+     *            to parse all of it
+     * @return The element tree, or <code>null</code> if the document
+     *         element is not selected
+     */
+    public Element parse(InputSource is, ReplyVisitor visitor,
+            Selection select) throws JNCException {
         try {
             final ConfHandler handler = new ConfHandler();
-            parser.setContentHandler(handler);
-            parser.parse(is);
+            if (visitor != null) {
+                handler.visitor = new ReplyVisitor.Tracker(visitor);
+            }
+            if (select != null) {
+                handler.selection = new Selection.Tracker(select);
+            }
+            parse(is, handler);
             return handler.top;
+        } catch (final VisitorException e) {
+            throw e.getCause();
         } catch (final Exception e) {
             throw new JNCException(JNCException.PARSER_ERROR, "parse error: "
-                    + e);
+                    + e, e);
+        }
+    }
+
+    /**
+     * Carries an exception of a {@link ReplyVisitor} out of the SAX parser,
+     * to be thrown as it is.
+     */
+    static class VisitorException extends SAXException {
+        private static final long serialVersionUID = 1L;
+
+        VisitorException(JNCException e) {
+            super(e);
+        }
+
+        @Override
+        public JNCException getCause() {
+            return (JNCException) getException();
         }
     }
 
@@ -3,7 +3,12 @@ package com.tailf.jnc;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 /**
  * The YangElement is a configuration sub-tree like the
@@ -54,6 +59,49 @@ public abstract class YangElement extends Element {
      */
     abstract public String[] keyNames();
 
+    /**
+     * Structure information. The array {@link #childrenNames()} returns a
+     * copy of, which must not be modified. Generated classes return an array
+     * shared by all their instances, which
+     * {@link #insertChild(Element, String[])} recognizes.
+     */
+    protected String[] sharedChildrenNames() {
+        return childrenNames();
+    }
+
+    /**
+     * Structure information. The array {@link #keyNames()} returns a copy
+     * of, which must not be modified.
+     */
+    protected String[] sharedKeyNames() {
+        return keyNames();
+    }
+
+    /**
+     * Structure information. The position of each name in
+     * {@link #sharedChildrenNames()}, or <code>null</code> if not known.
+     * Generated classes return a map shared by all their instances, which
+     * {@link #insertChild(Element, String[])} uses to find the position of
+     * a child by binary search.
+     */
+    protected Map<String, Integer> childrenOrdinals() {
+        return null;
+    }
+
+    /**
+     * @param names The names of the children of a class, in order
+     * @return The position of each name, for
+     *         {@link #childrenOrdinals()}.
+     */
+    protected static Map<String, Integer> ordinals(String[] names) {
+        final Map<String, Integer> ordinals = new HashMap<String, Integer>(
+                names.length * 4 / 3 + 1);
+        for (int i = names.length - 1; i >= 0; i--) {
+            ordinals.put(names[i], i);
+        }
+        return ordinals;
+    }
+
     /**
      * Constructor with namespace and name
      */
@@ -84,11 +132,12 @@ public abstract class YangElement extends Element {
     }
 
     /**
-     * Creates an instance of
+     * Creates an instance of a generated class, with the factory of the
+     * package if it knows the element, by reflection otherwise.
      *
      * @param parent of YANG statement counterpart, null if none
      * @param name   (non-normalized) name of class to be instantiated
-     * @param pkg    The base package of the generated classes
+     * @param pkg    The package of the generated classes
      * @return An instance of class name, as a child of parent
      * @throws ClassNotFoundException If normalize(name) does not yield a valid
      *                                class name
@@ -99,10 +148,17 @@ public abstract class YangElement extends Element {
      * @throws IllegalAccessException if the class or its nullary constructor
      *                                is not accessible.
      */
-    private static Element instantiate(Element parent, String name, String pkg)
+    private static Element instantiate(Element parent, String name, Package pkg)
             throws ClassNotFoundException, InstantiationException,
             IllegalAccessException {
-        final String className = pkg + "." + getPackage(parent)
+        if (pkg.factory != null && !(parent instanceof YangElement)) {
+            // a top level element
+            final Element elem = pkg.factory.createElement(name);
+            if (elem != null) {
+                return elem;
+            }
+        }
+        final String className = pkg.pkg + "." + getPackage(parent)
                 + normalize(name);
         final Class<?> rootClass = Class.forName(className);
         return (Element) rootClass.newInstance();
@@ -123,7 +179,7 @@ public abstract class YangElement extends Element {
      */
     public static Element createInstance(ElementHandler parser,
                                          Element parent, String ns, String name) throws YangException {
-        final String pkg = getPackage(ns);
+        final Package pkg = lookupPackage(ns);
         if (pkg == null) {
             final Element elem = new Element(ns, name);
             if (parent != null) {
@@ -137,7 +193,10 @@ public abstract class YangElement extends Element {
             } else if (parent instanceof YangElement) {
                 // YangElement child, aware
                 try {
-                    return ((YangElement) parent).addChild(name);
+                    return ((YangElement) parent).addChildByName(name);
+                } catch (final JNCException e) {
+                    throw new YangException(YangException.ELEMENT_MISSING,
+                            parent.getElementPath(name) + COLON_UNEXPECTED_ELEMENT, e);
                 } catch (final NoSuchMethodException e) {
                     if (((YangElement) parent).isChild(name)) {
                         // known existing leaf will be handled by endElement
@@ -176,6 +235,9 @@ public abstract class YangElement extends Element {
         } catch (final InvocationTargetException e) {
             throw new YangException(YangException.ELEMENT_MISSING,
                     parent.getElementPath(name) + COLON_UNEXPECTED_ELEMENT, e);
+        } catch (final ReflectiveOperationException e) {
+            throw new YangException(YangException.ELEMENT_MISSING,
+                    parent.getElementPath(name) + COLON_UNEXPECTED_ELEMENT, e);
         }
     }
 
@@ -192,42 +254,29 @@ public abstract class YangElement extends Element {
             throws YangException, JNCException {
 
         // Aware
-        final String methodName = "set" + normalize(name) + "Value";
-        final Class<?>[] types = new Class[]{String.class};
         try {
-            Method setLeafValue = getClass().getMethod(methodName, types);
-            setLeafValue.invoke(this, new Object[]{value});
+            setLeafValueByName(name, value);
         } catch (final NoSuchMethodException e) {
             if (!RevisionInfo.newerRevisionSupportEnabled) {
                 // e.printStackTrace();
                 throw new YangException(YangException.ELEMENT_MISSING,
                         getElementPath(name) + COLON_UNEXPECTED_ELEMENT, e);
             }
-            final NodeSet nodes = get(name);
-            if (nodes.isEmpty()) {
-                final Element leaf = new Element(ns, name);
-                leaf.setValue(value);
-                insertLast(leaf);
-            } else {
-                final Element leaf = nodes.first();
-                leaf.setValue(value);
-            }
+            setUnknownLeafValue(ns, name, value);
         } catch (final java.lang.reflect.InvocationTargetException cm) {
             // case with added enumerations,
             if (!RevisionInfo.newerRevisionSupportEnabled) {
                 throw new YangException(YangException.BAD_VALUE,
                         getElementPath(name) + ": " + cm.getCause().toString(), cm);
             }
-
-            final NodeSet nodes = get(name);
-            if (nodes.isEmpty()) {
-                final Element leaf = new Element(ns, name);
-                leaf.setValue(value);
-                insertLast(leaf);
-            } else {
-                final Element leaf = nodes.first();
-                leaf.setValue(value);
+            setUnknownLeafValue(ns, name, value);
+        } catch (final JNCException | RuntimeException cm) {
+            // same as above, thrown by a generated setLeafValueByName
+            if (!RevisionInfo.newerRevisionSupportEnabled) {
+                throw new YangException(YangException.BAD_VALUE,
+                        getElementPath(name) + ": " + cm.toString(), cm);
             }
+            setUnknownLeafValue(ns, name, value);
         } catch (final Exception invErr) {
             // type error
             throw new YangException(YangException.BAD_VALUE, getElementPath(name)
@@ -235,13 +284,87 @@ public abstract class YangElement extends Element {
         }
     }
 
+    /**
+     * Sets the value of a leaf of a newer revision than the generated class,
+     * as a plain Element.
+     */
+    private void setUnknownLeafValue(String ns, String name, String value)
+            throws JNCException {
+        final NodeSet nodes = get(name);
+        if (nodes.isEmpty()) {
+            final Element leaf = new Element(ns, name);
+            leaf.setValue(value);
+            insertLast(leaf);
+        } else {
+            final Element leaf = nodes.first();
+            leaf.setValue(value);
+        }
+    }
+
+    /**
+     * Sets the value of a child leaf or leaf-list by calling its
+     * set&lt;Name&gt;Value(String) method. Generated classes override this
+     * with a switch on the names of their leaves, the default implementation
+     * looks up the method by reflection.
+     *
+     * @param name The (non-normalized) name of the leaf
+     * @param value The value as a string
+     * @throws NoSuchMethodException if there is no such leaf
+     * @throws JNCException if the value is not valid for the leaf
+     */
+    protected void setLeafValueByName(String name, String value)
+            throws JNCException, ReflectiveOperationException {
+        final String methodName = "set" + normalize(name) + "Value";
+        final Method setLeafValue = getClass().getMethod(methodName, String.class);
+        setLeafValue.invoke(this, value);
+    }
+
+    /**
+     * Reads the value of a child leaf or leaf-list from the current element
+     * of in, to its end, and sets it by its typed setter, without adding the
+     * leaf first. Generated classes override this with a switch on the
+     * names of their leaves, for {@link YangXMLParser}.
+     *
+     * @param name The (non-normalized) name of the leaf
+     * @param in A stream positioned at the start of the leaf
+     * @return <code>false</code> if there is no such leaf, nothing is read
+     *         from in then.
+     * @throws JNCException if the value is not valid for the leaf
+     * @throws XMLStreamException if the leaf has other than text content
+     */
+    protected boolean readLeafValue(String name, XMLStreamReader in)
+            throws JNCException, XMLStreamException {
+        return false;
+    }
+
+    /**
+     * Calls {@link #readLeafValue(String, XMLStreamReader)}, handling invalid
+     * values as {@link #setLeafValue(String, String, String)} does.
+     */
+    boolean readLeaf(String ns, String name, YangXMLParser.TextReader in)
+            throws JNCException, XMLStreamException {
+        in.text = null;
+        try {
+            return readLeafValue(name, in);
+        } catch (final JNCException | RuntimeException cm) {
+            if (!RevisionInfo.newerRevisionSupportEnabled || in.text == null) {
+                throw new YangException(YangException.BAD_VALUE,
+                        getElementPath(name) + ": " + cm.toString(), cm);
+            }
+            setUnknownLeafValue(ns, name, in.text);
+            return true;
+        }
+    }
+
     static class Package {
         String pkg;
         String ns;
+        YangElementFactory factory;
 
-        Package(String ns, String pkg) {
+        Package(String ns, String pkg, YangElementFactory factory) {
             this.ns = ns;
             this.pkg = pkg;
+            this.factory = factory;
         }
     }
 
@@ -256,13 +379,18 @@ public abstract class YangElement extends Element {
      * @return Package name, if namespace is data model aware
      */
     public static String getPackage(String ns) {
+        final Package p = lookupPackage(ns);
+        return p == null ? null : p.pkg;
+    }
+
+    private static Package lookupPackage(String ns) {
         if (packages == null) {
             return null;
         }
         synchronized (packages) {
             for (final Package p : packages) {
                 if (p != null && p.ns.equals(ns)) {
-                    return p.pkg;
+                    return p;
                 }
             }
         }
@@ -273,11 +401,23 @@ public abstract class YangElement extends Element {
      * Assiciate a JAVA package with a namespace.
      */
     public static void setPackage(String ns, String pkg) {
+        setPackage(ns, pkg, null);
+    }
+
+    /**
+     * Associate a JAVA package with a namespace, and the factory creating
+     * the top level elements of the namespace without reflection.
+     *
+     * @param factory Factory of the top level elements, or null to create
+     *            them by reflection.
+     */
+    public static void setPackage(String ns, String pkg,
+            YangElementFactory factory) {
         if (packages == null) {
             packages = new ArrayList<Package>();
         }
         removePackage(ns);
-        packages.add(new Package(ns, pkg));
+        packages.add(new Package(ns, pkg, factory));
     }
 
     /**
@@ -377,21 +517,86 @@ public abstract class YangElement extends Element {
 
     protected void setLeafValue(String ns, String path, Object value,
                                 String[] childrenNames) throws JNCException {
-        final NodeSet nodes = get(path);
+        final Element child = isName(path) ? getChild(path) : get(path)
+                .first();
 
-        if (nodes.isEmpty()) {
+        if (child == null) {
             final Leaf leaf = new Leaf(ns, path);
             leaf.setValue(value);
             insertChild(leaf, childrenNames);
         } else {
-            final Leaf leaf = (Leaf) nodes.first();
+            final Leaf leaf = (Leaf) child;
             leaf.setValue(value);
         }
     }
 
+    /**
+     * @return <code>true</code> if path is a plain name, which selects the
+     *         children of that name. Generated classes pass the names of
+     *         their leaves as paths, which are then found without parsing
+     *         them as path expressions.
+     */
+    private static boolean isName(String path) {
+        if (path.length() == 0 || !isLetter(path.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < path.length(); i++) {
+            final char c = path.charAt(i);
+            if (!isLetter(c) && !(c >= '0' && c <= '9') && c != '-'
+                    && c != '_') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * @return The last child named name, or <code>null</code> if none.
+     */
+    private Element getLastChild(String name) {
+        if (children != null) {
+            for (int i = children.size() - 1; i >= 0; i--) {
+                final Element elem = children.getElement(i);
+                if (elem.name.equals(name)) {
+                    return elem;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param leaf A leaf referred to by a field of a generated class
+     * @return The value of leaf, <code>null</code> if there is no leaf.
+     */
+    protected static Object leafValue(Leaf leaf) {
+        return leaf == null ? null : leaf.getValue();
+    }
+
+    /**
+     * Inserts a child in schema order. When childrenNames is the
+     * {@link #sharedChildrenNames()} array of this class and their ordinals
+     * are known, the position is found by binary search instead of comparing
+     * names.
+     */
+    @Override
+    public int insertChild(Element child, String[] childrenNames)
+            throws JNCException {
+        final Map<String, Integer> ordinals = childrenOrdinals();
+        if (ordinals != null && childrenNames == sharedChildrenNames()) {
+            return insertChild(child, ordinals);
+        }
+        return super.insertChild(child, childrenNames);
+    }
+
     protected void setLeafListValue(String ns, String path, Object value,
                                     String[] childrenNames) throws JNCException {
-        final Element listEntry = get(path).last();
+        final Element listEntry = isName(path) ? getLastChild(path) : get(
+                path).last();
 
         if (listEntry instanceof Leaf && listEntry.value == null) {
             listEntry.setValue(value);
@@ -485,7 +690,7 @@ public abstract class YangElement extends Element {
         if (!equals(b)) {
             return false;
         }
-        final String[] keys = keyNames();
+        final String[] keys = sharedKeyNames();
         if (keys == null) {
             return false; // not a list entry
         }
@@ -520,7 +725,7 @@ public abstract class YangElement extends Element {
             return -1;
         }
 
-        final String[] keys = keyNames();
+        final String[] keys = sharedKeyNames();
         int i = 0;
         if (keys != null) {
             for (; i < keys.length; i++) {
@@ -531,7 +736,7 @@ public abstract class YangElement extends Element {
                 }
             }
         }
-        final String[] names = childrenNames();
+        final String[] names = sharedChildrenNames();
 
         // Continue from 'i', assuming keys are first in childrenNames
         for (; i < names.length; i++) {
@@ -813,7 +1018,7 @@ public abstract class YangElement extends Element {
         int diffs = 0;
         for (int i = 0; b.children != null && i < b.children.size(); i++) {
             final Element bChild = b.children.get(i);
-            if (a.keyNames() != null && bChild instanceof Leaf && ((Leaf) bChild).isKey()) {
+            if (a.sharedKeyNames() != null && bChild instanceof Leaf && ((Leaf) bChild).isKey()) {
                 // inside list entries we ignore keys
                 continue;
             }
@@ -902,7 +1107,7 @@ public abstract class YangElement extends Element {
     }
 
     private static Element deleteChild(YangElement e, NodeSet s) {
-        final String[] keys = e.keyNames();
+        final String[] keys = e.sharedKeyNames();
         for (int i = 0; i < s.size(); i++) {
             final Element x = s.get(i);
             if (x instanceof Leaf) {
@@ -996,7 +1201,7 @@ public abstract class YangElement extends Element {
     protected YangElement cloneContent(YangElement copy) {
         // copy children, except keys which are already copied
         if (children != null) {
-            final String[] keyNames = keyNames();
+            final String[] keyNames = sharedKeyNames();
             int i = 0;
             if (keyNames != null) {
                 // Skip the keys by starting the loop from here
@@ -1080,8 +1285,71 @@ public abstract class YangElement extends Element {
                     }
                 }
             }
+            // the children check their revisions as well
+            super.encode(out, newline_at_end, capas);
+        } else {
+            // encode the subtree into one buffer and print it at once
+            final StringBuilder buf = new StringBuilder(256);
+            encode(buf, newline_at_end, null);
+            out.print(buf.toString());
+        }
+    }
+
+    /**
+     * Support method for generated encodeChild methods.
+     *
+     * @param child A child of this element.
+     * @param prefix The prefix of this element.
+     * @return <code>true</code> if child is a leaf of the namespace of this
+     *         element, without attributes and prefixes of its own, which
+     *         are encoded with the prefix of this element.
+     */
+    protected boolean isPlainLeaf(Element child, String prefix) {
+        if (!(child instanceof Leaf) || child.attrs != null
+                || !namespace.equals(child.namespace)) {
+            return false;
+        }
+        if (child.prefixes != null) {
+            for (final Prefix p : child.prefixes) {
+                final Prefix declared = prefixes == null ? null : prefixes
+                        .lookup(p.name);
+                if (declared == null || !declared.value.equals(p.value)) {
+                    return false;
+                }
+            }
+            final String own = child.prefixes.nsToPrefix(namespace);
+            return own == null || own.equals(prefix);
         }
-        super.encode(out, newline_at_end, capas);
+        return true;
+    }
+
+    /**
+     * Support method for generated encodeChild methods. Appends a leaf
+     * child, as accepted by {@link #isPlainLeaf(Element, String)}, to out.
+     *
+     * @param out Buffer to append the encoded leaf to.
+     * @param leaf The leaf to encode.
+     * @param prefix The prefix of this element.
+     * @param escape <code>false</code> if the value is of a type which never
+     *            needs to be escaped as XML text, like numbers.
+     */
+    protected static void encodeLeaf(StringBuilder out, Element leaf,
+            String prefix, boolean escape) {
+        out.append('<');
+        appendName(out, prefix, leaf.name);
+        if (leaf.value == null) {
+            out.append("/>\n");
+            return;
+        }
+        out.append('>');
+        if (escape) {
+            appendEscaped(out, leaf.value.toString());
+        } else {
+            out.append(leaf.value.toString());
+        }
+        out.append("</");
+        appendName(out, prefix, leaf.name);
+        out.append(">\n");
     }
 
     /**
@@ -1092,7 +1360,11 @@ public abstract class YangElement extends Element {
      * otherwise.
      */
     public boolean isChild(String childName) {
-        final String[] children = childrenNames();
+        final Map<String, Integer> ordinals = childrenOrdinals();
+        if (ordinals != null) {
+            return ordinals.containsKey(childName);
+        }
+        final String[] children = sharedChildrenNames();
         for (int i = 0; i < children.length; i++) {
             if (childName.equals(children[i])) {
                 return true;
@@ -1116,6 +1388,22 @@ public abstract class YangElement extends Element {
         return (Element) addChild.invoke(this, new Object[]{});
     }
 
+    /**
+     * Creates and adds a child by name for the parser, by calling its
+     * add&lt;Name&gt;() method. Generated classes override this with a switch
+     * on the names of their children, the default implementation uses
+     * {@link #addChild(String)}.
+     *
+     * @param childName The (non-normalized) name of the child to add
+     * @return The added child, or <code>null</code> if it is a leaf.
+     * @throws NoSuchMethodException if there is no such child
+     * @throws JNCException if the child could not be added
+     */
+    protected Element addChildByName(String childName)
+            throws JNCException, ReflectiveOperationException {
+        return addChild(childName);
+    }
+
 
     public String toCLIString() {
         final StringBuffer s = new StringBuffer();
@@ -0,0 +1,18 @@
+package com.tailf.jnc;
+
+/**
+ * Creates the top level elements of a namespace for the parser. The root
+ * class generated by the JNC pyang plugin registers one with
+ * {@link YangElement#setPackage(String, String, YangElementFactory)}, so
+ * elements received from a device are constructed directly instead of
+ * looking up their classes by name.
+ */
+public interface YangElementFactory {
+
+    /**
+     * @param name The (non-normalized) name of the element
+     * @return A new instance of the generated class of the top level element
+     *         name, or <code>null</code> if there is no such element.
+     */
+    YangElement createElement(String name);
+}
@@ -1,9 +1,18 @@
 package com.tailf.jnc;
 
+import org.xml.sax.Attributes;
 import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
 
 import java.io.ByteArrayInputStream;
 
+import javax.xml.stream.FactoryConfigurationError;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.util.StreamReaderDelegate;
+
 /**
  * A SAX parser, for parsing for example NETCONF messages, into a simple
  * {@link YangElement YangElement} tree.
@@ -11,14 +20,36 @@ import java.io.ByteArrayInputStream;
  * This parser is data model aware and will try to construct classes that are
  * generated by the JNC pyang plugin.
  * <p>
+ * Streams are parsed with StAX, driving the same {@link ElementHandler} as
+ * the SAX parser. Leaves of generated classes are read directly by their
+ * {@link YangElement#readLeafValue(String, XMLStreamReader)} instead, if the
+ * classes were generated with the unmarshallers option.
  */
 public class YangXMLParser extends XMLParser {
 
+    /** the StAX implementation of each thread, for byte and character streams */
+    private static final ThreadLocal<XMLInputFactory> inputFactories = new ThreadLocal<XMLInputFactory>();
+
     /**
      * Constructor. Initializes the parser instance.
      */
     public YangXMLParser() throws JNCException {
         super();
+        inputFactory();
+    }
+
+    private static XMLInputFactory inputFactory() throws JNCException {
+        XMLInputFactory inputFactory = inputFactories.get();
+        if (inputFactory == null) {
+            try {
+                inputFactory = XMLInputFactory.newInstance();
+            } catch (final FactoryConfigurationError | Exception e) {
+                throw new JNCException(JNCException.PARSER_ERROR,
+                        "failed to initialize parser: " + e);
+            }
+            inputFactories.set(inputFactory);
+        }
+        return inputFactory;
     }
 
     /**
@@ -29,8 +60,7 @@ public class YangXMLParser extends XMLParser {
     public YangElement readFile(String filename) throws JNCException {
         try {
             final ElementHandler handler = new ElementHandler();
-            parser.setContentHandler(handler);
-            parser.parse(filename);
+            parse(new InputSource(filename), handler);
             return (YangElement) handler.top;
         } catch (final Exception e) {
             throw new JNCException(JNCException.PARSER_ERROR, "parse file: "
@@ -56,14 +86,29 @@ public class YangXMLParser extends XMLParser {
      * instantiating an ElementHandler to use as content handler.
      *
      * @param is Input source (byte stream) where the XML text is read from
+     * @param visitor Receives the entries of a rpc-reply, or
+     *            <code>null</code> to keep them in the tree
+     * @param select The parts of the document to parse, or <code>null</code>
+     *            to parse all of it
      */
     @Override
-    public Element parse(InputSource is) throws JNCException {
+    public Element parse(InputSource is, ReplyVisitor visitor,
+            Selection select) throws JNCException {
+        if (is.getCharacterStream() != null || is.getByteStream() != null) {
+            return parseStream(is, visitor, select);
+        }
         try {
             final ElementHandler handler = new ElementHandler();
-            parser.setContentHandler(handler);
-            parser.parse(is);
+            if (visitor != null) {
+                handler.visitor = new ReplyVisitor.Tracker(visitor);
+            }
+            if (select != null) {
+                handler.selection = new Selection.Tracker(select);
+            }
+            parse(is, handler);
             return handler.top;
+        } catch (final VisitorException e) {
+            throw e.getCause();
         } catch (final Exception e) {
 //            e.printStackTrace();
             throw new JNCException(JNCException.PARSER_ERROR, "parse error: "
@@ -71,4 +116,239 @@ public class YangXMLParser extends XMLParser {
         }
     }
 
+    /**
+     * Parses the byte or character stream of is with StAX.
+     */
+    private Element parseStream(InputSource is, ReplyVisitor visitor,
+            Selection select) throws JNCException {
+        XMLStreamReader reader = null;
+        try {
+            final XMLInputFactory inputFactory = inputFactory();
+            if (is.getCharacterStream() != null) {
+                reader = inputFactory.createXMLStreamReader(is
+                        .getSystemId(), is.getCharacterStream());
+            } else if (is.getEncoding() != null) {
+                reader = inputFactory.createXMLStreamReader(
+                        is.getByteStream(), is.getEncoding());
+            } else {
+                reader = inputFactory.createXMLStreamReader(is
+                        .getSystemId(), is.getByteStream());
+            }
+            final ElementHandler handler = new ElementHandler();
+            if (visitor != null) {
+                handler.visitor = new ReplyVisitor.Tracker(visitor);
+            }
+            if (select != null) {
+                handler.selection = new Selection.Tracker(select);
+            }
+            parse(new TextReader(reader), handler);
+            return handler.top;
+        } catch (final VisitorException e) {
+            throw e.getCause();
+        } catch (final Exception e) {
+            throw new JNCException(JNCException.PARSER_ERROR, "parse error: "
+                    + e, e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (final XMLStreamException e) {
+                    // ignore
+                }
+            }
+        }
+    }
+
+    /**
+     * Passes the events of in to handler, as a SAX parser would, except for
+     * leaves that the current element reads itself and subtrees that are not
+     * selected.
+     */
+    private static void parse(TextReader in, ElementHandler handler)
+            throws XMLStreamException, SAXException {
+        final StreamAttributes attributes = new StreamAttributes(in);
+        while (in.hasNext()) {
+            switch (in.next()) {
+            case XMLStreamConstants.START_ELEMENT:
+                final String localName = in.getLocalName();
+                if (handler.skips(localName)) {
+                    skipElement(in);
+                    break;
+                }
+                final String uri = uri(in.getNamespaceURI());
+                final int namespaceCount = in.getNamespaceCount();
+                if (namespaceCount == 0 && handler.unknownLevel == 0
+                        && !handler.leaf
+                        && handler.current instanceof YangElement
+                        && uri.equals(handler.current.namespace)) {
+                    try {
+                        if (((YangElement) handler.current).readLeaf(uri,
+                                localName, in)) {
+                            break;
+                        }
+                    } catch (final JNCException e) {
+                        throw new SAXException(e.toString(), e);
+                    }
+                }
+                for (int i = 0; i < namespaceCount; i++) {
+                    final String prefix = in.getNamespacePrefix(i);
+                    handler.startPrefixMapping(prefix == null ? "" : prefix,
+                            uri(in.getNamespaceURI(i)));
+                }
+                // no qualified names, as with a SAX parser without the
+                // namespace-prefixes feature
+                handler.startElement(uri, localName, "", attributes);
+                break;
+            case XMLStreamConstants.END_ELEMENT:
+                handler.endElement(uri(in.getNamespaceURI()),
+                        in.getLocalName(), "");
+                break;
+            case XMLStreamConstants.CHARACTERS:
+            case XMLStreamConstants.CDATA:
+            case XMLStreamConstants.SPACE:
+                if (handler.current != null) {
+                    handler.characters(in.getTextCharacters(),
+                            in.getTextStart(), in.getTextLength());
+                }
+                break;
+            default:
+                break;
+            }
+        }
+    }
+
+    /**
+     * Reads past the end of the current element.
+     */
+    private static void skipElement(XMLStreamReader in)
+            throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            switch (in.next()) {
+            case XMLStreamConstants.START_ELEMENT:
+                depth++;
+                break;
+            case XMLStreamConstants.END_ELEMENT:
+                depth--;
+                break;
+            default:
+                break;
+            }
+        }
+    }
+
+    private static String uri(String uri) {
+        return uri == null ? "" : uri;
+    }
+
+    /**
+     * Remembers the last element text read, so a leaf of a newer revision
+     * can be kept as an unknown leaf after its typed setter failed.
+     */
+    static class TextReader extends StreamReaderDelegate {
+        String text;
+
+        TextReader(XMLStreamReader reader) {
+            super(reader);
+        }
+
+        @Override
+        public String getElementText() throws XMLStreamException {
+            text = super.getElementText();
+            return text;
+        }
+    }
+
+    /**
+     * The attributes of the current start element of a stream, as SAX
+     * attributes.
+     */
+    private static class StreamAttributes implements Attributes {
+        private final XMLStreamReader in;
+
+        StreamAttributes(XMLStreamReader in) {
+            this.in = in;
+        }
+
+        @Override
+        public int getLength() {
+            return in.getAttributeCount();
+        }
+
+        @Override
+        public String getURI(int index) {
+            return uri(in.getAttributeNamespace(index));
+        }
+
+        @Override
+        public String getLocalName(int index) {
+            return in.getAttributeLocalName(index);
+        }
+
+        @Override
+        public String getQName(int index) {
+            final String prefix = in.getAttributePrefix(index);
+            final String localName = in.getAttributeLocalName(index);
+            if (prefix == null || prefix.isEmpty()) {
+                return localName;
+            }
+            return prefix + ":" + localName;
+        }
+
+        @Override
+        public String getType(int index) {
+            return in.getAttributeType(index);
+        }
+
+        @Override
+        public String getValue(int index) {
+            return in.getAttributeValue(index);
+        }
+
+        @Override
+        public int getIndex(String uri, String localName) {
+            for (int i = 0; i < getLength(); i++) {
+                if (getURI(i).equals(uri)
+                        && getLocalName(i).equals(localName)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int getIndex(String qName) {
+            for (int i = 0; i < getLength(); i++) {
+                if (getQName(i).equals(qName)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public String getType(String uri, String localName) {
+            final int i = getIndex(uri, localName);
+            return i < 0 ? null : getType(i);
+        }
+
+        @Override
+        public String getType(String qName) {
+            final int i = getIndex(qName);
+            return i < 0 ? null : getType(i);
+        }
+
+        @Override
+        public String getValue(String uri, String localName) {
+            final int i = getIndex(uri, localName);
+            return i < 0 ? null : getValue(i);
+        }
+
+        @Override
+        public String getValue(String qName) {
+            final int i = getIndex(qName);
+            return i < 0 ? null : getValue(i);
+        }
+    }
+
 }
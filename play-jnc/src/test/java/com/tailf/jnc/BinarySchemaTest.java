@@ -0,0 +1,184 @@
+package com.tailf.jnc;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Writes schemas read by {@link SchemaParser} from XML in the binary format
+ * and checks that reading them back gives the same nodes.
+ */
+public class BinarySchemaTest {
+
+    /** nodes with revision info, flags, a description and no children */
+    private static final String REVISIONS = "<schema>\n"
+            + "  <node>\n"
+            + "    <tagpath>/</tagpath>\n"
+            + "    <namespace>urn:test</namespace>\n"
+            + "    <primitive_type>0</primitive_type>\n"
+            + "    <min_occurs>1</min_occurs>\n"
+            + "    <max_occurs>1</max_occurs>\n"
+            + "    <children>system</children>\n"
+            + "    <flags>0</flags>\n"
+            + "    <desc></desc>\n"
+            + "  </node>\n"
+            + "  <node>\n"
+            + "    <tagpath>/system/</tagpath>\n"
+            + "    <namespace>urn:test</namespace>\n"
+            + "    <primitive_type>0</primitive_type>\n"
+            + "    <min_occurs>0</min_occurs>\n"
+            + "    <max_occurs>1</max_occurs>\n"
+            + "    <children>hostname mode</children>\n"
+            + "    <flags>2</flags>\n"
+            + "    <desc>the system, å &lt;node&gt;</desc>\n"
+            + "  </node>\n"
+            + "  <node>\n"
+            + "    <tagpath>/system/mode/</tagpath>\n"
+            + "    <namespace>urn:test</namespace>\n"
+            + "    <primitive_type>12</primitive_type>\n"
+            + "    <min_occurs>0</min_occurs>\n"
+            + "    <max_occurs>1</max_occurs>\n"
+            + "    <children></children>\n"
+            + "    <flags>8</flags>\n"
+            + "    <desc></desc>\n"
+            + "    <rev>\n"
+            + "      <info>\n"
+            + "        <type>1</type>\n"
+            + "        <idata>3</idata>\n"
+            + "        <data>standby</data>\n"
+            + "        <introduced>2018-01-01</introduced>\n"
+            + "      </info>\n"
+            + "      <info>\n"
+            + "        <type>4</type>\n"
+            + "        <idata>0</idata>\n"
+            + "        <data>active</data>\n"
+            + "        <introduced>2019-06-30</introduced>\n"
+            + "      </info>\n"
+            + "    </rev>\n"
+            + "  </node>\n"
+            + "</schema>\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File write(String name, byte[] content) throws Exception {
+        final File file = new File(folder.getRoot(), name);
+        final OutputStream out = new FileOutputStream(file);
+        try {
+            out.write(content);
+        } finally {
+            out.close();
+        }
+        return file;
+    }
+
+    private static byte[] binary(HashMap<Tagpath, SchemaNode> nodes)
+            throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinarySchema.write(nodes.values(), out);
+        return out.toByteArray();
+    }
+
+    private static void assertSameNodes(HashMap<Tagpath, SchemaNode> expected,
+            HashMap<Tagpath, SchemaNode> actual) {
+        assertEquals(expected.keySet(), actual.keySet());
+        for (final SchemaNode node : expected.values()) {
+            final SchemaNode read = actual.get(node.tagpath);
+            final String at = node.tagpath.toString();
+            assertArrayEquals(at, node.tagpath.p, read.tagpath.p);
+            assertEquals(at, node.namespace, read.namespace);
+            assertEquals(at, node.primitive_type, read.primitive_type);
+            assertEquals(at, node.min_occurs, read.min_occurs);
+            assertEquals(at, node.max_occurs, read.max_occurs);
+            assertArrayEquals(at, node.children, read.children);
+            assertEquals(at, node.flags, read.flags);
+            assertEquals(at, node.desc, read.desc);
+            if (node.revInfo == null) {
+                assertEquals(at, null, read.revInfo);
+                continue;
+            }
+            assertEquals(at, node.revInfo.length, read.revInfo.length);
+            for (int i = 0; i < node.revInfo.length; i++) {
+                assertEquals(at, node.revInfo[i].type, read.revInfo[i].type);
+                assertEquals(at, node.revInfo[i].idata, read.revInfo[i].idata);
+                assertEquals(at, node.revInfo[i].data, read.revInfo[i].data);
+                assertEquals(at, node.revInfo[i].introduced,
+                        read.revInfo[i].introduced);
+            }
+        }
+    }
+
+    /**
+     * Reads an XML schema, writes it in the binary format and reads that
+     * with both {@link BinarySchema#read} and {@link SchemaParser}.
+     */
+    private void roundTrip(File xml) throws Exception {
+        final HashMap<Tagpath, SchemaNode> fromXml = new HashMap<Tagpath, SchemaNode>();
+        new SchemaParser().readFile(xml.getPath(), fromXml);
+        assertTrue(fromXml.size() > 0);
+
+        final byte[] bytes = binary(fromXml);
+        assertTrue(BinarySchema.isBinary(bytes, bytes.length));
+
+        final HashMap<Tagpath, SchemaNode> read = new HashMap<Tagpath, SchemaNode>();
+        BinarySchema.read(new ByteArrayInputStream(bytes), read);
+        assertSameNodes(fromXml, read);
+
+        final HashMap<Tagpath, SchemaNode> parsed = new HashMap<Tagpath, SchemaNode>();
+        new SchemaParser().readFile(write("binary.schema", bytes).getPath(), parsed);
+        assertSameNodes(fromXml, parsed);
+    }
+
+    @Test
+    public void generatedSchema() throws Exception {
+        final File xml = new File(getClass().getResource("IfPrefix.schema").toURI());
+        roundTrip(xml);
+    }
+
+    @Test
+    public void revisionInfo() throws Exception {
+        roundTrip(write("revisions.schema", REVISIONS.getBytes("UTF-8")));
+
+        final HashMap<Tagpath, SchemaNode> nodes = new HashMap<Tagpath, SchemaNode>();
+        BinarySchema.read(new ByteArrayInputStream(binary(xml(REVISIONS))), nodes);
+        final SchemaNode mode = nodes.get(new Tagpath("system/mode"));
+        assertNotNull(mode);
+        assertEquals(2, mode.revInfo.length);
+        assertEquals("standby", mode.revInfo[0].data);
+        assertEquals("the system, å <node>",
+                nodes.get(new Tagpath("system")).desc);
+    }
+
+    @Test
+    public void truncated() throws Exception {
+        final byte[] bytes = binary(xml(REVISIONS));
+        try {
+            BinarySchema.read(new ByteArrayInputStream(
+                    Arrays.copyOf(bytes, bytes.length - 5)),
+                    new HashMap<Tagpath, SchemaNode>());
+            fail("truncated schema read");
+        } catch (final JNCException e) {
+            assertEquals(JNCException.PARSER_ERROR, e.errorCode);
+        }
+    }
+
+    private HashMap<Tagpath, SchemaNode> xml(String schema) throws Exception {
+        final HashMap<Tagpath, SchemaNode> nodes = new HashMap<Tagpath, SchemaNode>();
+        new SchemaParser().readFile(write("schema.xml", schema.getBytes("UTF-8")).getPath(), nodes);
+        return nodes;
+    }
+}
@@ -0,0 +1,119 @@
+package com.tailf.jnc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import org.junit.Test;
+
+/**
+ * Checks that replies read from a {@link StreamTransport} are handled as
+ * the replies read with {@link Transport#readOne()}.
+ */
+public class NetconfSessionTest {
+
+    private static final String REPLY = "<rpc-reply"
+            + " xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\""
+            + " message-id=\"1\"><ok/></rpc-reply>";
+
+    /** Hands out queued replies as text */
+    private static class QueueTransport implements Transport {
+        final Queue<String> replies = new ArrayDeque<String>();
+
+        @Override
+        public StringBuffer readOne() {
+            return new StringBuffer(replies.remove());
+        }
+
+        @Override
+        public boolean ready() {
+            return !replies.isEmpty();
+        }
+
+        @Override
+        public void print(long i) {
+        }
+
+        @Override
+        public void print(String s) {
+        }
+
+        @Override
+        public void println(int i) {
+        }
+
+        @Override
+        public void println(String s) {
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /** Hands out queued replies as streams */
+    private static class StreamQueueTransport extends QueueTransport
+            implements StreamTransport {
+        int closed = 0;
+
+        @Override
+        public Reader readOneStream() {
+            return new StringReader(replies.remove()) {
+                @Override
+                public void close() {
+                    closed++;
+                    super.close();
+                }
+            };
+        }
+    }
+
+    private static void assertEmptyInput(NetconfSession session)
+            throws IOException {
+        try {
+            session.readReply();
+            fail("empty reply parsed");
+        } catch (final JNCException e) {
+            assertEquals(JNCException.PARSER_ERROR, e.errorCode);
+            assertEquals("empty input", e.opaqueData);
+        }
+    }
+
+    @Test
+    public void emptyStreamedReply() throws Exception {
+        final StreamQueueTransport transport = new StreamQueueTransport();
+        final NetconfSession session = new NetconfSession();
+        session.setTransport(transport);
+        transport.replies.add("");
+        transport.replies.add(REPLY);
+
+        assertEmptyInput(session);
+        assertEquals(1, transport.closed);
+        // the next reply is read as usual
+        assertNotNull(session.readReply().getFirst("self::rpc-reply/ok"));
+        assertTrue(transport.closed >= 2);
+    }
+
+    @Test
+    public void emptyReply() throws Exception {
+        final QueueTransport transport = new QueueTransport();
+        final NetconfSession session = new NetconfSession();
+        session.setTransport(transport);
+        transport.replies.add("");
+        transport.replies.add(REPLY);
+
+        assertEmptyInput(session);
+        assertNotNull(session.readReply().getFirst("self::rpc-reply/ok"));
+    }
+}
@@ -0,0 +1,171 @@
+package com.tailf.jnc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.xml.sax.InputSource;
+
+/**
+ * Checks which subtrees the parsers skip for a {@link Selection}, with each
+ * way of parsing.
+ */
+public class SelectionTest {
+
+    private static final String REPLY = "<rpc-reply"
+            + " xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\""
+            + " message-id=\"1\">\n"
+            + "  <data>\n"
+            + "    <interfaces xmlns=\"urn:test:if\">\n"
+            + "      <interface>\n"
+            + "        <name>eth0</name>\n"
+            + "        <stats><in>10</in><name>rx</name></stats>\n"
+            + "        <mtu>1500</mtu>\n"
+            + "      </interface>\n"
+            + "      <interface>\n"
+            + "        <mtu>9000</mtu>\n"
+            + "        <name>eth1</name>\n"
+            + "      </interface>\n"
+            + "    </interfaces>\n"
+            + "    <system xmlns=\"urn:test:if\">\n"
+            + "      <interfaces><interface><name>lo</name></interface></interfaces>\n"
+            + "    </system>\n"
+            + "  </data>\n"
+            + "</rpc-reply>\n";
+
+    /** b/c below a skipped d, in a selected b */
+    private static final String NESTED = "<a xmlns=\"urn:test:a\">\n"
+            + "  <b>\n"
+            + "    <c>1</c>\n"
+            + "    <d><b><c>2</c></b><c>3</c><d><b><c>4</c></b></d></d>\n"
+            + "    <e>5</e>\n"
+            + "  </b>\n"
+            + "  <d><b><c>6</c></b></d>\n"
+            + "</a>\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Parses xml with each parser.
+     *
+     * @return The trees, null where the document element was not selected
+     */
+    private List<Element> parseAll(String xml, Selection select)
+            throws Exception {
+        final List<Element> trees = new ArrayList<Element>();
+        trees.add(new XMLParser().parse(new InputSource(new StringReader(
+                xml)), null, select));
+
+        final File file = folder.newFile();
+        final OutputStream out = new FileOutputStream(file);
+        try {
+            out.write(xml.getBytes("UTF-8"));
+        } finally {
+            out.close();
+        }
+        trees.add(new YangXMLParser().parse(new InputSource(file.toURI()
+                .toString()), null, select));
+
+        trees.add(new YangXMLParser().parse(new InputSource(
+                new ByteArrayInputStream(xml.getBytes("UTF-8"))), null,
+                select));
+        return trees;
+    }
+
+    private static List<String> names(Element e) {
+        final List<String> names = new ArrayList<String>();
+        if (e.getChildren() != null) {
+            for (final Element child : e.getChildren()) {
+                names.add(child.name);
+            }
+        }
+        return names;
+    }
+
+    private static List<String> list(String... names) {
+        final List<String> list = new ArrayList<String>();
+        for (final String name : names) {
+            list.add(name);
+        }
+        return list;
+    }
+
+    @Test
+    public void selectedPath() throws Exception {
+        final Selection select = new Selection(new Tagpath(
+                "/interfaces/interface/name"));
+        for (final Element reply : parseAll(REPLY, select)) {
+            final Element data = reply.getFirst("data");
+            assertEquals(list("interfaces"), names(data));
+            final NodeSet interfaces = data.get("interfaces/interface");
+            assertEquals(2, interfaces.size());
+            assertEquals(list("name"), names(interfaces.get(0)));
+            assertEquals("eth0", interfaces.get(0).getValue("name"));
+            assertEquals(list("name"), names(interfaces.get(1)));
+            assertEquals("eth1", interfaces.get(1).getValue("name"));
+            // the text around skipped children is not taken for a value
+            assertNull(interfaces.get(1).getValue());
+        }
+    }
+
+    @Test
+    public void skippedSiblingSubtree() throws Exception {
+        final Selection select = new Selection(new Tagpath(
+                "/interfaces/interface/name"), new Tagpath(
+                "/interfaces/interface/mtu"));
+        for (final Element reply : parseAll(REPLY, select)) {
+            final Element first = reply.getFirst("data/interfaces/interface");
+            // the siblings after the skipped stats subtree are kept
+            assertEquals(list("name", "mtu"), names(first));
+            assertEquals("1500", first.getValue("mtu"));
+            assertEquals(list("interfaces"), names(reply.getFirst("data")));
+        }
+    }
+
+    @Test
+    public void nestedSkippedSubtree() throws Exception {
+        final Selection select = new Selection(new Tagpath("/a/b/c"),
+                new Tagpath("/a/b/e"));
+        for (final Element a : parseAll(NESTED, select)) {
+            assertEquals(list("b"), names(a));
+            final Element b = a.getFirst("b");
+            assertEquals(list("c", "e"), names(b));
+            assertEquals("1", b.getValue("c"));
+            assertEquals("5", b.getValue("e"));
+        }
+
+        final Selection whole = new Selection(new Tagpath("/a/b"));
+        for (final Element a : parseAll(NESTED, whole)) {
+            final Element b = a.getFirst("b");
+            assertEquals(list("b"), names(a));
+            assertEquals(list("c", "d", "e"), names(b));
+            assertEquals("4", b.getValue("d/d/b/c"));
+        }
+    }
+
+    @Test
+    public void emptySelection() throws Exception {
+        final Selection select = new Selection(new Tagpath[0]);
+        for (final Element reply : parseAll(REPLY, select)) {
+            assertEquals("rpc-reply", reply.name);
+            final Element data = reply.getFirst("data");
+            assertFalse(data.hasChildren());
+            assertNull(data.getValue());
+        }
+        for (final Element a : parseAll(NESTED, select)) {
+            assertNull(a);
+        }
+    }
+}
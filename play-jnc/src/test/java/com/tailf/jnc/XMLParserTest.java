@@ -0,0 +1,118 @@
+package com.tailf.jnc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Checks that subclasses using the deprecated reader of XMLParser still
+ * work next to the parse methods.
+ */
+public class XMLParserTest {
+
+    /** A subclass that parses with the reader field, as before */
+    @SuppressWarnings("deprecation")
+    private static class NameParser extends XMLParser {
+
+        NameParser() throws JNCException {
+            super();
+        }
+
+        List<String> names(String xml) throws Exception {
+            final List<String> names = new ArrayList<String>();
+            parser.setContentHandler(new DefaultHandler() {
+                @Override
+                public void startElement(String uri, String localName,
+                        String qName, Attributes attributes) {
+                    names.add(localName);
+                }
+            });
+            parser.parse(new InputSource(new StringReader(xml)));
+            return names;
+        }
+    }
+
+    /** A subclass that sets its handler once, in its constructor */
+    @SuppressWarnings("deprecation")
+    private static class CountingParser extends XMLParser {
+        int count = 0;
+        final List<Element> nested = new ArrayList<Element>();
+
+        CountingParser() throws JNCException {
+            super();
+            parser.setContentHandler(new DefaultHandler() {
+                @Override
+                public void startElement(String uri, String localName,
+                        String qName, Attributes attributes)
+                        throws SAXException {
+                    count++;
+                    if ("nested".equals(localName)) {
+                        // a parse by the base class, in the middle of this one
+                        try {
+                            CountingParser.this.nested.add(new XMLParser()
+                                    .parse("<n><m/></n>"));
+                        } catch (final JNCException e) {
+                            throw new SAXException(e);
+                        }
+                    }
+                }
+            });
+        }
+
+        int count(String xml) throws Exception {
+            count = 0;
+            parser.parse(new InputSource(new StringReader(xml)));
+            return count;
+        }
+    }
+
+    @Test
+    public void readerOfEachSubclassInstance() throws Exception {
+        final CountingParser first = new CountingParser();
+        assertEquals(2, first.count("<a><b/></a>"));
+        final CountingParser second = new CountingParser();
+        assertEquals(2, first.count("<a><b/></a>"));
+        assertEquals(0, second.count);
+        assertEquals(3, second.count("<a><b/><c/></a>"));
+
+        assertEquals("x", new XMLParser().parse("<x/>").name);
+        assertEquals(2, first.count("<a><b/></a>"));
+        assertEquals(3, second.count("<a><b/><c/></a>"));
+    }
+
+    @Test
+    public void baseParseWhileSubclassParses() throws Exception {
+        final CountingParser parser = new CountingParser();
+        assertEquals(4, parser.count("<a><nested/><b/><nested/></a>"));
+        assertEquals(2, parser.nested.size());
+        for (final Element n : parser.nested) {
+            assertEquals("n", n.name);
+            assertNotNull(n.getFirst("m"));
+        }
+        assertEquals(2, parser.count("<a><b/></a>"));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void readerOfSubclasses() throws Exception {
+        final NameParser parser = new NameParser();
+        assertNotNull(parser.parser);
+        final List<String> expected = new ArrayList<String>();
+        expected.add("a");
+        expected.add("b");
+        assertEquals(expected, parser.names("<a><b/></a>"));
+
+        final Element parsed = parser.parse("<x xmlns=\"urn:x\"><y>1</y></x>");
+        assertEquals("1", parsed.getFirst("y").getValue());
+        assertEquals(expected, parser.names("<a><b/></a>"));
+    }
+}
@@ -0,0 +1,164 @@
+package com.tailf.jnc;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Checks that inserting children by their ordinals, as generated classes
+ * do, keeps them in the order of the name scan of
+ * {@link Element#insertChild(Element, String[])}.
+ */
+public class YangElementTest {
+
+    private static final String NS = "urn:test";
+
+    private static final String UNKNOWN = "unknown";
+
+    /** Like a generated list class */
+    static class Employee extends YangElement {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final String[] KEY_NAMES = {
+            "id",
+        };
+
+        private static final String[] CHILDREN_NAMES = {
+            "id",
+            "name",
+            "address",
+            "phone",
+            "tag",
+        };
+
+        private static final Map<String, Integer> CHILDREN_ORDINALS =
+                ordinals(CHILDREN_NAMES);
+
+        Employee() {
+            super(NS, "employee");
+        }
+
+        @Override
+        public String[] keyNames() {
+            return KEY_NAMES.clone();
+        }
+
+        @Override
+        protected String[] sharedKeyNames() {
+            return KEY_NAMES;
+        }
+
+        @Override
+        public String[] childrenNames() {
+            return CHILDREN_NAMES.clone();
+        }
+
+        @Override
+        protected String[] sharedChildrenNames() {
+            return CHILDREN_NAMES;
+        }
+
+        @Override
+        protected Map<String, Integer> childrenOrdinals() {
+            return CHILDREN_ORDINALS;
+        }
+
+        @Override
+        public Element cloneShallow() {
+            return new Employee();
+        }
+
+        int add(String name) throws JNCException {
+            return insertChild(new Leaf(NS, name), sharedChildrenNames());
+        }
+    }
+
+    /** Like a class generated before children ordinals */
+    static class ScannedEmployee extends Employee {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected Map<String, Integer> childrenOrdinals() {
+            return null;
+        }
+    }
+
+    private static List<String> names(Element e) {
+        final List<String> names = new ArrayList<String>();
+        for (final Element child : e.getChildren()) {
+            names.add(child.name);
+        }
+        return names;
+    }
+
+    @Test
+    public void sameOrderAsNameScan() throws JNCException {
+        final Random random = new Random(17);
+        for (int run = 0; run < 200; run++) {
+            final Employee ordered = new Employee();
+            final Employee scanned = new ScannedEmployee();
+            final Employee copied = new Employee();
+            final int count = 1 + random.nextInt(20);
+            final int unknownAt = random.nextInt(count + 1);
+            for (int i = 0; i < count; i++) {
+                // the name scan supports at most one child not in
+                // childrenNames, which it places last
+                final String name = i == unknownAt ? UNKNOWN
+                        : Employee.CHILDREN_NAMES[random.nextInt(
+                                Employee.CHILDREN_NAMES.length)];
+                final int pos = scanned.add(name);
+                assertEquals(pos, ordered.add(name));
+                assertEquals(pos, copied.insertChild(new Leaf(NS, name),
+                        copied.childrenNames()));
+            }
+            assertEquals(names(scanned), names(ordered));
+            assertEquals(names(scanned), names(copied));
+        }
+    }
+
+    @Test
+    public void unknownChildrenLast() throws JNCException {
+        final Employee e = new Employee();
+        e.add("tag");
+        e.add(UNKNOWN);
+        e.add("id");
+        e.add(UNKNOWN);
+        e.add("tag");
+        e.add("name");
+        final List<String> expected = new ArrayList<String>();
+        for (final String name : new String[] { "id", "name", "tag", "tag",
+                UNKNOWN, UNKNOWN }) {
+            expected.add(name);
+        }
+        assertEquals(expected, names(e));
+    }
+
+    @Test
+    public void namesAreCopies() throws JNCException {
+        final Employee e = new Employee();
+        final String[] children = e.childrenNames();
+        final String[] keys = e.keyNames();
+        children[0] = "changed";
+        keys[0] = "changed";
+
+        assertArrayEquals(Employee.CHILDREN_NAMES, e.childrenNames());
+        assertArrayEquals(new String[] { "id" }, e.keyNames());
+        assertTrue(e.isChild("id"));
+        assertFalse(e.isChild("changed"));
+
+        e.add("name");
+        e.add("id");
+        assertTrue(((Leaf) e.getChild("id")).isKey());
+        assertFalse(((Leaf) e.getChild("name")).isKey());
+    }
+}
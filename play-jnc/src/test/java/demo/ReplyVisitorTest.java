@@ -0,0 +1,237 @@
+package demo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.xml.sax.InputSource;
+
+import com.tailf.jnc.Element;
+import com.tailf.jnc.JNCException;
+import com.tailf.jnc.Leaf;
+import com.tailf.jnc.ReplyVisitor;
+import com.tailf.jnc.XMLParser;
+import com.tailf.jnc.YangElement;
+import com.tailf.jnc.YangElementFactory;
+import com.tailf.jnc.YangXMLParser;
+
+/**
+ * Checks which elements of a reply are passed to a {@link ReplyVisitor}, and
+ * what is left of the reply, with each way of parsing it.
+ */
+public class ReplyVisitorTest {
+
+    private static final String SYSTEM_NS = "urn:test:system";
+
+    private static final String REPLY_START = "<rpc-reply"
+            + " xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\""
+            + " message-id=\"1\">\n"
+            + "  <data>\n";
+
+    private static final String REPLY_END = "  </data>\n"
+            + "</rpc-reply>\n";
+
+    private static final String ROUTE_1 = "<route>\n"
+            + "      <dest>10.0.0.0/8</dest>\n"
+            + "      <gw>192.168.0.1</gw>\n"
+            + "    </route>\n";
+
+    private static final String ROUTE_2 = "<route>\n"
+            + "      <dest>0.0.0.0/0</dest>\n"
+            + "      <gw>192.168.0.254</gw>\n"
+            + "    </route>\n";
+
+    /** route entries right below the data */
+    private static final String TOP_LEVEL_LIST = REPLY_START
+            + "    <route xmlns=\"urn:test:routes\"><dest>10.0.0.0/8</dest>"
+            + "<gw>192.168.0.1</gw></route>\n"
+            + "    <route xmlns=\"urn:test:routes\">\n"
+            + "      <dest>0.0.0.0/0</dest>\n"
+            + "      <gw>192.168.0.254</gw>\n"
+            + "    </route>\n"
+            + "    <hostname xmlns=\"urn:test:routes\">edge</hostname>\n"
+            + REPLY_END;
+
+    /** route entries in a routes container with a leaf of its own */
+    private static final String CONTAINER_WRAPPED_LIST = REPLY_START
+            + "    <routes xmlns=\"urn:test:routes\">\n"
+            + "    <count>2</count>\n"
+            + "    " + ROUTE_1
+            + "    " + ROUTE_2
+            + "    </routes>\n"
+            + REPLY_END;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @After
+    public void tearDown() {
+        YangElement.removePackage(SYSTEM_NS);
+    }
+
+    /** Keeps the entries it is passed */
+    private static class Collector extends ReplyVisitor {
+        final List<Element> entries = new ArrayList<Element>();
+
+        Collector() {
+        }
+
+        Collector(int depth) {
+            super(depth);
+        }
+
+        @Override
+        public void visit(Element entry) {
+            assertNull(entry.getParent());
+            entries.add(entry);
+        }
+    }
+
+    private static Element plain(String xml, ReplyVisitor visitor)
+            throws JNCException {
+        return new XMLParser().parse(new InputSource(new StringReader(xml)),
+                visitor);
+    }
+
+    private Element sax(String xml, ReplyVisitor visitor) throws Exception {
+        final File file = folder.newFile();
+        final OutputStream out = new FileOutputStream(file);
+        try {
+            out.write(xml.getBytes("UTF-8"));
+        } finally {
+            out.close();
+        }
+        return new YangXMLParser().parse(new InputSource(file.toURI()
+                .toString()), visitor);
+    }
+
+    private static Element stax(String xml, ReplyVisitor visitor)
+            throws Exception {
+        return new YangXMLParser().parse(new InputSource(
+                new ByteArrayInputStream(xml.getBytes("UTF-8"))), visitor);
+    }
+
+    /**
+     * Parses xml with each parser.
+     *
+     * @return The replies, each followed by the entries of its visitor
+     */
+    private List<List<Element>> parseAll(String xml, int depth)
+            throws Exception {
+        final List<List<Element>> results = new ArrayList<List<Element>>();
+        for (int i = 0; i < 3; i++) {
+            final Collector visitor = depth == 0 ? new Collector()
+                    : new Collector(depth);
+            final Element reply = i == 0 ? plain(xml, visitor)
+                    : i == 1 ? sax(xml, visitor) : stax(xml, visitor);
+            final List<Element> result = new ArrayList<Element>();
+            result.add(reply);
+            for (final Element entry : visitor.entries) {
+                assertFalse(entry instanceof Leaf);
+                assertTrue(entry.hasChildren());
+                result.add(entry);
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
+    private static void assertRoutes(List<Element> result, int from)
+            throws JNCException {
+        assertEquals("route", result.get(from).name);
+        assertEquals("10.0.0.0/8", result.get(from).getValue("dest")
+                .toString());
+        assertEquals("192.168.0.1", result.get(from).getValue("gw")
+                .toString());
+        assertEquals("route", result.get(from + 1).name);
+        assertEquals("192.168.0.254", result.get(from + 1).getValue("gw")
+                .toString());
+    }
+
+    @Test
+    public void topLevelList() throws Exception {
+        for (final List<Element> result : parseAll(TOP_LEVEL_LIST, 0)) {
+            assertEquals(3, result.size());
+            assertRoutes(result, 1);
+            final Element data = result.get(0).getFirst("data");
+            // no empty route elements are left behind, the leaf stays
+            assertEquals(1, data.getChildren().size());
+            assertEquals("edge", data.getValue("hostname"));
+        }
+    }
+
+    @Test
+    public void containerWrappedList() throws Exception {
+        for (final List<Element> result : parseAll(CONTAINER_WRAPPED_LIST,
+                0)) {
+            assertEquals(3, result.size());
+            assertRoutes(result, 1);
+            final Element routes = result.get(0).getFirst("data/routes");
+            assertEquals(1, routes.getChildren().size());
+            assertEquals("2", routes.getValue("count"));
+            // the text after the last entry is not taken for a value
+            assertNull(routes.getValue());
+        }
+    }
+
+    @Test
+    public void generatedListEntries() throws Exception {
+        YangElement.setPackage(SYSTEM_NS, "demo", new YangElementFactory() {
+            @Override
+            public YangElement createElement(String name) {
+                return "user".equals(name) ? new StaxParserTest.UserElement()
+                        : null;
+            }
+        });
+        final String xml = REPLY_START
+                + "    <user xmlns=\"" + SYSTEM_NS + "\">\n"
+                + "      <name>admin</name>\n"
+                + "    </user>\n"
+                + "    <user xmlns=\"" + SYSTEM_NS + "\">\n"
+                + "      <name>guest</name>\n"
+                + "      <uid>1001</uid>\n"
+                + "    </user>\n"
+                + REPLY_END;
+        final List<List<Element>> results = parseAll(xml, 0);
+        for (final List<Element> result : results.subList(1, 3)) {
+            assertEquals(3, result.size());
+            assertTrue(result.get(1) instanceof StaxParserTest.UserElement);
+            assertEquals("admin", result.get(1).getValue("name").toString());
+            assertEquals("1001", result.get(2).getValue("uid").toString());
+            assertFalse(result.get(0).getFirst("data").hasChildren());
+        }
+    }
+
+    @Test
+    public void entriesAtDepth() throws Exception {
+        final String xml = REPLY_START
+                + "    <route xmlns=\"urn:test:routes\">\n"
+                + "      <dest>10.0.0.0/8</dest>\n"
+                + "      <next-hop><gw>192.168.0.1</gw></next-hop>\n"
+                + "    </route>\n"
+                + REPLY_END;
+        for (final List<Element> result : parseAll(xml, 1)) {
+            assertEquals(2, result.size());
+            assertEquals("192.168.0.1", result.get(1).getValue("next-hop/gw"));
+            assertFalse(result.get(0).getFirst("data").hasChildren());
+        }
+        for (final List<Element> result : parseAll(CONTAINER_WRAPPED_LIST,
+                2)) {
+            assertEquals(3, result.size());
+            assertRoutes(result, 1);
+        }
+    }
+}
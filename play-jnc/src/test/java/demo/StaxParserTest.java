@@ -0,0 +1,367 @@
+package demo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.xml.sax.InputSource;
+
+import com.tailf.jnc.Attribute;
+import com.tailf.jnc.Element;
+import com.tailf.jnc.JNCException;
+import com.tailf.jnc.NodeSet;
+import com.tailf.jnc.Prefix;
+import com.tailf.jnc.YangElement;
+import com.tailf.jnc.YangElementFactory;
+import com.tailf.jnc.YangString;
+import com.tailf.jnc.YangUInt32;
+import com.tailf.jnc.YangXMLParser;
+
+/**
+ * Checks that YangXMLParser builds the same tree from a stream, with StAX,
+ * as from a system id, with SAX.
+ */
+public class StaxParserTest {
+
+    private static final String NS = "urn:test:system";
+
+    private static final String REPLY = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<rpc-reply xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\"\n"
+            + "           xmlns:nc=\"urn:ietf:params:xml:ns:netconf:base:1.0\"\n"
+            + "           message-id=\"101\">\n"
+            + "  <data>\n"
+            + "    <sys:system xmlns:sys=\"" + NS + "\" nc:operation=\"merge\">\n"
+            + "      <sys:hostname><![CDATA[edge<1> & core]]></sys:hostname>\n"
+            + "      <sys:contact>ops &amp; noc &#x263A;</sys:contact>\n"
+            + "      <sys:user nc:operation=\"replace\" origin=\"local\">\n"
+            + "        <sys:name>admin</sys:name>\n"
+            + "        <sys:uid>1000</sys:uid>\n"
+            + "      </sys:user>\n"
+            + "      <user xmlns=\"" + NS + "\">\n"
+            + "        <name>guest</name>\n"
+            + "        <uid> 1001 </uid>\n"
+            + "      </user>\n"
+            + "      <note xmlns=\"urn:test:other\" xmlns:x=\"urn:test:x\" x:lang=\"en\" level=\"2\">"
+            + "text before <b>bold</b> and after <![CDATA[<raw> & stuff]]></note>\n"
+            + "      <remark xmlns=\"urn:test:other\">plain &lt;text&gt; <![CDATA[and <cdata>]]>"
+            + " mixed</remark>\n"
+            + "      <empty xmlns=\"urn:test:other\"/>\n"
+            + "      <blank xmlns=\"urn:test:other\">   </blank>\n"
+            + "    </sys:system>\n"
+            + "  </data>\n"
+            + "</rpc-reply>\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Before
+    public void setUp() {
+        YangElement.setPackage(NS, "demo", new YangElementFactory() {
+            @Override
+            public YangElement createElement(String name) {
+                return "system".equals(name) ? new SystemElement() : null;
+            }
+        });
+    }
+
+    @After
+    public void tearDown() {
+        YangElement.removePackage(NS);
+    }
+
+    private Element sax(String xml) throws Exception {
+        final File file = folder.newFile();
+        final OutputStream out = new FileOutputStream(file);
+        try {
+            out.write(xml.getBytes("UTF-8"));
+        } finally {
+            out.close();
+        }
+        return new YangXMLParser().parse(new InputSource(file.toURI()
+                .toString()));
+    }
+
+    private static Element staxBytes(String xml) throws Exception {
+        return new YangXMLParser().parse(new InputSource(
+                new ByteArrayInputStream(xml.getBytes("UTF-8"))));
+    }
+
+    private static Element staxChars(String xml) throws Exception {
+        return new YangXMLParser().parse(new InputSource(new StringReader(
+                xml)));
+    }
+
+    @Test
+    public void sameTreeAsSax() throws Exception {
+        final Element sax = sax(REPLY);
+        assertSameTree(sax, staxBytes(REPLY));
+        assertSameTree(sax, staxChars(REPLY));
+        assertEquals(sax.toXMLString(), staxBytes(REPLY).toXMLString());
+    }
+
+    @Test
+    public void readsGeneratedClasses() throws Exception {
+        final Element reply = staxBytes(REPLY);
+        final SystemElement system = (SystemElement) reply.getFirst(
+                "data/system");
+        assertEquals("edge<1> & core", system.getValue("hostname")
+                .toString());
+        assertEquals("ops & noc ☺", system.getValue("contact")
+                .toString());
+        final NodeSet users = system.get("user");
+        assertEquals(2, users.size());
+        assertTrue(users.get(1) instanceof UserElement);
+        assertEquals(new YangUInt32(1001), users.get(1).getValue("uid"));
+        assertEquals("replace", users.get(0).getAttrValue("operation"));
+        assertEquals("local", users.get(0).getAttrValue("origin"));
+
+        final Element note = system.getFirst("note");
+        assertNull(note.getValue());
+        assertEquals("en", note.getAttrValue("lang"));
+        assertEquals("bold", note.getFirst("b").getValue());
+        assertEquals("plain <text> and <cdata> mixed", system.getFirst(
+                "remark").getValue());
+        assertNull(system.getFirst("empty").getValue());
+        assertEquals("   ", system.getFirst("blank").getValue());
+    }
+
+    @Test
+    public void sameTreeWithoutGeneratedClasses() throws Exception {
+        YangElement.removePackage(NS);
+        final Element sax = sax(REPLY);
+        assertTrue(!(sax.getFirst("data/system") instanceof YangElement));
+        assertSameTree(sax, staxBytes(REPLY));
+        assertSameTree(sax, staxChars(REPLY));
+    }
+
+    private static void assertSameTree(Element expected, Element actual) {
+        final String at = expected.getElementPath("");
+        assertNotNull(at, actual);
+        assertEquals(at, expected.getClass(), actual.getClass());
+        assertEquals(at, expected.namespace, actual.namespace);
+        assertEquals(at, expected.name, actual.name);
+        final Object value = expected.getValue();
+        if (value == null) {
+            assertNull(at, actual.getValue());
+        } else {
+            assertEquals(at, value.getClass(), actual.getValue().getClass());
+            assertEquals(at, value, actual.getValue());
+        }
+        assertEquals(at, strings(expected.getAttrs()), strings(actual
+                .getAttrs()));
+        assertEquals(at, prefixes(expected), prefixes(actual));
+        final NodeSet children = expected.getChildren();
+        final NodeSet actualChildren = actual.getChildren();
+        assertEquals(at, children == null ? 0 : children.size(),
+                actualChildren == null ? 0 : actualChildren.size());
+        for (int i = 0; children != null && i < children.size(); i++) {
+            assertSameTree(children.get(i), actualChildren.get(i));
+        }
+    }
+
+    private static List<String> strings(Attribute[] attrs) {
+        final List<String> strings = new ArrayList<String>();
+        if (attrs != null) {
+            for (final Attribute attr : attrs) {
+                strings.add(attr.toString());
+            }
+        }
+        return strings;
+    }
+
+    private static List<String> prefixes(Element e) {
+        final List<String> prefixes = new ArrayList<String>();
+        if (e.prefixes != null) {
+            for (final Prefix prefix : e.prefixes) {
+                prefixes.add(prefix.toXMLString());
+            }
+        }
+        return prefixes;
+    }
+
+    /** Like a generated container class */
+    public static class SystemElement extends YangElement {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final String[] CHILDREN_NAMES = {
+            "hostname",
+            "contact",
+            "user",
+        };
+
+        private static final Map<String, Integer> CHILDREN_ORDINALS =
+                ordinals(CHILDREN_NAMES);
+
+        public SystemElement() {
+            super(NS, "system");
+        }
+
+        @Override
+        public String[] keyNames() {
+            return null;
+        }
+
+        @Override
+        public String[] childrenNames() {
+            return CHILDREN_NAMES.clone();
+        }
+
+        @Override
+        protected String[] sharedChildrenNames() {
+            return CHILDREN_NAMES;
+        }
+
+        @Override
+        protected Map<String, Integer> childrenOrdinals() {
+            return CHILDREN_ORDINALS;
+        }
+
+        @Override
+        public Element cloneShallow() {
+            return new SystemElement();
+        }
+
+        public void setHostnameValue(String hostnameValue)
+                throws JNCException {
+            setLeafValue(NS, "hostname", new YangString(hostnameValue),
+                    sharedChildrenNames());
+        }
+
+        public void setContactValue(String contactValue) throws JNCException {
+            setLeafValue(NS, "contact", new YangString(contactValue),
+                    sharedChildrenNames());
+        }
+
+        public UserElement addUser() throws JNCException {
+            final UserElement user = new UserElement();
+            insertChild(user, sharedChildrenNames());
+            return user;
+        }
+
+        @Override
+        protected Element addChildByName(String childName)
+                throws JNCException, ReflectiveOperationException {
+            if ("user".equals(childName)) {
+                return addUser();
+            }
+            throw new NoSuchMethodException(childName);
+        }
+
+        @Override
+        protected boolean readLeafValue(String name, XMLStreamReader in)
+                throws JNCException, XMLStreamException {
+            switch (name) {
+            case "hostname":
+                setHostnameValue(in.getElementText());
+                return true;
+            case "contact":
+                setContactValue(in.getElementText());
+                return true;
+            default:
+                return false;
+            }
+        }
+    }
+
+    /** Like a generated list class */
+    public static class UserElement extends YangElement {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final String[] KEY_NAMES = {
+            "name",
+        };
+
+        private static final String[] CHILDREN_NAMES = {
+            "name",
+            "uid",
+        };
+
+        private static final Map<String, Integer> CHILDREN_ORDINALS =
+                ordinals(CHILDREN_NAMES);
+
+        public UserElement() {
+            super(NS, "user");
+        }
+
+        @Override
+        public String[] keyNames() {
+            return KEY_NAMES.clone();
+        }
+
+        @Override
+        protected String[] sharedKeyNames() {
+            return KEY_NAMES;
+        }
+
+        @Override
+        public String[] childrenNames() {
+            return CHILDREN_NAMES.clone();
+        }
+
+        @Override
+        protected String[] sharedChildrenNames() {
+            return CHILDREN_NAMES;
+        }
+
+        @Override
+        protected Map<String, Integer> childrenOrdinals() {
+            return CHILDREN_ORDINALS;
+        }
+
+        @Override
+        public Element cloneShallow() {
+            return new UserElement();
+        }
+
+        public void setNameValue(String nameValue) throws JNCException {
+            setLeafValue(NS, "name", new YangString(nameValue),
+                    sharedChildrenNames());
+        }
+
+        public void setUidValue(String uidValue) throws JNCException {
+            setLeafValue(NS, "uid", new YangUInt32(uidValue),
+                    sharedChildrenNames());
+        }
+
+        @Override
+        protected Element addChildByName(String childName)
+                throws JNCException, ReflectiveOperationException {
+            throw new NoSuchMethodException(childName);
+        }
+
+        @Override
+        protected boolean readLeafValue(String name, XMLStreamReader in)
+                throws JNCException, XMLStreamException {
+            switch (name) {
+            case "name":
+                setNameValue(in.getElementText());
+                return true;
+            case "uid":
+                setUidValue(in.getElementText());
+                return true;
+            default:
+                return false;
+            }
+        }
+    }
+}
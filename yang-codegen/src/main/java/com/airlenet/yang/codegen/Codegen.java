@@ -1,10 +1,18 @@
 package com.airlenet.yang.codegen;
 
+import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Created by airlenet on 17/8/28.
@@ -17,13 +25,14 @@ public class Codegen {
     private List<String> yangImportList;
 
     private List<String> yangList;
+    private int threads = 1;
     public Codegen(File yangRoot, File outDir, String basePkgName) {
         this.yangRoot = yangRoot;
         this.outDir = outDir;
         this.basePkgName = basePkgName;
     }
 
-    public void generatorCode(boolean pythonUsing, boolean showWarnings, String jython, String pyang) throws Exception {
+    public void generatorCode(final boolean pythonUsing, boolean showWarnings, final String jython, final String pyang) throws Exception {
         String jncHome= System.getProperty("user.home")+File.separator+".jnc";
         String jnc = jncHome+File.separator+"jnc.py";
         if(!new File(jncHome).exists()){
@@ -41,7 +50,48 @@ public class Codegen {
         String path = builder.toString();
         //logger.info("pyang -f jnc --plugindir "+jncHome+" --jnc-output "+ outDir.getAbsolutePath()+"/"+basePkgName+" -p "+path+" --jnc-classpath-schema-loading");
 
-        for(String yangfile:yangList){
+        List<List<String>> groups = YangModuleGroups.partition(yangList, threads);
+        if (groups.size() <= 1) {
+            generate(yangList, pythonUsing, jython, pyang, jncHome, path, outDir);
+            return;
+        }
+        // each group generates into its own directory, merged into outDir afterwards
+        ExecutorService executor = Executors.newFixedThreadPool(groups.size());
+        try {
+            List<Future<File>> futures = new ArrayList<Future<File>>();
+            for (final List<String> group : groups) {
+                final File workDir = new File(Files.createTempDirectory("jnc").toFile(), "java");
+                final String jncHomeDir = jncHome;
+                final String importPath = path;
+                futures.add(executor.submit(new Callable<File>() {
+                    @Override
+                    public File call() throws Exception {
+                        generate(group, pythonUsing, jython, pyang, jncHomeDir, importPath, workDir);
+                        return workDir;
+                    }
+                }));
+            }
+            for (Future<File> future : futures) {
+                File workDir;
+                try {
+                    workDir = future.get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof Exception) {
+                        throw (Exception) e.getCause();
+                    }
+                    throw e;
+                }
+                FileUtils.copyDirectory(workDir, outDir);
+                FileUtils.deleteDirectory(workDir.getParentFile());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void generate(List<String> yangFiles, boolean pythonUsing, String jython, String pyang, String jncHome,
+                          String path, File outDir) throws Exception {
+        for(String yangfile:yangFiles){
             logger.info("convert yang file "+ yangfile);
             if(pythonUsing){
                 ProcessUtil.process("pyang","-f","jnc",
@@ -60,6 +110,7 @@ public class Codegen {
         }
 
     }
+
     public File getYangRoot() {
         return yangRoot;
     }
@@ -92,6 +143,14 @@ public class Codegen {
         this.yangList = yangList;
     }
 
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
     public List<String> getYangImportList() {
         return yangImportList;
     }
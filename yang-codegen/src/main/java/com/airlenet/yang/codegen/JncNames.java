@@ -0,0 +1,86 @@
+package com.airlenet.yang.codegen;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Java identifiers derived from yang identifiers, the same way as camelize
+ * and normalize in jnc.py.
+ */
+public class JncNames {
+
+    private static final Set<String> RESERVED = new HashSet<String>(Arrays.asList(
+            "abstract", "assert", "boolean", "break", "byte", "case", "catch", "char", "class", "const",
+            "continue", "default", "double", "do", "else", "enum", "extends", "false", "final", "finally",
+            "float", "for", "goto", "if", "implements", "import", "instanceof", "int", "interface", "long",
+            "native", "new", "null", "package", "private", "protected", "public", "return", "short",
+            "static", "strictfp", "super", "switch", "synchronized", "this", "throw", "throws",
+            "transient", "true", "try", "void", "volatile", "while"));
+
+    /**
+     * Converts string to lower camel case, removing hyphens and dots and
+     * upper casing the following character. Reserved words get an underline
+     * appended, strings starting with a digit an underline prepended.
+     */
+    public static String camelize(String string) {
+        if (string == null) {
+            return "";
+        }
+        String s = string.isEmpty() ? string : Character.toLowerCase(string.charAt(0)) + string.substring(1);
+        StringBuilder camelized = new StringBuilder();
+        for (int i = 0; i < s.length(); i++) {
+            char character = s.charAt(i);
+            if (i + 1 == s.length()) {
+                if (string.length() > 1) {
+                    camelized.append(character);
+                } else if (Character.isUpperCase(string.charAt(0))) {
+                    camelized.append(Character.toUpperCase(character));
+                } else {
+                    camelized.append(Character.toLowerCase(character));
+                }
+                continue;
+            }
+            char next = s.charAt(i + 1);
+            if (character == '-' || character == '.') {
+                camelized.append(Character.toUpperCase(next));
+                i++;
+            } else if (Character.isUpperCase(character) && (Character.isUpperCase(next) || !Character.isLetter(next))) {
+                camelized.append(Character.toLowerCase(character));
+            } else {
+                camelized.append(character);
+            }
+        }
+        String result = camelized.toString();
+        if (RESERVED.contains(result)) {
+            result = result + "_";
+        }
+        if (!camelized.toString().isEmpty() && Character.isDigit(camelized.charAt(0))) {
+            result = "_" + result;
+        }
+        return result;
+    }
+
+    /**
+     * Upper camel case version of {@link #camelize(String)}, a leading or
+     * trailing underline is replaced by a "J" prefix.
+     */
+    public static String normalize(String string) {
+        String result = camelize(string);
+        int start = result.startsWith("_") ? 1 : 0;
+        boolean end = result.endsWith("_");
+        if (start == 1 || end) {
+            // same slicing as jnc.py: res[start:end] is empty unless it ends with '_'
+            String inner = end ? result.substring(start, Math.max(start, result.length() - 1)) : "";
+            return "J" + capitalizeFirst(inner);
+        }
+        return capitalizeFirst(result);
+    }
+
+    public static String capitalizeFirst(String string) {
+        return string.isEmpty() ? string : Character.toUpperCase(string.charAt(0)) + string.substring(1);
+    }
+
+    private JncNames() {
+    }
+}
@@ -0,0 +1,200 @@
+package com.airlenet.yang.codegen;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Runs pyang in this JVM on an embedded Jython interpreter, using the
+ * jython.jar of a Jython installation. Jython is loaded in its own class
+ * loader, so it does not need to be on the class path.
+ * <p>
+ * Interpreters are pooled and live until {@link #shutdown()}, each one keeps
+ * pyang and its plugins loaded between invocations. Every interpreter has
+ * its own system state and modules, concurrent callers get an interpreter
+ * each.
+ */
+public class JythonPyang {
+    static Logger logger = LoggerFactory.getLogger(JythonPyang.class);
+
+    private static ClassLoader jythonLoader;
+    private static File jythonJar;
+    private static final Deque<JythonPyang> idle = new ArrayDeque<JythonPyang>();
+    private static final Set<JythonPyang> interpreters = new LinkedHashSet<JythonPyang>();
+
+    private final String pyang;
+    private final Object interpreter;
+    private final Method exec;
+    private final Method set;
+    private final Method get;
+    private final Method cleanup;
+
+    private JythonPyang(ClassLoader loader, String pyang) throws Exception {
+        this.pyang = pyang;
+        Class<?> pyObject = loader.loadClass("org.python.core.PyObject");
+        Class<?> systemState = loader.loadClass("org.python.core.PySystemState");
+        Class<?> interpreterClass = loader.loadClass("org.python.util.PythonInterpreter");
+        exec = interpreterClass.getMethod("exec", String.class);
+        set = interpreterClass.getMethod("set", String.class, Object.class);
+        get = interpreterClass.getMethod("get", String.class, Class.class);
+        cleanup = interpreterClass.getMethod("cleanup");
+        interpreter = interpreterClass.getConstructor(pyObject, systemState)
+                .newInstance(null, systemState.newInstance());
+        File script = PyangWorker.script();
+        call(set, "jnc_worker_dir", script.getParent());
+        call(set, "jnc_pyang", pyang);
+        call(exec, "import sys\n"
+                + "sys.path.insert(0, jnc_worker_dir)\n"
+                + "import jncworker\n"
+                + "jnc_worker = jncworker.Worker(jnc_pyang)\n");
+    }
+
+    /**
+     * Takes an idle interpreter running the given pyang script, or starts a
+     * new one.
+     *
+     * @param jythonHome the Jython installation
+     * @param pyang      the pyang script
+     */
+    public static JythonPyang acquire(File jythonHome, String pyang) throws Exception {
+        ClassLoader loader;
+        synchronized (JythonPyang.class) {
+            while (!idle.isEmpty()) {
+                JythonPyang jythonPyang = idle.pop();
+                if (jythonPyang.pyang.equals(pyang)) {
+                    return jythonPyang;
+                }
+                interpreters.remove(jythonPyang);
+                jythonPyang.close();
+            }
+            loader = loader(jythonHome);
+        }
+        long start = System.currentTimeMillis();
+        JythonPyang jythonPyang = new JythonPyang(loader, pyang);
+        logger.debug("jython interpreter started in " + (System.currentTimeMillis() - start) + " ms");
+        synchronized (JythonPyang.class) {
+            interpreters.add(jythonPyang);
+        }
+        return jythonPyang;
+    }
+
+    /**
+     * Hands an interpreter back to the pool after an invocation.
+     */
+    public static synchronized void release(JythonPyang jythonPyang) {
+        if (interpreters.contains(jythonPyang)) {
+            idle.push(jythonPyang);
+        } else {
+            jythonPyang.close();
+        }
+    }
+
+    /**
+     * Cleans up all interpreters, later invocations start new ones.
+     */
+    public static synchronized void shutdown() {
+        for (JythonPyang jythonPyang : interpreters) {
+            jythonPyang.close();
+        }
+        interpreters.clear();
+        idle.clear();
+    }
+
+    /**
+     * Runs pyang with the given arguments, with the same logging and error
+     * handling as {@link ProcessUtil#process(File, long, List)}. The CPU time
+     * is the time of the calling thread, there is no timeout as a running
+     * interpreter cannot be stopped safely.
+     */
+    public ProcessResult process(List<String> arguments) throws Exception {
+        long start = System.currentTimeMillis();
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        long cpuTime = threadBean.isCurrentThreadCpuTimeSupported() ? threadBean.getCurrentThreadCpuTime() : -1;
+        call(set, "jnc_args", arguments.toArray(new String[arguments.size()]));
+        call(exec, "(jnc_status, jnc_out, jnc_err) = jnc_worker.run(list(jnc_args))\n"
+                + "jnc_out = jnc_out.decode('utf-8')\n"
+                + "jnc_err = jnc_err.decode('utf-8')\n");
+        if (cpuTime >= 0) {
+            cpuTime = (threadBean.getCurrentThreadCpuTime() - cpuTime) / 1000000;
+        }
+        return ProcessUtil.report(new ProcessResult((Integer) call(get, "jnc_status", Integer.class),
+                (String) call(get, "jnc_out", String.class), (String) call(get, "jnc_err", String.class),
+                System.currentTimeMillis() - start, cpuTime));
+    }
+
+    private Object call(Method method, Object... args) throws Exception {
+        Thread thread = Thread.currentThread();
+        ClassLoader contextLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(interpreter.getClass().getClassLoader());
+        try {
+            return method.invoke(interpreter, args);
+        } catch (InvocationTargetException e) {
+            // a PyException carries the python traceback in its toString
+            Throwable cause = e.getCause();
+            throw new Exception(String.valueOf(cause), cause);
+        } finally {
+            thread.setContextClassLoader(contextLoader);
+        }
+    }
+
+    private void close() {
+        try {
+            call(cleanup);
+        } catch (Exception e) {
+            logger.debug("jython cleanup failed", e);
+        }
+    }
+
+    /**
+     * The class loader of jython.jar, Jython is initialized once per JVM with
+     * python.home set to the installation directory.
+     */
+    private static ClassLoader loader(File jythonHome) throws Exception {
+        File jar = new File(jythonHome, "jython.jar");
+        if (jythonLoader != null) {
+            if (!jythonJar.equals(jar)) {
+                throw new IllegalStateException("jython already loaded from " + jythonJar);
+            }
+            return jythonLoader;
+        }
+        if (!jar.isFile()) {
+            throw new IOException("jython.jar not found in " + jythonHome);
+        }
+        ClassLoader loader = new URLClassLoader(new URL[]{jar.toURI().toURL()},
+                ClassLoader.getSystemClassLoader().getParent());
+        Properties properties = new Properties();
+        properties.setProperty("python.home", jythonHome.getAbsolutePath());
+        properties.setProperty("python.import.site", "true");
+        String path = System.getenv("JYTHONPATH");
+        if (path != null) {
+            properties.setProperty("python.path", path);
+        }
+        Thread thread = Thread.currentThread();
+        ClassLoader contextLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(loader);
+        try {
+            loader.loadClass("org.python.util.PythonInterpreter")
+                    .getMethod("initialize", Properties.class, Properties.class, String[].class)
+                    .invoke(null, System.getProperties(), properties, new String[]{""});
+        } finally {
+            thread.setContextClassLoader(contextLoader);
+        }
+        jythonLoader = loader;
+        jythonJar = jar;
+        return loader;
+    }
+}
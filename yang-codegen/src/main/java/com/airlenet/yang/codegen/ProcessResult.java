@@ -0,0 +1,64 @@
+package com.airlenet.yang.codegen;
+
+/**
+ * Outcome of one pyang invocation: exit code, output, error output and the
+ * time it took.
+ */
+public class ProcessResult {
+    private final int exitCode;
+    private final String output;
+    private final String error;
+    private final long wallTime;
+    private final long cpuTime;
+
+    public ProcessResult(int exitCode, String output, String error, long wallTime, long cpuTime) {
+        this.exitCode = exitCode;
+        this.output = output;
+        this.error = error;
+        this.wallTime = wallTime;
+        this.cpuTime = cpuTime;
+    }
+
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    public String getOutput() {
+        return output;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * @return true if a line of the error output reports an error
+     */
+    public boolean hasErrors() {
+        for (String line : error.split("\\r?\\n")) {
+            if (ProcessUtil.isError(line)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return elapsed time in milliseconds
+     */
+    public long getWallTime() {
+        return wallTime;
+    }
+
+    /**
+     * @return CPU time of pyang in milliseconds, -1 if the JVM cannot tell
+     */
+    public long getCpuTime() {
+        return cpuTime;
+    }
+
+    @Override
+    public String toString() {
+        return "exit code " + exitCode + ", " + wallTime + " ms" + (cpuTime < 0 ? "" : ", cpu " + cpuTime + " ms");
+    }
+}
@@ -4,7 +4,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.lang.reflect.Method;
+import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Created by airlenet on 17/8/28.
@@ -12,6 +16,27 @@ import java.util.List;
 public class ProcessUtil {
     static Logger logger = LoggerFactory.getLogger(ProcessUtil.class);
 
+    private static final long POLL_INTERVAL = 20;
+
+    private static final Method toHandle;
+    private static final Method info;
+    private static final Method totalCpuDuration;
+
+    static {
+        // ProcessHandle is only available on java 9 and later
+        Method[] methods = new Method[3];
+        try {
+            methods[0] = Process.class.getMethod("toHandle");
+            methods[1] = Class.forName("java.lang.ProcessHandle").getMethod("info");
+            methods[2] = Class.forName("java.lang.ProcessHandle$Info").getMethod("totalCpuDuration");
+        } catch (Exception e) {
+            methods = new Method[3];
+        }
+        toHandle = methods[0];
+        info = methods[1];
+        totalCpuDuration = methods[2];
+    }
+
     /**
      * @param command
      * @return 执行错误返回false
@@ -26,38 +51,172 @@ public class ProcessUtil {
     }
 
     public static String processResult(String... command) throws Exception {
-        ProcessBuilder processBuilder = new ProcessBuilder();
-        processBuilder.command(command);
-        Process process = processBuilder.start();
-        String print = input2str(process.getInputStream());
-        String error = input2str(process.getErrorStream());
-        return print;
+        return execute(null, 0, Arrays.asList(command), false).getOutput();
     }
     public static void process(File base, List<String> commandList) throws Exception {
         process( base, commandList.toArray(new String[commandList.size()]));
     }
     public static void process(File base, String... command) throws Exception {
+        process(base, 0, Arrays.asList(command));
+    }
+
+    /**
+     * Runs command and throws its error output if it reports an error.
+     *
+     * @param timeout milliseconds the command may run, 0 for no limit
+     */
+    public static ProcessResult process(File base, long timeout, List<String> command) throws Exception {
+        return check(execute(base, timeout, command, true));
+    }
+
+    /**
+     * Runs command, reading its output and error output at the same time so
+     * neither pipe fills up, and logs them line by line as they arrive. The
+     * CPU time is sampled while the command runs.
+     *
+     * @param timeout milliseconds the command may run, 0 for no limit
+     * @throws TimeoutException if the command was killed after timeout
+     */
+    public static ProcessResult execute(File base, long timeout, List<String> command)
+            throws IOException, InterruptedException, TimeoutException {
+        return execute(base, timeout, command, true);
+    }
+
+    private static ProcessResult execute(File base, long timeout, List<String> command, boolean log)
+            throws IOException, InterruptedException, TimeoutException {
+        long start = System.currentTimeMillis();
         ProcessBuilder processBuilder = new ProcessBuilder();
         if (base != null)
             processBuilder.directory(base);
         processBuilder.command(command);
 
         Process process = processBuilder.start();
-        String print = input2str(process.getInputStream());
-        String error = input2str(process.getErrorStream());
-        if (!"".equals(print))
-            logger.info(print);
-        if (error.equals("")) {
+        process.getOutputStream().close();
+        StreamReader output = new StreamReader(process.getInputStream(), false, log);
+        StreamReader error = new StreamReader(process.getErrorStream(), true, log);
+        output.start();
+        error.start();
+        long cpuTime = -1;
+        int exitCode;
+        try {
+            while (true) {
+                try {
+                    exitCode = process.exitValue();
+                    break;
+                } catch (IllegalThreadStateException e) {
+                    // still running
+                }
+                cpuTime = Math.max(cpuTime, cpuTime(process));
+                if (timeout > 0 && System.currentTimeMillis() - start > timeout) {
+                    kill(process);
+                    throw new TimeoutException("killed after " + timeout + " ms: " + command);
+                }
+                Thread.sleep(POLL_INTERVAL);
+            }
+        } catch (InterruptedException e) {
+            kill(process);
+            throw e;
+        }
+        output.join();
+        error.join();
+        ProcessResult result = new ProcessResult(exitCode, output.getText(), error.getText(),
+                System.currentTimeMillis() - start, cpuTime);
+        logger.debug(command.get(0) + ": " + result);
+        return result;
+    }
+
+    /**
+     * Logs the output of an invocation that was not streamed, then checks it
+     * like {@link #process(File, long, List)}.
+     */
+    static ProcessResult report(ProcessResult result) throws Exception {
+        for (String line : result.getOutput().split("\\r?\\n")) {
+            log(line, false);
+        }
+        for (String line : result.getError().split("\\r?\\n")) {
+            log(line, true);
+        }
+        return check(result);
+    }
+
+    private static ProcessResult check(ProcessResult result) throws Exception {
+        if (result.hasErrors()) {
+            throw new Exception(result.getError());
+        }
+        return result;
+    }
 
+    static boolean isError(String line) {
+        return line.contains("Error") || line.contains("error") || line.contains("ERROR") || line.contains("Errno");
+    }
+
+    static boolean isWarning(String line) {
+        return line.contains("warning") || line.contains("WARNING");
+    }
+
+    /**
+     * Error lines are only logged at debug level, they end up in the
+     * exception thrown for the invocation.
+     */
+    private static void log(String line, boolean errorStream) {
+        if (line.isEmpty()) {
+            return;
+        }
+        if (!errorStream) {
+            logger.info(line);
+        } else if (isError(line)) {
+            logger.debug(line);
+        } else if (isWarning(line)) {
+            logger.warn(line);
         } else {
-            if (error.contains("Error") || error.contains("error") || error.contains("ERROR") || error.contains("Errno")) {
-                throw new Exception(error);
+            logger.info(line);
+        }
+    }
+
+    /**
+     * Kills the process and the processes it started right away. The jython
+     * launcher script runs java as a child process, and a plain destroy lets
+     * java run on while its shutdown hooks execute.
+     */
+    static void kill(Process process) {
+        if (toHandle != null) {
+            try {
+                Class<?> processHandle = Class.forName("java.lang.ProcessHandle");
+                Object descendants = processHandle.getMethod("descendants").invoke(toHandle.invoke(process));
+                Object[] handles = (Object[]) Class.forName("java.util.stream.Stream").getMethod("toArray")
+                        .invoke(descendants);
+                for (Object handle : handles) {
+                    processHandle.getMethod("destroyForcibly").invoke(handle);
+                }
+            } catch (Exception e) {
+                logger.debug("cannot kill child processes", e);
             }
-            if (error.contains("warning") || error.contains("WARNING")) {
-                    logger.warn(error);
-            } else {
-                logger.info(error);
+        }
+        try {
+            Process.class.getMethod("destroyForcibly").invoke(process);
+        } catch (Exception e) {
+            // java 7
+            process.destroy();
+        }
+    }
+
+    /**
+     * @return CPU time used by the process so far in milliseconds, -1 if the
+     * JVM cannot tell
+     */
+    static long cpuTime(Process process) {
+        if (toHandle == null) {
+            return -1;
+        }
+        try {
+            Object optional = totalCpuDuration.invoke(info.invoke(toHandle.invoke(process)));
+            if (!(Boolean) optional.getClass().getMethod("isPresent").invoke(optional)) {
+                return -1;
             }
+            Object duration = optional.getClass().getMethod("get").invoke(optional);
+            return (Long) duration.getClass().getMethod("toMillis").invoke(duration);
+        } catch (Exception e) {
+            return -1;
         }
     }
 
@@ -77,4 +236,47 @@ public class ProcessUtil {
         return outSteam.toString("utf-8");
     }
 
+    /**
+     * Drains one stream of a process, keeping its text.
+     */
+    private static class StreamReader extends Thread {
+        private final BufferedReader reader;
+        private final boolean errorStream;
+        private final boolean log;
+        private final StringBuilder text = new StringBuilder();
+
+        StreamReader(InputStream inputStream, boolean errorStream, boolean log) {
+            super(errorStream ? "process-stderr" : "process-stdout");
+            this.reader = new BufferedReader(new InputStreamReader(inputStream, Charset.forName("UTF-8")));
+            this.errorStream = errorStream;
+            this.log = log;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    text.append(line).append('\n');
+                    if (log) {
+                        log(line, errorStream);
+                    }
+                }
+            } catch (IOException e) {
+                // the process is gone
+            } finally {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    // ignore
+                }
+            }
+        }
+
+        String getText() {
+            return text.toString();
+        }
+    }
+
 }
@@ -3,7 +3,16 @@ package com.airlenet.yang.codegen;
 import java.io.*;
 import java.net.URL;
 import java.net.URLDecoder;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 
 /**
@@ -11,27 +20,29 @@ import java.util.zip.ZipInputStream;
  */
 public class PyangInstall {
 
+    /**
+     * Written next to the extracted sources, holds the {@link #bundle()} hash
+     * they were extracted from.
+     */
+    private static final String MARKER = ".bundle";
 
-    public static void copy(File targetDirectory) throws IOException {
-        String fullClassName = PyangInstall.class.getName();
-        String className = fullClassName.substring(fullClassName.lastIndexOf(".") + 1);
-        URL url = PyangInstall.class.getResource(className + ".class");
-        File pyangSourceFile;
-        String plus = "\\+";
-        String escapedPlus = "__ppluss__";
-        String rawUrl = url.toString();
-        rawUrl = rawUrl.replaceAll("\\+", "__ppluss__");
-        String urlString = URLDecoder.decode(rawUrl, "UTF-8");
-        urlString = urlString.replaceAll("__ppluss__", "\\+");
-        int jarSeparatorIndex = urlString.lastIndexOf("!");
-        if(urlString.startsWith("jar:file:") && jarSeparatorIndex > 0) {
-            String jarFileName = urlString.substring("jar:file:".length(), jarSeparatorIndex);
-            pyangSourceFile = new File(jarFileName);
-        }else{
-            pyangSourceFile =  new File(url.getFile());
+    private static String bundle;
+
+    /**
+     * Extracts the bundled pyang sources to targetDirectory/pyang, unless
+     * they were already extracted from the same bundle.
+     *
+     * @return the hash of the bundle
+     */
+    public static String copy(File targetDirectory) throws IOException {
+        String hash = bundle();
+        File marker = new File(targetDirectory, "pyang" + File.separator + MARKER);
+        if (hash != null && marker.isFile()
+                && hash.equals(new String(Files.readAllBytes(marker.toPath()), Charset.forName("UTF-8")).trim())) {
+            return hash;
         }
 
-        ZipInputStream zipInput = new ZipInputStream(new BufferedInputStream(new FileInputStream(pyangSourceFile), 1024));
+        ZipInputStream zipInput = new ZipInputStream(new BufferedInputStream(new FileInputStream(sourceFile()), 1024));
 
 
         ZipEntry zipEntry = zipInput.getNextEntry();
@@ -54,6 +65,80 @@ public class PyangInstall {
             zipInput.closeEntry();
             zipEntry = zipInput.getNextEntry();
         }
+        zipInput.close();
+        if (hash != null) {
+            marker.getParentFile().mkdirs();
+            Files.write(marker.toPath(), hash.getBytes(Charset.forName("UTF-8")));
+        }
+        return hash;
+    }
+
+    /**
+     * A hash of the names, sizes and checksums of the bundled pyang files,
+     * taken from the jar directory without reading the files.
+     *
+     * @return null when the classes are not loaded from a jar
+     */
+    public static synchronized String bundle() throws IOException {
+        if (bundle != null) {
+            return bundle;
+        }
+        File source = sourceFile();
+        if (!source.isFile() || !source.getName().endsWith(".jar")) {
+            return null;
+        }
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+        ZipFile zipFile = new ZipFile(source);
+        try {
+            List<String> entries = new ArrayList<String>();
+            Enumeration<? extends ZipEntry> enumeration = zipFile.entries();
+            while (enumeration.hasMoreElements()) {
+                ZipEntry zipEntry = enumeration.nextElement();
+                if (zipEntry.getName().startsWith("pyang") && !zipEntry.isDirectory()) {
+                    entries.add(zipEntry.getName() + ":" + zipEntry.getSize() + ":" + zipEntry.getCrc());
+                }
+            }
+            Collections.sort(entries);
+            for (String entry : entries) {
+                digest.update(entry.getBytes(Charset.forName("UTF-8")));
+                digest.update((byte) '\n');
+            }
+        } finally {
+            zipFile.close();
+        }
+        StringBuilder hash = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hash.append(String.format("%02x", b));
+        }
+        bundle = hash.toString();
+        return bundle;
+    }
+
+    /**
+     * The jar this class is loaded from.
+     */
+    private static File sourceFile() throws IOException {
+        String fullClassName = PyangInstall.class.getName();
+        String className = fullClassName.substring(fullClassName.lastIndexOf(".") + 1);
+        URL url = PyangInstall.class.getResource(className + ".class");
+        File pyangSourceFile;
+        String rawUrl = url.toString();
+        rawUrl = rawUrl.replaceAll("\\+", "__ppluss__");
+        String urlString = URLDecoder.decode(rawUrl, "UTF-8");
+        urlString = urlString.replaceAll("__ppluss__", "\\+");
+        int jarSeparatorIndex = urlString.lastIndexOf("!");
+        if(urlString.startsWith("jar:file:") && jarSeparatorIndex > 0) {
+            String jarFileName = urlString.substring("jar:file:".length(), jarSeparatorIndex);
+            pyangSourceFile = new File(jarFileName);
+        }else{
+            pyangSourceFile =  new File(url.getFile());
+        }
+        return pyangSourceFile;
     }
 
     private static void createDirectories(File targetDirectory, String zipEntryName) {
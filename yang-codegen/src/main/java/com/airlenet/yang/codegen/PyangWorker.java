@@ -0,0 +1,288 @@
+package com.airlenet.yang.codegen;
+
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A long running pyang process, started with jncworker.py, that runs pyang
+ * for many invocations without starting a new interpreter each time.
+ * <p>
+ * Workers are pooled by interpreter and pyang script and live until
+ * {@link #shutdown()} is called, or the JVM exits, so one Maven session
+ * shares them across all modules of the reactor. A worker serves one
+ * invocation at a time, concurrent callers get a worker each.
+ */
+public class PyangWorker {
+    static Logger logger = LoggerFactory.getLogger(PyangWorker.class);
+
+    private static final String MARKER = "jncworker";
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private static final Map<List<String>, Deque<PyangWorker>> idle = new HashMap<List<String>, Deque<PyangWorker>>();
+    private static final Set<PyangWorker> workers = new LinkedHashSet<PyangWorker>();
+    private static final Timer timer = new Timer("pyang-worker-timeout", true);
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread("pyang-worker-shutdown") {
+            @Override
+            public void run() {
+                shutdown();
+            }
+        });
+    }
+
+    private final List<String> pyang;
+    private final Process process;
+    private final OutputStream input;
+    private final InputStream output;
+
+    private PyangWorker(List<String> pyang, File base) throws IOException {
+        this.pyang = pyang;
+        List<String> command = new ArrayList<String>();
+        command.addAll(pyang.subList(0, pyang.size() - 1));
+        command.add(script().getAbsolutePath());
+        command.add(pyang.get(pyang.size() - 1));
+        ProcessBuilder processBuilder = new ProcessBuilder(command);
+        if (base != null)
+            processBuilder.directory(base);
+        logger.debug("start pyang worker " + command);
+        process = processBuilder.start();
+        input = new BufferedOutputStream(process.getOutputStream());
+        output = new BufferedInputStream(process.getInputStream());
+        final BufferedReader error = new BufferedReader(new InputStreamReader(process.getErrorStream(), UTF8));
+        Thread errorLogger = new Thread("pyang-worker-stderr") {
+            @Override
+            public void run() {
+                try {
+                    String line;
+                    while ((line = error.readLine()) != null) {
+                        logger.debug(line);
+                    }
+                } catch (IOException e) {
+                    // the worker is gone
+                }
+            }
+        };
+        errorLogger.setDaemon(true);
+        errorLogger.start();
+    }
+
+    /**
+     * Takes an idle worker running pyang with the given interpreter, or
+     * starts a new one.
+     *
+     * @param pyang the python interpreter, possibly with arguments, and the
+     *              pyang script
+     * @param base  working directory of a new worker, null for the current one
+     */
+    public static PyangWorker acquire(List<String> pyang, File base) throws IOException {
+        if (pyang.size() < 2) {
+            throw new IllegalArgumentException("interpreter and pyang script expected: " + pyang);
+        }
+        synchronized (PyangWorker.class) {
+            Deque<PyangWorker> deque = idle.get(pyang);
+            while (deque != null && !deque.isEmpty()) {
+                PyangWorker worker = deque.pop();
+                if (worker.isAlive()) {
+                    return worker;
+                }
+                workers.remove(worker);
+            }
+        }
+        PyangWorker worker = new PyangWorker(new ArrayList<String>(pyang), base);
+        synchronized (PyangWorker.class) {
+            workers.add(worker);
+        }
+        return worker;
+    }
+
+    /**
+     * Hands a worker back to the pool after an invocation.
+     */
+    public static synchronized void release(PyangWorker worker) {
+        if (!workers.contains(worker)) {
+            worker.close();
+            return;
+        }
+        if (!worker.isAlive()) {
+            workers.remove(worker);
+            return;
+        }
+        Deque<PyangWorker> deque = idle.get(worker.pyang);
+        if (deque == null) {
+            deque = new ArrayDeque<PyangWorker>();
+            idle.put(worker.pyang, deque);
+        }
+        deque.push(worker);
+    }
+
+    /**
+     * Stops all workers, later invocations start new ones.
+     */
+    public static synchronized void shutdown() {
+        for (PyangWorker worker : workers) {
+            worker.close();
+        }
+        workers.clear();
+        idle.clear();
+    }
+
+    /**
+     * Runs pyang with the given arguments, with the same logging and error
+     * handling as {@link ProcessUtil#process(File, long, List)}.
+     *
+     * @param timeout milliseconds pyang may run, 0 for no limit. The worker
+     *                is killed when it takes longer.
+     */
+    public ProcessResult process(List<String> arguments, long timeout) throws Exception {
+        long start = System.currentTimeMillis();
+        long cpuTime = ProcessUtil.cpuTime(process);
+        final AtomicBoolean killed = new AtomicBoolean();
+        TimerTask kill = new TimerTask() {
+            @Override
+            public void run() {
+                killed.set(true);
+                ProcessUtil.kill(process);
+            }
+        };
+        if (timeout > 0) {
+            timer.schedule(kill, timeout);
+        }
+        String[] response;
+        try {
+            response = request(arguments);
+        } catch (IOException e) {
+            synchronized (PyangWorker.class) {
+                workers.remove(this);
+            }
+            close();
+            if (killed.get()) {
+                throw new TimeoutException("pyang worker killed after " + timeout + " ms");
+            }
+            throw e;
+        } finally {
+            kill.cancel();
+        }
+        if (cpuTime >= 0) {
+            long end = ProcessUtil.cpuTime(process);
+            cpuTime = end < 0 ? -1 : end - cpuTime;
+        }
+        return ProcessUtil.report(new ProcessResult(Integer.parseInt(response[0]), response[1], response[2],
+                System.currentTimeMillis() - start, cpuTime));
+    }
+
+    /**
+     * @return exit status, output and error output of pyang
+     */
+    private String[] request(List<String> arguments) throws IOException {
+        List<byte[]> frames = new ArrayList<byte[]>();
+        for (String argument : arguments) {
+            frames.add(argument.getBytes(UTF8));
+        }
+        input.write((MARKER + " " + frames.size() + "\n").getBytes(UTF8));
+        for (byte[] frame : frames) {
+            input.write((frame.length + "\n").getBytes(UTF8));
+            input.write(frame);
+        }
+        input.flush();
+
+        String line;
+        while (!(line = readLine()).startsWith(MARKER + " ")) {
+            logger.debug(line);
+        }
+        int count = Integer.parseInt(line.substring(MARKER.length()).trim());
+        if (count != 3) {
+            throw new IOException("unexpected pyang worker response: " + line);
+        }
+        String[] response = new String[count];
+        for (int i = 0; i < count; i++) {
+            byte[] frame = new byte[Integer.parseInt(readLine().trim())];
+            IOUtils.readFully(output, frame);
+            response[i] = new String(frame, UTF8);
+        }
+        return response;
+    }
+
+    private String readLine() throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int c;
+        while ((c = output.read()) != '\n') {
+            if (c == -1) {
+                throw new IOException("pyang worker exited unexpectedly");
+            }
+            line.write(c);
+        }
+        return new String(line.toByteArray(), UTF8).trim();
+    }
+
+    private boolean isAlive() {
+        try {
+            process.exitValue();
+            return false;
+        } catch (IllegalThreadStateException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Closes stdin, the worker exits after the current invocation.
+     */
+    private void close() {
+        try {
+            input.close();
+        } catch (IOException e) {
+            process.destroy();
+        }
+    }
+
+    /**
+     * Extracts jncworker.py to ~/.jnc/worker, it is not put next to jnc.py
+     * as pyang loads every python file of the plugin directory.
+     */
+    static synchronized File script() throws IOException {
+        File directory = new File(System.getProperty("user.home"), ".jnc" + File.separator + "worker");
+        File script = new File(directory, "jncworker.py");
+        InputStream in = PyangWorker.class.getClassLoader().getResourceAsStream("jncworker.py");
+        byte[] content;
+        try {
+            content = IOUtils.toByteArray(in);
+        } finally {
+            IOUtils.closeQuietly(in);
+        }
+        if (script.isFile() && Arrays.equals(content, Files.readAllBytes(script.toPath()))) {
+            return script;
+        }
+        directory.mkdirs();
+        File temp = File.createTempFile("jncworker", ".py", directory);
+        Files.write(temp.toPath(), content);
+        Files.move(temp.toPath(), script.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        return script;
+    }
+}
@@ -0,0 +1,178 @@
+package com.airlenet.yang.codegen;
+
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Dependency graph of yang modules built from the headers read by
+ * {@link YangModuleScanner}. A module depends on the modules it imports and
+ * includes, a submodule also on the module it belongs to.
+ */
+public class YangDependencyGraph {
+
+    private final Map<String, YangModule> modules = new LinkedHashMap<String, YangModule>();
+    private final Map<File, YangModule> files = new HashMap<File, YangModule>();
+    private final Map<String, Set<String>> dependents = new HashMap<String, Set<String>>();
+
+    /**
+     * Scans all yang files below the given directories. When several files
+     * declare the same module the first one found wins. A file below more
+     * than one of the directories is scanned once.
+     */
+    public static YangDependencyGraph scan(Collection<File> roots) throws IOException {
+        Set<File> yangFiles = new LinkedHashSet<File>();
+        for (File root : roots) {
+            if (root.isDirectory()) {
+                for (File file : FileUtils.listFiles(root, new String[]{"yang"}, true)) {
+                    yangFiles.add(file.getAbsoluteFile());
+                }
+            }
+        }
+        YangDependencyGraph graph = new YangDependencyGraph();
+        for (File file : yangFiles) {
+            graph.add(YangModuleScanner.scan(file));
+        }
+        return graph;
+    }
+
+    public static YangDependencyGraph scan(List<String> yangFiles) {
+        YangDependencyGraph graph = new YangDependencyGraph();
+        for (String yangFile : yangFiles) {
+            try {
+                graph.add(YangModuleScanner.scan(new File(yangFile)));
+            } catch (IOException e) {
+                // left out of the graph, pyang will report the problem
+            }
+        }
+        return graph;
+    }
+
+    public void add(YangModule module) {
+        File file = module.getFile().getAbsoluteFile();
+        if (!files.containsKey(file)) {
+            files.put(file, module);
+        }
+        if (module.getName() == null || modules.containsKey(module.getName())) {
+            return;
+        }
+        modules.put(module.getName(), module);
+        for (String name : directDependencies(module)) {
+            Set<String> set = dependents.get(name);
+            if (set == null) {
+                set = new LinkedHashSet<String>();
+                dependents.put(name, set);
+            }
+            set.add(module.getName());
+        }
+    }
+
+    public YangModule getModule(String name) {
+        return modules.get(name);
+    }
+
+    public YangModule getModule(File file) {
+        return files.get(file.getAbsoluteFile());
+    }
+
+    public Collection<YangModule> getModules() {
+        return modules.values();
+    }
+
+    public static List<String> directDependencies(YangModule module) {
+        List<String> names = new ArrayList<String>(module.getImports());
+        names.addAll(module.getIncludes());
+        if (module.getBelongsTo() != null) {
+            names.add(module.getBelongsTo());
+        }
+        return names;
+    }
+
+    /**
+     * @return names of all modules the module depends on, directly or
+     * indirectly, sorted by name. Names that are not in the graph are
+     * included too.
+     */
+    public Set<String> dependencies(YangModule module) {
+        Map<String, YangModule> result = new TreeMap<String, YangModule>();
+        List<YangModule> pending = new ArrayList<YangModule>();
+        pending.add(module);
+        while (!pending.isEmpty()) {
+            YangModule current = pending.remove(pending.size() - 1);
+            for (String name : directDependencies(current)) {
+                if (!result.containsKey(name) && !name.equals(module.getName())) {
+                    YangModule dependency = modules.get(name);
+                    result.put(name, dependency);
+                    if (dependency != null) {
+                        pending.add(dependency);
+                    }
+                }
+            }
+        }
+        return result.keySet();
+    }
+
+    /**
+     * @return the files of all modules that depend on one of the given files,
+     * directly or indirectly, including the given files themselves
+     */
+    public Set<File> dependents(Collection<File> changed) {
+        Set<File> result = new LinkedHashSet<File>();
+        List<String> pending = new ArrayList<String>();
+        for (File file : changed) {
+            result.add(file.getAbsoluteFile());
+            YangModule module = getModule(file);
+            if (module != null && module.getName() != null) {
+                pending.add(module.getName());
+            }
+        }
+        Set<String> visited = new LinkedHashSet<String>(pending);
+        while (!pending.isEmpty()) {
+            Set<String> names = dependents.get(pending.remove(pending.size() - 1));
+            if (names == null) {
+                continue;
+            }
+            for (String name : names) {
+                if (visited.add(name)) {
+                    pending.add(name);
+                    result.add(modules.get(name).getFile().getAbsoluteFile());
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The directories holding the given files and all their dependencies.
+     *
+     * @return the directories, or null if a dependency is not in the graph
+     */
+    public List<String> searchPath(Collection<File> yangFiles) {
+        Set<String> directories = new LinkedHashSet<String>();
+        for (File file : yangFiles) {
+            directories.add(file.getAbsoluteFile().getParent());
+            YangModule module = getModule(file);
+            if (module == null) {
+                return null;
+            }
+            for (String name : dependencies(module)) {
+                YangModule dependency = modules.get(name);
+                if (dependency == null) {
+                    return null;
+                }
+                directories.add(dependency.getFile().getAbsoluteFile().getParent());
+            }
+        }
+        return new ArrayList<String>(directories);
+    }
+}
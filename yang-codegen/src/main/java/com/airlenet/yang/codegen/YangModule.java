@@ -0,0 +1,64 @@
+package com.airlenet.yang.codegen;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Header information of a yang file: the module name, the modules it
+ * imports or includes and for a submodule the module it belongs to, as read
+ * by {@link YangModuleScanner}.
+ */
+public class YangModule {
+    private final File file;
+    private String name;
+    private boolean submodule;
+    private String belongsTo;
+    private final List<String> imports = new ArrayList<String>();
+    private final List<String> includes = new ArrayList<String>();
+
+    public YangModule(File file) {
+        this.file = file;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    void setName(String name) {
+        this.name = name;
+    }
+
+    public boolean isSubmodule() {
+        return submodule;
+    }
+
+    void setSubmodule(boolean submodule) {
+        this.submodule = submodule;
+    }
+
+    public String getBelongsTo() {
+        return belongsTo;
+    }
+
+    void setBelongsTo(String belongsTo) {
+        this.belongsTo = belongsTo;
+    }
+
+    public List<String> getImports() {
+        return imports;
+    }
+
+    public List<String> getIncludes() {
+        return includes;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + file + ")";
+    }
+}
@@ -0,0 +1,112 @@
+package com.airlenet.yang.codegen;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splits yang files into groups that can be converted independently. Files
+ * connected by import, include or belongs-to statements always end up in the
+ * same group, the connected sets are then spread over the groups by file size.
+ */
+public class YangModuleGroups {
+
+    public static List<List<String>> partition(List<String> yangFiles, int count) {
+        return partition(YangDependencyGraph.scan(yangFiles), yangFiles, count);
+    }
+
+    public static List<List<String>> partition(YangDependencyGraph graph, List<String> yangFiles, int count) {
+        Map<String, String> parents = new LinkedHashMap<String, String>();
+        Map<String, String> fileByModule = new HashMap<String, String>();
+        Map<String, YangModule> modules = new HashMap<String, YangModule>();
+        for (String yangFile : yangFiles) {
+            parents.put(yangFile, yangFile);
+            YangModule module = graph.getModule(new File(yangFile));
+            if (module != null) {
+                modules.put(yangFile, module);
+                if (module.getName() != null) {
+                    fileByModule.put(module.getName(), yangFile);
+                }
+            }
+        }
+        for (Map.Entry<String, YangModule> entry : modules.entrySet()) {
+            for (String name : YangDependencyGraph.directDependencies(entry.getValue())) {
+                String other = fileByModule.get(name);
+                if (other != null) {
+                    union(parents, entry.getKey(), other);
+                }
+            }
+        }
+
+        Map<String, List<String>> components = new LinkedHashMap<String, List<String>>();
+        for (String yangFile : yangFiles) {
+            String root = find(parents, yangFile);
+            List<String> component = components.get(root);
+            if (component == null) {
+                component = new ArrayList<String>();
+                components.put(root, component);
+            }
+            component.add(yangFile);
+        }
+
+        List<List<String>> sorted = new ArrayList<List<String>>(components.values());
+        Collections.sort(sorted, new Comparator<List<String>>() {
+            @Override
+            public int compare(List<String> o1, List<String> o2) {
+                return Long.compare(size(o2), size(o1));
+            }
+        });
+        int groupCount = Math.max(1, Math.min(count, sorted.size()));
+        List<List<String>> groups = new ArrayList<List<String>>(groupCount);
+        long[] sizes = new long[groupCount];
+        for (int i = 0; i < groupCount; i++) {
+            groups.add(new ArrayList<String>());
+        }
+        for (List<String> component : sorted) {
+            int smallest = 0;
+            for (int i = 1; i < groupCount; i++) {
+                if (sizes[i] < sizes[smallest]) {
+                    smallest = i;
+                }
+            }
+            groups.get(smallest).addAll(component);
+            sizes[smallest] += size(component);
+        }
+        return groups;
+    }
+
+    private static long size(List<String> yangFiles) {
+        long size = 0;
+        for (String yangFile : yangFiles) {
+            size += Math.max(1, new File(yangFile).length());
+        }
+        return size;
+    }
+
+    private static String find(Map<String, String> parents, String file) {
+        String parent = parents.get(file);
+        while (!parent.equals(file)) {
+            String grandParent = parents.get(parent);
+            parents.put(file, grandParent);
+            file = parent;
+            parent = grandParent;
+        }
+        return file;
+    }
+
+    private static void union(Map<String, String> parents, String file1, String file2) {
+        String root1 = find(parents, file1);
+        String root2 = find(parents, file2);
+        if (!root1.equals(root2)) {
+            parents.put(root2, root1);
+        }
+    }
+
+    private YangModuleGroups() {
+    }
+}
@@ -0,0 +1,130 @@
+package com.airlenet.yang.codegen;
+
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Reads the header of a yang file without parsing the whole module. Only the
+ * module/submodule name and its import, include and belongs-to statements are
+ * picked up, scanning stops at the first body statement of the module.
+ */
+public class YangModuleScanner {
+
+    private static final Set<String> BODY_STATEMENTS = new HashSet<String>(Arrays.asList(
+            "extension", "feature", "identity", "typedef", "grouping", "container", "leaf", "leaf-list",
+            "list", "choice", "anydata", "anyxml", "uses", "augment", "rpc", "action", "notification",
+            "deviation"));
+
+    private final String text;
+    private int pos;
+
+    private YangModuleScanner(String text) {
+        this.text = text;
+    }
+
+    public static YangModule scan(File file) throws IOException {
+        YangModule module = new YangModule(file);
+        new YangModuleScanner(FileUtils.readFileToString(file, "UTF-8")).scan(module);
+        return module;
+    }
+
+    private void scan(YangModule module) {
+        int depth = 0;
+        String keyword = null;
+        String argument = null;
+        String token;
+        while ((token = next()) != null) {
+            if ("{".equals(token) || ";".equals(token)) {
+                if (keyword != null) {
+                    if (depth == 0) {
+                        module.setSubmodule("submodule".equals(keyword));
+                        module.setName(argument);
+                    } else if (depth == 1) {
+                        if ("import".equals(keyword)) {
+                            module.getImports().add(argument);
+                        } else if ("include".equals(keyword)) {
+                            module.getIncludes().add(argument);
+                        } else if ("belongs-to".equals(keyword)) {
+                            module.setBelongsTo(argument);
+                        }
+                    }
+                }
+                if ("{".equals(token)) {
+                    depth++;
+                }
+                keyword = null;
+                argument = null;
+            } else if ("}".equals(token)) {
+                depth--;
+                keyword = null;
+                argument = null;
+            } else if (keyword == null) {
+                keyword = token;
+                if (depth == 1 && BODY_STATEMENTS.contains(keyword)) {
+                    return;
+                }
+            } else if (!"+".equals(token)) {
+                argument = argument == null ? token : argument + token;
+            }
+        }
+    }
+
+    /**
+     * @return the next token with quotes removed, one of ";", "{", "}" or
+     * null at the end of the text
+     */
+    private String next() {
+        skipSpaceAndComments();
+        if (pos >= text.length()) {
+            return null;
+        }
+        char c = text.charAt(pos);
+        if (c == ';' || c == '{' || c == '}') {
+            pos++;
+            return String.valueOf(c);
+        }
+        if (c == '"' || c == '\'') {
+            StringBuilder builder = new StringBuilder();
+            pos++;
+            while (pos < text.length() && text.charAt(pos) != c) {
+                if (c == '"' && text.charAt(pos) == '\\' && pos + 1 < text.length()) {
+                    pos++;
+                }
+                builder.append(text.charAt(pos++));
+            }
+            pos++;
+            return builder.toString();
+        }
+        int start = pos;
+        while (pos < text.length()) {
+            c = text.charAt(pos);
+            if (Character.isWhitespace(c) || c == ';' || c == '{' || c == '}') {
+                break;
+            }
+            pos++;
+        }
+        return text.substring(start, pos);
+    }
+
+    private void skipSpaceAndComments() {
+        while (pos < text.length()) {
+            char c = text.charAt(pos);
+            if (Character.isWhitespace(c)) {
+                pos++;
+            } else if (text.startsWith("//", pos)) {
+                int end = text.indexOf('\n', pos);
+                pos = end < 0 ? text.length() : end + 1;
+            } else if (text.startsWith("/*", pos)) {
+                int end = text.indexOf("*/", pos + 2);
+                pos = end < 0 ? text.length() : end + 2;
+            } else {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,535 @@
+package com.airlenet.yang.codegen.jnc;
+
+import com.airlenet.yang.codegen.yang.Statement;
+import com.tailf.jnc.SchemaNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.airlenet.yang.codegen.jnc.JncContext.camelize;
+import static com.airlenet.yang.codegen.jnc.JncContext.normalize;
+
+/**
+ * Generates the java classes of a module, or of a container, list or
+ * notification and its descendants. Port of ClassGenerator in jnc.py.
+ */
+class ClassGenerator {
+
+    private static final Set<String> YANGELEMENT_OR_AUGMENT_STMTS = JncContext.keywords("container", "list",
+            "notification", "augment");
+
+    /* largest schema built in a root class, larger ones would exceed the
+       constant pool of its class file and are read from a schema file */
+    static final int MAX_STATIC_SCHEMA_NODES = 4000;
+    /* schema nodes built per method, far below 64 KB of code */
+    private static final int STATIC_SCHEMA_CHUNK = 200;
+
+    private final Statement stmt;
+    private final JncContext ctx;
+    /* the directory the class is written to */
+    private final String path;
+    private final String packageName;
+    private final String src;
+    private final String ns;
+    private final String n;
+    private final String n2;
+    private final String filename;
+    private JavaClass javaClass;
+    /* schema nodes of a module to build in its root class, instead of
+       reading them from a schema file */
+    List<SchemaNode> schema;
+
+    ClassGenerator(Statement stmt, JncContext ctx, String path, String packageName, String src, String ns) {
+        this.stmt = stmt;
+        this.ctx = ctx;
+        this.path = path;
+        this.packageName = packageName.replace(File.separatorChar, '.');
+        this.src = src;
+        this.ns = ns;
+        this.n = normalize(stmt.getArg());
+        this.n2 = camelize(stmt.getArg());
+        if (stmt.getKeyword().equals("module") || stmt.getKeyword().equals("submodule")) {
+            this.filename = normalize(ctx.searchOne(stmt, "prefix").getArg()) + ".java";
+        } else {
+            this.filename = n + ".java";
+        }
+    }
+
+    void generate() throws IOException {
+        if (stmt.getKeyword().equals("module") || stmt.getKeyword().equals("submodule")) {
+            generateClasses();
+        } else {
+            generateClass();
+        }
+    }
+
+    /**
+     * @return the part of path from src/main on, the last character if there
+     * is no src/main in it
+     */
+    private static String fromSrcMain(String path) {
+        return path.substring(path.indexOf("src/main") < 0 ? path.length() - 1 : path.indexOf("src/main"));
+    }
+
+    private String description(Statement stmt, String ns) {
+        return "This class represents an element from \n * the namespace " + ns + "\n * generated to \""
+                + fromSrcMain(path) + File.separator + stmt.getArg() + "\"\n * <p>\n * See line " + stmt.getLine()
+                + " in\n * " + fromSrcMain(stmt.getRef());
+    }
+
+    /**
+     * Generates the typedef classes, the classes of the children and the
+     * root class of a module.
+     */
+    private void generateClasses() throws IOException {
+        String nsArg = ctx.searchOne(stmt, "namespace").getArg();
+        Statement prefix = ctx.searchOne(stmt, "prefix");
+
+        // Gather typedefs to generate, following derived types
+        Set<Statement> typedefStmts = Collections.newSetFromMap(new IdentityHashMap<Statement, Boolean>());
+        List<Statement> typedefOrder = new ArrayList<Statement>();
+        Set<Statement> moduleStmts = new LinkedHashSet<Statement>(Collections.singleton(stmt));
+        List<String> included = new ArrayList<String>();
+        for (Statement include : JncContext.search(stmt, "include")) {
+            included.add(include.getArg());
+        }
+        for (Statement module : ctx.yang.getModules()) {
+            if (included.contains(module.getArg())) {
+                moduleStmts.add(module);
+            }
+        }
+        for (Statement moduleStmt : moduleStmts) {
+            for (Statement typedef : JncContext.search(moduleStmt, "typedef")) {
+                Statement s = typedef;
+                while (s != null) {
+                    if (typedefStmts.add(s)) {
+                        typedefOrder.add(s);
+                    }
+                    Statement typeStmt = ctx.searchOne(s, "type");
+                    s = typeStmt != null && typeStmt.isTypeValidated() ? typeStmt.getTypedef() : null;
+                }
+            }
+        }
+
+        for (Statement typedef : typedefOrder) {
+            generateTypedef(typedef);
+        }
+
+        // Generate classes for children and keep track of augmented modules
+        for (Statement child : JncContext.search(stmt, YANGELEMENT_OR_AUGMENT_STMTS)) {
+            new ClassGenerator(child, ctx, path, packageName, src, nsArg).generate();
+        }
+
+        // Generate root class
+        javaClass = new JavaClass(filename, packageName, "The root class for namespace " + nsArg
+                + " (accessible from \n * " + n + ".NAMESPACE) with prefix \"" + prefix.getArg() + "\" (" + n
+                + ".PREFIX).", src, null);
+
+        JavaValue namespace = new JavaValue();
+        namespace.setName("NAMESPACE");
+        namespace.value = "\"" + nsArg + "\"";
+        JavaValue prefixField = new JavaValue();
+        prefixField.setName("PREFIX");
+        if (ctx.isSuffixed(prefix)) {
+            prefixField.value = "\"" + prefix.getArg().substring(0, prefix.getArg().indexOf(ctx.prefix)) + "\"";
+        } else {
+            prefixField.value = "\"" + prefix.getArg() + "\"";
+        }
+        for (JavaValue rootField : Arrays.asList(namespace, prefixField)) {
+            for (String modifier : Arrays.asList("public", "static", "final", "String")) {
+                rootField.addModifier(modifier);
+            }
+            javaClass.addField(rootField);
+        }
+
+        JavaMethod enabler = new JavaMethod(null, "void", "enable");
+        enabler.exceptions = new ArrayList<String>(Collections.singletonList("JNCException"));
+        enabler.addDependency("com.tailf.jnc.JNCException");
+        enabler.modifiers = new ArrayList<String>(Arrays.asList("public", "static"));
+        enabler.addJavadoc("Enable the elements in this namespace to be aware");
+        enabler.addJavadoc("of the data model and use the generated classes.");
+        List<Statement> topStmts = JncContext.search(stmt, JncContext.YANGELEMENT_STMTS);
+        if (!topStmts.isEmpty()) {
+            enabler.addLine("YangElement.setPackage(NAMESPACE, \"" + javaClass.packageName + "\", new Factory());");
+            enabler.addDependency("com.tailf.jnc.YangElementFactory");
+            javaClass.innerClassBody = elementFactoryClass(topStmts, javaClass.packageName);
+        } else {
+            enabler.addLine("YangElement.setPackage(NAMESPACE, \"" + javaClass.packageName + "\");");
+        }
+        enabler.addDependency("com.tailf.jnc.YangElement");
+        enabler.addLine(normalize(prefix.getArg()) + ".registerSchema();");
+        javaClass.addEnabler(enabler);
+
+        JavaMethod reg = new JavaMethod(null, "void", "registerSchema");
+        reg.exceptions = new ArrayList<String>(Collections.singletonList("JNCException"));
+        reg.addDependency("com.tailf.jnc.JNCException");
+        reg.modifiers = new ArrayList<String>(Arrays.asList("public", "static"));
+        reg.addJavadoc("Register the schema for this namespace in the global");
+        reg.addJavadoc("schema table (CsTree) making it possible to lookup");
+        reg.addJavadoc("CsNode entries for all tagpaths");
+        if (schema != null) {
+            reg.addLine("SchemaTree.publish(NAMESPACE, Schema.NODES);");
+            reg.addDependency("java.util.HashMap");
+            reg.addDependency("com.tailf.jnc.Tagpath");
+            reg.addDependency("com.tailf.jnc.SchemaNode");
+            reg.addDependency("com.tailf.jnc.SchemaTree");
+            javaClass.addSchemaRegistrator(reg);
+            if (javaClass.innerClassBody != null) {
+                javaClass.innerClassBody.add("");
+            } else {
+                javaClass.innerClassBody = new ArrayList<String>();
+            }
+            javaClass.innerClassBody.addAll(staticSchemaClass(schema, nsArg));
+            writeToFile();
+            return;
+        }
+        reg.addLine("SchemaParser parser = new SchemaParser();");
+        reg.addDependency("com.tailf.jnc.SchemaParser");
+        reg.addLine("HashMap<Tagpath, SchemaNode> h = SchemaTree.create(NAMESPACE);");
+        reg.addDependency("java.util.HashMap");
+        reg.addDependency("com.tailf.jnc.Tagpath");
+        reg.addDependency("com.tailf.jnc.SchemaNode");
+        reg.addDependency("com.tailf.jnc.SchemaTree");
+        String root = normalize(prefix.getArg());
+        if (ctx.classpathSchemaLoading) {
+            reg.addLine("parser.findAndReadFile(\"" + root + ".schema\", h, " + root + ".class);");
+        } else {
+            String schema = ctx.directory.replace('.', File.separatorChar) + File.separator + n2 + File.separator
+                    + root;
+            reg.addLine("parser.readFile(\"" + schema + ".schema\", h);");
+        }
+        javaClass.addSchemaRegistrator(reg);
+
+        writeToFile();
+    }
+
+    /**
+     * @return the lines of the Factory class of a root class, which creates
+     * the top level elements of stmts without reflection
+     */
+    private static List<String> elementFactoryClass(List<Statement> stmts, String packageName) {
+        List<String> res = new ArrayList<String>();
+        res.add(JavaValue.spaces(4) + "/**");
+        res.add(JavaValue.spaces(4) + " * Creates the top level elements of this namespace for the parser,");
+        res.add(JavaValue.spaces(4) + " * without looking up their classes by name.");
+        res.add(JavaValue.spaces(4) + " */");
+        res.add(JavaValue.spaces(4) + "private static class Factory implements YangElementFactory {");
+        res.add(JavaValue.spaces(8) + "public YangElement createElement(String name) {");
+        res.add(JavaValue.spaces(12) + "switch (name) {");
+        Set<String> names = new HashSet<String>();
+        for (Statement s : stmts) {
+            if (!names.add(s.getArg())) {
+                continue;
+            }
+            res.add(JavaValue.spaces(12) + "case \"" + s.getArg() + "\":");
+            res.add(JavaValue.spaces(16) + "return new " + packageName + "." + normalize(s.getArg()) + "();");
+        }
+        res.add(JavaValue.spaces(12) + "default:");
+        res.add(JavaValue.spaces(16) + "return null;");
+        res.add(JavaValue.spaces(12) + "}");
+        res.add(JavaValue.spaces(8) + "}");
+        res.add(JavaValue.spaces(4) + "}");
+        return res;
+    }
+
+    /**
+     * @return the lines of the Schema class of a root class, which builds
+     * the schema nodes the first time the schema is registered
+     */
+    private static List<String> staticSchemaClass(List<SchemaNode> nodes, String ns) {
+        List<String> res = new ArrayList<String>();
+        res.add(JavaValue.spaces(4) + "/**");
+        res.add(JavaValue.spaces(4) + " * The schema nodes of this namespace, built the first time");
+        res.add(JavaValue.spaces(4) + " * the schema is registered.");
+        res.add(JavaValue.spaces(4) + " */");
+        res.add(JavaValue.spaces(4) + "private static class Schema {");
+        res.add(JavaValue.spaces(8) + "static final HashMap<Tagpath, SchemaNode> NODES =");
+        res.add(JavaValue.spaces(12) + "new HashMap<Tagpath, SchemaNode>(" + (nodes.size() * 4 / 3 + 1) + ");");
+        res.add("");
+        res.add(JavaValue.spaces(8) + "static {");
+        int chunks = (nodes.size() + STATIC_SCHEMA_CHUNK - 1) / STATIC_SCHEMA_CHUNK;
+        for (int i = 0; i < chunks; i++) {
+            res.add(JavaValue.spaces(12) + "nodes" + i + "();");
+        }
+        res.add(JavaValue.spaces(8) + "}");
+        for (int i = 0; i < chunks; i++) {
+            res.add("");
+            res.add(JavaValue.spaces(8) + "private static void nodes" + i + "() {");
+            int end = Math.min(nodes.size(), (i + 1) * STATIC_SCHEMA_CHUNK);
+            for (SchemaNode node : nodes.subList(i * STATIC_SCHEMA_CHUNK, end)) {
+                String nodeNs = node.namespace.equals(ns) ? "NAMESPACE" : "\"" + node.namespace + "\"";
+                List<String> tags = new ArrayList<String>();
+                for (String tag : node.tagpath.p) {
+                    tags.add("\"" + tag + "\"");
+                }
+                res.add(JavaValue.spaces(12) + "node(" + nodeNs + ", new String[] {" + JavaValue.join(", ", tags)
+                        + "}, " + node.min_occurs + ", " + node.max_occurs + ", \""
+                        + JavaValue.join(" ", Arrays.asList(node.children)) + "\");");
+            }
+            res.add(JavaValue.spaces(8) + "}");
+        }
+        res.add("");
+        res.add(JavaValue.spaces(8) + "private static void node(String namespace, String[] tagpath, int minOccurs,");
+        res.add(JavaValue.spaces(16) + "int maxOccurs, String children) {");
+        res.add(JavaValue.spaces(12)
+                + "SchemaNode node = new SchemaNode(namespace, tagpath, minOccurs, maxOccurs, children);");
+        res.add(JavaValue.spaces(12) + "NODES.put(node.tagpath, node);");
+        res.add(JavaValue.spaces(8) + "}");
+        res.add(JavaValue.spaces(4) + "}");
+        return res;
+    }
+
+    private void generateTypedef(Statement typedef) throws IOException {
+        String name = normalize(typedef.getArg());
+        // the namespace of the root generator is always empty
+        JavaClass typedefClass = new JavaClass(name + ".java", packageName, description(typedef, ""), src,
+                "YangElement");
+
+        MethodGenerator gen = MethodGenerator.of(typedef, ctx);
+        for (JavaMethod constructor : gen.constructors()) {
+            typedefClass.addConstructor(constructor);
+        }
+
+        Statement enumeration = ctx.enumerations.get(typedef);
+        if (enumeration != null) {
+            List<String> innerClassBody = new ArrayList<String>();
+            innerClassBody.add(JavaValue.spaces(4)
+                    + "public static class Enumeration extends com.tailf.jnc.YangEnumeration{");
+            innerClassBody.add(JavaValue.spaces(8) + "private static final long serialVersionUID = 1L;");
+            innerClassBody.add(JavaValue.spaces(8) + "public Enumeration(String value) throws YangException {");
+            innerClassBody.add(JavaValue.spaces(8) + "super(value,");
+            innerClassBody.add(JavaValue.spaces(8) + "    new String[] {");
+            for (Statement enum_ : JncContext.search(enumeration, "enum")) {
+                innerClassBody.add(JavaValue.spaces(16) + "\"" + enum_.getArg() + "\",");
+            }
+            innerClassBody.add(JavaValue.spaces(8) + "    }");
+            innerClassBody.add(JavaValue.spaces(12) + ");");
+            innerClassBody.add(JavaValue.spaces(12) + "check();");
+            innerClassBody.add(JavaValue.spaces(8) + "}");
+            innerClassBody.add(JavaValue.spaces(8) + " public void setValue(String value) throws YangException {");
+            innerClassBody.add(JavaValue.spaces(12) + " super.setValue(value);");
+            innerClassBody.add(JavaValue.spaces(8) + "}");
+            innerClassBody.add(JavaValue.spaces(8) + "public void check() throws YangException {");
+            innerClassBody.add(JavaValue.spaces(12) + "super.check();");
+            innerClassBody.add(JavaValue.spaces(8) + "}");
+            innerClassBody.add(JavaValue.spaces(4) + "}");
+            typedefClass.innerClassBody = innerClassBody;
+        }
+        List<JavaMethod> setters = gen.setters();
+        for (int i = 0; i < setters.size(); i++) {
+            typedefClass.appendAccessMethod(String.valueOf(i), setters.get(i));
+        }
+        typedefClass.appendAccessMethod("check", gen.checker());
+
+        String superType = ctx.getTypes(ctx.searchOne(typedef, "type"))[0];
+        String superName = superType.substring(superType.lastIndexOf('.') + 1);
+        if (typedefClass.filename.equals(superName + ".java")) {
+            typedefClass.superclass = superType;
+        } else {
+            typedefClass.superclass = superName;
+        }
+        typedefClass.imports.add(superType);
+        if (superType.equals("com.tailf.jnc.YangDecimal64")) {
+            typedefClass.imports.add("java.math.BigDecimal");
+        } else if (superType.equals("com.tailf.jnc.YangBits") || superType.equals("com.tailf.jnc.YangUInt64")) {
+            typedefClass.imports.add("java.math.BigInteger");
+        } else if (superType.equals("com.tailf.jnc.YangLeafref")
+                || superType.equals("com.tailf.jnc.YangIdentityref")) {
+            typedefClass.imports.add("com.tailf.jnc.Element");
+        }
+
+        ctx.writeFile(path, typedefClass.filename, typedefClass.asList());
+    }
+
+    /**
+     * Generates the class of a container, list or notification, along with
+     * the classes of its descendants. An augment only records the module it
+     * augments.
+     */
+    private void generateClass() throws IOException {
+        if (stmt.getKeyword().equals("augment")) {
+            Statement target = stmt.getTargetNode();
+            if (target != null && !ctx.isPruned(target)) {
+                Statement targetModule = ctx.getModule(target);
+                ctx.augmentedModules.put(targetModule.getArg(), targetModule);
+            }
+            return;
+        }
+
+        Set<String> fields = new LinkedHashSet<String>();
+        boolean fullyQualified = false;
+
+        javaClass = new JavaClass(filename, packageName, description(stmt, ns), src, "YangElement");
+
+        for (Statement ch : JncContext.search(stmt, JncContext.YANGELEMENT_OR_LEAF_STMTS)) {
+            String field = generateChild(ch);
+            String chArg = normalize(ch.getArg());
+            if (field != null) {
+                if (chArg.equals(n) && !fullyQualified) {
+                    fullyQualified = true;
+                    javaClass.description += "\n * <p>\n * Children with the same name as this class are fully"
+                            + " qualified.";
+                }
+                if (!field.isEmpty()) {
+                    fields.add(field);
+                }
+                javaClass.imports.add(packageName + "." + n2 + "." + chArg);
+            }
+        }
+
+        MethodGenerator gen = MethodGenerator.of(stmt, ctx);
+        for (JavaMethod constructor : gen.constructors()) {
+            javaClass.addConstructor(constructor);
+        }
+        for (JavaMethod cloner : gen.cloners()) {
+            javaClass.addCloner(cloner);
+        }
+        JavaMethod supportMethod;
+        if (ctx.leafFields) {
+            // container fields are set by childAdded instead
+            supportMethod = gen.supportMethod(Collections.<String>emptySet());
+        } else {
+            supportMethod = gen.supportMethod(fields);
+        }
+        if (supportMethod != null) {
+            javaClass.addSupportMethod(supportMethod);
+        }
+        for (JavaMethod hook : gen.childHooks(fields)) {
+            javaClass.addSupportMethod(hook);
+        }
+        for (JavaMethod byName : Arrays.asList(gen.leafValueSetter(), gen.leafValueReader(), gen.childAdder())) {
+            if (byName != null) {
+                javaClass.addSupportMethod(byName);
+            }
+        }
+        JavaMethod childEncoder = gen.childEncoder();
+        if (childEncoder != null) {
+            javaClass.addSupportMethod(childEncoder);
+        }
+        for (JavaValue nameArray : gen.nameArrays()) {
+            javaClass.addNameGetter(nameArray);
+        }
+        javaClass.addNameGetter(gen.keyNames());
+        JavaMethod sharedKeyNames = gen.sharedKeyNames();
+        if (sharedKeyNames != null) {
+            javaClass.addNameGetter(sharedKeyNames);
+        }
+        javaClass.addNameGetter(gen.childrenNames());
+        javaClass.addNameGetter(gen.sharedChildrenNames());
+        javaClass.addNameGetter(gen.childrenOrdinals());
+
+        writeToFile();
+    }
+
+    /**
+     * Adds the access methods for the child sub to the class, generating the
+     * class of sub if it is a container, list or notification.
+     *
+     * @return the field name if sub is a container or notification, an
+     * empty string if it is a list, null otherwise
+     */
+    private String generateChild(Statement sub) throws IOException {
+        String field = null;
+        String key = sub.getArg();
+        if (JncContext.YANGELEMENT_STMTS.contains(sub.getKeyword())) {
+            String pkg = packageName + "." + n2;
+            new ClassGenerator(sub, ctx, path + File.separator + n2, pkg, src, ns).generate();
+            MethodGenerator childGen = MethodGenerator.of(sub, ctx);
+            if (sub.getKeyword().equals("container") || sub.getKeyword().equals("notification")) {
+                field = sub.getArg();
+                JavaValue cField = childGen.childField();
+                if (field.equals(n2)) {
+                    field = JavaValue.join("", cField.imports);
+                }
+                javaClass.addField(cField);
+            } else {
+                field = "";
+            }
+            String name = normalize(sub.getArg());
+            for (Object accessMethod : childGen.parentAccessMethods()) {
+                if (name.equals(n)) {
+                    if (accessMethod instanceof JavaMethod) {
+                        JavaMethod method = (JavaMethod) accessMethod;
+                        method.returnType = qualify(method.returnType, pkg, name);
+                        method.parameters = qualify(method.parameters, pkg, name);
+                        method.body = qualify(method.body, pkg, name);
+                        method.exact = null;
+                    } else if (accessMethod instanceof JavaValue) {
+                        JavaValue value = (JavaValue) accessMethod;
+                        value.modifiers = qualify(value.modifiers, pkg, name);
+                    }
+                }
+                javaClass.appendAccessMethod(key, accessMethod);
+            }
+        } else if (JncContext.LEAF_STMTS.contains(sub.getKeyword())) {
+            MethodGenerator childGen = MethodGenerator.of(sub, ctx);
+            javaClass.appendAccessMethod(key, childGen.accessMethodsComment());
+            boolean optional;
+            if (sub.getKeyword().equals("leaf")) {
+                Statement keyStmt = ctx.searchOne(stmt, "key");
+                optional = keyStmt == null || !Arrays.asList(keyStmt.getArg().split(" ", -1)).contains(sub.getArg());
+                JavaValue leafField = childGen.leafField();
+                if (leafField != null) {
+                    javaClass.addField(leafField);
+                }
+                javaClass.appendAccessMethod(key, childGen.getters());
+                for (JavaMethod setter : childGen.setters()) {
+                    javaClass.appendAccessMethod(key, setter);
+                }
+                if (optional) {
+                    javaClass.appendAccessMethod(key, childGen.unsetter());
+                }
+                javaClass.appendAccessMethod(key, childGen.adders());
+            } else {
+                javaClass.appendAccessMethod(key, childGen.childIterator());
+                javaClass.appendAccessMethod(key, childGen.childList());
+                for (JavaMethod setter : childGen.setters()) {
+                    javaClass.appendAccessMethod(key, setter);
+                }
+                for (JavaMethod deleter : childGen.deleters()) {
+                    javaClass.appendAccessMethod(key, deleter);
+                }
+                javaClass.appendAccessMethod(key, childGen.adders());
+                optional = true;
+            }
+            if (optional) {
+                for (List<JavaMethod> markMethods : MethodGenerator.of(sub, ctx).markers()) {
+                    javaClass.appendAccessMethod(key, markMethods);
+                }
+            }
+        }
+        return field;
+    }
+
+    /**
+     * Fully qualifies the class name of a child with the same name as its
+     * parent, except in the names of the add methods.
+     */
+    private static String qualify(String s, String pkg, String name) {
+        if (s == null) {
+            return null;
+        }
+        String qualified = pkg + "." + name;
+        return s.replace(name, qualified).replace("add" + qualified, "add" + name);
+    }
+
+    private static List<String> qualify(Iterable<String> strings, String pkg, String name) {
+        List<String> res = new ArrayList<String>();
+        for (String s : strings) {
+            res.add(qualify(s, pkg, name));
+        }
+        return res;
+    }
+
+    private void writeToFile() throws IOException {
+        ctx.writeFile(path, filename, javaClass.asList());
+    }
+}
@@ -0,0 +1,64 @@
+package com.airlenet.yang.codegen.jnc;
+
+import com.airlenet.yang.codegen.yang.Statement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Methods of the classes generated from container and notification
+ * statements, and of their parent classes.
+ */
+class ContainerMethodGenerator extends MethodGenerator {
+
+    ContainerMethodGenerator(Statement stmt, JncContext ctx) {
+        super(stmt, ctx);
+    }
+
+    @Override
+    List<JavaMethod> constructors() {
+        return Collections.singletonList(emptyConstructor());
+    }
+
+    /**
+     * @return the field of the parent class for the child
+     */
+    @Override
+    JavaValue childField() {
+        JavaValue res = new JavaValue(null, null, n2, "null", 4);
+        res.addJavadoc("Field for child " + stmt.getKeyword() + " \"" + stmt.getArg() + "\".");
+        res.addModifier("public");
+        if (parentN.equals(n)) {
+            res.addModifier(pkg + "." + n);
+        } else {
+            res.addModifier(n);
+        }
+        res.addDependency(n);
+        return fixImports(res, true);
+    }
+
+    /**
+     * @return a single method deleting the child from its parent
+     */
+    @Override
+    List<JavaMethod> deleters() {
+        JavaMethod method = parentTemplate("delete");
+        method.addJavadoc("Deletes " + stmt.getKeyword() + " entry \"" + n2 + "\".");
+        method.addJavadoc("@return An array of the deleted element nodes.");
+        method.addLine("this." + n2 + " = null;");
+        method.addLine("String path = \"" + stmt.getArg() + "\";");
+        method.setReturnType("NodeSet");
+        method.addLine("return delete(path);");
+        return Collections.singletonList(fixImports(method, true));
+    }
+
+    @Override
+    List<Object> parentAccessMethods() {
+        List<Object> res = new ArrayList<Object>();
+        res.add(accessMethodsComment());
+        res.addAll(adders());
+        res.add(deleters());
+        return res;
+    }
+}
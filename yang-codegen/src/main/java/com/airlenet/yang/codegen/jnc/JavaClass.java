@@ -0,0 +1,219 @@
+package com.airlenet.yang.codegen.jnc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Package, imports, fields and methods of a generated class. Different
+ * kinds of members are kept apart so their order in the class does not
+ * depend on the order they were added in. Port of JavaClass in jnc.py.
+ */
+class JavaClass {
+
+    static final Set<String> COM_TAILF_JNC = new HashSet<String>(Arrays.asList(
+            "Attribute", "Capabilities", "ConfDSession", "DefaultIOSubscriber", "Device", "DeviceUser",
+            "DummyElement", "Element", "ElementChildrenIterator", "ElementHandler",
+            "ElementLeafListValueIterator", "IOSubscriber", "JNCException", "Leaf", "NetconfSession",
+            "NodeSet", "Path", "PathCreate", "Prefix", "PrefixMap", "RevisionInfo", "RpcError", "SchemaNode",
+            "SchemaParser", "SchemaTree", "SSHConnection", "SSHSession", "Tagpath", "TCPConnection",
+            "TCPSession", "Transport", "Utils", "XMLParser", "YangBaseInt", "YangBaseString", "YangBaseType",
+            "YangBinary", "YangBits", "YangBoolean", "YangDecimal64", "YangElement", "YangEmpty",
+            "YangEnumeration", "YangException", "YangIdentityref", "YangInt16", "YangInt32", "YangInt64",
+            "YangInt8", "YangLeafref", "YangString", "YangType", "YangUInt16", "YangUInt32", "YangUInt64",
+            "YangUInt8", "YangUnion", "YangXMLParser", "YangElementFactory"));
+
+    private static final String VERSION = "1.0";
+
+    final String filename;
+    final String packageName;
+    final Set<String> imports = new LinkedHashSet<String>();
+    String description;
+    String superclass;
+    final String source;
+    final Set<Object> fields = new LinkedHashSet<Object>();
+    final Set<Object> constructors = new LinkedHashSet<Object>();
+    final Set<Object> cloners = new LinkedHashSet<Object>();
+    final Set<Object> enablers = new LinkedHashSet<Object>();
+    final Set<Object> schemaRegistrators = new LinkedHashSet<Object>();
+    final Set<Object> nameGetters = new LinkedHashSet<Object>();
+    final Map<String, List<Object>> accessMethods = new LinkedHashMap<String, List<Object>>();
+    final Set<Object> supportMethods = new LinkedHashSet<Object>();
+    List<String> innerClassBody;
+    private List<String> body;
+
+    JavaClass(String filename, String packageName, String description, String source, String superclass) {
+        this.filename = filename;
+        this.packageName = packageName;
+        this.description = description;
+        this.source = source;
+        this.superclass = superclass;
+    }
+
+    private List<Object> attrs() {
+        return Arrays.<Object>asList(fields, constructors, cloners, enablers, schemaRegistrators, nameGetters,
+                accessMethods, supportMethods);
+    }
+
+    void addField(JavaValue field) {
+        fields.add(field);
+    }
+
+    void addConstructor(Object constructor) {
+        constructors.add(constructor);
+    }
+
+    void addCloner(JavaMethod cloner) {
+        imports.addAll(cloner.imports);
+        cloners.add(cloner);
+    }
+
+    void addEnabler(JavaMethod enabler) {
+        imports.add("com.tailf.jnc.JNCException");
+        imports.add("com.tailf.jnc.YangElement");
+        enablers.add(enabler);
+    }
+
+    void addSchemaRegistrator(JavaMethod registrator) {
+        imports.add("com.tailf.jnc.JNCException");
+        imports.addAll(registrator.imports);
+        schemaRegistrators.add(registrator);
+    }
+
+    void addNameGetter(JavaValue getter) {
+        nameGetters.add(getter);
+    }
+
+    /**
+     * @param accessMethod a {@link JavaValue} or a list of them
+     */
+    void appendAccessMethod(String key, Object accessMethod) {
+        List<Object> list = accessMethods.get(key);
+        if (list == null) {
+            list = new ArrayList<Object>();
+            accessMethods.put(key, list);
+        }
+        list.add(accessMethod);
+    }
+
+    void addSupportMethod(JavaMethod method) {
+        supportMethods.add(method);
+    }
+
+    /**
+     * Flattens nested collections and the values of maps, flatten in jnc.py.
+     */
+    static List<Object> flatten(Object o) {
+        List<Object> result = new ArrayList<Object>();
+        Collection<?> items = o instanceof Map ? ((Map<?, ?>) o).values() : (Collection<?>) o;
+        for (Object item : items) {
+            if (item instanceof Collection || item instanceof Map) {
+                result.addAll(flatten(item));
+            } else {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    private List<String> getBody() {
+        if (body == null) {
+            body = new ArrayList<String>();
+            if (superclass != null) {
+                body.addAll(new JavaValue(null, Arrays.asList("private", "static", "final", "long"),
+                        "serialVersionUID", "1L", 4).asList());
+                body.add("");
+            }
+            for (Object method : flatten(attrs())) {
+                if (method instanceof JavaValue) {
+                    body.addAll(((JavaValue) method).asList());
+                } else {
+                    body.add((String) method);
+                }
+                body.add("");
+            }
+            if (innerClassBody != null) {
+                body.addAll(innerClassBody);
+            }
+            body.add("}");
+        }
+        return body;
+    }
+
+    private String className() {
+        int dot = filename.indexOf('.');
+        return dot < 0 ? filename : filename.substring(0, dot);
+    }
+
+    /**
+     * @return the lines of the complete class
+     */
+    List<String> asList() {
+        List<String> header = new ArrayList<String>();
+        header.add("/* \n * @(#)" + filename + "        " + VERSION);
+        header.add(" *");
+        header.add(" * This file has been auto-generated by JNC, the");
+        header.add(" * Java output format plug-in of pyang.");
+        header.add(" * Origin: " + source);
+        header.add(" */");
+        header.add("");
+        header.add("package " + packageName + ";");
+        if (body == null) {
+            for (Object method : flatten(attrs())) {
+                if (method instanceof JavaValue) {
+                    imports.addAll(((JavaValue) method).imports);
+                }
+                if (method instanceof JavaMethod) {
+                    for (String exception : ((JavaMethod) method).exceptions) {
+                        imports.add("com.tailf.jnc." + exception);
+                    }
+                }
+            }
+        }
+        if (superclass != null && !superclass.isEmpty()) {
+            imports.add(JncContext.getImport(superclass));
+        }
+        List<String> importedClasses = new ArrayList<String>();
+        List<String> sorted = new ArrayList<String>(imports);
+        Collections.sort(sorted);
+        String prevpkg = "";
+        for (String import_ : sorted) {
+            int dot = import_.lastIndexOf('.');
+            String pkg = dot < 0 ? "" : import_.substring(0, dot);
+            String cls = import_.substring(dot + 1);
+            if (!cls.equals(className()) && (!pkg.equals("com.tailf.jnc") || COM_TAILF_JNC.contains(cls)
+                    || cls.equals("*"))) {
+                if (importedClasses.contains(cls)) {
+                    continue;
+                }
+                importedClasses.add(cls);
+                int first = import_.indexOf('.');
+                String basepkg = import_.substring(0, first < 0 ? Math.max(0, import_.length() - 1) : first);
+                if (!basepkg.equals(prevpkg)) {
+                    header.add("");
+                }
+                header.add("import " + import_ + ";");
+                prevpkg = basepkg;
+            }
+        }
+        header.add("");
+        header.add("/**");
+        header.add(" * " + description);
+        header.add(" *");
+        header.add(" * @version " + VERSION);
+        header.add(" * @author Auto Generated");
+        header.add(" */");
+        header.add("public class " + className() + (superclass != null && !superclass.isEmpty() ? " extends " + superclass : "")
+                + " {");
+        header.add("");
+        header.addAll(getBody());
+        return header;
+    }
+}
@@ -0,0 +1,122 @@
+package com.airlenet.yang.codegen.jnc;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * A method of a generated class, public void by default. Port of JavaMethod
+ * in jnc.py.
+ */
+class JavaMethod extends JavaValue {
+
+    private static final int MAX_COLS = 80;
+
+    String returnType = "void";
+    /* a list once rewritten for a child with the same name as its parent */
+    Collection<String> parameters = new LinkedHashSet<String>();
+    Collection<String> exceptions = new LinkedHashSet<String>();
+    List<String> body = new ArrayList<String>();
+
+    JavaMethod() {
+        this(null, null, null);
+    }
+
+    JavaMethod(String name) {
+        this(null, null, name);
+    }
+
+    JavaMethod(List<String> modifiers, String returnType, String name) {
+        super(null, modifiers, name, null, 4);
+        if (this.modifiers.isEmpty()) {
+            addModifier("public");
+        }
+        if (returnType != null) {
+            setReturnType(returnType);
+        }
+        this.exact = null;
+        this.defaultModifiers = true;
+    }
+
+    /**
+     * Sets the return type, added as a dependency unless it is null.
+     */
+    void setReturnType(String returnType) {
+        this.returnType = returnType == null || returnType.isEmpty() ? null : addDependency(returnType);
+        exact = null;
+    }
+
+    /**
+     * Sets the return type as given, it is still added as a dependency.
+     */
+    void setRawReturnType(String returnType) {
+        if (returnType != null && !returnType.isEmpty()) {
+            addDependency(returnType);
+        }
+        this.returnType = returnType;
+        exact = null;
+    }
+
+    void addParameter(String paramType, String paramName) {
+        addParameter(paramType, paramName, true);
+    }
+
+    /**
+     * @param dependency false to use paramType as given, without adding it
+     *                   as a dependency
+     */
+    void addParameter(String paramType, String paramName, boolean dependency) {
+        parameters.add((dependency ? addDependency(paramType) : paramType) + " " + paramName);
+        exact = null;
+    }
+
+    void addException(String exception) {
+        exceptions.add(addDependency(exception));
+        exact = null;
+    }
+
+    void addLine(String line) {
+        body.add(indent + "    " + line);
+        exact = null;
+    }
+
+    @Override
+    List<String> asList() {
+        if (exact == null) {
+            exact = javadocAsList();
+            List<String> header = new ArrayList<String>(modifiers);
+            if (returnType != null) {
+                header.add(returnType);
+            }
+            if (name.equals("getValues") && join("", parameters).startsWith("String")) {
+                header.add(name + "ByStr");
+            } else {
+                header.add(name);
+            }
+            List<String> signature = new ArrayList<String>();
+            signature.add(indent);
+            signature.add(join(" ", header));
+            signature.add("(");
+            signature.add(join(", ", parameters));
+            signature.add(")");
+            if (!exceptions.isEmpty()) {
+                signature.add(" throws ");
+                signature.add(join(", ", exceptions));
+                int length = 0;
+                for (String s : signature) {
+                    length += s.length();
+                }
+                if (length >= MAX_COLS) {
+                    String wrap = indent + indent + indent;
+                    signature.add(signature.size() - 2, "\n" + wrap.substring(0, wrap.length() - 1));
+                }
+            }
+            signature.add(" {");
+            exact.add(join("", signature));
+            exact.addAll(body);
+            exact.add(indent + "}");
+        }
+        return exact;
+    }
+}
@@ -0,0 +1,181 @@
+package com.airlenet.yang.codegen.jnc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A field of a generated class, or any other piece of code given as exact
+ * lines, with an optional javadoc comment. Port of JavaValue in jnc.py.
+ */
+class JavaValue {
+
+    static final Set<String> JAVA_RESERVED_WORDS = new HashSet<String>(Arrays.asList(
+            "abstract", "assert", "boolean", "break", "byte", "case", "catch", "char", "class", "const",
+            "continue", "default", "double", "do", "else", "enum", "extends", "false", "final", "finally",
+            "float", "for", "goto", "if", "implements", "import", "instanceof", "int", "interface", "long",
+            "native", "new", "null", "package", "private", "protected", "public", "return", "short",
+            "static", "strictfp", "super", "switch", "synchronized", "this", "throw", "throws",
+            "transient", "true", "try", "void", "volatile", "while"));
+
+    static final Set<String> JAVA_LANG = new HashSet<String>(Arrays.asList(
+            "Appendable", "CharSequence", "Cloneable", "Comparable", "Iterable", "Readable", "Runnable",
+            "Boolean", "Byte", "Character", "Class", "ClassLoader", "Compiler", "Double", "Enum", "Float",
+            "Integer", "Long", "Math", "Number", "Object", "Package", "Process", "ProcessBuilder", "Runtime",
+            "RuntimePermission", "SecurityManager", "Short", "StackTraceElement", "StrictMath", "String",
+            "StringBuffer", "StringBuilder", "System", "Thread", "ThreadGroup", "ThreadLocal", "Throwable",
+            "Void", "ReflectiveOperationException"));
+
+    /**
+     * Identifiers that are never imported, the reserved words include the
+     * boolean and null literals
+     */
+    static final Set<String> JAVA_BUILT_IN = new HashSet<String>();
+
+    static {
+        JAVA_BUILT_IN.addAll(JAVA_RESERVED_WORDS);
+        JAVA_BUILT_IN.addAll(JAVA_LANG);
+    }
+
+    List<String> exact;
+    Set<String> javadocs = new LinkedHashSet<String>();
+    List<String> modifiers = new ArrayList<String>();
+    String name;
+    String value;
+    Set<String> imports = new LinkedHashSet<String>();
+    String indent;
+    boolean defaultModifiers = true;
+
+    JavaValue() {
+        this(null, null, null, null, 4);
+    }
+
+    JavaValue(List<String> exact) {
+        this(exact, null, null, null, 4);
+    }
+
+    JavaValue(List<String> exact, List<String> modifiers, String name, String value, int indent) {
+        this.value = value;
+        this.indent = spaces(indent);
+        if (modifiers != null) {
+            for (String modifier : modifiers) {
+                addModifier(modifier);
+            }
+        }
+        if (name != null) {
+            setName(name);
+        }
+        this.exact = exact;
+        this.defaultModifiers = true;
+    }
+
+    static String spaces(int n) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < n; i++) {
+            sb.append(' ');
+        }
+        return sb.toString();
+    }
+
+    void setName(String name) {
+        this.name = name;
+        exact = null;
+    }
+
+    /**
+     * Adds modifier to the end of the modifiers, the first modifier added
+     * after construction replaces the default modifiers.
+     */
+    void addModifier(String modifier) {
+        if (defaultModifiers) {
+            modifiers = new ArrayList<String>();
+            defaultModifiers = false;
+        }
+        modifiers.add(modifier);
+        exact = null;
+    }
+
+    /**
+     * Adds line to the javadoc comment, leading ' ', '*' and '/' removed.
+     */
+    void addJavadoc(String line) {
+        int i = 0;
+        while (i < line.length() && " */".indexOf(line.charAt(i)) >= 0) {
+            i++;
+        }
+        javadocs.add(line.substring(i));
+        exact = null;
+    }
+
+    /**
+     * Adds import_ to the imports needed for the value to compile.
+     *
+     * @return the class name to use in code for import_
+     */
+    String addDependency(String import_) {
+        int dot = import_.lastIndexOf('.');
+        if (dot >= 0) {
+            String className = import_.substring(dot + 1);
+            if (!JAVA_BUILT_IN.contains(className)) {
+                imports.add(import_);
+                return className;
+            }
+        } else if (!JAVA_BUILT_IN.contains(import_)
+                && !JAVA_BUILT_IN.contains(import_.substring(0, Math.max(0, import_.length() - 2)))) {
+            imports.add(import_);
+        }
+        return import_;
+    }
+
+    List<String> javadocAsList() {
+        List<String> lines = new ArrayList<String>();
+        if (!javadocs.isEmpty()) {
+            lines.add(indent + "/**");
+            for (String line : javadocs) {
+                lines.add(indent + " * " + line);
+            }
+            lines.add(indent + " */");
+        }
+        return lines;
+    }
+
+    /**
+     * @return the lines of code of this value
+     */
+    List<String> asList() {
+        if (exact == null) {
+            exact = javadocAsList();
+            List<String> declaration = new ArrayList<String>(modifiers);
+            declaration.add(name);
+            if (value != null) {
+                declaration.add("=");
+                declaration.add(value);
+            }
+            exact.add(indent + join(" ", declaration) + ";");
+            if (!modifiers.contains("static")) {
+                List<String> getter = new ArrayList<String>(modifiers);
+                getter.add("get" + name.substring(0, Math.min(1, name.length())).toUpperCase() + name.substring(Math.min(1, name.length())) + "()");
+                exact.add(indent + join(" ", getter) + " {");
+                exact.add(indent + indent + "return this." + name + ";");
+                exact.add(indent + "}");
+            }
+        }
+        return exact;
+    }
+
+    static String join(String separator, Iterable<String> parts) {
+        StringBuilder sb = new StringBuilder();
+        boolean first = true;
+        for (String part : parts) {
+            if (!first) {
+                sb.append(separator);
+            }
+            sb.append(part);
+            first = false;
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,430 @@
+package com.airlenet.yang.codegen.jnc;
+
+import com.airlenet.yang.codegen.JncNames;
+import com.airlenet.yang.codegen.yang.PathSpec;
+import com.airlenet.yang.codegen.yang.Statement;
+import com.airlenet.yang.codegen.yang.YangContext;
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * State of one generator run and the statement tree helpers of jnc.py,
+ * search, search_one, get_package, get_types and friends. Nothing is
+ * static, runs in different threads do not share anything.
+ */
+class JncContext {
+
+    static final Set<String> YANGELEMENT_STMTS = keywords("container", "list", "notification");
+    static final Set<String> LEAF_STMTS = keywords("leaf", "leaf-list");
+    static final Set<String> YANGELEMENT_OR_LEAF_STMTS = keywords("container", "list", "notification", "leaf",
+            "leaf-list");
+    static final Set<String> NODE_STMTS = keywords("module", "submodule", "container", "list", "notification",
+            "leaf", "leaf-list");
+
+    static final Set<String> JAVA_UTIL = keywords("Collection", "Enumeration", "Iterator", "List", "ListIterator",
+            "Map", "Queue", "Set", "ArrayList", "Arrays", "HashMap", "HashSet", "Hashtable", "LinkedList",
+            "Properties", "Random", "Scanner", "Stack", "StringTokenizer", "Timer", "TreeMap", "TreeSet", "UUID",
+            "Vector");
+
+    /* primitive counterparts of the types whose values never need escaping in XML text */
+    static final Set<String> UNESCAPED_PRIMITIVES = keywords("byte", "short", "int", "long", "Boolean",
+            "java.math.BigInteger", "java.math.BigDecimal");
+
+    private static final Set<String> BYPASSED = keywords("choice", "case");
+    private static final Set<String> SUBSTMT_KEYWORDS = keywords("typedef", "import", "augment", "include");
+    private static final Pattern SEP = Pattern.compile(Pattern.quote(File.separator));
+
+    final YangContext yang;
+    /* the --jnc-output directory, a path ending with "java/" and the root package */
+    final String directory;
+    final String rootpkg;
+    /* the --jnc-prefix suffix of root class names */
+    final String prefix;
+    final boolean classpathSchemaLoading;
+    /* --jnc-leaf-fields */
+    boolean leafFields;
+    /* --jnc-marshallers */
+    boolean marshallers;
+    /* --jnc-unmarshallers */
+    boolean unmarshallers;
+    /* --jnc-root paths as lists of data node names, null to generate all */
+    List<List<String>> roots;
+    /* container, list and notification statements left out by --jnc-root */
+    final Set<Statement> pruned = Collections.newSetFromMap(new IdentityHashMap<Statement, Boolean>());
+    final Map<String, Statement> augmentedModules = new LinkedHashMap<String, Statement>();
+    final List<File> files = new ArrayList<File>();
+    /* prefix statements whose argument got the suffix appended, argPrefix in jnc.py */
+    private final Set<Statement> suffixed = Collections.newSetFromMap(new IdentityHashMap<Statement, Boolean>());
+    /* union typedefs with an enumeration member, enumerationStmt in jnc.py */
+    final Map<Statement, Statement> enumerations = new IdentityHashMap<Statement, Statement>();
+
+    JncContext(YangContext yang, String directory, String prefix, boolean classpathSchemaLoading) {
+        this.yang = yang;
+        this.directory = directory.contains("java") ? directory : "java/gen";
+        int java = this.directory.lastIndexOf("java");
+        this.rootpkg = this.directory.substring(Math.min(java + 5, this.directory.length()));
+        this.prefix = prefix;
+        this.classpathSchemaLoading = classpathSchemaLoading;
+    }
+
+    static Set<String> keywords(String... keywords) {
+        return new HashSet<String>(Arrays.asList(keywords));
+    }
+
+    static String camelize(String string) {
+        return JncNames.camelize(string);
+    }
+
+    static String normalize(String string) {
+        return JncNames.normalize(string);
+    }
+
+    /**
+     * Removes the container, list and notification children of stmt that
+     * are neither on nor below one of roots, lists of data node names
+     * relative to stmt, from its substatements as well. Leaves are kept, so
+     * lists on the way to a root keep their keys.
+     */
+    void prune(Statement stmt, List<List<String>> roots) {
+        if (stmt.getChildren() == null) {
+            return;
+        }
+        for (Iterator<Statement> it = stmt.getChildren().iterator(); it.hasNext();) {
+            Statement ch = it.next();
+            if (BYPASSED.contains(ch.getKeyword())) {
+                prune(ch, roots);
+            } else if (YANGELEMENT_STMTS.contains(ch.getKeyword())) {
+                List<List<String>> below = new ArrayList<List<String>>();
+                boolean subtree = false;
+                for (List<String> root : roots) {
+                    if (root.get(0).equals(ch.getArg())) {
+                        below.add(root.subList(1, root.size()));
+                        subtree |= root.size() == 1;
+                    }
+                }
+                if (below.isEmpty()) {
+                    pruned.add(ch);
+                    it.remove();
+                } else if (!subtree) {
+                    prune(ch, below);
+                }
+            }
+        }
+        stmt.getSubstmts().removeAll(pruned);
+    }
+
+    /**
+     * @return true if stmt was left out by --jnc-root, or is part of a
+     * subtree that was
+     */
+    boolean isPruned(Statement stmt) {
+        for (Statement s = stmt; s != null; s = s.getParent()) {
+            if (pruned.contains(s)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Children of stmt with one of the keywords, the expanded children if it
+     * has any, without duplicates. Unless choice or case is searched for,
+     * choice and case statements are searched through.
+     */
+    static List<Statement> search(Statement stmt, Set<String> keywords) {
+        Map<String, Statement> acc = new LinkedHashMap<String, Statement>();
+        boolean bypass = Collections.disjoint(keywords, BYPASSED);
+        search(stmt, keywords, bypass, acc);
+        return new ArrayList<Statement>(acc.values());
+    }
+
+    static List<Statement> search(Statement stmt, String keyword) {
+        return search(stmt, Collections.singleton(keyword));
+    }
+
+    private static void search(Statement stmt, Set<String> keywords, boolean bypass, Map<String, Statement> acc) {
+        if (!Collections.disjoint(keywords, SUBSTMT_KEYWORDS)) {
+            iterate(stmt.getSubstmts(), keywords, bypass, acc);
+        }
+        iterate(stmt.getChildren() != null ? stmt.getChildren() : stmt.getSubstmts(), keywords, bypass, acc);
+    }
+
+    private static void iterate(List<Statement> children, Set<String> keywords, boolean bypass,
+                                Map<String, Statement> acc) {
+        for (Statement ch : children) {
+            if (bypass && BYPASSED.contains(ch.getKeyword())) {
+                search(ch, keywords, bypass, acc);
+                continue;
+            }
+            if (ch.isExtension()) {
+                continue;
+            }
+            String key = ch.getKeyword() + " " + camelize(ch.getArg());
+            if (!acc.containsKey(key) && keywords.contains(ch.getKeyword())) {
+                acc.put(key, ch);
+            }
+        }
+    }
+
+    Statement searchOne(Statement stmt, String keyword) {
+        return searchOne(stmt, keyword, null);
+    }
+
+    /**
+     * The first substatement or expanded child with the keyword and arg,
+     * else the first search result for the keyword. Module prefixes get the
+     * prefix suffix appended, the way the root class is named.
+     */
+    Statement searchOne(Statement stmt, String keyword, String arg) {
+        Statement res = stmt.search(keyword, arg);
+        if (res == null && stmt.getChildren() != null) {
+            for (Statement ch : stmt.getChildren()) {
+                if (ch.getKeyword().equals(keyword) && (arg == null || arg.equals(ch.getArg()))) {
+                    res = ch;
+                    break;
+                }
+            }
+        }
+        if (res == null) {
+            List<Statement> found = search(stmt, keyword);
+            return found.isEmpty() ? null : found.get(0);
+        }
+        if (keyword.equals("prefix") && !prefix.isEmpty() && !res.getArg().endsWith(prefix)) {
+            suffixed.add(res);
+            res.setArg(res.getArg() + prefix);
+        }
+        return res;
+    }
+
+    boolean isSuffixed(Statement prefixStmt) {
+        return suffixed.contains(prefixStmt);
+    }
+
+    /**
+     * @return the module stmt belongs to, the module a submodule belongs to
+     */
+    Statement getModule(Statement stmt) {
+        if (stmt.getTop() != null) {
+            return getModule(stmt.getTop());
+        } else if (stmt.getKeyword().equals("module")) {
+            return stmt;
+        }
+        Statement belongsTo = searchOne(stmt, "belongs-to");
+        for (Statement module : stmt.getContext().getModules()) {
+            if (module.getArg().equals(belongsTo.getArg())) {
+                return module;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the closest parent that is no choice, case or submodule, the
+     * module a submodule belongs to instead of the submodule
+     */
+    Statement getParent(Statement stmt) {
+        Statement parent = stmt.getParent();
+        if (parent == null) {
+            return null;
+        } else if (parent.getKeyword().equals("submodule")) {
+            return getModule(stmt);
+        } else if (parent.getParent() == null) {
+            return parent;
+        } else if (BYPASSED.contains(parent.getKeyword())) {
+            return getParent(parent);
+        }
+        return parent;
+    }
+
+    /**
+     * @return the name of the field referring to leaf stmt in the class of
+     * its parent, null if there is no such field
+     */
+    String leafFieldName(Statement stmt) {
+        if (!leafFields || !stmt.getKeyword().equals("leaf")) {
+            return null;
+        }
+        Statement parent = getParent(stmt);
+        if (parent == null || !YANGELEMENT_STMTS.contains(parent.getKeyword())) {
+            return null;
+        }
+        String name = camelize(stmt.getArg()) + "Leaf";
+        for (Statement sibling : search(parent, YANGELEMENT_OR_LEAF_STMTS)) {
+            if (camelize(sibling.getArg()).equals(name)) {
+                return null; // taken by the field of a container
+            }
+        }
+        return name;
+    }
+
+    /**
+     * @return the package of the class generated from stmt
+     */
+    String getPackage(Statement stmt) {
+        LinkedList<String> subPackages = new LinkedList<String>();
+        Statement parent = getParent(stmt);
+        while (parent != null) {
+            stmt = parent;
+            parent = getParent(stmt);
+            subPackages.addFirst(camelize(stmt.getArg()));
+        }
+        List<String> fullPackage = new ArrayList<String>(Arrays.asList(SEP.split(rootpkg, -1)));
+        fullPackage.addAll(subPackages);
+        return JavaValue.join(".", fullPackage);
+    }
+
+    /**
+     * @return the jnc class and the primitive java type of a type, typedef,
+     * leaf or leaf-list statement
+     */
+    String[] getTypes(Statement yangType) {
+        if (LEAF_STMTS.contains(yangType.getKeyword())) {
+            yangType = searchOne(yangType, "type");
+        }
+        if (!yangType.getKeyword().equals("type") && !yangType.getKeyword().equals("typedef")) {
+            throw new IllegalStateException("argument is type, typedef or leaf: " + yangType);
+        }
+        String arg = yangType.getArg();
+        if (arg.equals("leafref")) {
+            PathSpec leafref = yangType.getParent().getLeafref();
+            return getTypes(leafref.getTargetNode());
+        }
+        String primitive = normalize(arg);
+        if (yangType.getKeyword().equals("typedef")) {
+            primitive = normalize(getBaseType(yangType).getArg());
+        }
+        if (primitive.equals("JBoolean")) {
+            primitive = "Boolean";
+        }
+        String jnc = "com.tailf.jnc.Yang" + primitive;
+        if (arg.equals("string") || arg.equals("boolean")) {
+            // primitive is right
+        } else if (Arrays.asList("enumeration", "binary", "union", "empty", "instance-identifier", "identityref")
+                .contains(arg)) {
+            primitive = "String";
+        } else if (arg.equals("bits")) {
+            primitive = "java.math.BigInteger";
+        } else if (arg.equals("decimal64")) {
+            primitive = "java.math.BigDecimal";
+        } else if (Arrays.asList("int8", "int16", "int32", "int64", "uint8", "uint16", "uint32", "uint64")
+                .contains(arg)) {
+            List<String> integerType = new ArrayList<String>(Arrays.asList("long", "int", "short", "byte"));
+            if (arg.startsWith("u")) {
+                integerType.remove(integerType.size() - 1);
+                integerType.add(0, "java.math.BigInteger");
+                jnc = "com.tailf.jnc.YangUI" + arg.substring(2);
+            }
+            if (arg.endsWith("64")) {
+                primitive = integerType.get(0);
+            } else if (arg.endsWith("32")) {
+                primitive = integerType.get(1);
+            } else if (arg.endsWith("16")) {
+                primitive = integerType.get(2);
+            } else {
+                primitive = integerType.get(3);
+            }
+        } else if (!yangType.isTypeValidated()) {
+            if (yangType.getKeyword().equals("typedef")) {
+                primitive = normalize(arg);
+            }
+        } else {
+            Statement typedef = yangType.getTypedef();
+            Statement basetype = getBaseType(typedef);
+            String[] types = getTypes(basetype);
+            jnc = types[0];
+            primitive = types[1];
+            String keyword = getParent(typedef).getKeyword();
+            if (keyword.equals("module") || keyword.equals("submodule")) {
+                jnc = getPackage(typedef) + "." + normalize(typedef.getArg());
+            }
+        }
+        return new String[]{jnc, primitive};
+    }
+
+    /**
+     * @return the built in type stmt is derived from
+     */
+    Statement getBaseType(Statement stmt) {
+        if (stmt.getKeyword().equals("type") && "union".equals(stmt.getArg())) {
+            return stmt;
+        }
+        Statement typeStmt = searchOne(stmt, "type");
+        if (typeStmt == null) {
+            return stmt;
+        }
+        if (!typeStmt.isTypeValidated()) {
+            return typeStmt;
+        } else if (typeStmt.getTypedef() != null) {
+            return getBaseType(typeStmt.getTypedef());
+        }
+        return typeStmt;
+    }
+
+    /**
+     * @return a class that can be imported in java for a class name
+     */
+    static String getImport(String string) {
+        if (string.startsWith("java.math") || string.startsWith("java.util") || string.startsWith("javax.xml")
+                || string.startsWith("com.tailf.jnc")) {
+            return string;
+        } else if (string.equals("BigInteger") || string.equals("BigDecimal")) {
+            return "java.math." + string;
+        } else if (JAVA_UTIL.contains(string)) {
+            return "java.util." + string;
+        }
+        return "com.tailf.jnc." + string;
+    }
+
+    /**
+     * @return true if stmt is configuration data
+     */
+    boolean isConfig(Statement stmt) {
+        Statement config = null;
+        while (config == null && stmt != null) {
+            if (stmt.getKeyword().equals("notification")) {
+                return false;
+            }
+            config = searchOne(stmt, "config");
+            stmt = getParent(stmt);
+        }
+        return config == null || "true".equals(config.getArg());
+    }
+
+    /**
+     * Writes the lines of a file, each followed by a newline, to the
+     * directory d, dots in d are directory separators.
+     */
+    void writeFile(String d, String fileName, List<String> lines) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (String line : lines) {
+            sb.append(line).append('\n');
+        }
+        writeFile(d, fileName, sb.toString());
+    }
+
+    void writeFile(String d, String fileName, String content) throws IOException {
+        File file = new File(d.replace('.', File.separatorChar), fileName);
+        FileUtils.writeStringToFile(file, content, "UTF-8");
+        files.add(file);
+    }
+
+    void writeFile(String d, String fileName, byte[] content) throws IOException {
+        File file = new File(d.replace('.', File.separatorChar), fileName);
+        FileUtils.writeByteArrayToFile(file, content);
+        files.add(file);
+    }
+}
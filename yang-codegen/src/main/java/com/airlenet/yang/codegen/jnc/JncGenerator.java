@@ -0,0 +1,372 @@
+package com.airlenet.yang.codegen.jnc;
+
+import com.airlenet.yang.codegen.yang.Statement;
+import com.airlenet.yang.codegen.yang.YangContext;
+import com.airlenet.yang.codegen.yang.YangError;
+import com.airlenet.yang.codegen.yang.YangModelException;
+import com.tailf.jnc.BinarySchema;
+import com.tailf.jnc.SchemaNode;
+import com.tailf.jnc.Tagpath;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.airlenet.yang.codegen.jnc.JncContext.camelize;
+import static com.airlenet.yang.codegen.jnc.JncContext.normalize;
+
+/**
+ * Generates the JNC classes, schema files and package-info files of parsed
+ * modules, the same files the jnc plugin of pyang writes. A generator
+ * keeps no state outside of its own run, several of them may run in
+ * different threads at the same time on different contexts.
+ * <p>
+ * Modules with errors the plugin would stop at, or only warn about while
+ * generating an incomplete class hierarchy, are rejected with a
+ * {@link YangModelException} so they can be handed to pyang instead.
+ */
+public class JncGenerator {
+
+    /* warnings jnc.py reports without changing the generated classes */
+    private static final Set<String> HARMLESS_ERRORS = new HashSet<String>(Arrays.asList(
+            "ILLEGAL_ESCAPE_WARN", "UNUSED_IMPORT", "UNIQUE_IS_KEY", "DUPLICATE_NAMESPACE", "WBAD_MODULE_NAME",
+            "XPATH_FUNCTION"));
+
+    private static final String PACKAGE_INFO = "/**\n"
+            + " * This class hierarchy was generated from the Yang module{0}\n"
+            + " * by the <a target=\"_top\" href=\"https://github.com/tail-f-systems/JNC\">JNC</a> plugin of"
+            + " <a target=\"_top\" href=\"http://code.google.com/p/pyang/\">pyang</a>.\n"
+            + " * The generated classes may be used to manipulate pieces of configuration data\n"
+            + " * with NETCONF operations such as edit-config, delete-config and lock. These\n"
+            + " * operations are typically accessed through the JNC Java library by\n"
+            + " * instantiating Device objects and setting up NETCONF sessions with real\n"
+            + " * devices using a compatible YANG model.\n"
+            + " * <p>{1}\n"
+            + " * @see <a target=\"_top\" href=\"https://github.com/tail-f-systems/JNC\">JNC project page</a>\n"
+            + " * @see <a target=\"_top\" href=\"ftp://ftp.rfc-editor.org/in-notes/rfc6020.txt\">RFC 6020: YANG - A"
+            + " Data Modeling Language for the Network Configuration Protocol (NETCONF)</a>\n"
+            + " * @see <a target=\"_top\" href=\"ftp://ftp.rfc-editor.org/in-notes/rfc6241.txt\">RFC 6241: Network"
+            + " Configuration Protocol (NETCONF)</a>\n"
+            + " * @see <a target=\"_top\" href=\"ftp://ftp.rfc-editor.org/in-notes/rfc6242.txt\">RFC 6242: Using the"
+            + " NETCONF Protocol over Secure Shell (SSH)</a>\n"
+            + " * @see <a target=\"_top\" href=\"http://www.tail-f.com\">Tail-f Systems</a>\n"
+            + " */\n"
+            + " package ";
+
+    private final JncContext ctx;
+    private final Set<Statement> done = Collections.newSetFromMap(new IdentityHashMap<Statement, Boolean>());
+    private boolean binarySchema;
+    private boolean staticSchema;
+
+    /**
+     * @param directory              the --jnc-output directory, the root package
+     *                               follows the last "java" in it
+     * @param prefix                 the --jnc-prefix suffix of the root class names
+     * @param classpathSchemaLoading true to load the schema files from the
+     *                               classpath, --jnc-classpath-schema-loading
+     */
+    public JncGenerator(YangContext yang, String directory, String prefix, boolean classpathSchemaLoading) {
+        this.ctx = new JncContext(yang, directory, prefix == null ? "" : prefix, classpathSchemaLoading);
+    }
+
+    /**
+     * @param binarySchema true to write the schema files in the binary format
+     *                     of {@link BinarySchema}, --jnc-binary-schema
+     */
+    public void setBinarySchema(boolean binarySchema) {
+        this.binarySchema = binarySchema;
+    }
+
+    /**
+     * @param staticSchema true to build the schema in the root classes
+     *                     instead of reading schema files,
+     *                     --jnc-static-schema
+     */
+    public void setStaticSchema(boolean staticSchema) {
+        this.staticSchema = staticSchema;
+    }
+
+    /**
+     * @param leafFields true to refer to leaves from fields of the classes
+     *                   of their parents, --jnc-leaf-fields
+     */
+    public void setLeafFields(boolean leafFields) {
+        ctx.leafFields = leafFields;
+    }
+
+    /**
+     * @param marshallers true to encode the leaves of the classes without
+     *                    prefix lookups, --jnc-marshallers
+     */
+    public void setMarshallers(boolean marshallers) {
+        ctx.marshallers = marshallers;
+    }
+
+    /**
+     * @param unmarshallers true to read the leaves of the classes from XML
+     *                      streams by their typed setters, --jnc-unmarshallers
+     */
+    public void setUnmarshallers(boolean unmarshallers) {
+        ctx.unmarshallers = unmarshallers;
+    }
+
+    /**
+     * @param roots data node paths like /interfaces/interface, only the
+     *              classes and schema nodes on and below them are generated,
+     *              --jnc-root. The other containers, lists and notifications
+     *              are removed from the statements of the context.
+     */
+    public void setRoots(List<String> roots) {
+        if (roots == null || roots.isEmpty()) {
+            ctx.roots = null;
+            return;
+        }
+        ctx.roots = new ArrayList<List<String>>();
+        for (String root : roots) {
+            List<String> names = new ArrayList<String>();
+            for (String name : root.split("/")) {
+                if (!name.isEmpty()) {
+                    names.add(name.substring(name.indexOf(':') + 1));
+                }
+            }
+            if (names.isEmpty()) {
+                ctx.roots = null; // "/" selects everything
+                return;
+            }
+            ctx.roots.add(names);
+        }
+    }
+
+    /**
+     * Generates the files of modules, of the modules they import or include
+     * and of the modules they augment.
+     *
+     * @return the files written
+     * @throws YangModelException if the modules have errors or the files
+     *                            would not match the ones of pyang
+     */
+    public List<File> generate(List<Statement> modules) throws IOException {
+        for (YangError error : ctx.yang.getErrors()) {
+            if (!HARMLESS_ERRORS.contains(error.getTag())) {
+                throw new YangModelException(error.toString());
+            }
+        }
+
+        // Sweep, adding included and imported modules, until no change
+        Set<Statement> moduleSet = new LinkedHashSet<Statement>(modules);
+        int numModules = 0;
+        while (numModules != moduleSet.size()) {
+            numModules = moduleSet.size();
+            for (Statement module : new ArrayList<Statement>(moduleSet)) {
+                List<String> names = new ArrayList<String>();
+                for (Statement s : JncContext.search(module, JncContext.keywords("import"))) {
+                    names.add(s.getArg());
+                }
+                for (Statement s : JncContext.search(module, JncContext.keywords("include"))) {
+                    names.add(s.getArg());
+                }
+                for (Statement m : ctx.yang.getModules()) {
+                    if (names.contains(m.getArg())) {
+                        moduleSet.add(m);
+                    }
+                }
+            }
+        }
+
+        // Append the suffix to the prefixes before the classes refer to them.
+        // Prefixes that are empty or already end with it are kept, as is the
+        // PREFIX field of their root class
+        for (Statement module : moduleSet) {
+            if (ctx.searchOne(module, "prefix") == null && module.getKeyword().equals("module")) {
+                throw new YangModelException("module " + module.getArg() + " has no prefix");
+            }
+        }
+
+        // Leave out the subtrees that are not selected by --jnc-root
+        if (ctx.roots != null) {
+            for (Statement module : ctx.yang.getModules()) {
+                ctx.prune(module, ctx.roots);
+            }
+        }
+
+        for (Statement module : moduleSet) {
+            if (module.getKeyword().equals("module")) {
+                generateFrom(module);
+            }
+        }
+        for (Statement augmented : new ArrayList<Statement>(ctx.augmentedModules.values())) {
+            generateFrom(augmented);
+        }
+        return ctx.files;
+    }
+
+    /**
+     * Generates the classes, the schema file and the package-info files of
+     * module.
+     */
+    private void generateFrom(Statement module) throws IOException {
+        if (!done.add(module)) {
+            return;
+        }
+        String subpkg = camelize(module.getArg());
+        String fullpkg = ctx.rootpkg.isEmpty() ? subpkg : ctx.rootpkg + "." + subpkg;
+        String d = ctx.directory.replace('.', File.separatorChar) + File.separator + subpkg;
+
+        List<SchemaNode> schemaNodes = new ArrayList<SchemaNode>();
+        schemaNodes.add(schemaNode(module, "/"));
+        schemaNodes.addAll(schemaNodes(JncContext.search(module, JncContext.NODE_STMTS), "/"));
+        // Build the schema in the root class, if it is not too large
+        boolean schemaInClass = staticSchema && schemaNodes.size() <= ClassGenerator.MAX_STATIC_SCHEMA_NODES;
+
+        String src = "module \"" + module.getArg() + "\", revision: \"" + YangContext.latestRevision(module) + "\".";
+        ClassGenerator generator = new ClassGenerator(module, ctx, ctx.directory + File.separator + subpkg, fullpkg,
+                src, "");
+        if (schemaInClass) {
+            generator.schema = schemaNodes;
+        }
+        generator.generate();
+
+        String name = normalize(ctx.searchOne(module, "prefix").getArg());
+        if (binarySchema && !schemaInClass) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            BinarySchema.write(schemaNodes, out);
+            ctx.writeFile(d, name + ".schema", out.toByteArray());
+        } else if (!schemaInClass) {
+            List<String> lines = new ArrayList<String>();
+            lines.add("<schema>");
+            for (SchemaNode node : schemaNodes) {
+                lines.addAll(schemaLines(node));
+            }
+            lines.add("</schema>");
+            ctx.writeFile(d, name + ".schema", lines);
+        }
+
+        int java = d.lastIndexOf("java");
+        String pkg = d.substring(Math.min(java + 5, d.length())).replace(File.separatorChar, '.');
+        generatePackageInfo(d, pkg, module);
+    }
+
+    /**
+     * @return the schema nodes of stmts and their descendants
+     */
+    private List<SchemaNode> schemaNodes(List<Statement> stmts, String tagpath) {
+        List<SchemaNode> res = new ArrayList<SchemaNode>();
+        for (Statement stmt : stmts) {
+            String subpath = tagpath + stmt.getArg() + "/";
+            res.add(schemaNode(stmt, subpath));
+            res.addAll(schemaNodes(JncContext.search(stmt, JncContext.NODE_STMTS), subpath));
+        }
+        return res;
+    }
+
+    /**
+     * @return the schema node of stmt, as the schema parser of JNC reads it
+     * from the schema file
+     */
+    private SchemaNode schemaNode(Statement stmt, String tagpath) {
+        SchemaNode node = new SchemaNode();
+        // "/" is the empty tagpath, "/a/b/" the one of a and b
+        String[] tags = tagpath.split("/");
+        node.tagpath = new Tagpath(Math.max(tags.length - 1, 0));
+        if (tags.length > 1) {
+            System.arraycopy(tags, 1, node.tagpath.p, 0, node.tagpath.p.length);
+        }
+        Statement module = ctx.getModule(stmt);
+        node.namespace = ctx.searchOne(module, "namespace").getArg();
+        node.primitive_type = 0;
+
+        int minOccurs = 0;
+        int maxOccurs = -1;
+        Statement mandatory = ctx.searchOne(stmt, "mandatory");
+        boolean isMandatory = mandatory != null && mandatory.getArg().equals("true");
+        Statement unique = ctx.searchOne(stmt, "unique");
+        boolean isUnique = unique != null && unique.getArg().equals("true");
+        Statement key = null;
+        Statement parent = ctx.getParent(stmt);
+        if (parent != null) {
+            key = ctx.searchOne(parent, "key");
+        }
+        boolean isKey = key != null && key.getArg().equals(stmt.getArg());
+        boolean childOfContainerOrList = parent != null
+                && JncContext.YANGELEMENT_STMTS.contains(parent.getKeyword());
+        String keyword = stmt.getKeyword();
+        boolean isContainer = keyword.equals("container") || keyword.equals("notification");
+        if (isKey || keyword.equals("module") || keyword.equals("submodule")
+                || (childOfContainerOrList && isContainer)) {
+            minOccurs = 1;
+            maxOccurs = 1;
+        }
+        if (isMandatory) {
+            minOccurs = 1;
+        }
+        if (isUnique || childOfContainerOrList || isContainer) {
+            maxOccurs = 1;
+        }
+        node.min_occurs = minOccurs;
+        node.max_occurs = maxOccurs;
+
+        List<String> children = new ArrayList<String>();
+        for (Statement ch : JncContext.search(stmt, JncContext.YANGELEMENT_OR_LEAF_STMTS)) {
+            children.add(camelize(ch.getArg()));
+        }
+        node.children = JavaValue.join(" ", children).split(" ");
+        node.flags = 0;
+        node.desc = "";
+        return node;
+    }
+
+    /**
+     * @return the lines of the node element of a schema node in the XML
+     * schema file
+     */
+    private static List<String> schemaLines(SchemaNode node) {
+        List<String> res = new ArrayList<String>();
+        String indent = JavaValue.spaces(8);
+        res.add(JavaValue.spaces(4) + "<node>");
+        String tagpath = node.tagpath.p.length == 0 ? "/" : "/" + JavaValue.join("/", Arrays.asList(node.tagpath.p))
+                + "/";
+        res.add(indent + "<tagpath>" + tagpath + "</tagpath>");
+        res.add(indent + "<namespace>" + node.namespace + "</namespace>");
+        res.add(indent + "<primitive_type>" + node.primitive_type + "</primitive_type>");
+        res.add(indent + "<min_occurs>" + node.min_occurs + "</min_occurs>");
+        res.add(indent + "<max_occurs>" + node.max_occurs + "</max_occurs>");
+        res.add(indent + "<children>" + JavaValue.join(" ", Arrays.asList(node.children)) + "</children>");
+        res.add(indent + "<flags>" + node.flags + "</flags>");
+        res.add(indent + "<desc>" + node.desc + "</desc>");
+        res.add(JavaValue.spaces(4) + "</node>");
+        return res;
+    }
+
+    /**
+     * Writes the package-info file of d and of the subdirectories of d
+     * generated for the children of stmt.
+     */
+    private void generatePackageInfo(String d, String pkg, Statement stmt) throws IOException {
+        String module = ctx.getModule(stmt).getArg();
+        ctx.writeFile(d, "package-info.java", PACKAGE_INFO.replace("{0}", " " + module).replace("{1}", "")
+                + pkg + ";");
+        String[] dirs = new File(d).list();
+        if (dirs == null) {
+            return;
+        }
+        List<Statement> stmts = JncContext.search(stmt, JncContext.NODE_STMTS);
+        for (String directory : dirs) {
+            if (directory.endsWith(".java")) {
+                continue;
+            }
+            for (Statement sub : stmts) {
+                if (normalize(sub.getArg()).equals(normalize(directory))) {
+                    generatePackageInfo(d + File.separator + directory, pkg + "." + directory, sub);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.airlenet.yang.codegen.jnc;
+
+import com.airlenet.yang.codegen.JncNames;
+import com.airlenet.yang.codegen.yang.Statement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.airlenet.yang.codegen.jnc.JncContext.normalize;
+
+/**
+ * Methods the parent class gets for leaf and leaf-list statements.
+ */
+class LeafMethodGenerator extends MethodGenerator {
+
+    private final Statement baseType;
+    private final Statement default_;
+    private final String[] typeStr;
+    private final boolean isString;
+    /* true if the type is derived from a typedef */
+    private final boolean typedefType;
+    final boolean isOptional;
+
+    LeafMethodGenerator(Statement stmt, JncContext ctx) {
+        super(stmt, ctx);
+        Statement stmtType = ctx.searchOne(stmt, "type");
+        this.baseType = ctx.getBaseType(stmtType);
+        this.default_ = ctx.searchOne(stmt, "default");
+        this.typeStr = ctx.getTypes(stmtType);
+        this.isString = typeStr[1].equals("String");
+        this.typedefType = stmtType.isTypeValidated() && stmtType.getTypedef() != null;
+        Statement key = ctx.searchOne(ctx.getParent(stmt), "key");
+        this.isOptional = key == null || !Arrays.asList(key.getArg().split(" ", -1)).contains(stmt.getArg());
+    }
+
+    /**
+     * @return the get&lt;Identifier&gt;Value method of a leaf
+     */
+    @Override
+    JavaValue leafField() {
+        String name = ctx.leafFieldName(stmt);
+        if (name == null) {
+            return null;
+        }
+        // exact, as the field has no getter
+        JavaValue res = new JavaValue(Arrays.asList(
+                "    /**",
+                "     * Field for child leaf \"" + stmt.getArg() + "\", set by childAdded.",
+                "     */",
+                "    private Leaf " + name + " = null;"));
+        res.addDependency("com.tailf.jnc.Leaf");
+        return res;
+    }
+
+    @Override
+    List<JavaMethod> getters() {
+        JavaMethod method = new JavaMethod();
+        String leafField = ctx.leafFieldName(stmt);
+        String value = leafField != null ? "leafValue(" + leafField + ")" : "getValue(\"" + stmt.getArg() + "\")";
+        method.setRawReturnType(typeStr[0]);
+        method.setName("get" + n + "Value");
+        method.addException("JNCException");
+        String keyword = stmt.getKeyword();
+        if (typeStr[0].equals("com.tailf.jnc.YangEmpty")) {
+            method.addJavadoc("Searches for " + keyword + " \"" + stmt.getArg() + "\".");
+            method.addJavadoc("@return A YangEmpty object if " + keyword + " exists; <code>null</code> otherwise.");
+        } else {
+            method.addJavadoc("Gets the value for child " + keyword + " \"" + stmt.getArg() + "\".");
+            method.addJavadoc("@return The value of the " + keyword + ".");
+        }
+        if (default_ != null) {
+            String returnType = method.returnType;
+            method.addLine(returnType + " " + n2 + " = (" + returnType + ")" + value + ";");
+            method.addLine("if (" + n2 + " == null) {");
+            StringBuilder newValue = new StringBuilder("    " + n2 + " = new " + returnType + "(\""
+                    + default_.getArg().replace("\\", "\\\\"));
+            if (typeStr[0].equals("com.tailf.jnc.YangUnion")) {
+                newValue.append("\", new String[] {  // default\n");
+                for (Statement typeStmt : JncContext.search(baseType, "type")) {
+                    newValue.append(JavaValue.spaces(16)).append("\"").append(ctx.getTypes(typeStmt)[0])
+                            .append("\",\n");
+                }
+                newValue.append(JavaValue.spaces(12)).append("});");
+            } else if (typeStr[0].equals("com.tailf.jnc.YangEnumeration")) {
+                newValue.append("\", new String[] {  // default\n");
+                for (Statement enum_ : JncContext.search(baseType, "enum")) {
+                    newValue.append(JavaValue.spaces(16)).append("\"").append(enum_.getArg()).append("\",\n");
+                }
+                newValue.append(JavaValue.spaces(12)).append("});");
+            } else if (typeStr[0].equals("com.tailf.jnc.YangBits")) {
+                newValue.append("\",  // default");
+                method.addLine(newValue.toString());
+                String[] bits = bits(baseType, "        ");
+                method.addLine("        new java.math.BigInteger(\"" + bits[0] + "\"),");
+                method.addLine(bits[1]);
+                method.addLine(bits[2]);
+                newValue = new StringBuilder("    );");
+            } else if (typeStr[0].equals("com.tailf.jnc.YangDecimal64")) {
+                Statement fractionDigits = ctx.searchOne(baseType, "fraction-digits");
+                newValue.append("\", ").append(fractionDigits.getArg()).append(");  // default");
+            } else {
+                newValue.append("\");  // default");
+            }
+            method.addLine(newValue.toString());
+            method.addLine("}");
+            method.addLine("return " + n2 + ";");
+        } else {
+            method.addLine("return (" + method.returnType + ")" + value + ";");
+        }
+        return Collections.singletonList(fixImports(method, true));
+    }
+
+    /**
+     * @return set&lt;Identifier&gt;Value methods from a jnc value, a string
+     * and, unless the type is a string, a primitive value
+     */
+    @Override
+    List<JavaMethod> setters() {
+        String name = "set" + n + "Value";
+        int numMethods = 2 + (isString ? 0 : 1);
+        String valueType = typeStr[0];
+        List<JavaMethod> res = new ArrayList<JavaMethod>();
+        for (int i = 0; i < numMethods; i++) {
+            res.add(new JavaMethod(name));
+        }
+        for (int i = 0; i < res.size(); i++) {
+            JavaMethod method = res.get(i);
+            String paramName = n2 + "Value";
+            List<String> paramTypes;
+            method.addException("JNCException");
+            method.addJavadoc("Sets the value for child " + stmt.getKeyword() + " \"" + stmt.getArg() + "\",");
+            if (i == 0) {
+                paramTypes = Collections.singletonList(valueType);
+                if (!typedefType) {
+                    method.addJavadoc("using instance of generated typedef class.");
+                } else {
+                    method.addJavadoc("using a JNC type value.");
+                }
+                method.addJavadoc("@param " + paramName + " The value to set.");
+                String leafField = ctx.leafFieldName(stmt);
+                if (leafField != null) {
+                    method.addLine("if (" + leafField + " != null) {");
+                    method.addLine("    " + leafField + ".setValue(" + paramName + ");");
+                    method.addLine("    return;");
+                    method.addLine("}");
+                }
+                method.addLine("set" + normalize(stmt.getKeyword()) + "Value(" + root + ".NAMESPACE,");
+                method.addDependency(root);
+                method.addLine("    \"" + stmt.getArg() + "\",");
+                method.addLine("    " + paramName + ",");
+                method.addLine("    sharedChildrenNames());");
+            } else if (typeStr[0].equals("com.tailf.jnc.YangEmpty")) {
+                method.addJavadoc("by instantiating it (value n/a).");
+                paramTypes = Collections.emptyList();
+                method.addParameter("String", paramName);
+                method.addJavadoc("@param " + paramName + " ignored.");
+                method.addLine(name + "(new " + method.addDependency(valueType) + "());");
+            } else {
+                StringBuilder line = new StringBuilder(name + "(new " + valueType + "(" + paramName);
+                if (!isString && i == 1) {
+                    paramTypes = Collections.singletonList(typeStr[1]);
+                    method.addJavadoc("using Java primitive values.");
+                } else {
+                    paramTypes = Collections.singletonList("String");
+                    method.addJavadoc("using a String value.");
+                }
+                if (typeStr[0].equals("com.tailf.jnc.YangUnion")) {
+                    line.append(", new String[] {");
+                    method.addLine(line.toString());
+                    for (Statement typeStmt : JncContext.search(baseType, "type")) {
+                        method.addLine("     \"" + ctx.getTypes(typeStmt)[0] + "\",");
+                    }
+                    line = new StringBuilder("}");
+                } else if (typeStr[0].equals("com.tailf.jnc.YangEnumeration")) {
+                    line.append(", new String[] {");
+                    method.addLine(line.toString());
+                    for (Statement enum_ : JncContext.search(baseType, "enum")) {
+                        method.addLine("     \"" + enum_.getArg() + "\",");
+                    }
+                    line = new StringBuilder("}");
+                } else if (typeStr[0].equals("com.tailf.jnc.YangBits")) {
+                    line.append(",");
+                    method.addLine(line.toString());
+                    String[] bits = bits(baseType, "    ");
+                    method.addLine("    new java.math.BigInteger(\"" + bits[0] + "\"),");
+                    method.addLine(bits[1]);
+                    method.addLine(bits[2]);
+                    line = new StringBuilder();
+                } else if (typeStr[0].equals("com.tailf.jnc.YangDecimal64")) {
+                    Statement fracDigits = ctx.searchOne(baseType, "fraction-digits");
+                    line.append(", ").append(fracDigits.getArg());
+                }
+                line.append("));");
+                method.addLine(line.toString());
+            }
+            for (String paramType : paramTypes) {
+                method.addParameter(paramType, paramName, false);
+                method.addJavadoc("@param " + paramName + " used during instantiation.");
+            }
+            fixImports(method, true);
+        }
+        return res;
+    }
+
+    /**
+     * @return the unset&lt;Identifier&gt;Value method of a leaf
+     */
+    @Override
+    JavaMethod unsetter() {
+        if (!isLeaf) {
+            return null;
+        }
+        JavaMethod method = new JavaMethod();
+        method.addJavadoc("Unsets the value for child " + stmt.getKeyword() + " \"" + stmt.getArg() + "\".");
+        method.setName("unset" + n + "Value");
+        method.addException("JNCException");
+        method.addLine("delete(\"" + stmt.getArg() + "\");");
+        return fixImports(method, true);
+    }
+
+    /**
+     * @return methods creating or deleting a leaf-list entry, from a jnc
+     * value or a string
+     */
+    private List<JavaMethod> parentMethod(String methodType) {
+        List<JavaMethod> res = new ArrayList<JavaMethod>();
+        for (int i = 0; i < 2; i++) {
+            res.add(parentTemplate(methodType));
+        }
+        for (int i = 0; i < res.size(); i++) {
+            JavaMethod method = res.get(i);
+            method.addJavadoc(JncNames.capitalizeFirst(methodType) + "s " + stmt.getKeyword() + " entry \"" + n2
+                    + "\".");
+            if (i == 1) {
+                method.addJavadoc("The value is specified as a string.");
+            }
+            method.addJavadoc("@param " + n2 + "Value Value to " + methodType + ".");
+            String paramType = i == 0 ? typeStr[0] : "String";
+            method.addParameter(paramType, n2 + "Value");
+            method.addLine("String path = \"" + stmt.getArg() + "[" + n2 + "Value]\";");
+            if (methodType.equals("delete")) {
+                method.addLine("delete(path);");
+            } else {
+                method.addLine("insertChild(path);");
+            }
+            fixImports(method, true);
+        }
+        return res;
+    }
+
+    @Override
+    List<JavaMethod> deleters() {
+        return parentMethod("delete");
+    }
+
+    /**
+     * @return the add&lt;Identifier&gt; method creating a leaf without value
+     * for subtree filters
+     */
+    @Override
+    List<JavaMethod> adders() {
+        JavaMethod method = new JavaMethod("add" + n);
+        method.addException("JNCException");
+        method.addJavadoc("This method is used for creating a subtree filter.");
+        method.addJavadoc("The added \"" + stmt.getArg() + "\" " + stmt.getKeyword() + " will not have a value.");
+        method.addLine("set" + normalize(stmt.getKeyword()) + "Value(" + root + ".NAMESPACE,");
+        method.addLine("    \"" + stmt.getArg() + "\",");
+        method.addLine("    null,");
+        method.addLine("    sharedChildrenNames());");
+        return Collections.singletonList(fixImports(method, true));
+    }
+
+    @Override
+    List<List<JavaMethod>> markers() {
+        List<List<JavaMethod>> res = new ArrayList<List<JavaMethod>>();
+        for (String op : new String[]{"replace", "merge", "create", "delete", "remove"}) {
+            res.add(mark(op));
+        }
+        return res;
+    }
+
+    private List<JavaMethod> mark(String op) {
+        List<JavaMethod> markMethods = new ArrayList<JavaMethod>();
+        markMethods.add(new JavaMethod());
+        if (!isString && isLeaflist) {
+            markMethods.add(new JavaMethod());
+        }
+        for (int i = 0; i < markMethods.size(); i++) {
+            JavaMethod markMethod = markMethods.get(i);
+            markMethod.setName("mark" + n + normalize(op));
+            markMethod.addException("JNCException");
+            String path = stmt.getArg();
+            markMethod.addJavadoc("Marks the " + stmt.getKeyword() + " \"" + stmt.getArg() + "\" with operation \""
+                    + op + "\".");
+            if (isLeaflist) {
+                path += "[name='\" + " + n2 + "Value + \"']";
+                String javadoc = "@param " + n2 + "Value The value to mark";
+                String paramType = typeStr[0];
+                if (i == 1) {
+                    javadoc += ", given as a String";
+                    paramType = "String";
+                }
+                markMethod.addParameter(paramType, n2 + "Value");
+                markMethod.addJavadoc(javadoc);
+            }
+            markMethod.addLine("markLeaf" + normalize(op) + "(\"" + path + "\");");
+            fixImports(markMethod, true);
+        }
+        return markMethods;
+    }
+}
@@ -0,0 +1,194 @@
+package com.airlenet.yang.codegen.jnc;
+
+import com.airlenet.yang.codegen.JncNames;
+import com.airlenet.yang.codegen.yang.Statement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.airlenet.yang.codegen.jnc.JncContext.camelize;
+
+/**
+ * Methods of the classes generated from list statements, and of their
+ * parent classes.
+ */
+class ListMethodGenerator extends MethodGenerator {
+
+    private List<String> keys = new ArrayList<String>();
+    private final boolean isString;
+
+    ListMethodGenerator(Statement stmt, JncContext ctx) {
+        super(stmt, ctx);
+        this.isConfig = ctx.isConfig(stmt);
+        if (isConfig) {
+            Statement key = ctx.searchOne(stmt, "key");
+            if (key != null) {
+                keys = Arrays.asList(key.getArg().split(" ", -1));
+            } else {
+                // is_config produced wrong value
+                isConfig = false;
+            }
+        }
+        keyStmts = new ArrayList<Statement>();
+        for (String k : keys) {
+            keyStmts.add(ctx.searchOne(stmt, "leaf", k));
+        }
+        boolean allNotString = true;
+        for (Statement k : keyStmts) {
+            if (ctx.getTypes(k)[1].equals("String")) {
+                allNotString = false;
+                break;
+            }
+        }
+        this.isString = !allNotString;
+    }
+
+    /**
+     * @return the constructors from key values of configuration data lists
+     */
+    private List<JavaMethod> valueConstructors() {
+        List<JavaMethod> constructors = new ArrayList<JavaMethod>();
+        int numberOfValueConstructors = 2 + (isString ? 0 : 1);
+        String javadoc1 = "Constructor for an initialized " + n + " object,";
+        List<String> javadoc2 = new ArrayList<String>(Arrays.asList("", "with String keys."));
+        if (!isString) {
+            javadoc2.add("with keys of built in Java types.");
+        }
+        for (int i = 0; i < numberOfValueConstructors; i++) {
+            JavaMethod constructor = constructorTemplate();
+            constructor.addJavadoc(javadoc1);
+            constructor.addJavadoc(javadoc2.get(i));
+            constructor.addException("JNCException");
+            for (Statement key : keyStmts) {
+                String keyArg = camelize(key.getArg());
+                Statement keyType = ctx.searchOne(key, "type");
+                String[] types = ctx.getTypes(keyType);
+                String jnc1 = types[0];
+                String primitive = types[1];
+                String jnc = constructor.addDependency(jnc1);
+                constructor.addJavadoc("@param " + keyArg + "Value Key argument of child.");
+                constructor.addDependency("Leaf");
+                constructor.addLine("Leaf " + keyArg + " = new Leaf" + rootNamespace(key.getArg()));
+                String paramType;
+                if (i == 0) {
+                    paramType = jnc1;
+                    constructor.addLine(keyArg + ".setValue(" + keyArg + "Value);");
+                } else {
+                    String setValue = keyArg + ".setValue(" + "new " + jnc1 + "(" + keyArg + "Value";
+                    if (jnc.equals("YangUnion")) {
+                        StringBuilder sb = new StringBuilder(setValue).append(", new String [] {");
+                        for (Statement typeStmt : JncContext.search(keyType, "type")) {
+                            sb.append("\"").append(ctx.getTypes(typeStmt)[0]).append("\", ");
+                        }
+                        sb.append("}));");
+                        constructor.addLine(sb.toString());
+                    } else if (jnc.equals("YangEnumeration")) {
+                        StringBuilder sb = new StringBuilder(setValue).append(", new String [] {");
+                        for (Statement enum_ : JncContext.search(keyType, "enum")) {
+                            sb.append("\"").append(enum_.getArg()).append("\", ");
+                        }
+                        sb.append("}));");
+                        constructor.addLine(sb.toString());
+                    } else if (jnc.equals("YangBits")) {
+                        constructor.addLine(setValue + ",");
+                        String[] bits = bits(keyType, "    ");
+                        constructor.addLine("    new java.math.BigInteger(\"" + bits[0] + "\"),");
+                        constructor.addDependency("java.math.BigInteger");
+                        constructor.addLine(bits[1]);
+                        constructor.addLine(bits[2]);
+                        constructor.addLine("));");
+                    } else if (jnc.equals("YangDecimal64")) {
+                        Statement fracDigits = ctx.searchOne(keyType, "fraction-digits");
+                        constructor.addLine(setValue + ", " + fracDigits.getArg() + "));");
+                    } else {
+                        constructor.addLine(setValue + "));");
+                    }
+                    paramType = i == 1 ? "String" : primitive;
+                }
+                constructor.addParameter(paramType, keyArg + "Value", !n2.equals(keyArg));
+                constructor.addLine("insertChild(" + keyArg + ", sharedChildrenNames());");
+            }
+            constructors.add(fixImports(constructor));
+        }
+        return constructors;
+    }
+
+    @Override
+    List<JavaMethod> constructors() {
+        List<JavaMethod> constructors = new ArrayList<JavaMethod>();
+        constructors.add(emptyConstructor());
+        if (isConfig || !keys.isEmpty()) {
+            constructors.addAll(valueConstructors());
+        }
+        return constructors;
+    }
+
+    /**
+     * @return methods getting or deleting a list entry of the parent, with
+     * the keys given as jnc types and, for configuration data, as strings
+     */
+    private List<JavaMethod> parentMethod(String methodType) {
+        int numMethods = isConfig ? 2 : 1;
+        List<JavaMethod> res = new ArrayList<JavaMethod>();
+        for (int i = 0; i < numMethods; i++) {
+            res.add(parentTemplate(methodType));
+        }
+        for (int i = 0; i < res.size(); i++) {
+            JavaMethod method = res.get(i);
+            String javadoc1 = JncNames.capitalizeFirst(methodType) + "s " + stmt.getKeyword() + " entry \"" + n2
+                    + "\", with specified keys.";
+            List<String> javadoc2 = new ArrayList<String>();
+            StringBuilder path = new StringBuilder("String path = \"" + stmt.getArg());
+            if (i == 1) {
+                javadoc2.add("The keys are specified as strings.");
+            }
+            for (Statement key : keyStmts) {
+                String keyArg = camelize(key.getArg());
+                javadoc2.add("@param " + keyArg + "Value Key argument of child.");
+                String paramType = "String";
+                if (i == 0) {
+                    paramType = ctx.getTypes(key)[0];
+                }
+                method.addParameter(paramType, keyArg + "Value", false);
+                path.append("[").append(key.getArg()).append("='\" + ").append(keyArg).append("Value + \"']");
+            }
+            path.append("\";");
+            method.addJavadoc(javadoc1);
+            for (String javadoc : javadoc2) {
+                method.addJavadoc(javadoc);
+            }
+            method.addLine(path.toString());
+            if (methodType.equals("delete")) {
+                method.setReturnType("void");
+                method.addLine("delete(path);");
+            } else {
+                method.addLine("return (" + n + ")searchOne(path);");
+            }
+            fixImports(method, true);
+        }
+        return res;
+    }
+
+    @Override
+    List<JavaMethod> deleters() {
+        return parentMethod("delete");
+    }
+
+    @Override
+    List<JavaMethod> getters() {
+        return parentMethod("get");
+    }
+
+    @Override
+    List<Object> parentAccessMethods() {
+        List<Object> res = new ArrayList<Object>();
+        res.add(accessMethodsComment());
+        res.addAll(getters());
+        res.add(childIterator());
+        res.add(childList());
+        res.addAll(adders());
+        res.addAll(deleters());
+        return res;
+    }
+}
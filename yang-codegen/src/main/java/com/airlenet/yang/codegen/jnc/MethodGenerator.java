@@ -0,0 +1,810 @@
+package com.airlenet.yang.codegen.jnc;
+
+import com.airlenet.yang.codegen.yang.Statement;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.airlenet.yang.codegen.jnc.JncContext.camelize;
+import static com.airlenet.yang.codegen.jnc.JncContext.normalize;
+
+/**
+ * Generates the methods of the class of a statement, and the methods its
+ * parent class gets for it. Port of MethodGenerator in jnc.py, the
+ * statement specific parts are in the subclasses {@link #of} picks.
+ */
+abstract class MethodGenerator {
+
+    private static final Pattern WORD = Pattern.compile("\\w+");
+
+    final Statement stmt;
+    final JncContext ctx;
+    final String n;
+    final String n2;
+    final List<String> children = new ArrayList<String>();
+    final Statement moduleStmt;
+    final String root;
+    final String parentN;
+    final String pkg;
+    final String basepkg;
+    final List<String> rootpkg;
+    final boolean isContainer;
+    final boolean isList;
+    final boolean isTypedef;
+    final boolean isLeaf;
+    final boolean isLeaflist;
+    final boolean isTopLevel;
+    final boolean isAugmented;
+    /* set by ListMethodGenerator */
+    boolean isConfig;
+    List<Statement> keyStmts = Collections.emptyList();
+
+    MethodGenerator(Statement stmt, JncContext ctx) {
+        this.stmt = stmt;
+        this.ctx = ctx;
+        this.n = normalize(stmt.getArg());
+        this.n2 = camelize(stmt.getArg());
+        for (Statement s : JncContext.search(stmt, JncContext.YANGELEMENT_OR_LEAF_STMTS)) {
+            children.add(normalize(s.getArg()));
+        }
+        this.moduleStmt = ctx.getModule(stmt);
+        this.root = normalize(ctx.searchOne(moduleStmt, "prefix").getArg());
+        this.parentN = normalize(stmt.getParent().getArg());
+        this.pkg = ctx.getPackage(stmt);
+        int dot = pkg.indexOf('.');
+        this.basepkg = dot < 0 ? pkg : pkg.substring(0, dot);
+        this.rootpkg = new ArrayList<String>(Arrays.asList(ctx.rootpkg.split(Pattern.quote(File.separator), -1)));
+        if (!rootpkg.isEmpty() && rootpkg.get(0).equals("java")) {
+            rootpkg.remove(0);
+        }
+        rootpkg.add(camelize(moduleStmt.getArg()));
+        String keyword = stmt.getKeyword();
+        this.isContainer = keyword.equals("container") || keyword.equals("notification");
+        this.isList = keyword.equals("list");
+        this.isTypedef = keyword.equals("typedef");
+        this.isLeaf = keyword.equals("leaf");
+        this.isLeaflist = keyword.equals("leaf-list");
+        this.isTopLevel = ctx.getParent(stmt) == moduleStmt;
+        this.isAugmented = moduleStmt != ctx.getModule(stmt.getParent());
+        if (!(isContainer || isList || isTypedef || isLeaf || isLeaflist)) {
+            throw new IllegalArgumentException("no methods are generated for " + stmt);
+        }
+    }
+
+    /**
+     * @return the generator for the keyword of stmt
+     */
+    static MethodGenerator of(Statement stmt, JncContext ctx) {
+        String keyword = stmt.getKeyword();
+        if (keyword.equals("typedef")) {
+            return new TypedefMethodGenerator(stmt, ctx);
+        } else if (keyword.equals("container") || keyword.equals("notification")) {
+            return new ContainerMethodGenerator(stmt, ctx);
+        } else if (keyword.equals("list")) {
+            return new ListMethodGenerator(stmt, ctx);
+        }
+        return new LeafMethodGenerator(stmt, ctx);
+    }
+
+    /**
+     * @return a class that can be imported in java for a class name used by
+     * a generated method
+     */
+    String canonicalImport(String import_, boolean child) {
+        if (import_.equals(root)) {
+            List<String> parts = new ArrayList<String>(rootpkg);
+            parts.add(import_);
+            return JavaValue.join(".", parts);
+        } else if (children.contains(import_)) {
+            Statement typeChild = ctx.searchOne(stmt, "type");
+            if (typeChild != null && normalize(typeChild.getArg()).equals(import_)) {
+                String typedefPkg = typeChild.isTypeValidated() ? ctx.getPackage(typeChild.getTypedef())
+                        : ctx.getPackage(typeChild);
+                return typedefPkg + "." + import_;
+            }
+            return pkg + "." + n2 + "." + import_;
+        } else if (child && import_.equals(n)) {
+            return pkg + "." + import_;
+        }
+        return JncContext.getImport(import_);
+    }
+
+    <T extends JavaValue> T fixImports(T method) {
+        return fixImports(method, false);
+    }
+
+    /**
+     * Replaces the dependencies of method by the classes to import for them.
+     */
+    <T extends JavaValue> T fixImports(T method, boolean child) {
+        Set<String> res = new HashSet<String>();
+        for (String dependency : method.imports) {
+            if (dependency.startsWith("java.math") || dependency.startsWith("java.util")
+                    || dependency.startsWith("javax.xml") || dependency.startsWith("com.tailf.jnc")
+                    || dependency.startsWith(basepkg)) {
+                res.add(dependency);
+            } else if (dependency.endsWith(">")) {
+                Matcher m = WORD.matcher(dependency);
+                while (m.find()) {
+                    res.add(canonicalImport(m.group(), child));
+                }
+            } else if (dependency.endsWith("]")) {
+                res.add(canonicalImport(dependency.substring(0, dependency.length() - 2), child));
+            } else {
+                res.add(canonicalImport(dependency, child));
+            }
+        }
+        method.imports = res;
+        return method;
+    }
+
+    String rootNamespace(String stmtArg) {
+        return "(" + root + ".NAMESPACE, \"" + stmtArg + "\");";
+    }
+
+    /**
+     * @return a constructor invoking the parent constructor, without
+     * parameters and javadoc
+     */
+    JavaMethod constructorTemplate() {
+        JavaMethod constructor = new JavaMethod(Collections.singletonList("public"), null, n);
+        constructor.setReturnType(null);
+        if (isContainer || isList) {
+            constructor.addDependency(root);
+            constructor.addLine("super" + rootNamespace(stmt.getArg()));
+            if (isTopLevel || isAugmented) {
+                constructor.addLine("setDefaultPrefix();");
+                constructor.addLine("setPrefix(" + root + ".PREFIX);");
+            }
+        } else if (isTypedef) {
+            constructor.addLine("super(value);");
+        } else {
+            return null;
+        }
+        return fixImports(constructor);
+    }
+
+    /**
+     * @return a java comment structuring the access methods of a child
+     */
+    JavaValue accessMethodsComment() {
+        List<String> res = new ArrayList<String>();
+        res.add("    /* Access methods for");
+        if (this instanceof LeafMethodGenerator && ((LeafMethodGenerator) this).isOptional) {
+            res.add("optional");
+        }
+        res.add(stmt.getKeyword());
+        res.add("child: \"" + stmt.getArg() + "\". */");
+        return new JavaValue(new ArrayList<String>(Collections.singletonList(JavaValue.join(" ", res))));
+    }
+
+    JavaMethod emptyConstructor() {
+        JavaMethod constructor = constructorTemplate();
+        constructor.addJavadoc("Constructor for an empty " + n + " object.");
+        return fixImports(constructor);
+    }
+
+    List<JavaMethod> constructors() {
+        return null;
+    }
+
+    List<JavaMethod> cloners() {
+        List<JavaMethod> cloners = new ArrayList<JavaMethod>();
+        if (isTypedef || isLeaf || isLeaflist) {
+            return cloners;
+        }
+        String[] a = {" an exact ", " a shallow "};
+        String[] b = {"", " Children are not included."};
+        String[] c = {"", "Shallow"};
+        String keys = "";
+        if (isList) {
+            List<String> getterCalls = new ArrayList<String>();
+            for (Statement keyStmt : keyStmts) {
+                getterCalls.add("get" + normalize(keyStmt.getArg()) + "Value().toString()");
+            }
+            keys = JavaValue.join(", ", getterCalls);
+        }
+        for (int i = 0; i < 2; i++) {
+            JavaMethod cloner = new JavaMethod();
+            cloner.addJavadoc("Clones this object, returning" + a[i] + "copy.");
+            cloner.addJavadoc("@return A clone of the object." + b[i]);
+            cloner.returnType = n;
+            cloner.setName("clone" + c[i]);
+            String copy = "new " + n + "(" + keys + ")";
+            if (isList && isConfig) {
+                cloner.addLine(n + " copy;");
+                cloner.addLine("try {");
+                cloner.addLine("    copy = " + copy + ";");
+                cloner.addLine("} catch (JNCException e) {");
+                cloner.addLine("    copy = null;");
+                cloner.addLine("}");
+                copy = "copy";
+            }
+            cloner.addLine("return (" + n + ")clone" + c[i] + "Content(" + copy + ");");
+            cloners.add(fixImports(cloner));
+        }
+        return cloners;
+    }
+
+    /**
+     * @return a keyNames method for a list or container, null otherwise
+     */
+    JavaMethod keyNames() {
+        if (!(isList || isContainer)) {
+            return null;
+        }
+        JavaMethod method = new JavaMethod(Collections.singletonList("public"), null, "keyNames");
+        method.setReturnType("String[]");
+        method.addJavadoc("@return An array with the identifiers of any key children");
+        if (isContainer || !isConfig) {
+            method.addLine("return null;");
+        } else {
+            method.addLine("return KEY_NAMES.clone();");
+        }
+        return fixImports(method);
+    }
+
+    /**
+     * @return a sharedKeyNames method for a list with keys, null otherwise
+     */
+    JavaMethod sharedKeyNames() {
+        if (!isList || !isConfig) {
+            return null;
+        }
+        JavaMethod method = new JavaMethod(Collections.singletonList("protected"), null, "sharedKeyNames");
+        method.setReturnType("String[]");
+        method.addJavadoc("@return The identifiers of the key children, not to be modified.");
+        method.addLine("return KEY_NAMES;");
+        return fixImports(method);
+    }
+
+    /**
+     * @return the static fields holding the key names, children names and
+     * children ordinals returned by the name getters, empty for other than
+     * a list or container
+     */
+    List<JavaValue> nameArrays() {
+        if (!(isList || isContainer)) {
+            return Collections.emptyList();
+        }
+        List<JavaValue> res = new ArrayList<JavaValue>();
+        if (isList && isConfig) {
+            List<String> lines = new ArrayList<String>();
+            lines.add("    private static final String[] KEY_NAMES = {");
+            for (Statement keyStmt : keyStmts) {
+                lines.add("        \"" + keyStmt.getArg() + "\",");
+            }
+            lines.add("    };");
+            res.add(new JavaValue(lines));
+        }
+        List<String> lines = new ArrayList<String>();
+        lines.add("    private static final String[] CHILDREN_NAMES = {");
+        for (Statement child : JncContext.search(stmt, JncContext.YANGELEMENT_OR_LEAF_STMTS)) {
+            lines.add("        \"" + child.getArg() + "\",");
+        }
+        lines.add("    };");
+        res.add(new JavaValue(lines));
+        res.add(new JavaValue(Arrays.asList(
+                "    private static final java.util.Map<String, Integer> CHILDREN_ORDINALS =",
+                "            ordinals(CHILDREN_NAMES);")));
+        return res;
+    }
+
+    /**
+     * @return a childrenNames method for a list or container, null otherwise
+     */
+    JavaMethod childrenNames() {
+        if (!(isList || isContainer)) {
+            return null;
+        }
+        JavaMethod method = new JavaMethod(Collections.singletonList("public"), null, "childrenNames");
+        method.setReturnType("String[]");
+        method.addJavadoc("@return An array with the identifiers of any children, in order.");
+        method.addLine("return CHILDREN_NAMES.clone();");
+        return fixImports(method);
+    }
+
+    /**
+     * @return a sharedChildrenNames method for a list or container, null
+     * otherwise
+     */
+    JavaMethod sharedChildrenNames() {
+        if (!(isList || isContainer)) {
+            return null;
+        }
+        JavaMethod method = new JavaMethod(Collections.singletonList("protected"), null, "sharedChildrenNames");
+        method.setReturnType("String[]");
+        method.addJavadoc("@return The identifiers of any children, in order, not to be modified.");
+        method.addLine("return CHILDREN_NAMES;");
+        return fixImports(method);
+    }
+
+    /**
+     * @return a childrenOrdinals method for a list or container, null
+     * otherwise
+     */
+    JavaMethod childrenOrdinals() {
+        if (!(isList || isContainer)) {
+            return null;
+        }
+        JavaMethod method = new JavaMethod(Collections.singletonList("protected"), null, "childrenOrdinals");
+        method.returnType = "java.util.Map<String, Integer>";
+        method.addJavadoc("@return The position of each identifier in sharedChildrenNames.");
+        method.addLine("return CHILDREN_ORDINALS;");
+        return fixImports(method);
+    }
+
+    /**
+     * @param fields names of the container children that have a field
+     * @return the addChild method setting the fields
+     */
+    JavaMethod supportMethod(Collection<String> fields) {
+        if (isTypedef || isLeaf || isLeaflist) {
+            return null;
+        }
+        JavaMethod addChild = new JavaMethod(Collections.singletonList("public"), "void", "addChild");
+        addChild.addParameter("Element", "child");
+        addChild.addJavadoc("Support method for addChild.");
+        addChild.addJavadoc("Adds a child to this object.");
+        addChild.addJavadoc("");
+        addChild.addJavadoc("@param child The child to add");
+        addChild.addLine("super.addChild(child);");
+        String cond = "";
+        for (String field : fields) {
+            int index = field.lastIndexOf('.');
+            if (index != -1) {
+                addChild.addLine(cond + "if (child instanceof " + field + ") " + camelize(field.substring(index + 1))
+                        + " = (" + field + ")child;");
+            } else {
+                addChild.addLine(cond + "if (child instanceof " + normalize(field) + ") " + camelize(field)
+                        + " = (" + normalize(field) + ")child;");
+            }
+            addChild.addDependency(normalize(field));
+            cond = "else ";
+        }
+        return fixImports(addChild);
+    }
+
+    /**
+     * @param fields names of the container children that have a field
+     * @return childAdded and childDeleted methods keeping the container
+     * fields and leaf fields in sync with the children, empty if leaf fields
+     * are not generated
+     */
+    List<JavaMethod> childHooks(Collection<String> fields) {
+        if (!(ctx.leafFields && (isList || isContainer))) {
+            return Collections.emptyList();
+        }
+        JavaMethod added = new JavaMethod(Collections.singletonList("protected"), null, "childAdded");
+        added.addParameter("Element", "child");
+        JavaMethod deleted = new JavaMethod(Collections.singletonList("protected"), null, "childDeleted");
+        deleted.addParameter("Element", "child");
+        added.addLine("super.childAdded(child);");
+        deleted.addLine("super.childDeleted(child);");
+        String cond = "";
+        for (String field : fields) {
+            int index = field.lastIndexOf('.');
+            String type;
+            String name;
+            if (index != -1) {
+                type = field;
+                name = camelize(field.substring(index + 1));
+            } else {
+                type = normalize(field);
+                name = camelize(field);
+            }
+            added.addLine(cond + "if (child instanceof " + type + ") " + name + " = (" + type + ")child;");
+            added.addDependency(normalize(field));
+            deleted.addLine(cond + "if (child == " + name + ") " + name + " = null;");
+            cond = "else ";
+        }
+        Map<String, String> leaves = new LinkedHashMap<String, String>();
+        for (Statement child : JncContext.search(stmt, "leaf")) {
+            String name = ctx.leafFieldName(child);
+            if (name != null && !leaves.containsKey(child.getArg())) {
+                leaves.put(child.getArg(), name);
+            }
+        }
+        if (fields.isEmpty() && leaves.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (!leaves.isEmpty()) {
+            added.addLine("switch (child.name) {");
+            for (Map.Entry<String, String> leaf : leaves.entrySet()) {
+                String name = leaf.getValue();
+                added.addLine("case \"" + leaf.getKey() + "\":");
+                added.addLine("    if (child instanceof Leaf) " + name + " = (Leaf)child;");
+                added.addLine("    break;");
+                deleted.addLine(cond + "if (child == " + name + ") " + name + " = null;");
+                cond = "else ";
+            }
+            added.addLine("}");
+            added.addDependency("Leaf");
+        }
+        added.addJavadoc("Support method for leaf fields.");
+        added.addJavadoc("Sets the field referring to an added child.");
+        deleted.addJavadoc("Support method for leaf fields.");
+        deleted.addJavadoc("Clears the field referring to a deleted child.");
+        return Arrays.asList(fixImports(added), fixImports(deleted));
+    }
+
+    private List<Statement> byNameSwitch(JavaMethod method, String var, Set<String> keywords) {
+        return byNameSwitch(method, var, keywords, "JNCException", "ReflectiveOperationException");
+    }
+
+    /**
+     * Adds a switch on the children of stmt with one of keywords to method,
+     * throwing exceptions.
+     *
+     * @return the children, null if there are none
+     */
+    private List<Statement> byNameSwitch(JavaMethod method, String var, Set<String> keywords,
+                                         String... exceptions) {
+        if (!(isList || isContainer)) {
+            return null;
+        }
+        List<Statement> children = new ArrayList<Statement>();
+        Set<String> names = new HashSet<String>();
+        for (Statement ch : JncContext.search(stmt, keywords)) {
+            if (names.add(ch.getArg())) {
+                children.add(ch);
+            }
+        }
+        if (children.isEmpty()) {
+            return null;
+        }
+        for (String exception : exceptions) {
+            method.addException(exception);
+        }
+        method.addLine("switch (" + var + ") {");
+        return children;
+    }
+
+    /**
+     * @return a setLeafValueByName method setting leaf values without
+     * reflection, null if there are no leaves
+     */
+    JavaMethod leafValueSetter() {
+        JavaMethod method = new JavaMethod(Collections.singletonList("protected"), null, "setLeafValueByName");
+        method.addParameter("String", "name");
+        method.addParameter("String", "value");
+        List<Statement> children = byNameSwitch(method, "name", JncContext.LEAF_STMTS);
+        if (children == null) {
+            return null;
+        }
+        method.addJavadoc("Support method for setLeafValue.");
+        method.addJavadoc("Sets the value of a leaf by name, without reflection.");
+        for (Statement child : children) {
+            method.addLine("case \"" + child.getArg() + "\":");
+            method.addLine("    set" + normalize(child.getArg()) + "Value(value);");
+            method.addLine("    break;");
+        }
+        method.addLine("default:");
+        method.addLine("    super.setLeafValueByName(name, value);");
+        method.addLine("}");
+        return fixImports(method);
+    }
+
+    /**
+     * @return a readLeafValue method reading leaf values from XML streams by
+     * their typed setters, null if unmarshallers are not generated or there
+     * are no leaves
+     */
+    JavaMethod leafValueReader() {
+        if (!ctx.unmarshallers) {
+            return null;
+        }
+        JavaMethod method = new JavaMethod(Collections.singletonList("protected"), "boolean", "readLeafValue");
+        method.addParameter("String", "name");
+        method.addParameter("javax.xml.stream.XMLStreamReader", "in");
+        List<Statement> children = byNameSwitch(method, "name", JncContext.LEAF_STMTS,
+                "JNCException", "javax.xml.stream.XMLStreamException");
+        if (children == null) {
+            return null;
+        }
+        method.addJavadoc("Support method for YangXMLParser.");
+        method.addJavadoc("Reads the value of a leaf by name, without adding it first.");
+        for (Statement child : children) {
+            method.addLine("case \"" + child.getArg() + "\":");
+            method.addLine("    set" + normalize(child.getArg()) + "Value(in.getElementText());");
+            method.addLine("    return true;");
+        }
+        method.addLine("default:");
+        method.addLine("    return super.readLeafValue(name, in);");
+        method.addLine("}");
+        return fixImports(method);
+    }
+
+    /**
+     * @return an addChildByName method adding children without reflection,
+     * null if there are no children
+     */
+    JavaMethod childAdder() {
+        JavaMethod method = new JavaMethod(Collections.singletonList("protected"), "Element", "addChildByName");
+        method.addParameter("String", "childName");
+        List<Statement> children = byNameSwitch(method, "childName", JncContext.YANGELEMENT_OR_LEAF_STMTS);
+        if (children == null) {
+            return null;
+        }
+        method.addJavadoc("Support method for createInstance.");
+        method.addJavadoc("Adds a child by name, without reflection.");
+        method.addJavadoc("");
+        method.addJavadoc("@return The added child, or null if it is a leaf.");
+        for (Statement child : children) {
+            if (child.getKeyword().equals("notification")) {
+                continue; // No adder, left to reflection
+            }
+            method.addLine("case \"" + child.getArg() + "\":");
+            if (JncContext.LEAF_STMTS.contains(child.getKeyword())) {
+                method.addLine("    add" + normalize(child.getArg()) + "();");
+                method.addLine("    return null;");
+            } else {
+                method.addLine("    return add" + normalize(child.getArg()) + "();");
+            }
+        }
+        method.addLine("default:");
+        method.addLine("    return super.addChildByName(childName);");
+        method.addLine("}");
+        return fixImports(method);
+    }
+
+    /**
+     * @return an encodeChild method writing the leaves to XML without prefix
+     * lookups, and the values of types that never need escaping as they are,
+     * null if marshallers are not generated or there are no leaves
+     */
+    JavaMethod childEncoder() {
+        if (!(ctx.marshallers && (isList || isContainer))) {
+            return null;
+        }
+        Map<String, Boolean> leaves = new LinkedHashMap<String, Boolean>();
+        for (Statement child : JncContext.search(stmt, JncContext.LEAF_STMTS)) {
+            if (!leaves.containsKey(child.getArg())) {
+                String primitive = ctx.getTypes(child)[1];
+                leaves.put(child.getArg(), !JncContext.UNESCAPED_PRIMITIVES.contains(primitive));
+            }
+        }
+        if (leaves.isEmpty()) {
+            return null;
+        }
+        JavaMethod method = new JavaMethod(Collections.singletonList("protected"), null, "encodeChild");
+        method.addParameter("StringBuilder", "out");
+        method.addParameter("Element", "child");
+        method.addParameter("String", "prefix");
+        method.addException("JNCException");
+        method.addJavadoc("Support method for encode.");
+        method.addJavadoc("Writes leaf children without prefix lookups.");
+        method.addLine("if (isPlainLeaf(child, prefix)) {");
+        method.addLine("    switch (child.name) {");
+        for (Map.Entry<String, Boolean> leaf : leaves.entrySet()) {
+            method.addLine("    case \"" + leaf.getKey() + "\":");
+            method.addLine("        encodeLeaf(out, child, prefix, " + leaf.getValue() + ");");
+            method.addLine("        return;");
+        }
+        method.addLine("    }");
+        method.addLine("}");
+        method.addLine("super.encodeChild(out, child, prefix);");
+        return fixImports(method);
+    }
+
+    /**
+     * @return the setters the parent class gets for the statement, none for
+     * containers and lists
+     */
+    List<JavaMethod> setters() {
+        return Collections.emptyList();
+    }
+
+    JavaMethod unsetter() {
+        return null;
+    }
+
+    List<JavaMethod> checker() {
+        return null;
+    }
+
+    /**
+     * @return the groups of methods marking the statement for an operation
+     * in its parent class, none for containers, lists and typedefs
+     */
+    List<List<JavaMethod>> markers() {
+        return Collections.emptyList();
+    }
+
+    JavaValue childField() {
+        return null;
+    }
+
+    /**
+     * @return the field referring to a leaf in the class of its parent, null
+     * if leaf fields are not generated
+     */
+    JavaValue leafField() {
+        return null;
+    }
+
+    /**
+     * @return an access method for the statement, to be completed
+     */
+    JavaMethod parentTemplate(String methodType) {
+        JavaMethod method = new JavaMethod();
+        if (isContainer || isList) {
+            method.setReturnType(n);
+        }
+        method.setName(methodType + n);
+        method.addException("JNCException");
+        return fixImports(method, true);
+    }
+
+    /**
+     * @return the methods adding an instance of the class of the statement
+     * to its parent class
+     */
+    List<JavaMethod> adders() {
+        if (!(isContainer || isList)) {
+            return null;
+        }
+        int numberOfAdders = isList && isConfig ? 4 : 2;
+        List<JavaMethod> res = new ArrayList<JavaMethod>();
+        for (int i = 0; i < numberOfAdders; i++) {
+            res.add(parentTemplate("add"));
+        }
+        for (int i = 0; i < res.size(); i++) {
+            JavaMethod method = res.get(i);
+            StringBuilder javadoc1 = new StringBuilder("Adds " + stmt.getKeyword() + " entry \"" + n2 + "\"");
+            List<String> javadoc2 = new ArrayList<String>();
+            boolean withKeys = isList && (i == 1 || i == 2) && res.size() == 4;
+            if (i == 0) {
+                javadoc1.append(", using an existing object.");
+                javadoc2.add("@param " + n2 + " The object to add.");
+                method.addParameter(n, n2);
+            } else if (withKeys) {
+                javadoc1.append(", with specified keys.");
+                if (i == 2) {
+                    javadoc2.add("The keys are specified as strings.");
+                }
+                List<String> keys = new ArrayList<String>();
+                for (Statement keyStmt : keyStmts) {
+                    String keyArg = camelize(keyStmt.getArg()) + "Value";
+                    javadoc2.add("@param " + keyArg + " Key argument of child.");
+                    String paramType = ctx.getTypes(keyStmt)[0];
+                    if (i == 2) {
+                        paramType = "String";
+                    }
+                    method.addParameter(paramType, keyArg, false);
+                    keys.add(keyArg);
+                }
+                method.addLine(n + " " + n2 + " = new " + n + "(" + JavaValue.join(", ", keys) + ");");
+            } else {
+                javadoc1.append(".");
+                javadoc2.add("This method is used for creating subtree filters.");
+                method.addLine(n + " " + n2 + " = new " + n + "();");
+            }
+            method.addJavadoc(javadoc1.toString());
+            for (String javadoc : javadoc2) {
+                method.addJavadoc(javadoc);
+            }
+            method.addJavadoc("@return The added child.");
+            if (isContainer) {
+                method.addLine("this." + n2 + " = " + n2 + ";");
+            }
+            if (withKeys) {
+                method.addLine("return " + method.name + "(" + n2 + ");");
+            } else {
+                method.addLine("insertChild(" + n2 + ", sharedChildrenNames());");
+                method.addLine("return " + n2 + ";");
+            }
+            fixImports(method, true);
+        }
+        return res;
+    }
+
+    List<JavaMethod> getters() {
+        return null;
+    }
+
+    List<JavaMethod> deleters() {
+        return null;
+    }
+
+    /**
+     * @return an iterator method for a list or leaf-list, null otherwise
+     */
+    JavaMethod childIterator() {
+        if (!(isLeaflist || isList)) {
+            return null;
+        }
+        JavaMethod res = new JavaMethod(n2 + "Iterator");
+        res.addJavadoc("Iterator method for the " + stmt.getKeyword() + " \"" + stmt.getArg() + "\".");
+        res.addJavadoc("@return An iterator for the " + stmt.getKeyword() + ".");
+        String returnStmt;
+        if (isLeaflist) {
+            res.setReturnType("ElementLeafListValueIterator");
+            returnStmt = "return new ElementLeafListValue";
+        } else {
+            res.setReturnType("ElementChildrenIterator");
+            returnStmt = "return new ElementChildren";
+        }
+        res.addLine(returnStmt + "Iterator(children, \"" + stmt.getArg() + "\");");
+        return fixImports(res);
+    }
+
+    /**
+     * @return a method listing the entries of a list or leaf-list, null
+     * otherwise
+     */
+    JavaMethod childList() {
+        if (!(isLeaflist || isList)) {
+            return null;
+        }
+        JavaMethod res = new JavaMethod("get" + n + "List");
+        res.addJavadoc("List method for the " + stmt.getKeyword() + " \"" + stmt.getArg() + "\".");
+        res.addJavadoc("@return An List for the " + stmt.getKeyword() + ".");
+        res.imports.add("java.util.ArrayList");
+        res.imports.add("java.util.List");
+        Statement stmtType = ctx.searchOne(stmt, "type");
+        String valueType;
+        if (stmtType == null) {
+            valueType = n;
+        } else {
+            valueType = ctx.getTypes(stmtType)[0];
+        }
+        res.setRawReturnType("List<" + valueType + ">");
+        res.addLine("List<" + valueType + "> list = new ArrayList<>();");
+        if (isLeaflist) {
+            res.addLine("ElementLeafListValueIterator iterator = " + n2 + "Iterator" + "();");
+        } else {
+            res.addLine("ElementChildrenIterator iterator = " + n2 + "Iterator" + "();");
+        }
+        res.addLine("if(iterator==null){");
+        res.addLine("    return null;");
+        res.addLine("}");
+        res.addLine("while (iterator.hasNext()){");
+        res.addLine("    " + valueType + " next =(" + valueType + ") iterator.next();");
+        res.addLine("    list.add(next);");
+        res.addLine("}");
+        res.addLine("return list;");
+        return fixImports(res);
+    }
+
+    /**
+     * @return the access methods the parent class gets for a container or
+     * list, some of them grouped in lists
+     */
+    List<Object> parentAccessMethods() {
+        return null;
+    }
+
+    /**
+     * @return the mask, names and positions of the bits of a bits type
+     */
+    String[] bits(Statement type, String indent) {
+        java.math.BigInteger mask = java.math.BigInteger.ZERO;
+        StringBuilder smap = new StringBuilder(indent + "new String[] {");
+        StringBuilder imap = new StringBuilder(indent + "new int[] {");
+        long position = 0;
+        for (Statement bit : JncContext.search(type, "bit")) {
+            smap.append("\"").append(bit.getArg()).append("\", ");
+            Statement posStmt = ctx.searchOne(bit, "position");
+            if (posStmt != null) {
+                position = Long.parseLong(posStmt.getArg());
+            }
+            imap.append(position).append(", ");
+            mask = mask.add(java.math.BigInteger.ONE.shiftLeft((int) position));
+            position++;
+        }
+        smap.append("},");
+        imap.append("}");
+        return new String[]{mask.toString(), smap.toString(), imap.toString()};
+    }
+}
@@ -0,0 +1,151 @@
+package com.airlenet.yang.codegen.jnc;
+
+import com.airlenet.yang.codegen.yang.Statement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Methods of the classes generated from typedef statements.
+ */
+class TypedefMethodGenerator extends MethodGenerator {
+
+    private final Statement type;
+    private final String jncType;
+    private final String basePrimitive;
+    private final boolean isString;
+    /* false to avoid redundant checks */
+    private final boolean needsCheck = true;
+    private List<Statement> bit = Collections.emptyList();
+    private List<Statement> enum_ = Collections.emptyList();
+
+    TypedefMethodGenerator(Statement stmt, JncContext ctx) {
+        super(stmt, ctx);
+        this.type = ctx.searchOne(stmt, "type");
+        this.jncType = ctx.getTypes(stmt)[0];
+        Statement baseType = type != null ? ctx.getBaseType(stmt) : null;
+        this.basePrimitive = baseType != null ? ctx.getTypes(baseType)[1] : null;
+        this.isString = baseType != null && "String".equals(basePrimitive);
+        if (baseType != null) {
+            this.bit = JncContext.search(baseType, "bit");
+            this.enum_ = JncContext.search(baseType, "enum");
+        }
+    }
+
+    /**
+     * @return a constructor from a string and, unless the type is a string,
+     * one from a primitive value
+     */
+    @Override
+    List<JavaMethod> constructors() {
+        List<JavaMethod> constructors = new ArrayList<JavaMethod>();
+        String javadoc = "@param value Value to construct the " + n + " from.";
+        for (int i = 0; i < 1 + (isString ? 0 : 1); i++) {
+            JavaMethod constructor = constructorTemplate();
+            String javadoc2;
+            if (i == 0) {
+                javadoc2 = "Constructor for " + n + " object from a string.";
+                constructor.addParameter("String", "value");
+            } else {
+                javadoc2 = "Constructor for " + n + " object from a " + basePrimitive + ".";
+                String tmpPrimitive = constructor.addDependency(basePrimitive);
+                constructor.addParameter(tmpPrimitive, "value");
+            }
+            constructor.addJavadoc(javadoc2);
+            constructor.addJavadoc(javadoc);
+            if (jncType.equals("com.tailf.jnc.YangUnion")) {
+                constructor.body = new ArrayList<String>();
+                constructor.addLine("super(value,");
+                constructor.addLine("    new String[] {");
+                for (Statement member : JncContext.search(type, "type")) {
+                    String line;
+                    if (member.getArg().equals("enumeration")) {
+                        ctx.enumerations.put(stmt, member);
+                        line = "        \"" + pkg + "." + n + "$Enumeration" + "\",";
+                    } else {
+                        line = "        \"" + ctx.getTypes(member)[0] + "\",";
+                    }
+                    constructor.addLine(line);
+                }
+                constructor.addLine("    }");
+                constructor.addLine(");");
+            } else if (jncType.equals("com.tailf.jnc.YangEnumeration")) {
+                constructor.body = new ArrayList<String>();
+                constructor.addLine("super(value,");
+                constructor.addLine("    new String[] {");
+                for (Statement member : JncContext.search(type, "enum")) {
+                    constructor.addLine("        \"" + member.getArg() + "\",");
+                }
+                constructor.addLine("    }");
+                constructor.addLine(");");
+            } else if (jncType.equals("com.tailf.jnc.YangDecimal64")) {
+                constructor.body = new ArrayList<String>();
+                Statement fracDigits = ctx.searchOne(type, "fraction-digits");
+                constructor.addLine("super(value, " + fracDigits.getArg() + ");");
+            } else if (jncType.equals("com.tailf.jnc.YangBits")) {
+                constructor.body = new ArrayList<String>();
+                constructor.addLine("super(value,");
+                String[] bits = bits(type, "    ");
+                constructor.addLine("    new java.math.BigInteger(\"" + bits[0] + "\"),");
+                constructor.addLine(bits[1]);
+                constructor.addLine(bits[2]);
+                constructor.addLine(");");
+            }
+            if (needsCheck) {
+                constructor.addLine("check();");
+                constructor.addException("YangException");
+            }
+            constructors.add(fixImports(constructor));
+        }
+        return constructors;
+    }
+
+    /**
+     * @return setValue methods from a string and, unless the type is a
+     * string, from a primitive value
+     */
+    @Override
+    List<JavaMethod> setters() {
+        List<JavaMethod> setters = new ArrayList<JavaMethod>();
+        for (int i = 0; i < 1 + (isString ? 0 : 1); i++) {
+            JavaMethod setter = new JavaMethod("setValue");
+            String javadoc2;
+            if (i == 0) {
+                javadoc2 = "Sets the value using a string value.";
+                setter.addParameter("String", "value");
+            } else {
+                javadoc2 = "Sets the value using a value of type " + basePrimitive + ".";
+                String tmpPrimitive = setter.addDependency(basePrimitive);
+                setter.addParameter(tmpPrimitive, "value");
+            }
+            setter.addJavadoc(javadoc2);
+            setter.addJavadoc("@param value The value to set.");
+            setter.addLine("super.setValue(value);");
+            if (needsCheck) {
+                setter.addLine("check();");
+                setter.addException("YangException");
+            }
+            setters.add(fixImports(setter, true));
+        }
+        return setters;
+    }
+
+    /**
+     * @return a check method for the restrictions of the type
+     */
+    @Override
+    List<JavaMethod> checker() {
+        List<JavaMethod> res = new ArrayList<JavaMethod>();
+        if (needsCheck) {
+            JavaMethod checker = new JavaMethod("check");
+            checker.addJavadoc("Checks all restrictions (if any).");
+            checker.addException("YangException");
+            if (!bit.isEmpty() || !enum_.isEmpty()) {
+                checker.addLine("super.check();");
+            }
+            res.add(fixImports(checker));
+        }
+        return res;
+    }
+}
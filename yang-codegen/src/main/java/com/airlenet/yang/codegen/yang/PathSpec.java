@@ -0,0 +1,87 @@
+package com.airlenet.yang.codegen.yang;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A parsed leafref path, the path type spec of pyang. Type statements that
+ * derive from a leafref typedef get their own copy, the target node is set
+ * once the path has been followed in the expanded tree.
+ */
+public class PathSpec {
+
+    /**
+     * An identifier in a path, prefix is null for local identifiers.
+     */
+    static class Identifier {
+        final String prefix;
+        final String name;
+
+        Identifier(String prefix, String name) {
+            this.prefix = prefix;
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Identifier)) {
+                return false;
+            }
+            Identifier other = (Identifier) o;
+            return name.equals(other.name) && (prefix == null ? other.prefix == null : prefix.equals(other.prefix));
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode();
+        }
+    }
+
+    /**
+     * A key predicate [key = current()/../x] of a path step.
+     */
+    static class Predicate {
+        final Identifier key;
+        final int up;
+        final List<Identifier> down;
+
+        Predicate(Identifier key, int up, List<Identifier> down) {
+            this.key = key;
+            this.up = up;
+            this.down = down;
+        }
+    }
+
+    /**
+     * -1 for an absolute path, else the number of leading "../"
+     */
+    final int up;
+    /**
+     * {@link Identifier} and {@link Predicate} steps
+     */
+    final List<Object> down;
+    final Statement path;
+    boolean requireInstance = true;
+    Statement targetNode;
+
+    PathSpec(int up, List<Object> down, Statement path) {
+        this.up = up;
+        this.down = down;
+        this.path = path;
+    }
+
+    PathSpec copy() {
+        PathSpec copy = new PathSpec(up, new ArrayList<Object>(down), path);
+        copy.requireInstance = requireInstance;
+        copy.targetNode = targetNode;
+        return copy;
+    }
+
+    /**
+     * @return the leaf or leaf-list the path points to, null if the path
+     * could not be followed
+     */
+    public Statement getTargetNode() {
+        return targetNode;
+    }
+}
@@ -0,0 +1,300 @@
+package com.airlenet.yang.codegen.yang;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A yang statement as read by {@link YangParser}. After validation by
+ * {@link YangContext} the statement also carries the expanded data tree, the
+ * same information pyang keeps in the i_ attributes of its statements.
+ */
+public class Statement {
+
+    Statement top;
+    Statement parent;
+    String ref;
+    int line;
+    /**
+     * yang keyword, or "module:identifier" for extension statements once the
+     * prefix has been resolved
+     */
+    String keyword;
+    /**
+     * prefix of an extension statement as written, null for yang keywords
+     */
+    String prefix;
+    /* module and revision an extension statement's prefix refers to */
+    String extensionModulename;
+    String extensionRevision;
+    String arg;
+    List<Statement> substmts = new ArrayList<Statement>();
+
+    /* i_module, the (sub)module the statement belongs to, a copy made for a uses belongs to the using module */
+    Statement module;
+    Statement origModule;
+    /* i_children, null for statements that can not have data children */
+    List<Statement> children;
+    /* i_uses, shared by all copies of a statement, the latest uses first */
+    List<Statement> uses;
+    Map<String, Statement> typedefs;
+    Map<String, Statement> groupings;
+    Boolean config;
+    boolean hasConfig;
+    boolean hasIChildren;
+
+    /* module and submodule */
+    String version;
+    String modulename;
+    String modulePrefix;
+    Map<String, String[]> prefixes;
+    Map<String, Statement> extensions;
+    String includingModulename;
+    YangContext ctx;
+    List<Statement> undefinedAugmentNodes;
+    int validation;
+
+    /* type, typedef, grouping, uses, augment, list */
+    boolean typeValidated;
+    Statement typedef;
+    PathSpec typeSpec;
+    PathSpec leafref;
+    boolean leafrefExpanded;
+    boolean unused;
+    Statement grouping;
+    boolean groupingResolved;
+    boolean expanded;
+    Statement targetNode;
+    boolean targetResolved;
+    List<Statement> key;
+
+    Statement(Statement top, Statement parent, String ref, int line, String keyword, String arg) {
+        this.top = top;
+        this.parent = parent;
+        this.ref = ref;
+        this.line = line;
+        this.keyword = keyword;
+        this.arg = arg;
+    }
+
+    public Statement getTop() {
+        return top;
+    }
+
+    public Statement getParent() {
+        return parent;
+    }
+
+    public String getRef() {
+        return ref;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public boolean isExtension() {
+        return prefix != null;
+    }
+
+    public String getArg() {
+        return arg;
+    }
+
+    public void setArg(String arg) {
+        this.arg = arg;
+    }
+
+    public List<Statement> getSubstmts() {
+        return substmts;
+    }
+
+    /**
+     * @return the expanded data children, null if the statement has none
+     */
+    public List<Statement> getChildren() {
+        return children;
+    }
+
+    public Statement getModule() {
+        return module;
+    }
+
+    public YangContext getContext() {
+        return ctx;
+    }
+
+    /**
+     * @return true if the statement is a type that went through type
+     * validation, only then {@link #getTypedef()} is meaningful
+     */
+    public boolean isTypeValidated() {
+        return typeValidated;
+    }
+
+    /**
+     * @return the typedef a type statement refers to, null for built in types
+     */
+    public Statement getTypedef() {
+        return typedef;
+    }
+
+    /**
+     * @return the leafref of a leaf, leaf-list or typedef, null if its type
+     * is no leafref
+     */
+    public PathSpec getLeafref() {
+        return leafref;
+    }
+
+    /**
+     * @return the node an augment statement augments, null if it was not
+     * found
+     */
+    public Statement getTargetNode() {
+        return targetNode;
+    }
+
+    public Statement search(String keyword, String arg) {
+        for (Statement s : substmts) {
+            if (s.keyword.equals(keyword) && (arg == null || arg.equals(s.arg))) {
+                return s;
+            }
+        }
+        return null;
+    }
+
+    public Statement searchOne(String keyword) {
+        return search(keyword, null);
+    }
+
+    public List<Statement> searchAll(String keyword) {
+        List<Statement> result = new ArrayList<Statement>();
+        for (Statement s : substmts) {
+            if (s.keyword.equals(keyword)) {
+                result.add(s);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Copies the statement the way pyang does for uses and input/output:
+     * a shallow copy of all state, substatements copied recursively except
+     * for the keywords in nocopy, which are shared.
+     */
+    Statement copy(Statement parent, Statement uses, String... nocopy) {
+        Statement copy = shallowCopy();
+        if (uses != null) {
+            if (copy.uses != null) {
+                copy.uses.add(0, uses);
+            } else {
+                copy.uses = new ArrayList<Statement>();
+                copy.uses.add(uses);
+            }
+        }
+        copy.parent = parent == null ? this.parent : parent;
+        copy.substmts = new ArrayList<Statement>();
+        for (Statement s : substmts) {
+            if (contains(nocopy, s.keyword)) {
+                copy.substmts.add(s);
+            } else {
+                copy.substmts.add(s.copy(copy, uses, nocopy));
+            }
+        }
+        if (uses != null) {
+            postCopy(this, copy, uses, nocopy);
+        }
+        return copy;
+    }
+
+    /**
+     * Inlines a copy made for a uses into the using module, post_copy in pyang.
+     */
+    private static void postCopy(Statement old, Statement copy, Statement uses, String[] nocopy) {
+        copy.module = uses.module;
+        copy.children = new ArrayList<Statement>();
+        if (old.children != null) {
+            for (Statement x : old.children) {
+                int index = indexOf(old.substmts, x);
+                if (index >= 0) {
+                    copy.children.add(copy.substmts.get(index));
+                } else {
+                    copy.children.add(x.copy(copy, uses, nocopy));
+                }
+            }
+        }
+    }
+
+    private Statement shallowCopy() {
+        Statement s = new Statement(top, parent, ref, line, keyword, arg);
+        s.prefix = prefix;
+        s.extensionModulename = extensionModulename;
+        s.extensionRevision = extensionRevision;
+        s.substmts = substmts;
+        s.module = module;
+        s.origModule = origModule;
+        s.children = children;
+        s.uses = uses;
+        s.typedefs = typedefs;
+        s.groupings = groupings;
+        s.config = config;
+        s.hasConfig = hasConfig;
+        s.hasIChildren = hasIChildren;
+        s.version = version;
+        s.modulename = modulename;
+        s.modulePrefix = modulePrefix;
+        s.prefixes = prefixes;
+        s.extensions = extensions;
+        s.includingModulename = includingModulename;
+        s.ctx = ctx;
+        s.undefinedAugmentNodes = undefinedAugmentNodes;
+        s.validation = validation;
+        s.typeValidated = typeValidated;
+        s.typedef = typedef;
+        s.typeSpec = typeSpec;
+        s.leafref = leafref;
+        s.leafrefExpanded = leafrefExpanded;
+        s.unused = unused;
+        s.grouping = grouping;
+        s.groupingResolved = groupingResolved;
+        s.expanded = expanded;
+        s.targetNode = targetNode;
+        s.targetResolved = targetResolved;
+        s.key = key;
+        return s;
+    }
+
+    static int indexOf(List<Statement> list, Statement statement) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == statement) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean contains(String[] keywords, String keyword) {
+        for (String k : keywords) {
+            if (k.equals(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void initStatement() {
+        typedefs = new HashMap<String, Statement>();
+        groupings = new HashMap<String, Statement>();
+    }
+
+    @Override
+    public String toString() {
+        return keyword + (arg == null ? "" : " " + arg) + " (" + ref + ":" + line + ")";
+    }
+}
@@ -0,0 +1,2013 @@
+package com.airlenet.yang.codegen.yang;
+
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Loads yang modules from a search path and validates them the way the
+ * pyang context does, expanding groupings, augments and choices into the
+ * data tree the jnc generator works on.
+ * <p>
+ * Validation covers what affects the generated code: module lookup,
+ * prefixes, typedefs, groupings, augments, keys, config and leafref paths.
+ * Range, length, pattern and default values, features and identities are
+ * not checked. Yin modules and deviations are not supported and raise a
+ * {@link YangModelException}.
+ */
+public class YangContext {
+
+    private static final Pattern FILE_NAME = Pattern.compile("^(.*?)(@(\\d{4}-\\d{2}-\\d{2}))?\\.(yang|yin)$");
+    private static final Pattern NODE_ID = Pattern.compile("/(([_A-Za-z][._\\-A-Za-z0-9]*):)?([_A-Za-z][._\\-A-Za-z0-9]*)");
+    private static final Pattern IDENTIFIER = Pattern.compile("^(([_A-Za-z][._\\-A-Za-z0-9]*):)?([_A-Za-z][._\\-A-Za-z0-9]*)");
+
+    private static final List<String> PHASES = Arrays.asList("init", "init2", "grammar", "import", "type", "type_2",
+            "expand_1", "inherit_properties", "expand_2", "unique_name", "reference_1", "reference_2",
+            "reference_3", "unused");
+    private static final Set<String> I_CHILDREN_PHASES = set("expand_2", "unique_name", "reference_1", "reference_2");
+    private static final Set<String> KEYWORD_WITH_CHILDREN = set("module", "submodule", "container", "list", "case",
+            "choice", "grouping", "uses", "augment", "input", "output", "notification", "rpc", "action");
+    private static final Set<String> DATA_KEYWORDS = set("leaf", "leaf-list", "container", "list", "choice", "case",
+            "anyxml", "anydata", "action", "rpc", "notification");
+    private static final Set<String> NO_EXPLICIT_CONFIG = set("action", "rpc", "notification");
+    private static final Set<String> DATA_DEFINITION = set("container", "leaf", "leaf-list", "list", "choice",
+            "anyxml", "anydata", "uses", "augment");
+    private static final Set<String> BUILT_IN_TYPES = set("int8", "int16", "int32", "int64", "uint8", "uint16",
+            "uint32", "uint64", "decimal64", "string", "boolean", "enumeration", "bits", "binary", "leafref",
+            "identityref", "instance-identifier", "empty", "union");
+    private static final Set<String> KEYWORDS = set("action", "anydata", "anyxml", "argument", "augment", "base",
+            "belongs-to", "bit", "case", "choice", "config", "contact", "container", "default", "description",
+            "deviate", "deviation", "enum", "error-app-tag", "error-message", "extension", "feature",
+            "fraction-digits", "grouping", "identity", "if-feature", "import", "include", "input", "key", "leaf",
+            "leaf-list", "length", "list", "mandatory", "max-elements", "min-elements", "modifier", "module", "must",
+            "namespace", "notification", "ordered-by", "organization", "output", "path", "pattern", "position",
+            "prefix", "presence", "range", "reference", "refine", "require-instance", "revision", "revision-date",
+            "rpc", "status", "submodule", "type", "typedef", "unique", "units", "uses", "value", "when",
+            "yang-version", "yin-element");
+    private static final String[] REPLACE_REFINEMENTS = {"description", "reference", "config", "presence", "default",
+            "mandatory", "min-elements", "max-elements"};
+    private static final String[][] REFINE_TARGETS = {
+            {"container", "leaf", "leaf-list", "list", "choice", "case", "anyxml", "anydata"},
+            {"container", "leaf", "leaf-list", "list", "choice", "case", "anyxml", "anydata"},
+            {"container", "leaf", "leaf-list", "list", "choice", "anyxml", "anydata"},
+            {"container"},
+            {"leaf", "choice"},
+            {"leaf", "choice", "anyxml", "anydata"},
+            {"leaf-list", "list"},
+            {"leaf-list", "list"}};
+    private static final String[][] MERGE_REFINEMENTS = {
+            {"must", "container", "leaf", "leaf-list", "list", "anyxml", "anydata"},
+            {"if-feature", "container", "leaf", "leaf-list", "list", "choice", "case", "anyxml", "anydata"}};
+    private static final String[] USES_NOCOPY = {"type", "uses", "unique", "typedef", "grouping"};
+
+    /**
+     * A revision of a module known to the repository, either a file or an
+     * already parsed statement.
+     */
+    private static class Revision {
+        String revision;
+        String format;
+        String file;
+        Statement parsed;
+
+        Revision(String revision, String format, String file) {
+            this.revision = revision;
+            this.format = format;
+            this.file = file;
+        }
+    }
+
+    private static class NotFound extends Exception {
+    }
+
+    private static class Abort extends Exception {
+    }
+
+    private final List<YangError> errors = new ArrayList<YangError>();
+    private final Map<String, List<Revision>> revs = new LinkedHashMap<String, List<Revision>>();
+    private final Map<String, Statement> modules = new LinkedHashMap<String, Statement>();
+    private final Map<String, Statement> parsed = new HashMap<String, Statement>();
+    private final YangParser parser = new YangParser(errors);
+
+    /**
+     * Creates a context searching the directories of path, separated by
+     * the path separator, like pyang's -p option. The current directory and
+     * the directories of YANG_MODPATH, $HOME/yang/modules and
+     * $YANG_INSTALL/yang/modules are searched too.
+     *
+     * @param noPathRecurse true to not search subdirectories
+     */
+    public YangContext(String path, boolean noPathRecurse) {
+        List<String> dirs = new ArrayList<String>(Arrays.asList(path.split(File.pathSeparator, -1)));
+        dirs.add(".");
+        String modpath = System.getenv("YANG_MODPATH");
+        if (modpath != null) {
+            dirs.addAll(Arrays.asList(modpath.split(File.pathSeparator, -1)));
+        }
+        String home = System.getenv("HOME");
+        if (home != null) {
+            dirs.add(join(join(home, "yang"), "modules"));
+        }
+        String install = System.getenv("YANG_INSTALL");
+        if (install != null) {
+            dirs.add(join(join(install, "yang"), "modules"));
+        }
+        for (String dir : dirs) {
+            addFilesFromDir(dir, noPathRecurse);
+        }
+    }
+
+    private void addFilesFromDir(String dir, boolean noPathRecurse) {
+        String[] files = dir.isEmpty() ? null : new File(dir).list();
+        if (files == null) {
+            return;
+        }
+        for (String name : files) {
+            String file = join(dir, name);
+            File f = new File(file);
+            if (f.isFile()) {
+                Matcher m = FILE_NAME.matcher(name);
+                if (m.find() && f.canRead()) {
+                    if (file.startsWith("./")) {
+                        file = file.substring(2);
+                    }
+                    revisions(m.group(1)).add(new Revision(m.group(3), m.group(4), file));
+                }
+            } else if (!noPathRecurse && !dir.equals(".") && f.isDirectory()) {
+                addFilesFromDir(file, noPathRecurse);
+            }
+        }
+    }
+
+    private static String join(String dir, String name) {
+        return dir.isEmpty() || dir.endsWith(File.separator) ? dir + name : dir + File.separator + name;
+    }
+
+    private List<Revision> revisions(String name) {
+        List<Revision> list = revs.get(name);
+        if (list == null) {
+            list = new ArrayList<Revision>();
+            revs.put(name, list);
+        }
+        return list;
+    }
+
+    public List<YangError> getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return all modules and submodules loaded, in the order they were added
+     */
+    public Collection<Statement> getModules() {
+        return Collections.unmodifiableCollection(modules.values());
+    }
+
+    /**
+     * Parses and validates a yang file named on the command line, the module
+     * name and revision of the file name are only checked with warnings.
+     *
+     * @return the module, null if it has errors
+     */
+    public Statement addModule(File file) throws IOException {
+        String ref = file.getPath();
+        Matcher m = FILE_NAME.matcher(ref);
+        if (m.find()) {
+            if ("yin".equals(m.group(4))) {
+                throw new YangModelException("yin modules are not supported: " + ref);
+            }
+            return addModule(ref, ref, new File(m.group(1)).getName(), m.group(3), false);
+        }
+        return addModule(ref, ref, null, null, true);
+    }
+
+    private Statement addModule(String ref, String file, String expectModulename, String expectRevision,
+                                boolean expectFailureError) throws IOException {
+        Statement module = parse(ref, file);
+        if (module == null) {
+            return null;
+        }
+        if (expectModulename != null && !expectModulename.equals(module.arg)) {
+            if (expectFailureError) {
+                error(module, "BAD_MODULE_NAME", module.arg + " in " + ref + ", expected " + expectModulename);
+                return null;
+            }
+            error(module, "WBAD_MODULE_NAME", module.arg + " in " + ref + ", expected " + expectModulename);
+        }
+        String latest = latestRevision(module);
+        if (expectRevision != null && !expectRevision.equals(latest)) {
+            if (expectFailureError) {
+                error(module, "BAD_REVISION", latest + " in " + ref + ", expected " + expectRevision);
+                return null;
+            }
+            error(module, "WBAD_REVISION", latest + " in " + ref + ", expected " + expectRevision);
+        }
+        if (module.arg != null && !revs.containsKey(module.arg)) {
+            revisions(module.arg).add(new Revision(latest, null, null));
+        }
+        return addParsedModule(module);
+    }
+
+    /**
+     * Parses a file once per context, pyang parses files without a revision
+     * in their name again when looking for the latest revision.
+     */
+    private Statement parse(String ref, String file) throws IOException {
+        File f = new File(file);
+        String key = f.getCanonicalPath();
+        if (parsed.containsKey(key)) {
+            return parsed.get(key);
+        }
+        byte[] bytes = FileUtils.readFileToByteArray(f);
+        String text;
+        try {
+            text = Charset.forName("UTF-8").newDecoder().onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT).decode(ByteBuffer.wrap(bytes)).toString();
+        } catch (CharacterCodingException e) {
+            throw new YangModelException(ref + ": unicode error", e);
+        }
+        Statement module = parser.parse(ref, text);
+        parsed.put(key, module);
+        return module;
+    }
+
+    private Statement addParsedModule(Statement module) {
+        if (module.arg == null) {
+            error(module, "EXPECTED_ARGUMENT", module.keyword);
+            return null;
+        }
+        if (module.prefix != null || !(module.keyword.equals("module") || module.keyword.equals("submodule"))) {
+            error(module, "UNEXPECTED_KEYWORD_N", module.keyword);
+            return null;
+        }
+        String key = module.arg + "@" + latestRevision(module);
+        Statement other = modules.get(key);
+        if (other != null) {
+            return other;
+        }
+        modules.put(key, module);
+        validateModule(module);
+        return module;
+    }
+
+    /**
+     * @return the latest revision of the module, "unknown" if it has none
+     */
+    public static String latestRevision(Statement module) {
+        String latest = null;
+        for (Statement r : module.searchAll("revision")) {
+            if (latest == null || compare(r.arg, latest) > 0) {
+                latest = r.arg;
+            }
+        }
+        return latest == null ? "unknown" : latest;
+    }
+
+    private static int compare(String a, String b) {
+        return String.valueOf(a).compareTo(String.valueOf(b));
+    }
+
+    /**
+     * @return the module with the given name and revision, the latest
+     * revision if revision is null, or null if it is not loaded
+     */
+    public Statement getModule(String name, String revision) {
+        if (revision == null && revs.containsKey(name)) {
+            revision = latestRevision(revs.get(name)).revision;
+        }
+        return revision == null ? null : modules.get(name + "@" + revision);
+    }
+
+    private Revision latestRevision(List<Revision> list) {
+        ensureRevisions(list);
+        Revision latest = new Revision(null, null, null);
+        for (Revision r : list) {
+            if (r.revision != null && (latest.revision == null || compare(r.revision, latest.revision) > 0)) {
+                latest = r;
+            }
+        }
+        return latest;
+    }
+
+    private void ensureRevisions(List<Revision> list) {
+        for (Revision r : list) {
+            if (r.revision == null && r.file != null && r.parsed == null) {
+                if ("yin".equals(r.format)) {
+                    throw new YangModelException("yin modules are not supported: " + r.file);
+                }
+                Statement module;
+                try {
+                    module = parse(r.file, r.file);
+                } catch (IOException e) {
+                    continue;
+                }
+                if (module != null) {
+                    r.revision = latestRevision(module);
+                    r.parsed = module;
+                }
+            }
+        }
+    }
+
+    private Statement searchModule(Statement pos, String name, String revision) {
+        List<Revision> list = revs.get(name);
+        if (list == null) {
+            error(pos, "MODULE_NOT_FOUND", name);
+            revs.put(name, new ArrayList<Revision>());
+            return null;
+        } else if (list.isEmpty()) {
+            return null;
+        }
+        Revision handle;
+        if (revision != null) {
+            if (modules.containsKey(name + "@" + revision)) {
+                return modules.get(name + "@" + revision);
+            }
+            ensureRevisions(list);
+            handle = null;
+            for (Revision r : list) {
+                if (revision.equals(r.revision)) {
+                    handle = r;
+                    break;
+                }
+            }
+            if (handle == null) {
+                error(pos, "MODULE_NOT_FOUND_REV", name + "@" + revision);
+                list.add(new Revision(revision, null, null));
+                return null;
+            }
+        } else {
+            handle = latestRevision(list);
+            revision = handle.revision;
+            if (modules.containsKey(name + "@" + revision)) {
+                return modules.get(name + "@" + revision);
+            }
+        }
+        if (handle.parsed != null) {
+            if (!name.equals(handle.parsed.arg)) {
+                error(handle.parsed, "BAD_MODULE_NAME", handle.parsed.arg + " in " + handle.file + ", expected " + name);
+                return null;
+            }
+            return addParsedModule(handle.parsed);
+        }
+        if (handle.file == null) {
+            return null;
+        }
+        if ("yin".equals(handle.format)) {
+            throw new YangModelException("yin modules are not supported: " + handle.file);
+        }
+        try {
+            return addModule(handle.file, handle.file, name, revision, true);
+        } catch (IOException e) {
+            error(pos, "READ_ERROR", handle.file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void error(Statement pos, String tag, String message) {
+        errors.add(new YangError(pos.ref, pos.line, tag, message));
+    }
+
+    private static Set<String> set(String... values) {
+        return new HashSet<String>(Arrays.asList(values));
+    }
+
+    private static boolean in(String keyword, String... keywords) {
+        for (String k : keywords) {
+            if (k.equals(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isExtension(Statement s) {
+        return s.prefix != null;
+    }
+
+    private static boolean hasChildren(Statement s) {
+        return !isExtension(s) && KEYWORD_WITH_CHILDREN.contains(s.keyword);
+    }
+
+    // validation
+
+    private void validateModule(Statement module) {
+        module.validation = 1;
+        try {
+            for (String phase : PHASES) {
+                iterate(module, phase, module);
+            }
+        } catch (Abort e) {
+            // stop validating this module
+        }
+        module.validation = 2;
+    }
+
+    private void iterate(Statement stmt, String phase, Statement module) throws Abort {
+        boolean recurse = validate(stmt, phase);
+        if (!recurse) {
+            return;
+        }
+        if (I_CHILDREN_PHASES.contains(phase)) {
+            if (stmt.keyword.equals("grouping")) {
+                return;
+            }
+            if (stmt.module != null && stmt.module != module) {
+                return;
+            }
+            if (stmt.children != null) {
+                for (Statement s : new ArrayList<Statement>(stmt.children)) {
+                    iterate(s, phase, module);
+                }
+            }
+            for (Statement s : new ArrayList<Statement>(stmt.substmts)) {
+                if (s.hasIChildren) {
+                    iterate(s, phase, module);
+                }
+            }
+        } else {
+            for (Statement s : new ArrayList<Statement>(stmt.substmts)) {
+                iterate(s, phase, module);
+            }
+        }
+    }
+
+    /**
+     * Runs the validation of a phase for a statement.
+     *
+     * @return false if the substatements must not be visited
+     */
+    private boolean validate(Statement stmt, String phase) throws Abort {
+        String keyword = isExtension(stmt) && !phase.equals("init") ? "$extension" : stmt.keyword;
+        if (phase.equals("init")) {
+            if (stmt.prefix == null && (keyword.equals("module") || keyword.equals("submodule"))) {
+                initModule(stmt);
+            } else if (isExtension(stmt)) {
+                initExtension(stmt);
+            }
+        } else if (phase.equals("init2")) {
+            if (hasChildren(stmt)) {
+                stmt.children = new ArrayList<Statement>();
+            }
+            stmt.initStatement();
+        } else if (phase.equals("grammar")) {
+            if (keyword.equals("module") || keyword.equals("submodule")) {
+                grammarModule(stmt);
+            } else if (keyword.equals("typedef") && BUILT_IN_TYPES.contains(stmt.arg)) {
+                error(stmt, "BAD_TYPE_NAME", stmt.arg);
+            }
+            uniqueDefinitions(stmt);
+        } else if (phase.equals("import")) {
+            if (keyword.equals("module") || keyword.equals("submodule")) {
+                importModule(stmt);
+            }
+        } else if (phase.equals("type")) {
+            if (keyword.equals("grouping")) {
+                typeGrouping(stmt);
+            } else if (keyword.equals("augment")) {
+                typeAugment(stmt);
+            } else if (keyword.equals("uses")) {
+                typeUses(stmt, false);
+            } else if (keyword.equals("base")) {
+                checkPrefix(stmt, stmt.arg);
+            } else if (keyword.equals("if-feature")) {
+                for (String token : stmt.arg.split("[\\s()]+")) {
+                    if (!token.isEmpty() && !in(token, "and", "or", "not")) {
+                        checkPrefix(stmt, token);
+                    }
+                }
+            } else if (keyword.equals("$extension")) {
+                typeExtension(stmt);
+            }
+        } else if (phase.equals("type_2")) {
+            if (keyword.equals("type")) {
+                typeType(stmt);
+            } else if (keyword.equals("typedef")) {
+                typeTypedef(stmt);
+            } else if (keyword.equals("leaf") || keyword.equals("leaf-list")) {
+                typeLeaf(stmt);
+            }
+        } else if (phase.equals("expand_1")) {
+            if (keyword.equals("module") || keyword.equals("submodule")) {
+                expand1Children(stmt);
+                return false;
+            }
+        } else if (phase.equals("inherit_properties")) {
+            if (keyword.equals("module") || keyword.equals("submodule")) {
+                inheritProperties(stmt, null);
+                return false;
+            }
+        } else if (phase.equals("expand_2")) {
+            if (keyword.equals("augment")) {
+                expand2Augment(stmt);
+            }
+        } else if (phase.equals("unique_name")) {
+            if (hasChildren(stmt)) {
+                uniqueNameChildren(stmt);
+            }
+        } else if (phase.equals("reference_1")) {
+            if (keyword.equals("list")) {
+                referenceList(stmt);
+            } else if (keyword.equals("choice")) {
+                referenceChoice(stmt);
+            }
+        } else if (phase.equals("reference_2")) {
+            if (keyword.equals("leaf") || keyword.equals("leaf-list")) {
+                referenceLeafref(stmt);
+            }
+        } else if (phase.equals("reference_3")) {
+            if (keyword.equals("typedef")) {
+                referenceLeafref(stmt);
+            }
+        } else if (phase.equals("unused")) {
+            if (keyword.equals("module") || keyword.equals("submodule")) {
+                for (Statement s : stmt.undefinedAugmentNodes) {
+                    error(s, "NODE_NOT_FOUND", s.module.arg + ":" + s.arg);
+                }
+            } else if ((keyword.equals("typedef") || keyword.equals("grouping"))
+                    && stmt.parent.parent != null && stmt.unused) {
+                error(stmt, keyword.equals("typedef") ? "UNUSED_TYPEDEF" : "UNUSED_GROUPING", stmt.arg);
+            }
+        }
+        return true;
+    }
+
+    private void initModule(Statement stmt) {
+        Statement vsn = stmt.searchOne("yang-version");
+        stmt.version = vsn != null ? vsn.arg : "1";
+        stmt.prefixes = new HashMap<String, String[]>();
+        Statement prefix = null;
+        if (stmt.keyword.equals("module")) {
+            prefix = stmt.searchOne("prefix");
+            stmt.modulename = stmt.arg;
+        } else {
+            Statement belongsTo = stmt.searchOne("belongs-to");
+            if (belongsTo != null && belongsTo.arg != null) {
+                prefix = belongsTo.searchOne("prefix");
+                stmt.modulename = belongsTo.arg;
+            } else {
+                stmt.modulename = "";
+            }
+        }
+        if (prefix != null && prefix.arg != null) {
+            stmt.prefixes.put(prefix.arg, new String[]{stmt.arg, null});
+            stmt.modulePrefix = prefix.arg;
+        }
+        for (Statement i : stmt.searchAll("import")) {
+            Statement p = i.searchOne("prefix");
+            if (p != null) {
+                Statement r = i.searchOne("revision-date");
+                if (stmt.prefixes.containsKey(p.arg)) {
+                    error(p, "PREFIX_ALREADY_USED", p.arg);
+                }
+                if (i.arg != null && p.arg != null && !i.arg.equals(stmt.modulename)) {
+                    stmt.prefixes.put(p.arg, new String[]{i.arg, r != null ? r.arg : null});
+                }
+            }
+        }
+        stmt.extensions = new HashMap<String, Statement>();
+        stmt.includingModulename = null;
+        stmt.ctx = this;
+        stmt.undefinedAugmentNodes = new ArrayList<Statement>();
+        setModule(stmt, stmt);
+    }
+
+    private static void setModule(Statement s, Statement top) {
+        s.module = top;
+        s.origModule = top;
+        if (s != top) {
+            s.top = top;
+        }
+        for (Statement c : s.substmts) {
+            setModule(c, top);
+        }
+    }
+
+    private void initExtension(Statement stmt) {
+        String[] modulename = prefixToModulenameAndRevision(stmt.module, stmt.prefix, stmt);
+        stmt.keyword = modulename[0] + ":" + stmt.keyword;
+        stmt.extensionRevision = modulename[1];
+        stmt.extensionModulename = modulename[0];
+    }
+
+    private String[] prefixToModulenameAndRevision(Statement module, String prefix, Statement pos) {
+        if (prefix.isEmpty() || prefix.equals(module.modulePrefix)) {
+            return new String[]{module.arg, null};
+        }
+        String[] modulename = module.prefixes.get(prefix);
+        if (modulename == null) {
+            error(pos, "PREFIX_NOT_DEFINED", prefix);
+            return new String[]{null, null};
+        }
+        return modulename;
+    }
+
+    private Statement prefixToModule(Statement module, String prefix, Statement pos) {
+        if (prefix == null || prefix.isEmpty() || prefix.equals(module.modulePrefix)) {
+            return module;
+        }
+        String[] modulename = prefixToModulenameAndRevision(module, prefix, pos);
+        if (modulename[0] == null) {
+            return null;
+        }
+        return getModule(modulename[0], modulename[1]);
+    }
+
+    private void checkPrefix(Statement stmt, String name) {
+        int colon = name.indexOf(':');
+        if (colon >= 0) {
+            prefixToModule(stmt.module, name.substring(0, colon), stmt);
+        }
+    }
+
+    private void grammarModule(Statement stmt) {
+        if (stmt.searchOne("deviation") != null) {
+            throw new YangModelException("deviations are not supported: " + stmt.arg);
+        }
+        checkKeywords(stmt);
+        String prev = null;
+        for (Statement r : stmt.searchAll("revision")) {
+            if (prev != null && compare(r.arg, prev) > 0) {
+                error(r, "REVISION_ORDER", null);
+            }
+            prev = r.arg;
+        }
+    }
+
+    private void checkKeywords(Statement stmt) {
+        if (isExtension(stmt)) {
+            return;
+        }
+        if (!KEYWORDS.contains(stmt.keyword)) {
+            error(stmt, "UNEXPECTED_KEYWORD", stmt.keyword);
+        }
+        for (Statement s : stmt.substmts) {
+            checkKeywords(s);
+        }
+    }
+
+    private void uniqueDefinitions(Statement stmt) {
+        define(stmt, "typedef", "TYPE_ALREADY_DEFINED", stmt.typedefs);
+        define(stmt, "grouping", "GROUPING_ALREADY_DEFINED", stmt.groupings);
+        if (stmt.parent == null) {
+            define(stmt, "extension", "EXTENSION_ALREADY_DEFINED", stmt.extensions);
+        }
+    }
+
+    private void define(Statement stmt, String keyword, String tag, Map<String, Statement> definitions) {
+        for (Statement definition : stmt.searchAll(keyword)) {
+            if (definitions.containsKey(definition.arg)) {
+                error(definition, tag, definition.arg);
+            } else {
+                definitions.put(definition.arg, definition);
+            }
+        }
+    }
+
+    private void importModule(Statement stmt) {
+        String mymodulename;
+        if (stmt.keyword.equals("module")) {
+            mymodulename = stmt.arg;
+        } else {
+            Statement b = stmt.searchOne("belongs-to");
+            mymodulename = b != null ? b.arg : null;
+        }
+        for (Statement i : stmt.searchAll("import")) {
+            Statement module = addImport(stmt, i);
+            if (module != null && !module.keyword.equals("module")) {
+                error(i, "BAD_IMPORT", module.keyword + " " + i.arg);
+            }
+        }
+        for (Statement i : stmt.searchAll("include")) {
+            Statement submodule = addImport(stmt, i);
+            if (submodule != null && !submodule.keyword.equals("submodule")) {
+                error(i, "BAD_INCLUDE", submodule.keyword + " " + i.arg);
+                return;
+            }
+            if (submodule == null) {
+                continue;
+            }
+            if (!submodule.version.equals(stmt.version)) {
+                error(i, "BAD_INCLUDE_YANG_VERSION", submodule.version + " " + stmt.version);
+                return;
+            }
+            submodule.includingModulename = stmt.keyword.equals("module") ? stmt.arg : mymodulename;
+            Statement b = submodule.searchOne("belongs-to");
+            if (b != null && !b.arg.equals(mymodulename)) {
+                error(b, "BAD_SUB_BELONGS_TO", stmt.arg + " " + submodule.arg);
+                continue;
+            }
+            if (stmt.keyword.equals("module")) {
+                for (Statement s : submodule.searchAll("include")) {
+                    if (stmt.search("include", s.arg) == null) {
+                        error(s, "MISSING_INCLUDE", s.arg + " " + submodule.arg + " " + stmt.arg);
+                    }
+                }
+            }
+            for (Statement ch : submodule.children) {
+                if (Statement.indexOf(stmt.children, ch) < 0) {
+                    stmt.children.add(ch);
+                }
+            }
+            merge(submodule.typedefs, stmt.typedefs, "TYPE_ALREADY_DEFINED");
+            merge(submodule.groupings, stmt.groupings, "GROUPING_ALREADY_DEFINED");
+            merge(submodule.extensions, stmt.extensions, "EXTENSION_ALREADY_DEFINED");
+        }
+    }
+
+    private Statement addImport(Statement stmt, Statement i) {
+        Statement r = i.searchOne("revision-date");
+        String rev = r != null ? r.arg : null;
+        Statement m = getModule(i.arg, rev);
+        if (m != null && m.validation == 1) {
+            error(i, "CIRCULAR_DEPENDENCY", "module " + i.arg);
+        }
+        m = searchModule(i, i.arg, rev);
+        if (m != null && r != null && stmt.version.equals("1") && "1.1".equals(m.version)) {
+            error(i, "BAD_IMPORT_YANG_VERSION", stmt.version + " " + m.version);
+        }
+        return m;
+    }
+
+    private void merge(Map<String, Statement> from, Map<String, Statement> to, String tag) {
+        for (Map.Entry<String, Statement> entry : from.entrySet()) {
+            Statement other = to.get(entry.getKey());
+            if (other == null) {
+                to.put(entry.getKey(), entry.getValue());
+            } else if (other != entry.getValue()) {
+                error(other, tag, entry.getKey());
+            }
+        }
+    }
+
+    // type phase
+
+    private boolean typeGrouping(Statement stmt) {
+        if (stmt.validation == 2) {
+            return true;
+        } else if (stmt.validation == 1) {
+            error(stmt, "CIRCULAR_DEPENDENCY", "grouping " + stmt.arg);
+            return false;
+        }
+        stmt.validation = 1;
+        stmt.unused = true;
+        stmt.hasIChildren = true;
+        if (stmt.parent.parent != null) {
+            Statement other = searchGrouping(stmt.parent.parent, stmt.arg);
+            if (other != null) {
+                error(stmt, "GROUPING_ALREADY_DEFINED", stmt.arg);
+            }
+        }
+        resolveUses(stmt);
+        stmt.validation = 2;
+        return true;
+    }
+
+    private void resolveUses(Statement s) {
+        if (s.keyword.equals("uses") && !isExtension(s)) {
+            typeUses(s, true);
+        }
+        for (Statement c : s.substmts) {
+            resolveUses(c);
+        }
+    }
+
+    private void typeUses(Statement stmt, boolean noErrorReport) {
+        String name = stmt.arg;
+        String prefix = null;
+        int colon = name.indexOf(':');
+        if (colon >= 0) {
+            prefix = name.substring(0, colon);
+            name = name.substring(colon + 1);
+        }
+        Statement pmodule;
+        if (stmt.groupingResolved) {
+            if (stmt.grouping == null && !noErrorReport) {
+                if (prefix == null || prefix.equals(stmt.module.modulePrefix)) {
+                    pmodule = stmt.module;
+                } else {
+                    pmodule = prefixToModule(stmt.module, prefix, stmt);
+                    if (pmodule == null) {
+                        return;
+                    }
+                }
+                error(stmt, "GROUPING_NOT_FOUND", name + " in " + pmodule.arg);
+            }
+            return;
+        }
+        stmt.groupingResolved = true;
+        stmt.grouping = null;
+        if (prefix == null || prefix.equals(stmt.module.modulePrefix)) {
+            pmodule = stmt.module;
+            Statement grouping = searchGrouping(stmt, name);
+            if (grouping != null && typeGrouping(grouping)) {
+                stmt.grouping = grouping;
+            }
+        } else {
+            pmodule = prefixToModule(stmt.module, prefix, stmt);
+            if (pmodule == null) {
+                return;
+            }
+            stmt.grouping = searchGrouping(pmodule, name);
+        }
+        if (stmt.grouping == null && !noErrorReport) {
+            error(stmt, "GROUPING_NOT_FOUND", name + " in " + pmodule.arg);
+        }
+        if (stmt.grouping != null) {
+            stmt.grouping.unused = false;
+        }
+    }
+
+    private void typeAugment(Statement stmt) {
+        stmt.hasIChildren = true;
+        if (stmt.parent.keyword.equals("uses") && stmt.arg.startsWith("/")) {
+            stmt.targetResolved = true;
+            error(stmt, "BAD_VALUE", stmt.arg + " is not a descendant-node-id");
+        } else if (!stmt.parent.keyword.equals("uses") && !stmt.arg.startsWith("/")) {
+            stmt.targetResolved = true;
+            error(stmt, "BAD_VALUE", stmt.arg + " is not an absolute-node-id");
+        }
+    }
+
+    private void typeExtension(Statement stmt) {
+        String modulename = stmt.extensionModulename;
+        if (modulename == null) {
+            return;
+        }
+        Statement module = modulename.equals(stmt.module.arg) ? stmt.module
+                : getModule(modulename, stmt.extensionRevision);
+        if (module == null) {
+            return;
+        }
+        String identifier = stmt.keyword.substring(stmt.keyword.indexOf(':') + 1);
+        Statement extension = module.extensions.get(identifier);
+        if (extension == null) {
+            if (module.modulename.equals(stmt.origModule.modulename)) {
+                extension = stmt.origModule.extensions.get(identifier);
+            }
+            if (extension == null) {
+                error(stmt, "EXTENSION_NOT_DEFINED", identifier + " in " + module.arg);
+                return;
+            }
+        }
+        Statement argument = extension.searchOne("argument");
+        if (stmt.arg != null && argument == null) {
+            error(stmt, "EXTENSION_ARGUMENT_PRESENT", identifier);
+        } else if (stmt.arg == null && argument != null) {
+            error(stmt, "EXTENSION_NO_ARGUMENT_PRESENT", identifier);
+        }
+    }
+
+    // type_2 phase
+
+    private void typeTypedef(Statement stmt) {
+        if (stmt.validation == 2) {
+            return;
+        } else if (stmt.validation == 1) {
+            error(stmt, "CIRCULAR_DEPENDENCY", "type " + stmt.arg);
+            stmt.validation = 3;
+            return;
+        } else if (stmt.validation == 3) {
+            return;
+        }
+        stmt.validation = 1;
+        stmt.unused = true;
+        stmt.leafref = null;
+        stmt.leafrefExpanded = false;
+        if (stmt.parent.parent != null) {
+            Statement other = searchTypedef(stmt.parent.parent, stmt.arg);
+            if (other != null) {
+                error(stmt, "TYPE_ALREADY_DEFINED", stmt.arg);
+            }
+        }
+        Statement type = stmt.searchOne("type");
+        if (type == null) {
+            error(stmt, "EXPECTED_KEYWORD", "type");
+            stmt.validation = 2;
+            return;
+        }
+        typeType(type);
+        stmt.leafref = type.typeSpec;
+        checkCircularTypedef(type);
+        if (stmt.validation == 1) {
+            stmt.validation = 2;
+        }
+    }
+
+    private void checkCircularTypedef(Statement type) {
+        typeType(type);
+        if (type.typedef != null) {
+            typeTypedef(type.typedef);
+        }
+        for (Statement t : type.searchAll("type")) {
+            checkCircularTypedef(t);
+        }
+    }
+
+    private void typeType(Statement stmt) {
+        if (stmt.typeValidated) {
+            return;
+        }
+        stmt.typeValidated = true;
+        stmt.typedef = null;
+        stmt.typeSpec = null;
+        String name = stmt.arg;
+        String prefix = null;
+        int colon = name.indexOf(':');
+        if (colon >= 0) {
+            prefix = name.substring(0, colon);
+            name = name.substring(colon + 1);
+        }
+        if (prefix == null || prefix.equals(stmt.module.modulePrefix)) {
+            stmt.typedef = searchTypedef(stmt, name);
+            if (stmt.typedef == null) {
+                if (!BUILT_IN_TYPES.contains(name)) {
+                    error(stmt, "TYPE_NOT_FOUND", name + " in " + stmt.module.arg);
+                    return;
+                }
+            } else {
+                typeTypedef(stmt.typedef);
+                stmt.typedef.unused = false;
+            }
+        } else {
+            Statement pmodule = prefixToModule(stmt.module, prefix, stmt);
+            if (pmodule == null) {
+                return;
+            }
+            stmt.typedef = searchTypedef(pmodule, name);
+            if (stmt.typedef == null) {
+                error(stmt, "TYPE_NOT_FOUND", name + " in " + pmodule.arg);
+                return;
+            }
+            stmt.typedef.unused = false;
+        }
+        if (stmt.typedef != null) {
+            Statement typedefType = stmt.typedef.searchOne("type");
+            if (typedefType != null && typedefType.typeSpec != null) {
+                stmt.typeSpec = typedefType.typeSpec.copy();
+            }
+        }
+        Statement frac = stmt.searchOne("fraction-digits");
+        if (frac != null && !stmt.arg.equals("decimal64")) {
+            error(frac, "BAD_RESTRICTION", "fraction-digits");
+        } else if (stmt.arg.equals("decimal64") && frac == null) {
+            error(stmt, "MISSING_TYPE_SPEC_1", "decimal64 fraction-digits");
+        }
+        Statement path = stmt.searchOne("path");
+        if (path != null && !stmt.arg.equals("leafref")) {
+            error(path, "BAD_RESTRICTION", "path");
+        } else if (stmt.arg.equals("leafref") && path == null) {
+            error(stmt, "MISSING_TYPE_SPEC_1", "leafref path");
+        } else if (path != null) {
+            stmt.typeSpec = parsePath(path);
+        }
+        List<Statement> bases = stmt.searchAll("base");
+        if (!bases.isEmpty() && !stmt.arg.equals("identityref")) {
+            error(bases.get(0), "BAD_RESTRICTION", "base");
+        } else if (bases.size() > 1 && stmt.module.version.equals("1")) {
+            error(bases.get(1), "UNEXPECTED_KEYWORD", "base");
+        } else if (stmt.arg.equals("identityref") && bases.isEmpty()) {
+            error(stmt, "MISSING_TYPE_SPEC", "identityref base");
+        }
+        Statement requireInstance = stmt.searchOne("require-instance");
+        if (requireInstance != null && stmt.typeSpec != null) {
+            if (stmt.module.version.equals("1")) {
+                error(requireInstance, "BAD_RESTRICTION", "require-instance");
+            }
+            stmt.typeSpec.requireInstance = "true".equals(requireInstance.arg);
+        }
+        List<Statement> enums = stmt.searchAll("enum");
+        if (!enums.isEmpty() && stmt.module.version.equals("1") && !stmt.arg.equals("enumeration")) {
+            error(enums.get(0), "BAD_RESTRICTION", "enum");
+        } else if (stmt.arg.equals("enumeration") && enums.isEmpty()) {
+            error(stmt, "MISSING_TYPE_SPEC", "enumeration enum");
+        }
+        List<Statement> bits = stmt.searchAll("bit");
+        if (!bits.isEmpty() && stmt.module.version.equals("1") && !stmt.arg.equals("bits")) {
+            error(bits.get(0), "BAD_RESTRICTION", "bit");
+        } else if (stmt.arg.equals("bits") && bits.isEmpty()) {
+            error(stmt, "MISSING_TYPE_SPEC", "bits bit");
+        }
+        List<Statement> members = stmt.searchAll("type");
+        if (!members.isEmpty() && !stmt.arg.equals("union")) {
+            error(members.get(0), "BAD_RESTRICTION", "union");
+        } else if (members.isEmpty() && stmt.arg.equals("union")) {
+            error(stmt, "MISSING_TYPE_SPEC", "union type");
+        } else if (!members.isEmpty()) {
+            for (Statement t : members) {
+                typeType(t);
+            }
+            stmt.typeSpec = null;
+            if (stmt.module.version.equals("1")) {
+                Statement t = hasType(stmt, "empty", "leafref");
+                if (t != null) {
+                    error(stmt, "BAD_TYPE_IN_UNION", t.arg);
+                }
+            }
+        }
+    }
+
+    private static Statement hasType(Statement type, String... names) {
+        if (in(type.arg, names)) {
+            return type;
+        }
+        for (Statement t : type.searchAll("type")) {
+            Statement r = hasType(t, names);
+            if (r != null) {
+                return r;
+            }
+        }
+        if (type.typedef != null && type.typedef.validation == 2) {
+            Statement t = type.typedef.searchOne("type");
+            if (t != null) {
+                return hasType(t, names);
+            }
+        }
+        return null;
+    }
+
+    private void typeLeaf(Statement stmt) {
+        stmt.leafref = null;
+        stmt.leafrefExpanded = false;
+        Statement type = stmt.searchOne("type");
+        if (type == null) {
+            error(stmt, "EXPECTED_KEYWORD", "type");
+            return;
+        }
+        typeType(type);
+        stmt.leafref = type.typeSpec;
+        if (stmt.keyword.equals("leaf")) {
+            Statement mandatory = stmt.searchOne("mandatory");
+            if (stmt.searchOne("default") != null && mandatory != null && "true".equals(mandatory.arg)) {
+                error(stmt, "DEFAULT_AND_MANDATORY", null);
+            }
+        } else {
+            Statement min = stmt.searchOne("min-elements");
+            if (stmt.searchOne("default") != null && min != null && Integer.parseInt(min.arg) > 0) {
+                error(stmt, "DEFAULT_AND_MIN_ELEMENTS", null);
+            }
+        }
+    }
+
+    /**
+     * Parses a leafref path, validate_path_expr in pyang.
+     */
+    private PathSpec parsePath(Statement path) {
+        String s = path.arg;
+        if (s.startsWith("deref")) {
+            throw new YangModelException("deref paths are not supported: " + path.ref + ":" + path.line);
+        }
+        try {
+            int[] up = new int[1];
+            s = parseDotDot(s, up);
+            List<Object> down = new ArrayList<Object>();
+            s = parseDescendant(path, s, down);
+            return new PathSpec(up[0], down, path);
+        } catch (Abort e) {
+            return null;
+        }
+    }
+
+    private String parseDotDot(String s, int[] up) {
+        int i = 0;
+        up[0] = 0;
+        while (true) {
+            if (s.charAt(i) == '.' && s.charAt(i + 1) == '.') {
+                up[0]++;
+                i += 3;
+            } else if (s.charAt(i) == '/') {
+                i++;
+                if (up[0] == 0) {
+                    up[0] = -1;
+                }
+                break;
+            } else if (YangParser.isSpace(s.charAt(i))) {
+                i++;
+            } else {
+                break;
+            }
+        }
+        return s.substring(i);
+    }
+
+    private static String skipSpace(String s) {
+        int i = 0;
+        while (i < s.length() && YangParser.isSpace(s.charAt(i))) {
+            i++;
+        }
+        return s.substring(i);
+    }
+
+    private String parseIdentifier(Statement path, String s, Object[] result) throws Abort {
+        Matcher m = IDENTIFIER.matcher(s);
+        if (!m.lookingAt()) {
+            throw new Abort();
+        }
+        if (m.group(2) == null) {
+            result[0] = new PathSpec.Identifier(null, m.group(3));
+        } else {
+            if (prefixToModule(path.module, m.group(2), path) == null) {
+                throw new Abort();
+            }
+            result[0] = new PathSpec.Identifier(m.group(2), m.group(3));
+        }
+        return s.substring(m.end());
+    }
+
+    private String parseDescendant(Statement path, String s, List<Object> down) throws Abort {
+        Object[] identifier = new Object[1];
+        while (s.length() > 0 && !YangParser.isSpace(s.charAt(0)) && s.charAt(0) != ')') {
+            s = parseIdentifier(path, s, identifier);
+            down.add(identifier[0]);
+            s = skipSpace(s);
+            if (s.isEmpty()) {
+                break;
+            }
+            while (s.length() > 0 && s.charAt(0) == '[') {
+                s = parseKeyPredicate(path, s, down);
+                s = skipSpace(s);
+            }
+            if (s.length() > 0 && s.charAt(0) == '/') {
+                s = s.substring(1);
+            }
+        }
+        return s;
+    }
+
+    private String parseKeyPredicate(Statement path, String s, List<Object> down) throws Abort {
+        Object[] identifier = new Object[1];
+        s = skipSpace(s.substring(1));
+        s = parseIdentifier(path, s, identifier);
+        PathSpec.Identifier key = (PathSpec.Identifier) identifier[0];
+        s = skipSpace(s);
+        s = skipSpace(s.substring(1));
+        int[] up = new int[1];
+        if (s.startsWith("current")) {
+            s = skipSpace(s.substring(7));
+            s = skipSpace(s.substring(1));
+            s = skipSpace(s.substring(1));
+            s = skipSpace(s.substring(1));
+            s = parseDotDot(s, up);
+            s = skipSpace(s);
+        } else {
+            up[0] = -1;
+            s = s.substring(s.indexOf(']') + 1);
+            if (s.length() > 0 && s.charAt(0) == '/') {
+                s = s.substring(1);
+            }
+        }
+        List<PathSpec.Identifier> dn = new ArrayList<PathSpec.Identifier>();
+        while (s.length() > 0) {
+            s = parseIdentifier(path, s, identifier);
+            dn.add((PathSpec.Identifier) identifier[0]);
+            s = skipSpace(s);
+            if (s.isEmpty()) {
+                break;
+            }
+            if (s.charAt(0) == '/') {
+                s = s.substring(1);
+            } else if (s.charAt(0) == ']') {
+                s = s.substring(1);
+                break;
+            }
+        }
+        down.add(new PathSpec.Predicate(key, up[0], dn));
+        return s;
+    }
+
+    // expand phases
+
+    private void expand1Children(Statement stmt) {
+        if (stmt.keyword.equals("grouping") && stmt.expanded) {
+            return;
+        } else if (stmt.keyword.equals("choice")) {
+            for (Statement s : new ArrayList<Statement>(stmt.substmts)) {
+                if (!isExtension(s) && in(s.keyword, "leaf", "leaf-list", "container", "list", "choice", "anyxml", "anydata")) {
+                    createNewCase(stmt, s, true);
+                } else if (!isExtension(s) && s.keyword.equals("case")) {
+                    stmt.children.add(s);
+                    expand1Children(s);
+                }
+            }
+            return;
+        } else if (stmt.keyword.equals("action") || stmt.keyword.equals("rpc")) {
+            for (String keyword : new String[]{"input", "output"}) {
+                Statement s = stmt.searchOne(keyword);
+                if (s == null) {
+                    s = new Statement(stmt.top, stmt, stmt.ref, stmt.line, keyword, keyword);
+                    s.initStatement();
+                    s.children = new ArrayList<Statement>();
+                    s.module = stmt.module;
+                    stmt.children.add(s);
+                } else {
+                    boolean found = false;
+                    for (Statement c : s.substmts) {
+                        found |= !isExtension(c) && DATA_DEFINITION.contains(c.keyword);
+                    }
+                    if (!found) {
+                        error(s, "EXPECTED_DATA_DEF", keyword);
+                    }
+                }
+            }
+        }
+        for (Statement s : new ArrayList<Statement>(stmt.substmts)) {
+            if (isExtension(s)) {
+                continue;
+            }
+            if (s.keyword.equals("input") || s.keyword.equals("output")) {
+                Statement copy = s.copy(null, null, "type", "typedef", "grouping");
+                copy.arg = copy.keyword;
+                stmt.children.add(copy);
+                expand1Children(copy);
+            } else if (s.keyword.equals("uses")) {
+                expand1Uses(s);
+                for (Statement a : s.searchAll("augment")) {
+                    expand1Children(a);
+                }
+                inheritProperties(stmt, null);
+                for (Statement a : s.searchAll("augment")) {
+                    expand2Augment(a);
+                }
+            } else if (DATA_KEYWORDS.contains(s.keyword) && stmt.children != null) {
+                stmt.children.add(s);
+                expand1Children(s);
+            } else if (KEYWORD_WITH_CHILDREN.contains(s.keyword)) {
+                expand1Children(s);
+            }
+        }
+        if (stmt.keyword.equals("grouping")) {
+            stmt.expanded = true;
+        }
+    }
+
+    private Statement createNewCase(Statement choice, Statement child, boolean expand) {
+        Statement newCase = new Statement(child.top, choice, child.ref, child.line, "case", child.arg);
+        newCase.initStatement();
+        child.parent = newCase;
+        newCase.children = new ArrayList<Statement>();
+        newCase.children.add(child);
+        newCase.module = child.module;
+        choice.children.add(newCase);
+        if (expand) {
+            expand1Children(child);
+        }
+        return newCase;
+    }
+
+    private void expand1Uses(Statement stmt) {
+        if (stmt.grouping == null) {
+            return;
+        }
+        expand1Children(stmt.grouping);
+        for (Statement g : new ArrayList<Statement>(stmt.grouping.children)) {
+            Statement copy = g.copy(stmt.parent, stmt, USES_NOCOPY);
+            stmt.parent.children.add(copy);
+        }
+        Set<Statement> refined = new HashSet<Statement>();
+        for (Statement refinement : stmt.searchAll("refine")) {
+            Statement target = findRefineNode(stmt, refinement);
+            if (target == null) {
+                continue;
+            }
+            if (!refined.add(target)) {
+                error(refinement, "MULTIPLE_REFINE", target.arg);
+                continue;
+            }
+            for (int i = 0; i < REPLACE_REFINEMENTS.length; i++) {
+                String keyword = REPLACE_REFINEMENTS[i];
+                Statement replacement = refinement.searchOne(keyword);
+                if (replacement != null && in(target.keyword, REFINE_TARGETS[i])) {
+                    Statement old = target.searchOne(keyword);
+                    if (old != null) {
+                        target.substmts.remove(Statement.indexOf(target.substmts, old));
+                    }
+                    target.substmts.add(replacement);
+                } else if (replacement != null) {
+                    error(refinement, "BAD_REFINEMENT", target.keyword + " " + target.arg + " " + keyword);
+                }
+            }
+            for (String[] merge : MERGE_REFINEMENTS) {
+                for (Statement addition : refinement.searchAll(merge[0])) {
+                    if (in(target.keyword, Arrays.copyOfRange(merge, 1, merge.length))) {
+                        target.substmts.add(addition);
+                    } else {
+                        error(refinement, "BAD_REFINEMENT", target.keyword + " " + target.arg + " " + merge[0]);
+                        break;
+                    }
+                }
+            }
+            for (Statement s : refinement.substmts) {
+                if (isExtension(s)) {
+                    Statement old = target.searchOne(s.keyword);
+                    if (old != null) {
+                        target.substmts.remove(Statement.indexOf(target.substmts, old));
+                    }
+                    s.parent = target;
+                    target.substmts.add(s);
+                }
+            }
+        }
+        inheritProperties(stmt.parent, null);
+    }
+
+    private Statement findRefineNode(Statement uses, Statement refinement) {
+        Matcher m = NODE_ID.matcher("/" + refinement.arg);
+        Statement node = uses.parent;
+        while (m.find()) {
+            String prefix = m.group(2) == null ? "" : m.group(2);
+            Statement module = prefixToModule(uses.module, prefix, refinement);
+            if (node.children != null) {
+                if (module == null) {
+                    return null;
+                }
+                Statement child = searchChild(node.children, module.modulename, m.group(3));
+                if (child == null) {
+                    error(refinement, "NODE_NOT_FOUND", module.modulename + ":" + m.group(3));
+                    return null;
+                }
+                node = child;
+            } else {
+                error(refinement, "BAD_NODE_IN_REFINE", m.group(3));
+                return null;
+            }
+        }
+        return node;
+    }
+
+    private void inheritProperties(Statement stmt, Statement child) {
+        if (child != null) {
+            inherit(child, stmt.config, true);
+            return;
+        }
+        for (Statement s : stmt.searchAll("grouping")) {
+            inherit(s, null, true);
+        }
+        for (Statement s : stmt.searchAll("augment")) {
+            inherit(s, stmt.hasConfig ? stmt.config : Boolean.TRUE, true);
+        }
+        for (Statement s : new ArrayList<Statement>(stmt.children)) {
+            if (NO_EXPLICIT_CONFIG.contains(s.keyword)) {
+                inherit(s, null, false);
+            } else {
+                inherit(s, true, true);
+            }
+        }
+    }
+
+    private void inherit(Statement s, Boolean configValue, boolean allowExplicit) {
+        Statement cfg = s.searchOne("config");
+        if (cfg != null) {
+            if (configValue == null && !allowExplicit) {
+                error(cfg, "CONFIG_IGNORED", null);
+            } else if ("true".equals(cfg.arg) && Boolean.FALSE.equals(configValue)) {
+                error(cfg, "INVALID_CONFIG", null);
+            } else if ("true".equals(cfg.arg)) {
+                configValue = true;
+            } else if ("false".equals(cfg.arg)) {
+                configValue = false;
+            }
+        }
+        s.config = configValue;
+        s.hasConfig = true;
+        if (hasChildren(s)) {
+            for (Statement ch : s.searchAll("grouping")) {
+                inherit(ch, null, true);
+            }
+            for (Statement ch : new ArrayList<Statement>(s.children)) {
+                if (NO_EXPLICIT_CONFIG.contains(ch.keyword)) {
+                    inherit(ch, null, false);
+                } else if (ch.uses != null) {
+                    inherit(ch, configValue, true);
+                } else {
+                    inherit(ch, configValue, allowExplicit);
+                }
+            }
+        }
+    }
+
+    private void expand2Augment(Statement stmt) {
+        if (stmt.targetResolved) {
+            return;
+        }
+        stmt.targetResolved = true;
+        Statement target = findTargetNode(stmt);
+        stmt.targetNode = target;
+        if (target == null) {
+            return;
+        }
+        if (target.children == null) {
+            error(stmt, "BAD_NODE_IN_AUGMENT", target.arg);
+            return;
+        }
+        if (!stmt.module.modulename.equals(target.module.modulename)) {
+            if (stmt.module.version.equals("1") || stmt.searchOne("when") == null) {
+                for (Statement sc : stmt.children) {
+                    checkMandatory(sc);
+                }
+            }
+        }
+        for (Statement c : new ArrayList<Statement>(stmt.children)) {
+            Statement ch = searchChild(target.children, stmt.module.modulename, c.arg);
+            if (ch != null) {
+                if (ch.keyword.equals("__tmp_augment__")) {
+                    ch.module.undefinedAugmentNodes.remove(ch);
+                    if (c.children == null) {
+                        error(stmt, "BAD_NODE_IN_AUGMENT", c.arg);
+                        return;
+                    }
+                    target.children.set(Statement.indexOf(target.children, ch), c);
+                    c.parent = target;
+                    try {
+                        addTmpChildren(stmt, c, ch.children);
+                    } catch (Abort e) {
+                        return;
+                    }
+                } else {
+                    error(c, "DUPLICATE_CHILD_NAME", stmt.arg + " " + c.arg);
+                    return;
+                }
+            } else if (target.keyword.equals("choice") && !c.keyword.equals("case")) {
+                Statement newCase = createNewCase(target, c, false);
+                inheritProperties(target, newCase);
+            } else {
+                target.children.add(c);
+                c.parent = target;
+                inheritProperties(target, c);
+            }
+        }
+    }
+
+    private void addTmpChildren(Statement stmt, Statement node, List<Statement> tmpChildren) throws Abort {
+        for (Statement tmp : tmpChildren) {
+            Statement ch = searchChild(node.children, stmt.module.modulename, tmp.arg);
+            if (ch != null) {
+                ch.module.undefinedAugmentNodes.remove(tmp);
+                if (ch.children == null) {
+                    error(tmp, "BAD_NODE_IN_AUGMENT", ch.arg);
+                    throw new Abort();
+                }
+                addTmpChildren(stmt, ch, tmp.children);
+            } else if (node.keyword.equals("choice") && !tmp.keyword.equals("case")) {
+                createNewCase(node, tmp, false);
+            } else {
+                node.children.add(tmp);
+                tmp.parent = node;
+            }
+        }
+    }
+
+    private void checkMandatory(Statement s) {
+        if (s.keyword.equals("leaf")) {
+            Statement m = s.searchOne("mandatory");
+            if (m != null && "true".equals(m.arg)) {
+                error(m, "AUGMENT_MANDATORY", s.arg);
+            }
+        } else if (s.keyword.equals("list") || s.keyword.equals("leaf-list")) {
+            Statement m = s.searchOne("min-elements");
+            if (m != null && Integer.parseInt(m.arg) >= 1) {
+                error(m, "AUGMENT_MANDATORY", s.arg);
+            }
+        } else if (s.keyword.equals("container")) {
+            if (s.searchOne("presence") == null) {
+                for (Statement sc : s.children) {
+                    checkMandatory(sc);
+                }
+            }
+        }
+    }
+
+    private Statement findTargetNode(Statement stmt) {
+        boolean absolute = stmt.arg.startsWith("/");
+        Matcher m = NODE_ID.matcher(absolute ? stmt.arg : "/" + stmt.arg);
+        if (!m.find()) {
+            return null;
+        }
+        Statement module = prefixToModule(stmt.module, m.group(2) == null ? "" : m.group(2), stmt);
+        if (module == null) {
+            return null;
+        }
+        Statement node;
+        if (in(stmt.parent.keyword, "module", "submodule") || absolute) {
+            node = searchChild(module.children, module.modulename, m.group(3));
+        } else {
+            List<Statement> chs = new ArrayList<Statement>();
+            for (Statement c : stmt.parent.parent.children) {
+                if (c.uses != null && c.uses.get(0) == stmt.parent) {
+                    chs.add(c);
+                }
+            }
+            node = searchChild(chs, module.modulename, m.group(3));
+        }
+        if (!isSubmoduleIncluded(stmt, node)) {
+            node = null;
+        }
+        if (node == null) {
+            error(stmt, "NODE_NOT_FOUND", module.modulename + ":" + m.group(3));
+            return null;
+        }
+        while (m.find()) {
+            String identifier = m.group(3);
+            if (node.children == null) {
+                error(stmt, "NODE_NOT_FOUND", module.modulename + ":" + identifier);
+                return null;
+            }
+            module = prefixToModule(stmt.module, m.group(2) == null ? "" : m.group(2), stmt);
+            if (module == null) {
+                return null;
+            }
+            Statement child = searchChild(node.children, module.modulename, identifier);
+            if (child == null && module == stmt.module) {
+                child = new Statement(node.top, node, stmt.ref, stmt.line, "__tmp_augment__", identifier);
+                child.initStatement();
+                child.module = module;
+                child.children = new ArrayList<Statement>();
+                child.config = node.config;
+                child.hasConfig = node.hasConfig;
+                node.children.add(child);
+                stmt.module.undefinedAugmentNodes.add(child);
+            } else if (child == null) {
+                error(stmt, "NODE_NOT_FOUND", module.modulename + ":" + identifier);
+                return null;
+            }
+            node = child;
+        }
+        return node;
+    }
+
+    private static Statement searchChild(List<Statement> children, String modulename, String identifier) {
+        for (Statement child : children) {
+            if (identifier.equals(child.arg)) {
+                if (child.module.modulename.equals(modulename)
+                        || (child.module.includingModulename != null && child.module.includingModulename.equals(modulename))) {
+                    return child;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Statement searchDataNode(List<Statement> children, String modulename, String identifier,
+                                            String lastSkipped) {
+        for (Statement child : children) {
+            if (in(child.keyword, "choice", "case") || child.keyword.equals(lastSkipped)) {
+                Statement r = searchDataNode(child.children, modulename, identifier, null);
+                if (r != null) {
+                    return r;
+                }
+            } else if (identifier.equals(child.arg) && child.module.modulename.equals(modulename)) {
+                return child;
+            }
+        }
+        return null;
+    }
+
+    private static Statement searchTypedef(Statement stmt, String name) {
+        Statement mod = stmt.origModule;
+        while (stmt != null) {
+            Statement t = stmt.typedefs == null ? null : stmt.typedefs.get(name);
+            if (t != null) {
+                if (mod != null && mod != t.origModule && t.origModule.keyword.equals("submodule")
+                        && mod.search("include", t.origModule.arg) == null) {
+                    return null;
+                }
+                return t;
+            }
+            stmt = stmt.parent;
+        }
+        return null;
+    }
+
+    private static Statement searchGrouping(Statement stmt, String name) {
+        Statement mod = stmt.origModule;
+        while (stmt != null) {
+            Statement g = stmt.groupings == null ? null : stmt.groupings.get(name);
+            if (g != null) {
+                if (mod != null && mod != g.origModule && g.origModule.keyword.equals("submodule")
+                        && mod.search("include", g.origModule.arg) == null) {
+                    return null;
+                }
+                return g;
+            }
+            stmt = stmt.parent;
+        }
+        return null;
+    }
+
+    private static boolean isSubmoduleIncluded(Statement src, Statement tgt) {
+        if (tgt == null || tgt.origModule == null) {
+            return true;
+        }
+        return !(tgt.origModule.keyword.equals("submodule") && src.origModule != tgt.origModule
+                && src.origModule.modulename.equals(tgt.origModule.modulename)
+                && src.origModule.search("include", tgt.origModule.arg) == null);
+    }
+
+    // unique name and reference phases
+
+    private void uniqueNameChildren(Statement stmt) {
+        Map<String, Statement> names = new HashMap<String, Statement>();
+        for (Statement c : stmt.children) {
+            checkUniqueName(stmt, c, names);
+        }
+    }
+
+    private void checkUniqueName(Statement stmt, Statement c, Map<String, Statement> names) {
+        String key = c.module.modulename + ":" + c.arg;
+        if (names.containsKey(key)) {
+            error(c, "DUPLICATE_CHILD_NAME", stmt.arg + " " + c.arg);
+        } else {
+            names.put(key, c);
+        }
+        if (c.keyword.equals("choice")) {
+            for (Statement cs : c.children) {
+                for (Statement cc : cs.children) {
+                    checkUniqueName(stmt, cc, names);
+                }
+            }
+        }
+    }
+
+    private void referenceList(Statement stmt) {
+        if (stmt.validation == 2) {
+            return;
+        }
+        stmt.validation = 2;
+        Statement key = stmt.searchOne("key");
+        if (Boolean.TRUE.equals(stmt.config) && key == null) {
+            error(stmt, "NEED_KEY", null);
+        }
+        stmt.key = new ArrayList<Statement>();
+        if (key != null && key.arg != null) {
+            List<String> found = new ArrayList<String>();
+            for (String x : key.arg.split("\\s+")) {
+                if (x.isEmpty()) {
+                    continue;
+                }
+                String name = x;
+                int colon = x.indexOf(':');
+                if (colon >= 0) {
+                    name = x.substring(colon + 1);
+                    if (!x.substring(0, colon).equals(stmt.module.modulePrefix)) {
+                        error(key, "BAD_KEY", x);
+                        return;
+                    }
+                }
+                Statement ptr = null;
+                for (Statement c : stmt.children) {
+                    if (name.equals(c.arg)) {
+                        ptr = c;
+                        break;
+                    }
+                }
+                if (found.contains(x)) {
+                    error(key, "DUPLICATE_KEY", x);
+                    return;
+                } else if (ptr == null || !ptr.keyword.equals("leaf")) {
+                    error(key, "BAD_KEY", x);
+                    return;
+                }
+                Statement type = ptr.searchOne("type");
+                if (stmt.module.version.equals("1") && type != null) {
+                    Statement t = hasType(type, "empty");
+                    if (t != null) {
+                        error(key, "BAD_TYPE_IN_KEY", t.arg + " " + x);
+                        return;
+                    }
+                }
+                Statement defaultValue = ptr.searchOne("default");
+                if (defaultValue != null) {
+                    error(defaultValue, "KEY_HAS_DEFAULT", null);
+                }
+                for (String substmt : new String[]{"if-feature", "when"}) {
+                    Statement s = ptr.searchOne(substmt);
+                    if (s != null) {
+                        error(s, "KEY_BAD_SUBSTMT", substmt);
+                    }
+                }
+                Statement mandatory = ptr.searchOne("mandatory");
+                if (mandatory != null && "false".equals(mandatory.arg)) {
+                    error(mandatory, "KEY_HAS_MANDATORY_FALSE", null);
+                }
+                if (!equal(ptr.config, stmt.config)) {
+                    Statement config = ptr.searchOne("config");
+                    error(config != null ? config : ptr, "KEY_BAD_CONFIG", name);
+                }
+                stmt.key.add(ptr);
+                found.add(x);
+            }
+        }
+        referenceUnique(stmt);
+    }
+
+    private static boolean equal(Boolean a, Boolean b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    private void referenceUnique(Statement stmt) {
+        for (Statement u : stmt.searchAll("unique")) {
+            List<Statement> found = new ArrayList<Statement>();
+            Boolean uconfig = null;
+            boolean hasUconfig = false;
+            for (String expr : u.arg.split("\\s+")) {
+                if (expr.isEmpty()) {
+                    continue;
+                }
+                Statement ptr = stmt;
+                for (String x : expr.split("/")) {
+                    if (x.isEmpty()) {
+                        continue;
+                    }
+                    if (!in(ptr.keyword, "container", "list", "choice", "case")) {
+                        error(u, "BAD_UNIQUE_PART", x);
+                        return;
+                    }
+                    String name = x;
+                    int colon = x.indexOf(':');
+                    if (colon >= 0) {
+                        name = x.substring(colon + 1);
+                        if (!x.substring(0, colon).equals(stmt.module.modulePrefix)) {
+                            error(u, "BAD_UNIQUE_PART", x);
+                            return;
+                        }
+                    }
+                    Statement next = null;
+                    for (Statement c : ptr.children) {
+                        if (name.equals(c.arg)) {
+                            next = c;
+                            break;
+                        }
+                    }
+                    ptr = next;
+                    if (ptr == null) {
+                        error(u, "BAD_UNIQUE_PART", x);
+                        return;
+                    }
+                    if (ptr.keyword.equals("list")) {
+                        error(u, "BAD_UNIQUE_PART_LIST", x);
+                    }
+                }
+                if (!ptr.keyword.equals("leaf")) {
+                    error(u, "BAD_UNIQUE", expr);
+                    return;
+                }
+                if (found.contains(ptr)) {
+                    error(u, "DUPLICATE_UNIQUE", expr);
+                }
+                if (ptr.hasConfig) {
+                    if (!hasUconfig) {
+                        uconfig = ptr.config;
+                        hasUconfig = uconfig != null;
+                    } else if (!equal(uconfig, ptr.config)) {
+                        error(u, "BAD_UNIQUE_CONFIG", expr);
+                        return;
+                    }
+                }
+                found.add(ptr);
+            }
+            if (found.isEmpty()) {
+                error(u, "BAD_UNIQUE", u.arg);
+                return;
+            }
+            if (!stmt.key.isEmpty()) {
+                List<Statement> key = new ArrayList<Statement>(stmt.key);
+                key.removeAll(found);
+                if (key.isEmpty()) {
+                    error(u, "UNIQUE_IS_KEY", null);
+                }
+            }
+        }
+    }
+
+    private void referenceChoice(Statement stmt) {
+        Statement d = stmt.searchOne("default");
+        if (d == null) {
+            return;
+        }
+        Statement m = stmt.searchOne("mandatory");
+        if (m != null && "true".equals(m.arg)) {
+            error(stmt, "DEFAULT_AND_MANDATORY", null);
+        }
+        Statement ptr = null;
+        for (Statement c : stmt.children) {
+            if (d.arg.equals(c.arg)) {
+                ptr = c;
+                break;
+            }
+        }
+        if (ptr == null) {
+            error(d, "DEFAULT_CASE_NOT_FOUND", d.arg);
+        } else {
+            checkNoDefaults(ptr);
+        }
+    }
+
+    private void checkNoDefaults(Statement s) {
+        for (Statement c : s.children) {
+            if (in(c.keyword, "leaf", "choice")) {
+                Statement m = c.searchOne("mandatory");
+                if (m != null && "true".equals(m.arg)) {
+                    error(c, "MANDATORY_NODE_IN_DEFAULT_CASE", null);
+                }
+            } else if (in(c.keyword, "list", "leaf-list")) {
+                Statement m = c.searchOne("min-elements");
+                if (m != null && Integer.parseInt(m.arg) > 0) {
+                    error(c, "MANDATORY_NODE_IN_DEFAULT_CASE", null);
+                }
+            } else if (c.keyword.equals("container")) {
+                Statement p = c.searchOne("presence");
+                if (p == null || "false".equals(p.arg)) {
+                    checkNoDefaults(c);
+                }
+            }
+        }
+    }
+
+    private void referenceLeafref(Statement stmt) {
+        if (stmt.leafref == null || stmt.leafrefExpanded) {
+            return;
+        }
+        PathSpec spec = stmt.leafref;
+        Statement ptr = validateLeafrefPath(stmt, spec, !spec.requireInstance);
+        if (ptr == null) {
+            return;
+        }
+        spec.targetNode = ptr;
+        stmt.leafrefExpanded = true;
+    }
+
+    /**
+     * @return the leaf the path points to, or null on error
+     */
+    private Statement validateLeafrefPath(Statement stmt, PathSpec spec, boolean acceptNonConfigTarget) {
+        Statement path = spec.path;
+        Statement localModule;
+        if (path.parent.parent != null && path.parent.parent.keyword.equals("typedef")) {
+            localModule = path.module.version.equals("1") ? path.module : stmt.module;
+        } else if (stmt.keyword.equals("module")) {
+            localModule = stmt;
+        } else {
+            localModule = stmt.module;
+        }
+        boolean inTypedef = stmt.keyword.equals("typedef");
+        try {
+            Statement ptr = followPath(stmt, path, localModule, inTypedef, stmt, spec.up, spec.down);
+            if (!in(ptr.keyword, "leaf", "leaf-list")) {
+                error(path, "LEAFREF_NOT_LEAF", stmt.arg);
+                return null;
+            }
+            if (Boolean.TRUE.equals(stmt.config) && Boolean.FALSE.equals(ptr.config) && !acceptNonConfigTarget) {
+                error(path, "LEAFREF_BAD_CONFIG", stmt.arg + " " + ptr.arg);
+            }
+            if (ptr == stmt) {
+                error(path, "CIRCULAR_DEPENDENCY", "leafref " + path.arg);
+                return null;
+            }
+            return ptr;
+        } catch (NotFound e) {
+            return null;
+        } catch (Abort e) {
+            return null;
+        }
+    }
+
+    private Object[] findIdentifier(Statement stmt, Statement path, Statement localModule, boolean inTypedef,
+                                    PathSpec.Identifier identifier) throws NotFound, Abort {
+        if (identifier.prefix != null) {
+            Statement pmodule = prefixToModule(path.module, identifier.prefix, stmt);
+            if (pmodule == null) {
+                throw new NotFound();
+            }
+            return new Object[]{pmodule, identifier.name};
+        } else if (inTypedef && !stmt.module.version.equals("1")) {
+            throw new Abort();
+        }
+        return new Object[]{localModule, identifier.name};
+    }
+
+    private Statement followPath(Statement stmt, Statement path, Statement localModule, boolean inTypedef,
+                                 Statement ptr, int up, List<?> dn) throws NotFound, Abort {
+        String lastSkipped = null;
+        int i = 0;
+        if (up == -1) {
+            Object[] identifier = findIdentifier(stmt, path, localModule, inTypedef, (PathSpec.Identifier) dn.get(0));
+            Statement pmodule = (Statement) identifier[0];
+            String name = (String) identifier[1];
+            ptr = searchChild(pmodule.children, pmodule.modulename, name);
+            if (!isSubmoduleIncluded(path, ptr)) {
+                ptr = null;
+            }
+            if (ptr == null) {
+                for (Statement inc : path.origModule.searchAll("include")) {
+                    Statement submodule = getModule(inc.arg, null);
+                    if (submodule != null) {
+                        ptr = searchChild(submodule.children, submodule.arg, name);
+                        if (ptr != null) {
+                            break;
+                        }
+                    }
+                }
+                if (ptr == null) {
+                    error(path, "LEAFREF_IDENTIFIER_NOT_FOUND", pmodule.arg + ":" + name + " " + stmt.arg);
+                    throw new NotFound();
+                }
+            }
+            i = 1;
+        } else {
+            while (up > 0) {
+                if (ptr == null) {
+                    error(path, "LEAFREF_TOO_MANY_UP", stmt.arg);
+                    throw new NotFound();
+                }
+                if (in(ptr.keyword, "augment", "grouping")) {
+                    throw new Abort();
+                }
+                ptr = ptr.parent;
+                if (ptr == null) {
+                    error(path, "LEAFREF_TOO_MANY_UP", stmt.arg);
+                    throw new NotFound();
+                }
+                while (in(ptr.keyword, "case", "choice", "input", "output")) {
+                    if (in(ptr.keyword, "input", "output")) {
+                        lastSkipped = ptr.keyword;
+                    }
+                    ptr = ptr.parent;
+                    if (ptr == null) {
+                        error(path, "LEAFREF_TOO_MANY_UP", stmt.arg);
+                        throw new NotFound();
+                    }
+                }
+                up--;
+            }
+        }
+        if (in(ptr.keyword, "augment", "grouping")) {
+            throw new Abort();
+        }
+        while (i < dn.size()) {
+            Object step = dn.get(i);
+            String modulename;
+            String name;
+            if (step instanceof PathSpec.Identifier) {
+                Object[] identifier = findIdentifier(stmt, path, localModule, inTypedef, (PathSpec.Identifier) step);
+                modulename = ((Statement) identifier[0]).modulename;
+                name = (String) identifier[1];
+            } else if (ptr.keyword.equals("list")) {
+                while (i < dn.size() && dn.get(i) instanceof PathSpec.Predicate) {
+                    PathSpec.Predicate predicate = (PathSpec.Predicate) dn.get(i);
+                    Object[] identifier = findIdentifier(stmt, path, localModule, inTypedef, predicate.key);
+                    Statement pmodule = (Statement) identifier[0];
+                    String pname = (String) identifier[1];
+                    if (ptr.key == null || searchChild(ptr.key, pmodule.modulename, pname) == null) {
+                        error(path, "LEAFREF_NO_KEY", pmodule.arg + ":" + pname + " " + stmt.arg);
+                        throw new NotFound();
+                    }
+                    if (predicate.up == 0) {
+                        i++;
+                        break;
+                    }
+                    Statement xleaf = followPath(stmt, path, localModule, inTypedef, stmt, predicate.up, predicate.down);
+                    if (!xleaf.keyword.equals("leaf")) {
+                        error(path, "LEAFREF_BAD_PREDICATE_PTR", pmodule.arg + ":" + pname + " " + xleaf.arg);
+                        throw new NotFound();
+                    }
+                    i++;
+                }
+                continue;
+            } else {
+                error(path, "LEAFREF_BAD_PREDICATE", ptr.arg + " " + stmt.arg);
+                throw new NotFound();
+            }
+            if (hasChildren(ptr)) {
+                ptr = searchDataNode(ptr.children, modulename, name, lastSkipped);
+                if (!isSubmoduleIncluded(path, ptr)) {
+                    ptr = null;
+                }
+                if (ptr == null) {
+                    error(path, "LEAFREF_IDENTIFIER_NOT_FOUND", modulename + ":" + name + " " + stmt.arg);
+                    throw new NotFound();
+                }
+            } else {
+                error(path, "LEAFREF_IDENTIFIER_BAD_NODE", modulename + ":" + name + " " + stmt.arg);
+                throw new NotFound();
+            }
+            i++;
+        }
+        return ptr;
+    }
+}
@@ -0,0 +1,40 @@
+package com.airlenet.yang.codegen.yang;
+
+/**
+ * An error or warning found while parsing or validating, tagged with the
+ * error code pyang uses for the same problem.
+ */
+public class YangError {
+    private final String ref;
+    private final int line;
+    private final String tag;
+    private final String message;
+
+    YangError(String ref, int line, String tag, String message) {
+        this.ref = ref;
+        this.line = line;
+        this.tag = tag;
+        this.message = message;
+    }
+
+    public String getRef() {
+        return ref;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return ref + ":" + line + ": " + tag + (message == null ? "" : ": " + message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.airlenet.yang.codegen.yang;
+
+/**
+ * Thrown when modules contain errors or constructs the java backend does
+ * not handle, callers fall back to pyang.
+ */
+public class YangModelException extends RuntimeException {
+
+    public YangModelException(String message) {
+        super(message);
+    }
+
+    public YangModelException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,294 @@
+package com.airlenet.yang.codegen.yang;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parser for the yang syntax, a port of the pyang tokenizer. It does not
+ * check keywords or grammar, errors are added to the given list with the
+ * tags pyang uses.
+ */
+public class YangParser {
+
+    private static final Pattern KEYWORD = Pattern.compile("(([_A-Za-z][._\\-A-Za-z0-9]*):)?([_A-Za-z][._\\-A-Za-z0-9]*)");
+
+    private static class Abort extends Exception {
+    }
+
+    private static class Eof extends Exception {
+    }
+
+    private final List<YangError> errors;
+    private String ref;
+    private Deque<String> lines;
+    private String buf;
+    private int line;
+    private int offset;
+    private boolean yang11;
+    private Statement top;
+
+    public YangParser(List<YangError> errors) {
+        this.errors = errors;
+    }
+
+    /**
+     * @return the top level statement, null if the text has errors
+     */
+    public Statement parse(String ref, String text) {
+        this.ref = ref;
+        this.lines = splitLines(text);
+        this.buf = "";
+        this.line = 0;
+        this.offset = 0;
+        this.yang11 = false;
+        this.top = null;
+        Statement stmt;
+        try {
+            stmt = parseStatement(null);
+        } catch (Abort e) {
+            return null;
+        } catch (Eof e) {
+            error("EOF_ERROR", null);
+            return null;
+        }
+        try {
+            peek();
+        } catch (Eof e) {
+            return stmt;
+        } catch (RuntimeException e) {
+            // reported as trailing garbage below
+        }
+        error("TRAILING_GARBAGE", null);
+        return null;
+    }
+
+    private Statement parseStatement(Statement parent) throws Abort, Eof {
+        String[] keyword = getKeyword();
+        char tok = peek();
+        String arg = null;
+        if (tok != '{' && tok != ';') {
+            arg = getString(false);
+        }
+        if (keyword[0] == null && keyword[1].equals("yang-version") && "1.1".equals(arg)) {
+            yang11 = true;
+        }
+        Statement stmt = new Statement(top, parent, ref, line, keyword[1], arg);
+        if (keyword[0] != null) {
+            stmt.prefix = keyword[0];
+        }
+        if (top == null) {
+            top = stmt;
+        }
+        tok = peek();
+        if (tok == '{') {
+            skipTok();
+            while (peek() != '}') {
+                stmt.substmts.add(parseStatement(stmt));
+            }
+            skipTok();
+        } else if (tok == ';') {
+            skipTok();
+        } else {
+            error("INCOMPLETE_STATEMENT", keyword[1] + ", looking at " + tok);
+            throw new Abort();
+        }
+        return stmt;
+    }
+
+    /**
+     * Splits like python's splitlines(True) after universal newline
+     * translation, each line keeps its terminator.
+     */
+    private static Deque<String> splitLines(String text) {
+        String s = text.replace("\r\n", "\n").replace('\r', '\n');
+        Deque<String> result = new ArrayDeque<String>();
+        int start = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '\n' || c == '\u000b' || c == '\u000c' || c == '\u001c' || c == '\u001d' || c == '\u001e'
+                    || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                result.add(s.substring(start, i + 1));
+                start = i + 1;
+            }
+        }
+        if (start < s.length()) {
+            result.add(s.substring(start));
+        }
+        return result;
+    }
+
+    static boolean isSpace(char c) {
+        return Character.isWhitespace(c) || Character.isSpaceChar(c);
+    }
+
+    private void error(String tag, String message) {
+        errors.add(new YangError(ref, line, tag, message));
+    }
+
+    private void readline() throws Eof {
+        if (lines.isEmpty()) {
+            throw new Eof();
+        }
+        buf = lines.removeFirst();
+        line++;
+        offset = 0;
+    }
+
+    private void setBuf(int i) {
+        offset += i;
+        buf = buf.substring(i);
+    }
+
+    private void skip() throws Eof {
+        int buflen = buf.length();
+        while (true) {
+            int i = 0;
+            while (i < buf.length() && isSpace(buf.charAt(i))) {
+                i++;
+            }
+            buf = buf.substring(i);
+            if (buf.isEmpty()) {
+                readline();
+                buflen = buf.length();
+            } else {
+                offset += buflen - buf.length();
+                break;
+            }
+        }
+        if (buf.charAt(0) == '/') {
+            if (buf.charAt(1) == '/') {
+                readline();
+                skip();
+            } else if (buf.charAt(1) == '*') {
+                int i = buf.indexOf("*/");
+                while (i == -1) {
+                    readline();
+                    i = buf.indexOf("*/");
+                }
+                setBuf(i + 2);
+                skip();
+            }
+        }
+    }
+
+    /**
+     * @return prefix, null if none, and identifier
+     */
+    private String[] getKeyword() throws Abort, Eof {
+        skip();
+        Matcher m = KEYWORD.matcher(buf);
+        if (!m.lookingAt()) {
+            error("SYNTAX_ERROR", "illegal keyword: " + buf);
+            throw new Abort();
+        }
+        setBuf(m.end());
+        char c = buf.charAt(0);
+        if (!(isSpace(c) || (c == '/' && (buf.charAt(1) == '/' || buf.charAt(1) == '*')) || c == ';' || c == '{')) {
+            error("SYNTAX_ERROR", "expected separator, got: \"" + buf.substring(0, Math.min(6, buf.length())) + "...\"");
+            throw new Abort();
+        }
+        return new String[]{m.group(2), m.group(3)};
+    }
+
+    private char peek() throws Eof {
+        skip();
+        if (buf.isEmpty()) {
+            throw new Eof();
+        }
+        return buf.charAt(0);
+    }
+
+    private void skipTok() throws Eof {
+        skip();
+        setBuf(1);
+    }
+
+    private String getString(boolean needQuote) throws Abort, Eof {
+        skip();
+        char first = buf.charAt(0);
+        if (first == ';' || first == '{' || first == '}') {
+            error("EXPECTED_ARGUMENT", String.valueOf(first));
+            throw new Abort();
+        }
+        if (first == '"' || first == '\'') {
+            char quote = first;
+            StringBuilder result = new StringBuilder();
+            int indentpos = offset;
+            int i = 1;
+            while (true) {
+                int buflen = buf.length();
+                int start = i;
+                while (i < buflen) {
+                    char c = buf.charAt(i);
+                    if (c == quote) {
+                        result.append(buf, start, i);
+                        setBuf(i + 1);
+                        skip();
+                        if (buf.charAt(0) == '+') {
+                            setBuf(1);
+                            skip();
+                            result.append(getString(true));
+                        }
+                        return result.toString();
+                    } else if (quote == '"' && c == '\\' && i < buflen - 1) {
+                        char next = buf.charAt(i + 1);
+                        String special = null;
+                        if (next == 'n') {
+                            special = "\n";
+                        } else if (next == 't') {
+                            special = "\t";
+                        } else if (next == '"') {
+                            special = "\"";
+                        } else if (next == '\\') {
+                            special = "\\";
+                        } else if (yang11) {
+                            error("ILLEGAL_ESCAPE", String.valueOf(next));
+                            throw new Abort();
+                        } else {
+                            error("ILLEGAL_ESCAPE_WARN", String.valueOf(next));
+                        }
+                        if (special != null) {
+                            result.append(buf, start, i);
+                            result.append(special);
+                            i++;
+                            start = i + 1;
+                        }
+                    }
+                    i++;
+                }
+                result.append(buf, start, i);
+                readline();
+                i = 0;
+                if (quote == '"') {
+                    buflen = buf.length();
+                    while (i < buflen && isSpace(buf.charAt(i)) && i <= indentpos) {
+                        i++;
+                    }
+                    if (i == buflen) {
+                        i = 0;
+                    }
+                }
+            }
+        } else if (needQuote) {
+            error("EXPECTED_QUOTED_STRING", null);
+            throw new Abort();
+        } else {
+            int buflen = buf.length();
+            int i = 0;
+            while (i < buflen) {
+                char c = buf.charAt(i);
+                if (isSpace(c) || c == ';' || c == '{' || c == '}' || buf.startsWith("//", i)
+                        || buf.startsWith("/*", i) || buf.startsWith("*/", i)) {
+                    break;
+                }
+                i++;
+            }
+            String result = buf.substring(0, i);
+            setBuf(i);
+            return result;
+        }
+    }
+}
@@ -37,6 +37,7 @@ import errno
 import sys
 import collections
 import re
+import struct
 
 from datetime import date
 from pyang import plugin, util, error
@@ -65,8 +66,11 @@ class JNCPlugin(plugin.PyangPlugin):
         """Adds 'jnc' as a valid output format and sets the format to jnc if
         the -d/--jnc-output option is set, but -f/--format is not.
 
+        Several modules may be given in one invocation, they are generated
+        from a single parsed context.
+
         """
-        self.multiple_modules = False
+        self.multiple_modules = True
         fmts['jnc'] = self
 
         args = sys.argv[1:]
@@ -135,7 +139,43 @@ class JNCPlugin(plugin.PyangPlugin):
                 '--jnc-classpath-schema-loading',
                 dest='classpath_schema_loading',
                 action='store_true',
-                help='Load schema files using classpath rather than location.')
+                help='Load schema files using classpath rather than location.'),
+            optparse.make_option(
+                '--jnc-binary-schema',
+                dest='binary_schema',
+                action='store_true',
+                help='Write schema files in the binary format of JNC.'),
+            optparse.make_option(
+                '--jnc-static-schema',
+                dest='static_schema',
+                action='store_true',
+                help='Build the schema in the root classes instead of ' +
+                     'reading schema files.'),
+            optparse.make_option(
+                '--jnc-leaf-fields',
+                dest='leaf_fields',
+                action='store_true',
+                help='Refer to leaves from fields of their parent classes, ' +
+                     'kept in sync with the children.'),
+            optparse.make_option(
+                '--jnc-marshallers',
+                dest='marshallers',
+                action='store_true',
+                help='Encode the leaves of the classes to XML without ' +
+                     'prefix lookups, and numbers without escaping.'),
+            optparse.make_option(
+                '--jnc-unmarshallers',
+                dest='unmarshallers',
+                action='store_true',
+                help='Read the leaves of the classes from XML streams ' +
+                     'by their typed setters.'),
+            optparse.make_option(
+                '--jnc-root',
+                dest='roots',
+                action='append',
+                help='Generate only the classes and schema nodes on and ' +
+                     'below this data node path, like /interfaces/interface. ' +
+                     'Can be given several times.')
             ]
         g = optparser.add_option_group('JNC output specific options')
         g.add_options(optlist)
@@ -151,6 +191,7 @@ class JNCPlugin(plugin.PyangPlugin):
         if ctx.opts.jnc_help:
             self.print_help()
             sys.exit(0)
+        self.reset()
         if ctx.opts.format == 'jnc':
             if not ctx.opts.directory:
                 ctx.opts.directory = 'java/gen'
@@ -164,6 +205,17 @@ class JNCPlugin(plugin.PyangPlugin):
             self.ctx = ctx
             self.d = ctx.opts.directory.split('.')
 
+    def reset(self):
+        """Forgets the modules and classes of a previous run, a pyang worker
+        runs the plugin for many invocations in one interpreter.
+
+        """
+        self.done = set([])
+        del outputted_warnings[:]
+        augmented_modules.clear()
+        class_hierarchy.clear()
+        pruned.clear()
+
     def setup_fmt(self, ctx):
         """Disables implicit errors for the Context"""
         ctx.implicit_errors = False
@@ -213,6 +265,14 @@ class JNCPlugin(plugin.PyangPlugin):
                     if module_stmt in (imported + included):
                         module_set.add(self.ctx.modules[(module_stmt, rev)])
 
+        # Leave out the subtrees that are not selected by --jnc-root
+        if ctx.opts.roots:
+            roots = [[name.rpartition(':')[2] for name in root.split('/')
+                      if name] for root in ctx.opts.roots]
+            if all(roots):
+                for module in self.ctx.modules.values():
+                    prune(module, roots)
+
         # Generate files from main modules
         for module in filter(lambda s: s.keyword == 'module', module_set):
             self.generate_from(module)
@@ -245,16 +305,31 @@ class JNCPlugin(plugin.PyangPlugin):
         else:
             fullpkg = subpkg
         d = os.sep.join(self.d + [subpkg])
+        schema = None
+        if (not self.ctx.opts.no_classes and not self.ctx.opts.no_schema
+                and self.ctx.opts.static_schema):
+            # Build the schema in the root class, if it is not too large
+            schema = schema_records(module, self.ctx)
+            if len(schema) > max_static_schema_nodes:
+                schema = None
+
         if not self.ctx.opts.no_classes:
             # Generate Java classes
             src = ('module "' + module.arg + '", revision: "' +
                 util.get_latest_revision(module) + '".')
             generator = ClassGenerator(module,
                 path=os.sep.join([self.ctx.opts.directory, subpkg]),
-                package=fullpkg, src=src, ctx=self.ctx)
+                package=fullpkg, src=src, ctx=self.ctx, schema=schema)
             generator.generate()
 
-        if not self.ctx.opts.no_schema:
+        if self.ctx.opts.no_schema or schema is not None:
+            pass  # No schema file
+        elif self.ctx.opts.binary_schema:
+            # Generate external schema, as records of a binary file
+            name = normalize(search_one(module, 'prefix').arg)
+            write_binary_schema(d, name + '.schema',
+                schema_records(module, self.ctx), self.ctx)
+        else:
             # Generate external schema
             schema_nodes = ['<schema>']
             stmts = search(module, node_stmts)
@@ -283,9 +358,9 @@ class JNCPlugin(plugin.PyangPlugin):
         if self.ctx.opts.debug or self.ctx.opts.verbose:
             print('pkg ' + fullpkg + ' generated')
 
-    def fatal(self, exitCode=1):
-        """Raise an EmitError"""
-        raise error.EmitError(self, exitCode)
+    def fatal(self, msg="", exitCode=1):
+        """Raise an EmitError, msg is printed to stderr by pyang"""
+        raise error.EmitError(msg, exitCode)
 
     def print_help(self):
         """Prints a description of what JNC is and how to use it"""
@@ -352,7 +427,7 @@ com_tailf_jnc = {'Attribute', 'Capabilities', 'ConfDSession',
                  'YangIdentityref', 'YangInt16', 'YangInt32', 'YangInt64',
                  'YangInt8', 'YangLeafref', 'YangString', 'YangType',
                  'YangUInt16', 'YangUInt32', 'YangUInt64', 'YangUInt8',
-                 'YangUnion', 'YangXMLParser'}
+                 'YangUnion', 'YangXMLParser', 'YangElementFactory'}
 
 
 java_reserved_words = {'abstract', 'assert', 'boolean', 'break', 'byte',
@@ -380,7 +455,8 @@ java_lang = {'Appendable', 'CharSequence', 'Cloneable', 'Comparable',
              'Runtime', 'RuntimePermission', 'SecurityManager',
              'Short', 'StackTraceElement', 'StrictMath', 'String',
              'StringBuffer', 'StringBuilder', 'System', 'Thread',
-             'ThreadGroup', 'ThreadLocal', 'Throwable', 'Void'}
+             'ThreadGroup', 'ThreadLocal', 'Throwable', 'Void',
+             'ReflectiveOperationException'}
 """A subset of the java.lang classes"""
 
 
@@ -392,6 +468,12 @@ java_util = {'Collection', 'Enumeration', 'Iterator', 'List', 'ListIterator',
 """A subset of the java.util interfaces and classes"""
 
 
+unescaped_primitives = {'byte', 'short', 'int', 'long', 'Boolean',
+                        'java.math.BigInteger', 'java.math.BigDecimal'}
+"""Primitive counterparts of the types whose values never need escaping in
+XML text: numbers, booleans and bits"""
+
+
 java_built_in = java_reserved_words | java_literals | java_lang
 """Identifiers that shouldn't be imported in Java"""
 
@@ -412,6 +494,15 @@ node_stmts = module_stmts | yangelement_stmts | leaf_stmts
 """Keywords of statements that make up a configuration tree"""
 
 
+max_static_schema_nodes = 4000
+"""Largest schema built in a root class, larger ones would exceed the constant
+pool of its class file and are read from a schema file instead"""
+
+
+static_schema_chunk = 200
+"""Schema nodes built per method, keeping methods far below 64 KB of code"""
+
+
 package_info = '''/**
  * This class hierarchy was generated from the Yang module{0}
  * by the <a target="_top" href="https://github.com/tail-f-systems/JNC">JNC</a> plugin of <a target="_top" href="http://code.google.com/p/pyang/">pyang</a>.
@@ -450,6 +541,9 @@ normalized_stmt_args = {}
 class_hierarchy = {}
 """Dict that map package names to sets of names of classes to be generated"""
 
+pruned = set([])
+"""Set of container, list and notification statements left out by --jnc-root"""
+
 
 def print_warning(msg='', key='', ctx=None):
     """Prints msg to stderr if ctx is None or the debug or verbose flags are
@@ -474,6 +568,23 @@ def write_file(d, file_name, file_content, ctx):
     """Creates the directory d if it does not yet exist and writes a file to it
     named file_name with file_content in it.
 
+    """
+    d = make_directory(d, file_name, ctx)
+    with open(d + os.sep + file_name, 'w+') as f:
+        #print(file_content )
+
+        if isinstance(file_content, unicode):
+            f.write(file_content)
+        else:
+            for line in file_content:
+                f.write(line)
+                f.write('\n')
+
+
+def make_directory(d, file_name, ctx):
+    """Creates the directory d, a package name or path, if it does not yet
+    exist and returns its path
+
     """
     d = d.replace('.', os.sep)
     wd = os.getcwd()
@@ -497,15 +608,161 @@ def write_file(d, file_name, file_content, ctx):
         if ctx.opts.verbose:
             print('Writing file to: ' + os.getcwd() + os.sep + file_name)
         os.chdir(wd)
-    with open(d + os.sep + file_name, 'w+') as f:
-        #print(file_content )
+    return d
 
-        if isinstance(file_content, unicode):
-            f.write(file_content)
-        else:
-            for line in file_content:
-                f.write(line)
-                f.write('\n')
+
+def schema_records(module, ctx):
+    """Returns the schema nodes of module as records, see SchemaNode.as_record"""
+    records = [SchemaNode(module, '/').as_record()]
+    schema_generator = SchemaGenerator(search(module, node_stmts), '/', ctx)
+    records.extend(schema_generator.schema_records())
+    return records
+
+
+def element_factory_class(stmts, package):
+    """Returns the lines of the Factory class of a root class, which creates
+    the top level elements of stmts without reflection
+
+    """
+    res = [' ' * 4 + '/**',
+           ' ' * 4 + ' * Creates the top level elements of this namespace for the parser,',
+           ' ' * 4 + ' * without looking up their classes by name.',
+           ' ' * 4 + ' */',
+           ' ' * 4 + 'private static class Factory implements YangElementFactory {',
+           ' ' * 8 + 'public YangElement createElement(String name) {',
+           ' ' * 12 + 'switch (name) {']
+    names = set([])
+    for stmt in stmts:
+        if stmt.arg in names:
+            continue
+        names.add(stmt.arg)
+        res.append(' ' * 12 + 'case "' + stmt.arg + '":')
+        res.append(' ' * 16 + 'return new ' + package + '.' +
+                   normalize(stmt.arg) + '();')
+    res.append(' ' * 12 + 'default:')
+    res.append(' ' * 16 + 'return null;')
+    res.append(' ' * 12 + '}')
+    res.append(' ' * 8 + '}')
+    res.append(' ' * 4 + '}')
+    return res
+
+
+def static_schema_class(records, ns):
+    """Returns the lines of the Schema class of a root class, which builds the
+    schema nodes of records the first time the schema is registered
+
+    """
+    chunks = range(0, len(records), static_schema_chunk)
+    res = [' ' * 4 + '/**',
+           ' ' * 4 + ' * The schema nodes of this namespace, built the first time',
+           ' ' * 4 + ' * the schema is registered.',
+           ' ' * 4 + ' */',
+           ' ' * 4 + 'private static class Schema {',
+           ' ' * 8 + 'static final HashMap<Tagpath, SchemaNode> NODES =',
+           ' ' * 12 + 'new HashMap<Tagpath, SchemaNode>(' +
+           str(len(records) * 4 // 3 + 1) + ');',
+           '',
+           ' ' * 8 + 'static {']
+    for i in range(len(chunks)):
+        res.append(' ' * 12 + 'nodes' + str(i) + '();')
+    res.append(' ' * 8 + '}')
+    for i, start in enumerate(chunks):
+        res.append('')
+        res.append(' ' * 8 + 'private static void nodes' + str(i) + '() {')
+        for (tagpath, node_ns, min_occurs, max_occurs, children) in \
+                records[start:start + static_schema_chunk]:
+            if node_ns == ns:
+                node_ns = 'NAMESPACE'
+            else:
+                node_ns = '"' + node_ns + '"'
+            tags = ', '.join(['"' + tag + '"' for tag in tagpath])
+            res.append(' ' * 12 + 'node(' + node_ns + ', new String[] {' +
+                       tags + '}, ' + str(min_occurs) + ', ' +
+                       str(max_occurs) + ', "' + ' '.join(children) + '");')
+        res.append(' ' * 8 + '}')
+    res.append('')
+    res.append(' ' * 8 + 'private static void node(String namespace, ' +
+               'String[] tagpath, int minOccurs,')
+    res.append(' ' * 16 + 'int maxOccurs, String children) {')
+    res.append(' ' * 12 + 'SchemaNode node = new SchemaNode(namespace, ' +
+               'tagpath, minOccurs, maxOccurs, children);')
+    res.append(' ' * 12 + 'NODES.put(node.tagpath, node);')
+    res.append(' ' * 8 + '}')
+    res.append(' ' * 4 + '}')
+    return res
+
+
+def write_binary_schema(d, file_name, records, ctx):
+    """Writes a schema file in the binary format read by the BinarySchema
+    class of JNC, the node records are as returned by SchemaNode.as_record.
+
+    """
+    strings = collections.OrderedDict()
+    def index(s):
+        if s not in strings:
+            strings[s] = len(strings)
+        return strings[s]
+    nodes = []
+    for (tagpath, ns, min_occurs, max_occurs, children) in records:
+        node = [map(index, tagpath), index(ns)]
+        node.append(map(index, children))
+        node.append(index(''))
+        nodes.append((node, min_occurs, max_occurs))
+    res = [struct.pack('>ih', 0x4A4E4353, 1), struct.pack('>i', len(strings))]
+    for s in strings:
+        if isinstance(s, unicode):
+            s = s.encode('utf-8')
+        res.append(struct.pack('>i', len(s)) + s)
+    res.append(struct.pack('>i', len(nodes)))
+    for ((tagpath, ns, children, desc), min_occurs, max_occurs) in nodes:
+        res.append(struct.pack('>i', len(tagpath)))
+        res.extend(struct.pack('>i', i) for i in tagpath)
+        res.append(struct.pack('>iiiii', ns, 0, min_occurs, max_occurs,
+            len(children)))
+        res.extend(struct.pack('>i', i) for i in children)
+        # flags, desc and no revision info
+        res.append(struct.pack('>qii', 0, desc, -1))
+    d = make_directory(d, file_name, ctx)
+    with open(d + os.sep + file_name, 'wb') as f:
+        f.write(''.join(res))
+
+
+def prune(stmt, roots):
+    """Removes the container, list and notification children of stmt that are
+    neither on nor below one of roots, lists of data node names relative to
+    stmt, from its substatements as well. Leaves are kept, so lists on the way
+    to a root keep their keys.
+
+    """
+    children = getattr(stmt, 'i_children', None)
+    if children is None:
+        return
+    kept = []
+    for ch in children:
+        if ch.keyword in ('choice', 'case'):
+            prune(ch, roots)
+        elif ch.keyword in yangelement_stmts:
+            below = [root[1:] for root in roots if root[0] == ch.arg]
+            if not below:
+                pruned.add(ch)
+                continue
+            if all(below):
+                prune(ch, below)
+        kept.append(ch)
+    stmt.i_children = kept
+    stmt.substmts = [s for s in stmt.substmts if s not in pruned]
+
+
+def is_pruned(stmt):
+    """Returns True if stmt was left out by --jnc-root, or is part of a
+    subtree that was
+
+    """
+    while stmt is not None:
+        if stmt in pruned:
+            return True
+        stmt = stmt.parent
+    return False
 
 
 def get_module(stmt):
@@ -539,6 +796,23 @@ def get_parent(stmt):
         return stmt.parent
 
 
+def leaf_field_name(stmt, ctx):
+    """Returns the name of the field referring to leaf stmt in the class of its
+    parent, or None if there is no such field.
+
+    """
+    if not ctx.opts.leaf_fields or stmt.keyword != 'leaf':
+        return None
+    parent = get_parent(stmt)
+    if parent is None or parent.keyword not in yangelement_stmts:
+        return None
+    name = camelize(stmt.arg) + 'Leaf'
+    for sibling in search(parent, yangelement_stmts | leaf_stmts):
+        if camelize(sibling.arg) == name:
+            return None  # Taken by the field of a container
+    return name
+
+
 def get_package(stmt, ctx):
     """Returns a string representing the package name of a java class generated
     from stmt, assuming that it has been or will be generated by JNC.
@@ -750,7 +1024,8 @@ def get_import(string):
     Does not handle Generics or Array types and is data model agnostic.
 
     """
-    if string.startswith(('java.math', 'java.util', 'com.tailf.jnc')):
+    if string.startswith(('java.math', 'java.util', 'javax.xml',
+                          'com.tailf.jnc')):
         return string
     elif string in ('BigInteger', 'BigDecimal'):
         return '.'.join(['java.math', string])
@@ -852,9 +1127,25 @@ class SchemaNode(object):
 
     def as_list(self):
         """Returns a string list repr "node" element content for an XML schema"""
+        (_, ns, min_occurs, max_occurs, children) = self.as_record()
         res = ['<node>']
-        stmt = self.stmt
         res.append('<tagpath>' + self.tagpath + '</tagpath>')
+        res.append('<namespace>' + ns + '</namespace>')
+        res.append('<primitive_type>0</primitive_type>')
+        res.append('<min_occurs>' + str(min_occurs) + '</min_occurs>')
+        res.append('<max_occurs>' + str(max_occurs) + '</max_occurs>')
+        res.append('<children>' + ' '.join(children) + '</children>')
+        res.append('<flags>0</flags>')
+        res.append('<desc></desc>')
+        res.append('</node>')
+        return res
+
+    def as_record(self):
+        """Returns the tagpath elements, namespace, min and max occurs and
+        children names of the node, as the schema parser of JNC reads them
+
+        """
+        stmt = self.stmt
         top_stmt = get_module(stmt)
         if top_stmt.keyword == 'module':
             module = top_stmt
@@ -865,11 +1156,9 @@ class SchemaNode(object):
                     module = top_stmt.i_ctx.modules[(name, rev)]
                     break
         ns = search_one(module, 'namespace').arg
-        res.append('<namespace>' + ns + '</namespace>')
-        res.append('<primitive_type>0</primitive_type>')
 
-        min_occurs = '0'
-        max_occurs = '-1'
+        min_occurs = 0
+        max_occurs = -1
 
         mandatory = search_one(stmt, 'mandatory')
         isMandatory = mandatory is not None and mandatory.arg == 'true'
@@ -885,25 +1174,19 @@ class SchemaNode(object):
         if (isKey or stmt.keyword in ('module', 'submodule')
                 or (childOfContainerOrList
                     and stmt.keyword in ('container', 'notification'))):
-            min_occurs = '1'
-            max_occurs = '1'
+            min_occurs = 1
+            max_occurs = 1
         if isMandatory:
-            min_occurs = '1'
+            min_occurs = 1
         if (isUnique or childOfContainerOrList
                 or stmt.keyword in ('container', 'notification')):
-            max_occurs = '1'
-        res.append('<min_occurs>' + min_occurs + '</min_occurs>')
-        res.append('<max_occurs>' + max_occurs + '</max_occurs>')
+            max_occurs = 1
 
-        children = ''
-        for ch in search(stmt, yangelement_stmts | leaf_stmts):
-            children += camelize(ch.arg) + ' '
-        res.append('<children>' + children[:-1] + '</children>')
-
-        res.append('<flags>0</flags>')
-        res.append('<desc></desc>')
-        res.append('</node>')
-        return res
+        children = [camelize(ch.arg)
+                    for ch in search(stmt, yangelement_stmts | leaf_stmts)]
+        # "/" is the empty tagpath, "/a/b/" the one of a and b
+        return (self.tagpath.split('/')[1:-1], ns, min_occurs, max_occurs,
+                ' '.join(children).split(' '))
 
 
 class SchemaGenerator(object):
@@ -928,6 +1211,19 @@ class SchemaGenerator(object):
             res.extend(substmt_generator.schema_nodes())
         return res
 
+    def schema_records(self):
+        """Generate the nodes as records of a binary schema"""
+        res = []
+        for stmt in self.stmts:
+            subpath = self.tagpath + stmt.arg + '/'
+            if self.ctx.opts.verbose:
+                print('Generating schema node "' + subpath + '"...')
+            res.append(SchemaNode(stmt, subpath).as_record())
+            substmt_generator = SchemaGenerator(search(stmt, node_stmts),
+                subpath, self.ctx)
+            res.extend(substmt_generator.schema_records())
+        return res
+
 
 class YangType(object):
     """Provides an interface to maintain a list of defined yang types"""
@@ -952,7 +1248,8 @@ class ClassGenerator(object):
     """Used to generate java classes from a yang module"""
 
     def __init__(self, stmt, path=None, package=None, src=None, ctx=None,
-                 ns='', prefix_name='', yang_types=None, parent=None):
+                 ns='', prefix_name='', yang_types=None, parent=None,
+                 schema=None):
         """Constructor.
 
         stmt        -- A statement (sub)tree, parsed from a YANG model
@@ -966,6 +1263,8 @@ class ClassGenerator(object):
         yang_types  -- An instance of the YangType class
         parent      -- ClassGenerator to copy arguments that were not supplied
                        from (if applicable)
+        schema      -- Schema node records of a module to build in its root
+                       class, instead of reading them from a schema file
 
         """
         self.stmt = stmt
@@ -976,6 +1275,7 @@ class ClassGenerator(object):
         self.ns = ns
         self.prefix_name = prefix_name
         self.yang_types = yang_types
+        self.schema = schema
 
         self.n = normalize(stmt.arg)
         self.n2 = camelize(stmt.arg)
@@ -1145,7 +1445,7 @@ class ClassGenerator(object):
         root_fields[0].set_name('NAMESPACE')
         root_fields[1].set_name('PREFIX')
         root_fields[0].value = '"' + ns_arg + '"'
-        if self.ctx.opts.prefix is not None and (prefix.argPrefix is not None and prefix.argPrefix == True):
+        if self.ctx.opts.prefix and getattr(prefix, 'argPrefix', False):
             root_fields[1].value = '"' + prefix.arg[:prefix.arg.find(self.ctx.opts.prefix)] + '"'
         else:
             root_fields[1].value = '"' + prefix.arg + '"'
@@ -1161,8 +1461,17 @@ class ClassGenerator(object):
         enabler.modifiers = ['public', 'static']
         enabler.add_javadoc('Enable the elements in this namespace to be aware')
         enabler.add_javadoc('of the data model and use the generated classes.')
-        enabler.add_line('"'.join(['YangElement.setPackage(NAMESPACE, ',
-                                   self.java_class.package, ');']))
+        top_stmts = search(self.stmt, yangelement_stmts)
+        if top_stmts:
+            enabler.add_line('"'.join(['YangElement.setPackage(NAMESPACE, ',
+                                       self.java_class.package,
+                                       ', new Factory());']))
+            enabler.add_dependency('com.tailf.jnc.YangElementFactory')
+            self.java_class.innerClassBody = element_factory_class(top_stmts,
+                self.java_class.package)
+        else:
+            enabler.add_line('"'.join(['YangElement.setPackage(NAMESPACE, ',
+                                       self.java_class.package, ');']))
         enabler.add_dependency('com.tailf.jnc.YangElement')
         enabler.add_line(normalize(prefix.arg) + '.registerSchema();')
         self.java_class.add_enabler(enabler)
@@ -1175,6 +1484,21 @@ class ClassGenerator(object):
         reg.add_javadoc('Register the schema for this namespace in the global')
         reg.add_javadoc('schema table (CsTree) making it possible to lookup')
         reg.add_javadoc('CsNode entries for all tagpaths')
+        if self.schema is not None:
+            reg.add_line('SchemaTree.publish(NAMESPACE, Schema.NODES);')
+            reg.add_dependency('java.util.HashMap')
+            reg.add_dependency('com.tailf.jnc.Tagpath')
+            reg.add_dependency('com.tailf.jnc.SchemaNode')
+            reg.add_dependency('com.tailf.jnc.SchemaTree')
+            self.java_class.add_schema_registrator(reg)
+            if hasattr(self.java_class, 'innerClassBody'):
+                self.java_class.innerClassBody.append('')
+            else:
+                self.java_class.innerClassBody = []
+            self.java_class.innerClassBody.extend(
+                static_schema_class(self.schema, ns_arg))
+            self.write_to_file()
+            return
         reg.add_line('SchemaParser parser = new SchemaParser();')
         reg.add_dependency('com.tailf.jnc.SchemaParser')
         reg.add_line('HashMap<Tagpath, SchemaNode> h = SchemaTree.create(NAMESPACE);')
@@ -1206,7 +1530,7 @@ class ClassGenerator(object):
                 print_warning(warn_msg, warn_msg, self.ctx)
             else:
                 target = stmt.i_target_node
-                if target is None:
+                if target is None or is_pruned(target):
                     return
                 else:
                     target_module = get_module(target)
@@ -1268,12 +1592,32 @@ class ClassGenerator(object):
         for cloner in gen.cloners():
             self.java_class.add_cloner(cloner)
 
-        support_method = gen.support_method(fields)
+        if self.ctx.opts.leaf_fields:
+            # Container fields are set by childAdded instead
+            support_method = gen.support_method()
+        else:
+            support_method = gen.support_method(fields)
         if support_method is not None:
             self.java_class.add_support_method(support_method)
-
+        for hook in gen.child_hooks(fields):
+            self.java_class.add_support_method(hook)
+        for by_name in (gen.leaf_value_setter(), gen.leaf_value_reader(),
+                        gen.child_adder()):
+            if by_name is not None:
+                self.java_class.add_support_method(by_name)
+        child_encoder = gen.child_encoder()
+        if child_encoder is not None:
+            self.java_class.add_support_method(child_encoder)
+
+        for name_array in gen.name_arrays():
+            self.java_class.add_name_getter(name_array)
         self.java_class.add_name_getter(gen.key_names())
+        shared_key_names = gen.shared_key_names()
+        if shared_key_names is not None:
+            self.java_class.add_name_getter(shared_key_names)
         self.java_class.add_name_getter(gen.children_names())
+        self.java_class.add_name_getter(gen.shared_children_names())
+        self.java_class.add_name_getter(gen.children_ordinals())
 
         if self.ctx.opts.import_on_demand:
             self.java_class.imports.add('com.tailf.jnc.*')
@@ -1347,6 +1691,9 @@ class ClassGenerator(object):
             if sub.keyword == 'leaf':
                 key = search_one(self.stmt, 'key')
                 optional = key is None or sub.arg not in key.arg.split(' ')
+                leaf_field = child_gen.leaf_field()
+                if leaf_field is not None:
+                    self.java_class.add_field(leaf_field)
                 # FIXME: The leaf might be mandatory even if it is not a key
                 add(sub.arg, child_gen.getters())
                 for setter in child_gen.setters():
@@ -1512,11 +1859,7 @@ class JavaClass(object):
     def add_schema_registrator(self, schema_registrator):
         """Adds a register schema method"""
         self.imports.add('com.tailf.jnc.JNCException')
-        self.imports.add('com.tailf.jnc.SchemaParser')
-        self.imports.add('com.tailf.jnc.Tagpath')
-        self.imports.add('com.tailf.jnc.SchemaNode')
-        self.imports.add('com.tailf.jnc.SchemaTree')
-        self.imports.add('java.util.HashMap')
+        self.imports |= schema_registrator.imports
         self.schema_registrators.add(schema_registrator)
 
     def add_name_getter(self, name_getter):
@@ -2016,7 +2359,9 @@ class MethodGenerator(object):
                 pkg = pkg.rpartition('.')[0]
             pkg_classes = class_hierarchy.get(pkg, [])
             for import_ in method.imports:
-                if import_.rpartition('.')[2] in pkg_classes:
+                if import_.startswith('javax.xml'):
+                    imports.add(import_)
+                elif import_.rpartition('.')[2] in pkg_classes:
                     if (child and not import_.rpartition('.')[1]
                             and import_ != self.root):
                         imports.add('.'.join([self.pkg, import_]))
@@ -2025,7 +2370,7 @@ class MethodGenerator(object):
                         
 
         for dependency in imports:
-            if dependency.startswith(('java.math', 'java.util',
+            if dependency.startswith(('java.math', 'java.util', 'javax.xml',
                                       'com.tailf.jnc', self.basepkg)):
                 res.add(dependency)
                 continue
@@ -2146,14 +2491,46 @@ class MethodGenerator(object):
         if self.is_container or not self.gen.is_config:
             method.add_line('return null;')
         else:
-            method.add_line('return new String[] {')
-            for key_stmt in self.gen.key_stmts:
-                method.add_line('"'.join([' ' * 4,
-                                          key_stmt.arg,
-                                          ',']))
-            method.add_line('};')
+            method.add_line('return KEY_NAMES.clone();')
+        return self.fix_imports(method)
+
+    def shared_key_names(self):
+        """Returns a method that can be used to get the identifiers of the keys
+        without a copy, None for other than a list with keys.
+
+        """
+        if not self.is_list or not self.gen.is_config:
+            return None
+        method = JavaMethod(modifiers=['protected'], name='sharedKeyNames')
+        method.set_return_type('String[]')
+        method.add_javadoc('@return The identifiers of the key children, not to be modified.')
+        method.add_line('return KEY_NAMES;')
         return self.fix_imports(method)
 
+    def name_arrays(self):
+        """Returns the static fields holding the key names, children names and
+        children ordinals returned by the name getters, shared by all instances.
+
+        """
+        if not (self.is_list or self.is_container):
+            return []
+        res = []
+        if self.is_list and self.gen.is_config:
+            lines = [' ' * 4 + 'private static final String[] KEY_NAMES = {']
+            for key_stmt in self.gen.key_stmts:
+                lines.append(' ' * 8 + '"' + key_stmt.arg + '",')
+            lines.append(' ' * 4 + '};')
+            res.append(JavaValue(exact=lines))
+        lines = [' ' * 4 + 'private static final String[] CHILDREN_NAMES = {']
+        for child in search(self.stmt, yangelement_stmts | leaf_stmts):
+            lines.append(' ' * 8 + '"' + child.arg + '",')
+        lines.append(' ' * 4 + '};')
+        res.append(JavaValue(exact=lines))
+        res.append(JavaValue(exact=[
+            ' ' * 4 + 'private static final java.util.Map<String, Integer> CHILDREN_ORDINALS =',
+            ' ' * 12 + 'ordinals(CHILDREN_NAMES);']))
+        return res
+
     def children_names(self):
         """Returns a method that can be used to get the identifiers of the
         children of the statement of this generator, excluding any keys.
@@ -2164,11 +2541,33 @@ class MethodGenerator(object):
         method = JavaMethod(modifiers=['public'], name='childrenNames')
         method.set_return_type('String[]')
         method.add_javadoc('@return An array with the identifiers of any children, in order.')
-        children = search(self.stmt, yangelement_stmts | leaf_stmts)
-        method.add_line('return new String[] {')
-        for child in children:
-            method.add_line('"'.join([' ' * 4, child.arg, ',']))
-        method.add_line('};')
+        method.add_line('return CHILDREN_NAMES.clone();')
+        return self.fix_imports(method)
+
+    def shared_children_names(self):
+        """Returns a method that can be used to get the identifiers of the
+        children without a copy, used to insert children in order.
+
+        """
+        if not (self.is_list or self.is_container):
+            return None
+        method = JavaMethod(modifiers=['protected'], name='sharedChildrenNames')
+        method.set_return_type('String[]')
+        method.add_javadoc('@return The identifiers of any children, in order, not to be modified.')
+        method.add_line('return CHILDREN_NAMES;')
+        return self.fix_imports(method)
+
+    def children_ordinals(self):
+        """Returns a method that can be used to get the position of each child
+        identifier, used to insert children in order.
+
+        """
+        if not (self.is_list or self.is_container):
+            return None
+        method = JavaMethod(modifiers=['protected'], name='childrenOrdinals')
+        method.return_type = 'java.util.Map<String, Integer>'
+        method.add_javadoc('@return The position of each identifier in sharedChildrenNames.')
+        method.add_line('return CHILDREN_ORDINALS;')
         return self.fix_imports(method)
 
     def support_method(self, fields=None):
@@ -2201,6 +2600,201 @@ class MethodGenerator(object):
             cond = 'else '
         return self.fix_imports(add_child)
 
+    def child_hooks(self, fields):
+        """Returns 'childAdded' and 'childDeleted' JavaMethods keeping the
+        container fields and leaf fields in sync with the children, or an
+        empty list if leaf fields are not generated.
+
+        fields -- names of the container children that have a field
+        """
+        if not (self.ctx.opts.leaf_fields and (self.is_list or self.is_container)):
+            return []
+        added = JavaMethod(modifiers=['protected'], name='childAdded',
+                           params=[('Element', 'child')])
+        deleted = JavaMethod(modifiers=['protected'], name='childDeleted',
+                             params=[('Element', 'child')])
+        added.add_line('super.childAdded(child);')
+        deleted.add_line('super.childDeleted(child);')
+        cond = ''
+        for field in fields:
+            index = field.rfind('.')
+            if index != -1:
+                type_, name = field, camelize(field[index+1:])
+            else:
+                type_, name = normalize(field), camelize(field)
+            added.add_line(''.join([cond, 'if (child instanceof ', type_, ') ',
+                                    name, ' = (', type_, ')child;']))
+            added.add_dependency(normalize(field))
+            deleted.add_line(''.join([cond, 'if (child == ', name, ') ',
+                                      name, ' = null;']))
+            cond = 'else '
+        leaves = collections.OrderedDict()
+        for child in search(self.stmt, 'leaf'):
+            name = leaf_field_name(child, self.ctx)
+            if name is not None and child.arg not in leaves:
+                leaves[child.arg] = name
+        if not fields and not leaves:
+            return []
+        if leaves:
+            added.add_line('switch (child.name) {')
+            for arg, name in leaves.items():
+                added.add_line('case "' + arg + '":')
+                added.add_line('    if (child instanceof Leaf) ' + name +
+                               ' = (Leaf)child;')
+                added.add_line('    break;')
+                deleted.add_line(''.join([cond, 'if (child == ', name, ') ',
+                                          name, ' = null;']))
+                cond = 'else '
+            added.add_line('}')
+            added.add_dependency('Leaf')
+        added.add_javadoc('Support method for leaf fields.')
+        added.add_javadoc('Sets the field referring to an added child.')
+        deleted.add_javadoc('Support method for leaf fields.')
+        deleted.add_javadoc('Clears the field referring to a deleted child.')
+        return [self.fix_imports(added), self.fix_imports(deleted)]
+
+    def _by_name_switch(self, method, var, keywords,
+                        exceptions=('JNCException',
+                                    'ReflectiveOperationException')):
+        """Adds a switch on the children of self.stmt with one of keywords to
+        method, throwing exceptions, returns the children or None if there are
+        none.
+
+        """
+        if not (self.is_list or self.is_container):
+            return None
+        children = []
+        names = set([])
+        for ch in search(self.stmt, keywords):
+            if ch.arg not in names:
+                names.add(ch.arg)
+                children.append(ch)
+        if not children:
+            return None
+        for exception in exceptions:
+            method.add_exception(exception)
+        method.add_line('switch (' + var + ') {')
+        return children
+
+    def leaf_value_setter(self):
+        """Returns a 'setLeafValueByName' JavaMethod, which the parser uses to
+        set leaf values without looking up their setters by reflection.
+
+        """
+        method = JavaMethod(modifiers=['protected'],
+                            name='setLeafValueByName',
+                            params=[('String', 'name'), ('String', 'value')])
+        children = self._by_name_switch(method, 'name', leaf_stmts)
+        if children is None:
+            return None
+        method.add_javadoc('Support method for setLeafValue.')
+        method.add_javadoc('Sets the value of a leaf by name, without reflection.')
+        for child in children:
+            method.add_line('case "' + child.arg + '":')
+            method.add_line(' ' * 4 + 'set' + normalize(child.arg) +
+                            'Value(value);')
+            method.add_line(' ' * 4 + 'break;')
+        method.add_line('default:')
+        method.add_line(' ' * 4 + 'super.setLeafValueByName(name, value);')
+        method.add_line('}')
+        return self.fix_imports(method)
+
+    def leaf_value_reader(self):
+        """Returns a 'readLeafValue' JavaMethod, which the parser uses to read
+        leaf values from XML streams by their typed setters. None if
+        unmarshallers are not generated or there are no leaves.
+
+        """
+        if not self.ctx.opts.unmarshallers:
+            return None
+        method = JavaMethod(modifiers=['protected'],
+                            return_type='boolean',
+                            name='readLeafValue',
+                            params=[('String', 'name'),
+                                    ('javax.xml.stream.XMLStreamReader', 'in')])
+        children = self._by_name_switch(method, 'name', leaf_stmts,
+            ('JNCException', 'javax.xml.stream.XMLStreamException'))
+        if children is None:
+            return None
+        method.add_javadoc('Support method for YangXMLParser.')
+        method.add_javadoc('Reads the value of a leaf by name, without adding it first.')
+        for child in children:
+            method.add_line('case "' + child.arg + '":')
+            method.add_line(' ' * 4 + 'set' + normalize(child.arg) +
+                            'Value(in.getElementText());')
+            method.add_line(' ' * 4 + 'return true;')
+        method.add_line('default:')
+        method.add_line(' ' * 4 + 'return super.readLeafValue(name, in);')
+        method.add_line('}')
+        return self.fix_imports(method)
+
+    def child_adder(self):
+        """Returns an 'addChildByName' JavaMethod, which the parser uses to
+        add children without looking up their adders by reflection.
+
+        """
+        method = JavaMethod(modifiers=['protected'],
+                            return_type='Element',
+                            name='addChildByName',
+                            params=[('String', 'childName')])
+        children = self._by_name_switch(method, 'childName',
+                                        yangelement_stmts | leaf_stmts)
+        if children is None:
+            return None
+        method.add_javadoc('Support method for createInstance.')
+        method.add_javadoc('Adds a child by name, without reflection.')
+        method.add_javadoc('')
+        method.add_javadoc('@return The added child, or null if it is a leaf.')
+        for child in children:
+            if child.keyword == 'notification':
+                continue  # No adder, left to reflection
+            method.add_line('case "' + child.arg + '":')
+            if child.keyword in leaf_stmts:
+                method.add_line(' ' * 4 + 'add' + normalize(child.arg) + '();')
+                method.add_line(' ' * 4 + 'return null;')
+            else:
+                method.add_line(' ' * 4 + 'return add' + normalize(child.arg) +
+                                '();')
+        method.add_line('default:')
+        method.add_line(' ' * 4 + 'return super.addChildByName(childName);')
+        method.add_line('}')
+        return self.fix_imports(method)
+
+    def child_encoder(self):
+        """Returns an 'encodeChild' JavaMethod, which writes the leaves of
+        self.stmt to XML without prefix lookups, and the values of types that
+        never need escaping as they are. None if marshallers are not generated
+        or there are no leaves.
+
+        """
+        if not (self.ctx.opts.marshallers and (self.is_list or self.is_container)):
+            return None
+        leaves = collections.OrderedDict()
+        for child in search(self.stmt, leaf_stmts):
+            if child.arg not in leaves:
+                primitive = get_types(child, self.ctx)[1]
+                leaves[child.arg] = primitive not in unescaped_primitives
+        if not leaves:
+            return None
+        method = JavaMethod(modifiers=['protected'], name='encodeChild',
+                            params=[('StringBuilder', 'out'),
+                                    ('Element', 'child'),
+                                    ('String', 'prefix')])
+        method.add_exception('JNCException')
+        method.add_javadoc('Support method for encode.')
+        method.add_javadoc('Writes leaf children without prefix lookups.')
+        method.add_line('if (isPlainLeaf(child, prefix)) {')
+        method.add_line(' ' * 4 + 'switch (child.name) {')
+        for arg, escape in leaves.items():
+            method.add_line(' ' * 4 + 'case "' + arg + '":')
+            method.add_line(' ' * 8 + 'encodeLeaf(out, child, prefix, ' +
+                            ('true' if escape else 'false') + ');')
+            method.add_line(' ' * 8 + 'return;')
+        method.add_line(' ' * 4 + '}')
+        method.add_line('}')
+        method.add_line('super.encodeChild(out, child, prefix);')
+        return self.fix_imports(method)
+
     def setters(self):
         """Returns a list of JavaMethods representing setters to include
         in generated class of self.stmt
@@ -2229,6 +2823,11 @@ class MethodGenerator(object):
         assert self.gen is not self, 'Avoid infinite recursion'
         return self.gen.child_field() if self.is_container else None
 
+    def leaf_field(self):
+        """Returns a JavaValue for the field referring to a leaf, or None"""
+        assert self.gen is not self, 'Avoid infinite recursion'
+        return self.gen.leaf_field() if self.is_leaf else None
+
     def _parent_template(self, method_type):
         """Returns an access method for the statement of this method generator.
 
@@ -2296,7 +2895,7 @@ class MethodGenerator(object):
             if self.is_list and i in {1, 2} and len(res) == 4:
                 method.add_line('return ' + method.name + '(' + self.n2 + ');')
             else:
-                method.add_line('insertChild(' + self.n2 + ', childrenNames());')
+                method.add_line('insertChild(' + self.n2 + ', sharedChildrenNames());')
                 method.add_line('return ' + self.n2 + ';')
             self.fix_imports(method, child=True)
         return res
@@ -2397,10 +2996,32 @@ class LeafMethodGenerator(MethodGenerator):
         key = search_one(get_parent(stmt), 'key')
         self.is_optional = key is None or stmt.arg not in key.arg.split(' ')
 
+    def leaf_field(self):
+        """Returns a JavaValue for the field referring to the leaf in the class
+        of its parent, or None if leaf fields are not generated.
+
+        """
+        name = leaf_field_name(self.stmt, self.ctx)
+        if name is None:
+            return None
+        # Exact, as the field has no getter
+        res = JavaValue(exact=[' ' * 4 + '/**',
+                               ' ' * 4 + ' * Field for child leaf "' +
+                               self.stmt.arg + '", set by childAdded.',
+                               ' ' * 4 + ' */',
+                               ' ' * 4 + 'private Leaf ' + name + ' = null;'])
+        res.add_dependency('com.tailf.jnc.Leaf')
+        return res
+
     def getters(self):
         """get<Identifier>Value method generator."""
         assert self.is_leaf
         method = JavaMethod()
+        leaf_field = leaf_field_name(self.stmt, self.ctx)
+        if leaf_field is not None:
+            value = 'leafValue(' + leaf_field + ')'
+        else:
+            value = 'getValue("' + self.stmt.arg + '")'
 
         method.set_return_type(self.type_str[0],False);
 
@@ -2423,8 +3044,7 @@ class LeafMethodGenerator(MethodGenerator):
         # Leaves with a default value returns it instead of null
         if self.default:
             method.add_line(''.join([method.return_type, ' ', self.n2, ' = (',
-                                     method.return_type, ')getValue("',
-                                     self.stmt.arg, '");']))
+                                     method.return_type, ')', value, ';']))
             method.add_line('if (' + self.n2 + ' == null) {')
             newValue = ['    ', self.n2, ' = new ', method.return_type, '("',
                         self.default_value.replace('\\','\\\\')]
@@ -2471,7 +3091,7 @@ class LeafMethodGenerator(MethodGenerator):
             method.add_line('return ' + self.n2 + ';')
         else:
             method.add_line(''.join(['return (', method.return_type,
-                                     ')getValue("', self.stmt.arg, '");']))
+                                     ')', value, ';']))
         return [self.fix_imports(method, child=True)]
 
     def setters(self):
@@ -2493,12 +3113,19 @@ class LeafMethodGenerator(MethodGenerator):
                     method.add_javadoc('using a JNC type value.')
                 method.add_javadoc(' '.join(['@param', param_names[0],
                                              'The value to set.']))
+                leaf_field = leaf_field_name(self.stmt, self.ctx)
+                if leaf_field is not None:
+                    method.add_line('if (' + leaf_field + ' != null) {')
+                    method.add_line('    ' + leaf_field + '.setValue(' +
+                                    param_names[0] + ');')
+                    method.add_line('    return;')
+                    method.add_line('}')
                 method.add_line(''.join(['set', normalize(self.stmt.keyword),
                                          'Value(', self.root, '.NAMESPACE,']))
                 method.add_dependency(self.root)
                 method.add_line('    "' + self.stmt.arg + '",')
                 method.add_line('    ' + param_names[0] + ',')
-                method.add_line('    childrenNames());')
+                method.add_line('    sharedChildrenNames());')
             elif self.type_str[0] == 'com.tailf.jnc.YangEmpty':
                 method.add_javadoc('by instantiating it (value n/a).')
                 param_types = []  # Add parameter here to get correct javadoc
@@ -2633,7 +3260,7 @@ class LeafMethodGenerator(MethodGenerator):
                         self.root + '.NAMESPACE,')
         method.add_line('    "' + self.stmt.arg + '",')
         method.add_line('    null,')
-        method.add_line('    childrenNames());')
+        method.add_line('    sharedChildrenNames());')
         return self.fix_imports(method, child=True)
 
     def markers(self):
@@ -2987,7 +3614,7 @@ class ListMethodGenerator(MethodGenerator):
 
                 constructor.add_parameter(param_type, key_arg + 'Value',self.n2 !=key_arg )
 
-                insertChild = ['insertChild(', key_arg, ', childrenNames());']
+                insertChild = ['insertChild(', key_arg, ', sharedChildrenNames());']
                 constructor.add_line(''.join(insertChild))
             constructors.append(self.fix_imports(constructor))
 
@@ -0,0 +1,197 @@
+#!/usr/bin/python
+"""pyang worker of the yang maven plugin.
+
+Runs pyang for every request read from stdin in one long living
+interpreter, so the interpreter start up, the pyang imports and the plugin
+loading are paid once per build instead of once per pyang invocation.
+
+Usage:
+> python jncworker.py <pyang script>
+
+Requests and responses are messages made of frames. A message starts with
+the line "jncworker <number of frames>", each frame is a line holding the
+length in bytes followed by that many bytes of UTF-8 text:
+
+    request:  the pyang command line arguments
+    response: the exit status, the output and the error output of pyang
+
+An empty request, or the end of stdin, stops the worker. Lines written to
+stdout that do not start a message are not part of the protocol and are
+ignored by the reader.
+
+"""
+
+import os
+import sys
+import traceback
+
+import pyang
+from pyang import error, plugin
+
+MARKER = b'jncworker'
+
+if sys.version < '3':
+    from StringIO import StringIO
+else:
+    from io import StringIO
+
+
+class Capture(object):
+    """File like object collecting text written by pyang and its plugins"""
+
+    def __init__(self):
+        self.parts = []
+
+    def write(self, text):
+        if not isinstance(text, bytes):
+            text = text.encode('utf-8')
+        self.parts.append(text)
+
+    def writelines(self, lines):
+        for line in lines:
+            self.write(line)
+
+    def flush(self):
+        pass
+
+    def isatty(self):
+        return False
+
+    def getvalue(self):
+        return b''.join(self.parts)
+
+
+def load(script):
+    """Loads the pyang script without running it, returns its globals"""
+    namespace = {'__name__': 'jncworker_pyang', '__file__': script}
+    with open(script) as fd:
+        exec(compile(fd.read(), script, 'exec'), namespace)
+    return namespace
+
+
+class Worker(object):
+    """Keeps the pyang front-end, its plugins and the module repositories
+    between requests. Parsed modules are not shared, pyang validates the
+    statements of a module in place, so every request gets a new Context.
+
+    """
+
+    def __init__(self, script):
+        # the directory of a script is on the path when it is run directly
+        sys.path.insert(0, os.path.dirname(os.path.abspath(script)))
+        self.namespace = load(script)
+        self.plugindirs = None
+        self.error_codes = None
+        self.repositories = {}
+        self.init_plugins = plugin.init
+        self.file_repository = pyang.FileRepository
+        plugin.init = self.init
+        pyang.FileRepository = self.repository
+
+    def repository(self, path='', use_env=True, no_path_recurse=False):
+        """Returns the repository of a search path, the files in the search
+        path are listed only once per worker.
+
+        """
+        key = (path, use_env, no_path_recurse)
+        if key not in self.repositories:
+            self.repositories[key] = self.file_repository(path, use_env,
+                                                          no_path_recurse)
+        return self.repositories[key]
+
+    def init(self, plugindirs=[]):
+        """Loads the plugins once, again only if the plugin dirs change"""
+        if self.plugindirs == plugindirs:
+            return
+        self.plugindirs = list(plugindirs)
+        del plugin.plugins[:]
+        self.init_plugins(plugindirs)
+        self.error_codes = dict(error.error_codes)
+
+    def run(self, args):
+        """Runs pyang with args, returns (status, output, error output)"""
+        if self.error_codes is not None:
+            # -W changes the error levels for the invocation only
+            error.error_codes.clear()
+            error.error_codes.update(self.error_codes)
+        out = Capture()
+        err = Capture()
+        saved = (sys.argv, sys.stdin, sys.stdout, sys.stderr)
+        sys.argv = ['pyang'] + args
+        sys.stdin = StringIO()
+        sys.stdout = out
+        sys.stderr = err
+        status = 0
+        try:
+            try:
+                self.namespace['run']()
+            except SystemExit as e:
+                if e.code is None:
+                    status = 0
+                elif isinstance(e.code, int):
+                    status = e.code
+                else:
+                    err.write(str(e.code) + '\n')
+                    status = 1
+            except Exception:
+                traceback.print_exc(file=err)
+                status = 1
+        finally:
+            (sys.argv, sys.stdin, sys.stdout, sys.stderr) = saved
+        return (status, out.getvalue(), err.getvalue())
+
+
+def read_message(stream):
+    """Returns the frames of the next message, None at the end of stream"""
+    while True:
+        line = stream.readline()
+        if not line:
+            return None
+        if line.startswith(MARKER + b' '):
+            break
+    frames = []
+    for _ in range(int(line[len(MARKER):].strip())):
+        length = int(stream.readline().strip())
+        frame = b''
+        while len(frame) < length:
+            chunk = stream.read(length - len(frame))
+            if not chunk:
+                return None
+            frame += chunk
+        frames.append(frame)
+    return frames
+
+
+def write_message(stream, frames):
+    stream.write(MARKER + b' ' + str(len(frames)).encode('ascii') + b'\n')
+    for frame in frames:
+        stream.write(str(len(frame)).encode('ascii') + b'\n')
+        stream.write(frame)
+    stream.flush()
+
+
+def main():
+    if len(sys.argv) != 2:
+        sys.stderr.write('usage: jncworker.py <pyang script>\n')
+        sys.exit(1)
+    if sys.platform == 'win32':
+        import msvcrt
+        msvcrt.setmode(sys.stdin.fileno(), os.O_BINARY)
+        msvcrt.setmode(sys.stdout.fileno(), os.O_BINARY)
+    stdin = getattr(sys.stdin, 'buffer', sys.stdin)
+    stdout = getattr(sys.stdout, 'buffer', sys.stdout)
+    worker = Worker(sys.argv[1])
+    while True:
+        frames = read_message(stdin)
+        if not frames:
+            break
+        if sys.version < '3':
+            args = list(frames)
+        else:
+            args = [frame.decode('utf-8') for frame in frames]
+        (status, out, err) = worker.run(args)
+        write_message(stdout, [str(status).encode('ascii'), out, err])
+
+
+if __name__ == '__main__':
+    main()
@@ -0,0 +1,83 @@
+package com.airlenet.yang.codegen.jnc;
+
+import com.airlenet.yang.codegen.yang.Statement;
+import com.airlenet.yang.codegen.yang.YangContext;
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Compares the files the java generator writes for the demo modules with
+ * the files the jnc plugin of pyang wrote for them, checked in below
+ * src/test/resources/jnc.
+ */
+public class JncGeneratorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static File resource(String name) throws URISyntaxException {
+        return new File(JncGeneratorTest.class.getResource("/" + name).toURI());
+    }
+
+    private Map<String, String> generate(String prefix, String... yangFiles) throws Exception {
+        File yang = resource("yang");
+        YangContext context = new YangContext(yang.getAbsolutePath(), false);
+        List<Statement> modules = new ArrayList<Statement>();
+        for (String yangFile : yangFiles) {
+            Statement module = context.addModule(new File(yang, yangFile));
+            assertNotNull(yangFile + ": " + context.getErrors(), module);
+            modules.add(module);
+        }
+        File output = new File(folder.getRoot(), "java/com/airlenet/yang/model");
+        new JncGenerator(context, output.getAbsolutePath(), prefix, true).generate(modules);
+        return files(new File(folder.getRoot(), "java"));
+    }
+
+    private static Map<String, String> files(File directory) throws IOException {
+        Map<String, String> files = new TreeMap<String, String>();
+        String base = directory.getAbsolutePath();
+        for (File file : FileUtils.listFiles(directory, null, true)) {
+            files.put(file.getAbsolutePath().substring(base.length() + 1).replace(File.separatorChar, '/'),
+                    FileUtils.readFileToString(file, "UTF-8"));
+        }
+        return files;
+    }
+
+    private static void assertSameFiles(Map<String, String> expected, Map<String, String> actual) {
+        assertEquals(expected.keySet(), actual.keySet());
+        for (Map.Entry<String, String> file : expected.entrySet()) {
+            assertEquals(file.getKey(), file.getValue(), actual.get(file.getKey()));
+        }
+    }
+
+    /**
+     * demo and ietf-ip, with the modules ietf-ip imports and its
+     * augmentation of ietf-interfaces.
+     */
+    @Test
+    public void sameFilesAsPyang() throws Exception {
+        assertSameFiles(files(resource("jnc/prefix")), generate("Prefix", "demo.yang", "ietf-ip.yang"));
+    }
+
+    /**
+     * The default prefix of the plugin, the root classes are named after
+     * the prefixes of the modules.
+     */
+    @Test
+    public void sameFilesAsPyangWithEmptyPrefix() throws Exception {
+        assertSameFiles(files(resource("jnc/empty")), generate("", "demo.yang"));
+    }
+}
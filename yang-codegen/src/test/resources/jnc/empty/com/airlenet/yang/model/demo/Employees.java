@@ -0,0 +1,232 @@
+/* 
+ * @(#)Employees.java        1.0
+ *
+ * This file has been auto-generated by JNC, the
+ * Java output format plug-in of pyang.
+ * Origin: module "demo", revision: "unknown".
+ */
+
+package com.airlenet.yang.model.demo;
+
+import com.airlenet.yang.model.demo.Demo;
+import com.airlenet.yang.model.demo.employees.Employee;
+import com.tailf.jnc.Element;
+import com.tailf.jnc.ElementChildrenIterator;
+import com.tailf.jnc.JNCException;
+import com.tailf.jnc.YangElement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class represents an element from 
+ * the namespace http://tail-f.com/ns/example/demo
+ * generated to "o/employees"
+ * <p>
+ * See line 5 in
+ * g
+ *
+ * @version 1.0
+ * @author Auto Generated
+ */
+public class Employees extends YangElement {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor for an empty Employees object.
+     */
+    public Employees() {
+        super(Demo.NAMESPACE, "employees");
+        setDefaultPrefix();
+        setPrefix(Demo.PREFIX);
+    }
+
+    /**
+     * Clones this object, returning an exact copy.
+     * @return A clone of the object.
+     */
+    public Employees clone() {
+        return (Employees)cloneContent(new Employees());
+    }
+
+    /**
+     * Clones this object, returning a shallow copy.
+     * @return A clone of the object. Children are not included.
+     */
+    public Employees cloneShallow() {
+        return (Employees)cloneShallowContent(new Employees());
+    }
+
+    private static final String[] CHILDREN_NAMES = {
+        "employee",
+    };
+
+    private static final java.util.Map<String, Integer> CHILDREN_ORDINALS =
+            ordinals(CHILDREN_NAMES);
+
+    /**
+     * @return An array with the identifiers of any key children
+     */
+    public String[] keyNames() {
+        return null;
+    }
+
+    /**
+     * @return An array with the identifiers of any children, in order.
+     */
+    public String[] childrenNames() {
+        return CHILDREN_NAMES.clone();
+    }
+
+    /**
+     * @return The identifiers of any children, in order, not to be modified.
+     */
+    protected String[] sharedChildrenNames() {
+        return CHILDREN_NAMES;
+    }
+
+    /**
+     * @return The position of each identifier in sharedChildrenNames.
+     */
+    protected java.util.Map<String, Integer> childrenOrdinals() {
+        return CHILDREN_ORDINALS;
+    }
+
+    /* Access methods for list child: "employee". */
+
+    /**
+     * Gets list entry "employee", with specified keys.
+     * @param idValue Key argument of child.
+     */
+    public Employee getEmployee(com.tailf.jnc.YangUInt32 idValue)
+            throws JNCException {
+        String path = "employee[id='" + idValue + "']";
+        return (Employee)searchOne(path);
+    }
+
+    /**
+     * Gets list entry "employee", with specified keys.
+     * The keys are specified as strings.
+     * @param idValue Key argument of child.
+     */
+    public Employee getEmployee(String idValue) throws JNCException {
+        String path = "employee[id='" + idValue + "']";
+        return (Employee)searchOne(path);
+    }
+
+    /**
+     * Iterator method for the list "employee".
+     * @return An iterator for the list.
+     */
+    public ElementChildrenIterator employeeIterator() {
+        return new ElementChildrenIterator(children, "employee");
+    }
+
+    /**
+     * List method for the list "employee".
+     * @return An List for the list.
+     */
+    public List<Employee> getEmployeeList() {
+        List<Employee> list = new ArrayList<>();
+        ElementChildrenIterator iterator = employeeIterator();
+        if(iterator==null){
+            return null;
+        }
+        while (iterator.hasNext()){
+            Employee next =(Employee) iterator.next();
+            list.add(next);
+        }
+        return list;
+    }
+
+    /**
+     * Adds list entry "employee", using an existing object.
+     * @param employee The object to add.
+     * @return The added child.
+     */
+    public Employee addEmployee(Employee employee) throws JNCException {
+        insertChild(employee, sharedChildrenNames());
+        return employee;
+    }
+
+    /**
+     * Adds list entry "employee", with specified keys.
+     * @param idValue Key argument of child.
+     * @return The added child.
+     */
+    public Employee addEmployee(com.tailf.jnc.YangUInt32 idValue)
+            throws JNCException {
+        Employee employee = new Employee(idValue);
+        return addEmployee(employee);
+    }
+
+    /**
+     * Adds list entry "employee", with specified keys.
+     * The keys are specified as strings.
+     * @param idValue Key argument of child.
+     * @return The added child.
+     */
+    public Employee addEmployee(String idValue) throws JNCException {
+        Employee employee = new Employee(idValue);
+        return addEmployee(employee);
+    }
+
+    /**
+     * Adds list entry "employee".
+     * This method is used for creating subtree filters.
+     * @return The added child.
+     */
+    public Employee addEmployee() throws JNCException {
+        Employee employee = new Employee();
+        insertChild(employee, sharedChildrenNames());
+        return employee;
+    }
+
+    /**
+     * Deletes list entry "employee", with specified keys.
+     * @param idValue Key argument of child.
+     */
+    public void deleteEmployee(com.tailf.jnc.YangUInt32 idValue)
+            throws JNCException {
+        String path = "employee[id='" + idValue + "']";
+        delete(path);
+    }
+
+    /**
+     * Deletes list entry "employee", with specified keys.
+     * The keys are specified as strings.
+     * @param idValue Key argument of child.
+     */
+    public void deleteEmployee(String idValue) throws JNCException {
+        String path = "employee[id='" + idValue + "']";
+        delete(path);
+    }
+
+    /**
+     * Support method for addChild.
+     * Adds a child to this object.
+     * 
+     * @param child The child to add
+     */
+    public void addChild(Element child) {
+        super.addChild(child);
+    }
+
+    /**
+     * Support method for createInstance.
+     * Adds a child by name, without reflection.
+     * 
+     * @return The added child, or null if it is a leaf.
+     */
+    protected Element addChildByName(String childName)
+            throws JNCException, ReflectiveOperationException {
+        switch (childName) {
+        case "employee":
+            return addEmployee();
+        default:
+            return super.addChildByName(childName);
+        }
+    }
+
+}
@@ -0,0 +1,16 @@
+/**
+ * This class hierarchy was generated from the Yang module demo
+ * by the <a target="_top" href="https://github.com/tail-f-systems/JNC">JNC</a> plugin of <a target="_top" href="http://code.google.com/p/pyang/">pyang</a>.
+ * The generated classes may be used to manipulate pieces of configuration data
+ * with NETCONF operations such as edit-config, delete-config and lock. These
+ * operations are typically accessed through the JNC Java library by
+ * instantiating Device objects and setting up NETCONF sessions with real
+ * devices using a compatible YANG model.
+ * <p>
+ * @see <a target="_top" href="https://github.com/tail-f-systems/JNC">JNC project page</a>
+ * @see <a target="_top" href="ftp://ftp.rfc-editor.org/in-notes/rfc6020.txt">RFC 6020: YANG - A Data Modeling Language for the Network Configuration Protocol (NETCONF)</a>
+ * @see <a target="_top" href="ftp://ftp.rfc-editor.org/in-notes/rfc6241.txt">RFC 6241: Network Configuration Protocol (NETCONF)</a>
+ * @see <a target="_top" href="ftp://ftp.rfc-editor.org/in-notes/rfc6242.txt">RFC 6242: Using the NETCONF Protocol over Secure Shell (SSH)</a>
+ * @see <a target="_top" href="http://www.tail-f.com">Tail-f Systems</a>
+ */
+ package com.airlenet.yang.model.demo;
\ No newline at end of file
@@ -0,0 +1,68 @@
+/* 
+ * @(#)DemoPrefix.java        1.0
+ *
+ * This file has been auto-generated by JNC, the
+ * Java output format plug-in of pyang.
+ * Origin: module "demo", revision: "unknown".
+ */
+
+package com.airlenet.yang.model.demo;
+
+import com.tailf.jnc.JNCException;
+import com.tailf.jnc.SchemaNode;
+import com.tailf.jnc.SchemaParser;
+import com.tailf.jnc.SchemaTree;
+import com.tailf.jnc.Tagpath;
+import com.tailf.jnc.YangElement;
+import com.tailf.jnc.YangElementFactory;
+
+import java.util.HashMap;
+
+/**
+ * The root class for namespace http://tail-f.com/ns/example/demo (accessible from 
+ * Demo.NAMESPACE) with prefix "demoPrefix" (Demo.PREFIX).
+ *
+ * @version 1.0
+ * @author Auto Generated
+ */
+public class DemoPrefix {
+
+    public static final String NAMESPACE = "http://tail-f.com/ns/example/demo";
+
+    public static final String PREFIX = "demo";
+
+    /**
+     * Enable the elements in this namespace to be aware
+     * of the data model and use the generated classes.
+     */
+    public static void enable() throws JNCException {
+        YangElement.setPackage(NAMESPACE, "com.airlenet.yang.model.demo", new Factory());
+        DemoPrefix.registerSchema();
+    }
+
+    /**
+     * Register the schema for this namespace in the global
+     * schema table (CsTree) making it possible to lookup
+     * CsNode entries for all tagpaths
+     */
+    public static void registerSchema() throws JNCException {
+        SchemaParser parser = new SchemaParser();
+        HashMap<Tagpath, SchemaNode> h = SchemaTree.create(NAMESPACE);
+        parser.findAndReadFile("DemoPrefix.schema", h, DemoPrefix.class);
+    }
+
+    /**
+     * Creates the top level elements of this namespace for the parser,
+     * without looking up their classes by name.
+     */
+    private static class Factory implements YangElementFactory {
+        public YangElement createElement(String name) {
+            switch (name) {
+            case "employees":
+                return new com.airlenet.yang.model.demo.Employees();
+            default:
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/* 
+ * @(#)DomainName.java        1.0
+ *
+ * This file has been auto-generated by JNC, the
+ * Java output format plug-in of pyang.
+ * Origin: module "ietf-inet-types", revision: "2010-09-24".
+ */
+
+package com.airlenet.yang.model.ietfInetTypes;
+
+import com.tailf.jnc.YangException;
+import com.tailf.jnc.YangString;
+
+/**
+ * This class represents an element from 
+ * the namespace 
+ * generated to "s/domain-name"
+ * <p>
+ * See line 312 in
+ * g
+ *
+ * @version 1.0
+ * @author Auto Generated
+ */
+public class DomainName extends YangString {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor for DomainName object from a string.
+     * @param value Value to construct the DomainName from.
+     */
+    public DomainName(String value) throws YangException {
+        super(value);
+        check();
+    }
+
+    /**
+     * Sets the value using a string value.
+     * @param value The value to set.
+     */
+    public void setValue(String value) throws YangException {
+        super.setValue(value);
+        check();
+    }
+
+    /**
+     * Checks all restrictions (if any).
+     */
+    public void check() throws YangException {
+    }
+
+}
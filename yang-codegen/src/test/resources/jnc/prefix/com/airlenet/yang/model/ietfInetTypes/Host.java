@@ -0,0 +1,58 @@
+/* 
+ * @(#)Host.java        1.0
+ *
+ * This file has been auto-generated by JNC, the
+ * Java output format plug-in of pyang.
+ * Origin: module "ietf-inet-types", revision: "2010-09-24".
+ */
+
+package com.airlenet.yang.model.ietfInetTypes;
+
+import com.tailf.jnc.YangException;
+import com.tailf.jnc.YangUnion;
+
+/**
+ * This class represents an element from 
+ * the namespace 
+ * generated to "s/host"
+ * <p>
+ * See line 369 in
+ * g
+ *
+ * @version 1.0
+ * @author Auto Generated
+ */
+public class Host extends YangUnion {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor for Host object from a string.
+     * @param value Value to construct the Host from.
+     */
+    public Host(String value) throws YangException {
+        super(value,
+            new String[] {
+                "com.airlenet.yang.model.ietfInetTypes.IpAddress",
+                "com.airlenet.yang.model.ietfInetTypes.DomainName",
+            }
+        );
+        check();
+    }
+
+    /**
+     * Sets the value using a string value.
+     * @param value The value to set.
+     */
+    public void setValue(String value) throws YangException {
+        super.setValue(value);
+        check();
+    }
+
+    /**
+     * Checks all restrictions (if any).
+     */
+    public void check() throws YangException {
+    }
+
+}
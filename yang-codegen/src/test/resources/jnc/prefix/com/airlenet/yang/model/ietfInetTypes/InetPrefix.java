@@ -0,0 +1,53 @@
+/* 
+ * @(#)InetPrefix.java        1.0
+ *
+ * This file has been auto-generated by JNC, the
+ * Java output format plug-in of pyang.
+ * Origin: module "ietf-inet-types", revision: "2010-09-24".
+ */
+
+package com.airlenet.yang.model.ietfInetTypes;
+
+import com.tailf.jnc.JNCException;
+import com.tailf.jnc.SchemaNode;
+import com.tailf.jnc.SchemaParser;
+import com.tailf.jnc.SchemaTree;
+import com.tailf.jnc.Tagpath;
+import com.tailf.jnc.YangElement;
+
+import java.util.HashMap;
+
+/**
+ * The root class for namespace urn:ietf:params:xml:ns:yang:ietf-inet-types (accessible from 
+ * IetfInetTypes.NAMESPACE) with prefix "inetPrefix" (IetfInetTypes.PREFIX).
+ *
+ * @version 1.0
+ * @author Auto Generated
+ */
+public class InetPrefix {
+
+    public static final String NAMESPACE = "urn:ietf:params:xml:ns:yang:ietf-inet-types";
+
+    public static final String PREFIX = "inet";
+
+    /**
+     * Enable the elements in this namespace to be aware
+     * of the data model and use the generated classes.
+     */
+    public static void enable() throws JNCException {
+        YangElement.setPackage(NAMESPACE, "com.airlenet.yang.model.ietfInetTypes");
+        InetPrefix.registerSchema();
+    }
+
+    /**
+     * Register the schema for this namespace in the global
+     * schema table (CsTree) making it possible to lookup
+     * CsNode entries for all tagpaths
+     */
+    public static void registerSchema() throws JNCException {
+        SchemaParser parser = new SchemaParser();
+        HashMap<Tagpath, SchemaNode> h = SchemaTree.create(NAMESPACE);
+        parser.findAndReadFile("InetPrefix.schema", h, InetPrefix.class);
+    }
+
+}
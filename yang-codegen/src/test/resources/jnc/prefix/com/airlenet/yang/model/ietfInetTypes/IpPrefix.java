@@ -0,0 +1,58 @@
+/* 
+ * @(#)IpPrefix.java        1.0
+ *
+ * This file has been auto-generated by JNC, the
+ * Java output format plug-in of pyang.
+ * Origin: module "ietf-inet-types", revision: "2010-09-24".
+ */
+
+package com.airlenet.yang.model.ietfInetTypes;
+
+import com.tailf.jnc.YangException;
+import com.tailf.jnc.YangUnion;
+
+/**
+ * This class represents an element from 
+ * the namespace 
+ * generated to "s/ip-prefix"
+ * <p>
+ * See line 240 in
+ * g
+ *
+ * @version 1.0
+ * @author Auto Generated
+ */
+public class IpPrefix extends YangUnion {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor for IpPrefix object from a string.
+     * @param value Value to construct the IpPrefix from.
+     */
+    public IpPrefix(String value) throws YangException {
+        super(value,
+            new String[] {
+                "com.airlenet.yang.model.ietfInetTypes.Ipv4Prefix",
+                "com.airlenet.yang.model.ietfInetTypes.Ipv6Prefix",
+            }
+        );
+        check();
+    }
+
+    /**
+     * Sets the value using a string value.
+     * @param value The value to set.
+     */
+    public void setValue(String value) throws YangException {
+        super.setValue(value);
+        check();
+    }
+
+    /**
+     * Checks all restrictions (if any).
+     */
+    public void check() throws YangException {
+    }
+
+}
@@ -0,0 +1,60 @@
+/* 
+ * @(#)IpVersion.java        1.0
+ *
+ * This file has been auto-generated by JNC, the
+ * Java output format plug-in of pyang.
+ * Origin: module "ietf-inet-types", revision: "2010-09-24".
+ */
+
+package com.airlenet.yang.model.ietfInetTypes;
+
+import com.tailf.jnc.YangEnumeration;
+import com.tailf.jnc.YangException;
+
+/**
+ * This class represents an element from 
+ * the namespace 
+ * generated to "s/ip-version"
+ * <p>
+ * See line 47 in
+ * g
+ *
+ * @version 1.0
+ * @author Auto Generated
+ */
+public class IpVersion extends YangEnumeration {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor for IpVersion object from a string.
+     * @param value Value to construct the IpVersion from.
+     */
+    public IpVersion(String value) throws YangException {
+        super(value,
+            new String[] {
+                "unknown",
+                "ipv4",
+                "ipv6",
+            }
+        );
+        check();
+    }
+
+    /**
+     * Sets the value using a string value.
+     * @param value The value to set.
+     */
+    public void setValue(String value) throws YangException {
+        super.setValue(value);
+        check();
+    }
+
+    /**
+     * Checks all restrictions (if any).
+     */
+    public void check() throws YangException {
+        super.check();
+    }
+
+}
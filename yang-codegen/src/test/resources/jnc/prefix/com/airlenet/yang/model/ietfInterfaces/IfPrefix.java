@@ -0,0 +1,68 @@
+/* 
+ * @(#)IfPrefix.java        1.0
+ *
+ * This file has been auto-generated by JNC, the
+ * Java output format plug-in of pyang.
+ * Origin: module "ietf-interfaces", revision: "2012-09-05".
+ */
+
+package com.airlenet.yang.model.ietfInterfaces;
+
+import com.tailf.jnc.JNCException;
+import com.tailf.jnc.SchemaNode;
+import com.tailf.jnc.SchemaParser;
+import com.tailf.jnc.SchemaTree;
+import com.tailf.jnc.Tagpath;
+import com.tailf.jnc.YangElement;
+import com.tailf.jnc.YangElementFactory;
+
+import java.util.HashMap;
+
+/**
+ * The root class for namespace urn:ietf:params:xml:ns:yang:ietf-interfaces (accessible from 
+ * IetfInterfaces.NAMESPACE) with prefix "ifPrefix" (IetfInterfaces.PREFIX).
+ *
+ * @version 1.0
+ * @author Auto Generated
+ */
+public class IfPrefix {
+
+    public static final String NAMESPACE = "urn:ietf:params:xml:ns:yang:ietf-interfaces";
+
+    public static final String PREFIX = "if";
+
+    /**
+     * Enable the elements in this namespace to be aware
+     * of the data model and use the generated classes.
+     */
+    public static void enable() throws JNCException {
+        YangElement.setPackage(NAMESPACE, "com.airlenet.yang.model.ietfInterfaces", new Factory());
+        IfPrefix.registerSchema();
+    }
+
+    /**
+     * Register the schema for this namespace in the global
+     * schema table (CsTree) making it possible to lookup
+     * CsNode entries for all tagpaths
+     */
+    public static void registerSchema() throws JNCException {
+        SchemaParser parser = new SchemaParser();
+        HashMap<Tagpath, SchemaNode> h = SchemaTree.create(NAMESPACE);
+        parser.findAndReadFile("IfPrefix.schema", h, IfPrefix.class);
+    }
+
+    /**
+     * Creates the top level elements of this namespace for the parser,
+     * without looking up their classes by name.
+     */
+    private static class Factory implements YangElementFactory {
+        public YangElement createElement(String name) {
+            switch (name) {
+            case "interfaces":
+                return new com.airlenet.yang.model.ietfInterfaces.Interfaces();
+            default:
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/* 
+ * @(#)InterfaceRef.java        1.0
+ *
+ * This file has been auto-generated by JNC, the
+ * Java output format plug-in of pyang.
+ * Origin: module "ietf-interfaces", revision: "2012-09-05".
+ */
+
+package com.airlenet.yang.model.ietfInterfaces;
+
+import com.tailf.jnc.YangException;
+import com.tailf.jnc.YangString;
+
+/**
+ * This class represents an element from 
+ * the namespace 
+ * generated to "s/interface-ref"
+ * <p>
+ * See line 58 in
+ * g
+ *
+ * @version 1.0
+ * @author Auto Generated
+ */
+public class InterfaceRef extends YangString {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor for InterfaceRef object from a string.
+     * @param value Value to construct the InterfaceRef from.
+     */
+    public InterfaceRef(String value) throws YangException {
+        super(value);
+        check();
+    }
+
+    /**
+     * Sets the value using a string value.
+     * @param value The value to set.
+     */
+    public void setValue(String value) throws YangException {
+        super.setValue(value);
+        check();
+    }
+
+    /**
+     * Checks all restrictions (if any).
+     */
+    public void check() throws YangException {
+    }
+
+}
@@ -0,0 +1,232 @@
+/* 
+ * @(#)Interfaces.java        1.0
+ *
+ * This file has been auto-generated by JNC, the
+ * Java output format plug-in of pyang.
+ * Origin: module "ietf-interfaces", revision: "2012-09-05".
+ */
+
+package com.airlenet.yang.model.ietfInterfaces;
+
+import com.airlenet.yang.model.ietfInterfaces.IfPrefix;
+import com.airlenet.yang.model.ietfInterfaces.interfaces.JInterface;
+import com.tailf.jnc.Element;
+import com.tailf.jnc.ElementChildrenIterator;
+import com.tailf.jnc.JNCException;
+import com.tailf.jnc.YangElement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class represents an element from 
+ * the namespace urn:ietf:params:xml:ns:yang:ietf-interfaces
+ * generated to "s/interfaces"
+ * <p>
+ * See line 76 in
+ * g
+ *
+ * @version 1.0
+ * @author Auto Generated
+ */
+public class Interfaces extends YangElement {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor for an empty Interfaces object.
+     */
+    public Interfaces() {
+        super(IfPrefix.NAMESPACE, "interfaces");
+        setDefaultPrefix();
+        setPrefix(IfPrefix.PREFIX);
+    }
+
+    /**
+     * Clones this object, returning an exact copy.
+     * @return A clone of the object.
+     */
+    public Interfaces clone() {
+        return (Interfaces)cloneContent(new Interfaces());
+    }
+
+    /**
+     * Clones this object, returning a shallow copy.
+     * @return A clone of the object. Children are not included.
+     */
+    public Interfaces cloneShallow() {
+        return (Interfaces)cloneShallowContent(new Interfaces());
+    }
+
+    private static final String[] CHILDREN_NAMES = {
+        "interface",
+    };
+
+    private static final java.util.Map<String, Integer> CHILDREN_ORDINALS =
+            ordinals(CHILDREN_NAMES);
+
+    /**
+     * @return An array with the identifiers of any key children
+     */
+    public String[] keyNames() {
+        return null;
+    }
+
+    /**
+     * @return An array with the identifiers of any children, in order.
+     */
+    public String[] childrenNames() {
+        return CHILDREN_NAMES.clone();
+    }
+
+    /**
+     * @return The identifiers of any children, in order, not to be modified.
+     */
+    protected String[] sharedChildrenNames() {
+        return CHILDREN_NAMES;
+    }
+
+    /**
+     * @return The position of each identifier in sharedChildrenNames.
+     */
+    protected java.util.Map<String, Integer> childrenOrdinals() {
+        return CHILDREN_ORDINALS;
+    }
+
+    /* Access methods for list child: "interface". */
+
+    /**
+     * Gets list entry "interface_", with specified keys.
+     * @param nameValue Key argument of child.
+     */
+    public JInterface getJInterface(com.tailf.jnc.YangString nameValue)
+            throws JNCException {
+        String path = "interface[name='" + nameValue + "']";
+        return (JInterface)searchOne(path);
+    }
+
+    /**
+     * Gets list entry "interface_", with specified keys.
+     * The keys are specified as strings.
+     * @param nameValue Key argument of child.
+     */
+    public JInterface getJInterface(String nameValue) throws JNCException {
+        String path = "interface[name='" + nameValue + "']";
+        return (JInterface)searchOne(path);
+    }
+
+    /**
+     * Iterator method for the list "interface".
+     * @return An iterator for the list.
+     */
+    public ElementChildrenIterator interface_Iterator() {
+        return new ElementChildrenIterator(children, "interface");
+    }
+
+    /**
+     * List method for the list "interface".
+     * @return An List for the list.
+     */
+    public List<JInterface> getJInterfaceList() {
+        List<JInterface> list = new ArrayList<>();
+        ElementChildrenIterator iterator = interface_Iterator();
+        if(iterator==null){
+            return null;
+        }
+        while (iterator.hasNext()){
+            JInterface next =(JInterface) iterator.next();
+            list.add(next);
+        }
+        return list;
+    }
+
+    /**
+     * Adds list entry "interface_", using an existing object.
+     * @param interface_ The object to add.
+     * @return The added child.
+     */
+    public JInterface addJInterface(JInterface interface_) throws JNCException {
+        insertChild(interface_, sharedChildrenNames());
+        return interface_;
+    }
+
+    /**
+     * Adds list entry "interface_", with specified keys.
+     * @param nameValue Key argument of child.
+     * @return The added child.
+     */
+    public JInterface addJInterface(com.tailf.jnc.YangString nameValue)
+            throws JNCException {
+        JInterface interface_ = new JInterface(nameValue);
+        return addJInterface(interface_);
+    }
+
+    /**
+     * Adds list entry "interface_", with specified keys.
+     * The keys are specified as strings.
+     * @param nameValue Key argument of child.
+     * @return The added child.
+     */
+    public JInterface addJInterface(String nameValue) throws JNCException {
+        JInterface interface_ = new JInterface(nameValue);
+        return addJInterface(interface_);
+    }
+
+    /**
+     * Adds list entry "interface_".
+     * This method is used for creating subtree filters.
+     * @return The added child.
+     */
+    public JInterface addJInterface() throws JNCException {
+        JInterface interface_ = new JInterface();
+        insertChild(interface_, sharedChildrenNames());
+        return interface_;
+    }
+
+    /**
+     * Deletes list entry "interface_", with specified keys.
+     * @param nameValue Key argument of child.
+     */
+    public void deleteJInterface(com.tailf.jnc.YangString nameValue)
+            throws JNCException {
+        String path = "interface[name='" + nameValue + "']";
+        delete(path);
+    }
+
+    /**
+     * Deletes list entry "interface_", with specified keys.
+     * The keys are specified as strings.
+     * @param nameValue Key argument of child.
+     */
+    public void deleteJInterface(String nameValue) throws JNCException {
+        String path = "interface[name='" + nameValue + "']";
+        delete(path);
+    }
+
+    /**
+     * Support method for addChild.
+     * Adds a child to this object.
+     * 
+     * @param child The child to add
+     */
+    public void addChild(Element child) {
+        super.addChild(child);
+    }
+
+    /**
+     * Support method for createInstance.
+     * Adds a child by name, without reflection.
+     * 
+     * @return The added child, or null if it is a leaf.
+     */
+    protected Element addChildByName(String childName)
+            throws JNCException, ReflectiveOperationException {
+        switch (childName) {
+        case "interface":
+            return addJInterface();
+        default:
+            return super.addChildByName(childName);
+        }
+    }
+
+}
@@ -0,0 +1,1736 @@
+/* 
+ * @(#)JInterface.java        1.0
+ *
+ * This file has been auto-generated by JNC, the
+ * Java output format plug-in of pyang.
+ * Origin: module "ietf-interfaces", revision: "2012-09-05".
+ */
+
+package com.airlenet.yang.model.ietfInterfaces.interfaces;
+
+import com.airlenet.yang.model.ianaIfType.IanaIfType;
+import com.airlenet.yang.model.ietfInterfaces.IfPrefix;
+import com.airlenet.yang.model.ietfInterfaces.InterfaceRef;
+import com.airlenet.yang.model.ietfInterfaces.interfaces.interface_.Ipv4;
+import com.airlenet.yang.model.ietfInterfaces.interfaces.interface_.Ipv6;
+import com.airlenet.yang.model.ietfInterfaces.interfaces.interface_.Statistics;
+import com.airlenet.yang.model.ietfYangTypes.DateAndTime;
+import com.airlenet.yang.model.ietfYangTypes.Gauge64;
+import com.airlenet.yang.model.ietfYangTypes.PhysAddress;
+import com.tailf.jnc.Element;
+import com.tailf.jnc.ElementLeafListValueIterator;
+import com.tailf.jnc.JNCException;
+import com.tailf.jnc.Leaf;
+import com.tailf.jnc.NodeSet;
+import com.tailf.jnc.YangBoolean;
+import com.tailf.jnc.YangElement;
+import com.tailf.jnc.YangEnumeration;
+import com.tailf.jnc.YangInt32;
+import com.tailf.jnc.YangString;
+import com.tailf.jnc.YangUInt32;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class represents an element from 
+ * the namespace urn:ietf:params:xml:ns:yang:ietf-interfaces
+ * generated to "s/interface"
+ * <p>
+ * See line 78 in
+ * g
+ *
+ * @version 1.0
+ * @author Auto Generated
+ */
+public class JInterface extends YangElement {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Field for child container "statistics".
+     */
+    public Statistics statistics = null;
+    public Statistics getStatistics() {
+        return this.statistics;
+    }
+
+    /**
+     * Field for child container "ipv4".
+     */
+    public Ipv4 ipv4 = null;
+    public Ipv4 getIpv4() {
+        return this.ipv4;
+    }
+
+    /**
+     * Field for child container "ipv6".
+     */
+    public Ipv6 ipv6 = null;
+    public Ipv6 getIpv6() {
+        return this.ipv6;
+    }
+
+    /**
+     * Constructor for an empty JInterface object.
+     */
+    public JInterface() {
+        super(IfPrefix.NAMESPACE, "interface");
+    }
+
+    /**
+     * Constructor for an initialized JInterface object,
+     * 
+     * @param nameValue Key argument of child.
+     */
+    public JInterface(YangString nameValue) throws JNCException {
+        super(IfPrefix.NAMESPACE, "interface");
+        Leaf name = new Leaf(IfPrefix.NAMESPACE, "name");
+        name.setValue(nameValue);
+        insertChild(name, sharedChildrenNames());
+    }
+
+    /**
+     * Constructor for an initialized JInterface object,
+     * with String keys.
+     * @param nameValue Key argument of child.
+     */
+    public JInterface(String nameValue) throws JNCException {
+        super(IfPrefix.NAMESPACE, "interface");
+        Leaf name = new Leaf(IfPrefix.NAMESPACE, "name");
+        name.setValue(new com.tailf.jnc.YangString(nameValue));
+        insertChild(name, sharedChildrenNames());
+    }
+
+    /**
+     * Clones this object, returning an exact copy.
+     * @return A clone of the object.
+     */
+    public JInterface clone() {
+        JInterface copy;
+        try {
+            copy = new JInterface(getNameValue().toString());
+        } catch (JNCException e) {
+            copy = null;
+        }
+        return (JInterface)cloneContent(copy);
+    }
+
+    /**
+     * Clones this object, returning a shallow copy.
+     * @return A clone of the object. Children are not included.
+     */
+    public JInterface cloneShallow() {
+        JInterface copy;
+        try {
+            copy = new JInterface(getNameValue().toString());
+        } catch (JNCException e) {
+            copy = null;
+        }
+        return (JInterface)cloneShallowContent(copy);
+    }
+
+    private static final String[] KEY_NAMES = {
+        "name",
+    };
+
+    private static final String[] CHILDREN_NAMES = {
+        "name",
+        "description",
+        "type",
+        "location",
+        "enabled",
+        "oper-status",
+        "last-change",
+        "if-index",
+        "mtu",
+        "link-up-down-trap-enable",
+        "phys-address",
+        "higher-layer-if",
+        "lower-layer-if",
+        "speed",
+        "statistics",
+        "ipv4",
+        "ipv6",
+    };
+
+    private static final java.util.Map<String, Integer> CHILDREN_ORDINALS =
+            ordinals(CHILDREN_NAMES);
+
+    /**
+     * @return An array with the identifiers of any key children
+     */
+    public String[] keyNames() {
+        return KEY_NAMES.clone();
+    }
+
+    /**
+     * @return The identifiers of the key children, not to be modified.
+     */
+    protected String[] sharedKeyNames() {
+        return KEY_NAMES;
+    }
+
+    /**
+     * @return An array with the identifiers of any children, in order.
+     */
+    public String[] childrenNames() {
+        return CHILDREN_NAMES.clone();
+    }
+
+    /**
+     * @return The identifiers of any children, in order, not to be modified.
+     */
+    protected String[] sharedChildrenNames() {
+        return CHILDREN_NAMES;
+    }
+
+    /**
+     * @return The position of each identifier in sharedChildrenNames.
+     */
+    protected java.util.Map<String, Integer> childrenOrdinals() {
+        return CHILDREN_ORDINALS;
+    }
+
+    /* Access methods for leaf child: "name". */
+
+    /**
+     * Gets the value for child leaf "name".
+     * @return The value of the leaf.
+     */
+    public com.tailf.jnc.YangString getNameValue() throws JNCException {
+        return (com.tailf.jnc.YangString)getValue("name");
+    }
+
+    /**
+     * Sets the value for child leaf "name",
+     * using instance of generated typedef class.
+     * @param nameValue The value to set.
+     * @param nameValue used during instantiation.
+     */
+    public void setNameValue(com.tailf.jnc.YangString nameValue)
+            throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "name",
+            nameValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "name",
+     * using a String value.
+     * @param nameValue used during instantiation.
+     */
+    public void setNameValue(String nameValue) throws JNCException {
+        setNameValue(new com.tailf.jnc.YangString(nameValue));
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "name" leaf will not have a value.
+     */
+    public void addName() throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "name",
+            null,
+            sharedChildrenNames());
+    }
+
+    /* Access methods for optional leaf child: "description". */
+
+    /**
+     * Gets the value for child leaf "description".
+     * @return The value of the leaf.
+     */
+    public com.tailf.jnc.YangString getDescriptionValue() throws JNCException {
+        return (com.tailf.jnc.YangString)getValue("description");
+    }
+
+    /**
+     * Sets the value for child leaf "description",
+     * using instance of generated typedef class.
+     * @param descriptionValue The value to set.
+     * @param descriptionValue used during instantiation.
+     */
+    public void setDescriptionValue(com.tailf.jnc.YangString descriptionValue)
+            throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "description",
+            descriptionValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "description",
+     * using a String value.
+     * @param descriptionValue used during instantiation.
+     */
+    public void setDescriptionValue(String descriptionValue)
+            throws JNCException {
+        setDescriptionValue(new com.tailf.jnc.YangString(descriptionValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "description".
+     */
+    public void unsetDescriptionValue() throws JNCException {
+        delete("description");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "description" leaf will not have a value.
+     */
+    public void addDescription() throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "description",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "description" with operation "replace".
+     */
+    public void markDescriptionReplace() throws JNCException {
+        markLeafReplace("description");
+    }
+
+    /**
+     * Marks the leaf "description" with operation "merge".
+     */
+    public void markDescriptionMerge() throws JNCException {
+        markLeafMerge("description");
+    }
+
+    /**
+     * Marks the leaf "description" with operation "create".
+     */
+    public void markDescriptionCreate() throws JNCException {
+        markLeafCreate("description");
+    }
+
+    /**
+     * Marks the leaf "description" with operation "delete".
+     */
+    public void markDescriptionDelete() throws JNCException {
+        markLeafDelete("description");
+    }
+
+    /**
+     * Marks the leaf "description" with operation "remove".
+     */
+    public void markDescriptionRemove() throws JNCException {
+        markLeafRemove("description");
+    }
+
+    /* Access methods for optional leaf child: "type". */
+
+    /**
+     * Gets the value for child leaf "type".
+     * @return The value of the leaf.
+     */
+    public com.airlenet.yang.model.ianaIfType.IanaIfType getTypeValue()
+            throws JNCException {
+        return (com.airlenet.yang.model.ianaIfType.IanaIfType)getValue("type");
+    }
+
+    /**
+     * Sets the value for child leaf "type",
+     * using a JNC type value.
+     * @param typeValue The value to set.
+     * @param typeValue used during instantiation.
+     */
+    public void setTypeValue(com.airlenet.yang.model.ianaIfType.IanaIfType typeValue)
+            throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "type",
+            typeValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "type",
+     * using a String value.
+     * @param typeValue used during instantiation.
+     */
+    public void setTypeValue(String typeValue) throws JNCException {
+        setTypeValue(new com.airlenet.yang.model.ianaIfType.IanaIfType(typeValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "type".
+     */
+    public void unsetTypeValue() throws JNCException {
+        delete("type");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "type" leaf will not have a value.
+     */
+    public void addType() throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "type",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "type" with operation "replace".
+     */
+    public void markTypeReplace() throws JNCException {
+        markLeafReplace("type");
+    }
+
+    /**
+     * Marks the leaf "type" with operation "merge".
+     */
+    public void markTypeMerge() throws JNCException {
+        markLeafMerge("type");
+    }
+
+    /**
+     * Marks the leaf "type" with operation "create".
+     */
+    public void markTypeCreate() throws JNCException {
+        markLeafCreate("type");
+    }
+
+    /**
+     * Marks the leaf "type" with operation "delete".
+     */
+    public void markTypeDelete() throws JNCException {
+        markLeafDelete("type");
+    }
+
+    /**
+     * Marks the leaf "type" with operation "remove".
+     */
+    public void markTypeRemove() throws JNCException {
+        markLeafRemove("type");
+    }
+
+    /* Access methods for optional leaf child: "location". */
+
+    /**
+     * Gets the value for child leaf "location".
+     * @return The value of the leaf.
+     */
+    public com.tailf.jnc.YangString getLocationValue() throws JNCException {
+        return (com.tailf.jnc.YangString)getValue("location");
+    }
+
+    /**
+     * Sets the value for child leaf "location",
+     * using instance of generated typedef class.
+     * @param locationValue The value to set.
+     * @param locationValue used during instantiation.
+     */
+    public void setLocationValue(com.tailf.jnc.YangString locationValue)
+            throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "location",
+            locationValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "location",
+     * using a String value.
+     * @param locationValue used during instantiation.
+     */
+    public void setLocationValue(String locationValue) throws JNCException {
+        setLocationValue(new com.tailf.jnc.YangString(locationValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "location".
+     */
+    public void unsetLocationValue() throws JNCException {
+        delete("location");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "location" leaf will not have a value.
+     */
+    public void addLocation() throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "location",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "location" with operation "replace".
+     */
+    public void markLocationReplace() throws JNCException {
+        markLeafReplace("location");
+    }
+
+    /**
+     * Marks the leaf "location" with operation "merge".
+     */
+    public void markLocationMerge() throws JNCException {
+        markLeafMerge("location");
+    }
+
+    /**
+     * Marks the leaf "location" with operation "create".
+     */
+    public void markLocationCreate() throws JNCException {
+        markLeafCreate("location");
+    }
+
+    /**
+     * Marks the leaf "location" with operation "delete".
+     */
+    public void markLocationDelete() throws JNCException {
+        markLeafDelete("location");
+    }
+
+    /**
+     * Marks the leaf "location" with operation "remove".
+     */
+    public void markLocationRemove() throws JNCException {
+        markLeafRemove("location");
+    }
+
+    /* Access methods for optional leaf child: "enabled". */
+
+    /**
+     * Gets the value for child leaf "enabled".
+     * @return The value of the leaf.
+     */
+    public com.tailf.jnc.YangBoolean getEnabledValue() throws JNCException {
+        com.tailf.jnc.YangBoolean enabled = (com.tailf.jnc.YangBoolean)getValue("enabled");
+        if (enabled == null) {
+            enabled = new com.tailf.jnc.YangBoolean("true");  // default
+        }
+        return enabled;
+    }
+
+    /**
+     * Sets the value for child leaf "enabled",
+     * using instance of generated typedef class.
+     * @param enabledValue The value to set.
+     * @param enabledValue used during instantiation.
+     */
+    public void setEnabledValue(com.tailf.jnc.YangBoolean enabledValue)
+            throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "enabled",
+            enabledValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "enabled",
+     * using Java primitive values.
+     * @param enabledValue used during instantiation.
+     */
+    public void setEnabledValue(Boolean enabledValue) throws JNCException {
+        setEnabledValue(new com.tailf.jnc.YangBoolean(enabledValue));
+    }
+
+    /**
+     * Sets the value for child leaf "enabled",
+     * using a String value.
+     * @param enabledValue used during instantiation.
+     */
+    public void setEnabledValue(String enabledValue) throws JNCException {
+        setEnabledValue(new com.tailf.jnc.YangBoolean(enabledValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "enabled".
+     */
+    public void unsetEnabledValue() throws JNCException {
+        delete("enabled");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "enabled" leaf will not have a value.
+     */
+    public void addEnabled() throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "enabled",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "enabled" with operation "replace".
+     */
+    public void markEnabledReplace() throws JNCException {
+        markLeafReplace("enabled");
+    }
+
+    /**
+     * Marks the leaf "enabled" with operation "merge".
+     */
+    public void markEnabledMerge() throws JNCException {
+        markLeafMerge("enabled");
+    }
+
+    /**
+     * Marks the leaf "enabled" with operation "create".
+     */
+    public void markEnabledCreate() throws JNCException {
+        markLeafCreate("enabled");
+    }
+
+    /**
+     * Marks the leaf "enabled" with operation "delete".
+     */
+    public void markEnabledDelete() throws JNCException {
+        markLeafDelete("enabled");
+    }
+
+    /**
+     * Marks the leaf "enabled" with operation "remove".
+     */
+    public void markEnabledRemove() throws JNCException {
+        markLeafRemove("enabled");
+    }
+
+    /* Access methods for optional leaf child: "oper-status". */
+
+    /**
+     * Gets the value for child leaf "oper-status".
+     * @return The value of the leaf.
+     */
+    public com.tailf.jnc.YangEnumeration getOperStatusValue()
+            throws JNCException {
+        return (com.tailf.jnc.YangEnumeration)getValue("oper-status");
+    }
+
+    /**
+     * Sets the value for child leaf "oper-status",
+     * using instance of generated typedef class.
+     * @param operStatusValue The value to set.
+     * @param operStatusValue used during instantiation.
+     */
+    public void setOperStatusValue(com.tailf.jnc.YangEnumeration operStatusValue)
+            throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "oper-status",
+            operStatusValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "oper-status",
+     * using a String value.
+     * @param operStatusValue used during instantiation.
+     */
+    public void setOperStatusValue(String operStatusValue) throws JNCException {
+        setOperStatusValue(new com.tailf.jnc.YangEnumeration(operStatusValue, new String[] {
+             "up",
+             "down",
+             "testing",
+             "unknown",
+             "dormant",
+             "not-present",
+             "lower-layer-down",
+        }));
+    }
+
+    /**
+     * Unsets the value for child leaf "oper-status".
+     */
+    public void unsetOperStatusValue() throws JNCException {
+        delete("oper-status");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "oper-status" leaf will not have a value.
+     */
+    public void addOperStatus() throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "oper-status",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "oper-status" with operation "replace".
+     */
+    public void markOperStatusReplace() throws JNCException {
+        markLeafReplace("oper-status");
+    }
+
+    /**
+     * Marks the leaf "oper-status" with operation "merge".
+     */
+    public void markOperStatusMerge() throws JNCException {
+        markLeafMerge("oper-status");
+    }
+
+    /**
+     * Marks the leaf "oper-status" with operation "create".
+     */
+    public void markOperStatusCreate() throws JNCException {
+        markLeafCreate("oper-status");
+    }
+
+    /**
+     * Marks the leaf "oper-status" with operation "delete".
+     */
+    public void markOperStatusDelete() throws JNCException {
+        markLeafDelete("oper-status");
+    }
+
+    /**
+     * Marks the leaf "oper-status" with operation "remove".
+     */
+    public void markOperStatusRemove() throws JNCException {
+        markLeafRemove("oper-status");
+    }
+
+    /* Access methods for optional leaf child: "last-change". */
+
+    /**
+     * Gets the value for child leaf "last-change".
+     * @return The value of the leaf.
+     */
+    public com.airlenet.yang.model.ietfYangTypes.DateAndTime getLastChangeValue()
+            throws JNCException {
+        return (com.airlenet.yang.model.ietfYangTypes.DateAndTime)getValue("last-change");
+    }
+
+    /**
+     * Sets the value for child leaf "last-change",
+     * using a JNC type value.
+     * @param lastChangeValue The value to set.
+     * @param lastChangeValue used during instantiation.
+     */
+    public void setLastChangeValue(com.airlenet.yang.model.ietfYangTypes.DateAndTime lastChangeValue)
+            throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "last-change",
+            lastChangeValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "last-change",
+     * using a String value.
+     * @param lastChangeValue used during instantiation.
+     */
+    public void setLastChangeValue(String lastChangeValue) throws JNCException {
+        setLastChangeValue(new com.airlenet.yang.model.ietfYangTypes.DateAndTime(lastChangeValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "last-change".
+     */
+    public void unsetLastChangeValue() throws JNCException {
+        delete("last-change");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "last-change" leaf will not have a value.
+     */
+    public void addLastChange() throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "last-change",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "last-change" with operation "replace".
+     */
+    public void markLastChangeReplace() throws JNCException {
+        markLeafReplace("last-change");
+    }
+
+    /**
+     * Marks the leaf "last-change" with operation "merge".
+     */
+    public void markLastChangeMerge() throws JNCException {
+        markLeafMerge("last-change");
+    }
+
+    /**
+     * Marks the leaf "last-change" with operation "create".
+     */
+    public void markLastChangeCreate() throws JNCException {
+        markLeafCreate("last-change");
+    }
+
+    /**
+     * Marks the leaf "last-change" with operation "delete".
+     */
+    public void markLastChangeDelete() throws JNCException {
+        markLeafDelete("last-change");
+    }
+
+    /**
+     * Marks the leaf "last-change" with operation "remove".
+     */
+    public void markLastChangeRemove() throws JNCException {
+        markLeafRemove("last-change");
+    }
+
+    /* Access methods for optional leaf child: "if-index". */
+
+    /**
+     * Gets the value for child leaf "if-index".
+     * @return The value of the leaf.
+     */
+    public com.tailf.jnc.YangInt32 getIfIndexValue() throws JNCException {
+        return (com.tailf.jnc.YangInt32)getValue("if-index");
+    }
+
+    /**
+     * Sets the value for child leaf "if-index",
+     * using instance of generated typedef class.
+     * @param ifIndexValue The value to set.
+     * @param ifIndexValue used during instantiation.
+     */
+    public void setIfIndexValue(com.tailf.jnc.YangInt32 ifIndexValue)
+            throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "if-index",
+            ifIndexValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "if-index",
+     * using Java primitive values.
+     * @param ifIndexValue used during instantiation.
+     */
+    public void setIfIndexValue(int ifIndexValue) throws JNCException {
+        setIfIndexValue(new com.tailf.jnc.YangInt32(ifIndexValue));
+    }
+
+    /**
+     * Sets the value for child leaf "if-index",
+     * using a String value.
+     * @param ifIndexValue used during instantiation.
+     */
+    public void setIfIndexValue(String ifIndexValue) throws JNCException {
+        setIfIndexValue(new com.tailf.jnc.YangInt32(ifIndexValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "if-index".
+     */
+    public void unsetIfIndexValue() throws JNCException {
+        delete("if-index");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "if-index" leaf will not have a value.
+     */
+    public void addIfIndex() throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "if-index",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "if-index" with operation "replace".
+     */
+    public void markIfIndexReplace() throws JNCException {
+        markLeafReplace("if-index");
+    }
+
+    /**
+     * Marks the leaf "if-index" with operation "merge".
+     */
+    public void markIfIndexMerge() throws JNCException {
+        markLeafMerge("if-index");
+    }
+
+    /**
+     * Marks the leaf "if-index" with operation "create".
+     */
+    public void markIfIndexCreate() throws JNCException {
+        markLeafCreate("if-index");
+    }
+
+    /**
+     * Marks the leaf "if-index" with operation "delete".
+     */
+    public void markIfIndexDelete() throws JNCException {
+        markLeafDelete("if-index");
+    }
+
+    /**
+     * Marks the leaf "if-index" with operation "remove".
+     */
+    public void markIfIndexRemove() throws JNCException {
+        markLeafRemove("if-index");
+    }
+
+    /* Access methods for optional leaf child: "mtu". */
+
+    /**
+     * Gets the value for child leaf "mtu".
+     * @return The value of the leaf.
+     */
+    public com.tailf.jnc.YangUInt32 getMtuValue() throws JNCException {
+        return (com.tailf.jnc.YangUInt32)getValue("mtu");
+    }
+
+    /**
+     * Sets the value for child leaf "mtu",
+     * using instance of generated typedef class.
+     * @param mtuValue The value to set.
+     * @param mtuValue used during instantiation.
+     */
+    public void setMtuValue(com.tailf.jnc.YangUInt32 mtuValue)
+            throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "mtu",
+            mtuValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "mtu",
+     * using Java primitive values.
+     * @param mtuValue used during instantiation.
+     */
+    public void setMtuValue(long mtuValue) throws JNCException {
+        setMtuValue(new com.tailf.jnc.YangUInt32(mtuValue));
+    }
+
+    /**
+     * Sets the value for child leaf "mtu",
+     * using a String value.
+     * @param mtuValue used during instantiation.
+     */
+    public void setMtuValue(String mtuValue) throws JNCException {
+        setMtuValue(new com.tailf.jnc.YangUInt32(mtuValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "mtu".
+     */
+    public void unsetMtuValue() throws JNCException {
+        delete("mtu");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "mtu" leaf will not have a value.
+     */
+    public void addMtu() throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "mtu",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "mtu" with operation "replace".
+     */
+    public void markMtuReplace() throws JNCException {
+        markLeafReplace("mtu");
+    }
+
+    /**
+     * Marks the leaf "mtu" with operation "merge".
+     */
+    public void markMtuMerge() throws JNCException {
+        markLeafMerge("mtu");
+    }
+
+    /**
+     * Marks the leaf "mtu" with operation "create".
+     */
+    public void markMtuCreate() throws JNCException {
+        markLeafCreate("mtu");
+    }
+
+    /**
+     * Marks the leaf "mtu" with operation "delete".
+     */
+    public void markMtuDelete() throws JNCException {
+        markLeafDelete("mtu");
+    }
+
+    /**
+     * Marks the leaf "mtu" with operation "remove".
+     */
+    public void markMtuRemove() throws JNCException {
+        markLeafRemove("mtu");
+    }
+
+    /* Access methods for optional leaf child: "link-up-down-trap-enable". */
+
+    /**
+     * Gets the value for child leaf "link-up-down-trap-enable".
+     * @return The value of the leaf.
+     */
+    public com.tailf.jnc.YangEnumeration getLinkUpDownTrapEnableValue()
+            throws JNCException {
+        return (com.tailf.jnc.YangEnumeration)getValue("link-up-down-trap-enable");
+    }
+
+    /**
+     * Sets the value for child leaf "link-up-down-trap-enable",
+     * using instance of generated typedef class.
+     * @param linkUpDownTrapEnableValue The value to set.
+     * @param linkUpDownTrapEnableValue used during instantiation.
+     */
+    public void setLinkUpDownTrapEnableValue(com.tailf.jnc.YangEnumeration linkUpDownTrapEnableValue)
+            throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "link-up-down-trap-enable",
+            linkUpDownTrapEnableValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "link-up-down-trap-enable",
+     * using a String value.
+     * @param linkUpDownTrapEnableValue used during instantiation.
+     */
+    public void setLinkUpDownTrapEnableValue(String linkUpDownTrapEnableValue)
+            throws JNCException {
+        setLinkUpDownTrapEnableValue(new com.tailf.jnc.YangEnumeration(linkUpDownTrapEnableValue, new String[] {
+             "enabled",
+             "disabled",
+        }));
+    }
+
+    /**
+     * Unsets the value for child leaf "link-up-down-trap-enable".
+     */
+    public void unsetLinkUpDownTrapEnableValue() throws JNCException {
+        delete("link-up-down-trap-enable");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "link-up-down-trap-enable" leaf will not have a value.
+     */
+    public void addLinkUpDownTrapEnable() throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "link-up-down-trap-enable",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "link-up-down-trap-enable" with operation "replace".
+     */
+    public void markLinkUpDownTrapEnableReplace() throws JNCException {
+        markLeafReplace("link-up-down-trap-enable");
+    }
+
+    /**
+     * Marks the leaf "link-up-down-trap-enable" with operation "merge".
+     */
+    public void markLinkUpDownTrapEnableMerge() throws JNCException {
+        markLeafMerge("link-up-down-trap-enable");
+    }
+
+    /**
+     * Marks the leaf "link-up-down-trap-enable" with operation "create".
+     */
+    public void markLinkUpDownTrapEnableCreate() throws JNCException {
+        markLeafCreate("link-up-down-trap-enable");
+    }
+
+    /**
+     * Marks the leaf "link-up-down-trap-enable" with operation "delete".
+     */
+    public void markLinkUpDownTrapEnableDelete() throws JNCException {
+        markLeafDelete("link-up-down-trap-enable");
+    }
+
+    /**
+     * Marks the leaf "link-up-down-trap-enable" with operation "remove".
+     */
+    public void markLinkUpDownTrapEnableRemove() throws JNCException {
+        markLeafRemove("link-up-down-trap-enable");
+    }
+
+    /* Access methods for optional leaf child: "phys-address". */
+
+    /**
+     * Gets the value for child leaf "phys-address".
+     * @return The value of the leaf.
+     */
+    public com.airlenet.yang.model.ietfYangTypes.PhysAddress getPhysAddressValue()
+            throws JNCException {
+        return (com.airlenet.yang.model.ietfYangTypes.PhysAddress)getValue("phys-address");
+    }
+
+    /**
+     * Sets the value for child leaf "phys-address",
+     * using a JNC type value.
+     * @param physAddressValue The value to set.
+     * @param physAddressValue used during instantiation.
+     */
+    public void setPhysAddressValue(com.airlenet.yang.model.ietfYangTypes.PhysAddress physAddressValue)
+            throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "phys-address",
+            physAddressValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "phys-address",
+     * using a String value.
+     * @param physAddressValue used during instantiation.
+     */
+    public void setPhysAddressValue(String physAddressValue)
+            throws JNCException {
+        setPhysAddressValue(new com.airlenet.yang.model.ietfYangTypes.PhysAddress(physAddressValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "phys-address".
+     */
+    public void unsetPhysAddressValue() throws JNCException {
+        delete("phys-address");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "phys-address" leaf will not have a value.
+     */
+    public void addPhysAddress() throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "phys-address",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "phys-address" with operation "replace".
+     */
+    public void markPhysAddressReplace() throws JNCException {
+        markLeafReplace("phys-address");
+    }
+
+    /**
+     * Marks the leaf "phys-address" with operation "merge".
+     */
+    public void markPhysAddressMerge() throws JNCException {
+        markLeafMerge("phys-address");
+    }
+
+    /**
+     * Marks the leaf "phys-address" with operation "create".
+     */
+    public void markPhysAddressCreate() throws JNCException {
+        markLeafCreate("phys-address");
+    }
+
+    /**
+     * Marks the leaf "phys-address" with operation "delete".
+     */
+    public void markPhysAddressDelete() throws JNCException {
+        markLeafDelete("phys-address");
+    }
+
+    /**
+     * Marks the leaf "phys-address" with operation "remove".
+     */
+    public void markPhysAddressRemove() throws JNCException {
+        markLeafRemove("phys-address");
+    }
+
+    /* Access methods for optional leaf-list child: "higher-layer-if". */
+
+    /**
+     * Iterator method for the leaf-list "higher-layer-if".
+     * @return An iterator for the leaf-list.
+     */
+    public ElementLeafListValueIterator higherLayerIfIterator() {
+        return new ElementLeafListValueIterator(children, "higher-layer-if");
+    }
+
+    /**
+     * List method for the leaf-list "higher-layer-if".
+     * @return An List for the leaf-list.
+     */
+    public List<com.airlenet.yang.model.ietfInterfaces.InterfaceRef> getHigherLayerIfList() {
+        List<com.airlenet.yang.model.ietfInterfaces.InterfaceRef> list = new ArrayList<>();
+        ElementLeafListValueIterator iterator = higherLayerIfIterator();
+        if(iterator==null){
+            return null;
+        }
+        while (iterator.hasNext()){
+            com.airlenet.yang.model.ietfInterfaces.InterfaceRef next =(com.airlenet.yang.model.ietfInterfaces.InterfaceRef) iterator.next();
+            list.add(next);
+        }
+        return list;
+    }
+
+    /**
+     * Sets the value for child leaf-list "higher-layer-if",
+     * using a JNC type value.
+     * @param higherLayerIfValue The value to set.
+     * @param higherLayerIfValue used during instantiation.
+     */
+    public void setHigherLayerIfValue(com.airlenet.yang.model.ietfInterfaces.InterfaceRef higherLayerIfValue)
+            throws JNCException {
+        setLeafListValue(IfPrefix.NAMESPACE,
+            "higher-layer-if",
+            higherLayerIfValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf-list "higher-layer-if",
+     * using a String value.
+     * @param higherLayerIfValue used during instantiation.
+     */
+    public void setHigherLayerIfValue(String higherLayerIfValue)
+            throws JNCException {
+        setHigherLayerIfValue(new com.airlenet.yang.model.ietfInterfaces.InterfaceRef(higherLayerIfValue));
+    }
+
+    /**
+     * Deletes leaf-list entry "higherLayerIf".
+     * @param higherLayerIfValue Value to delete.
+     */
+    public void deleteHigherLayerIf(InterfaceRef higherLayerIfValue)
+            throws JNCException {
+        String path = "higher-layer-if[higherLayerIfValue]";
+        delete(path);
+    }
+
+    /**
+     * Deletes leaf-list entry "higherLayerIf".
+     * The value is specified as a string.
+     * @param higherLayerIfValue Value to delete.
+     */
+    public void deleteHigherLayerIf(String higherLayerIfValue)
+            throws JNCException {
+        String path = "higher-layer-if[higherLayerIfValue]";
+        delete(path);
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "higher-layer-if" leaf-list will not have a value.
+     */
+    public void addHigherLayerIf() throws JNCException {
+        setLeafListValue(IfPrefix.NAMESPACE,
+            "higher-layer-if",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf-list "higher-layer-if" with operation "replace".
+     * @param higherLayerIfValue The value to mark
+     */
+    public void markHigherLayerIfReplace(InterfaceRef higherLayerIfValue)
+            throws JNCException {
+        markLeafReplace("higher-layer-if[name='" + higherLayerIfValue + "']");
+    }
+
+    /**
+     * Marks the leaf-list "higher-layer-if" with operation "merge".
+     * @param higherLayerIfValue The value to mark
+     */
+    public void markHigherLayerIfMerge(InterfaceRef higherLayerIfValue)
+            throws JNCException {
+        markLeafMerge("higher-layer-if[name='" + higherLayerIfValue + "']");
+    }
+
+    /**
+     * Marks the leaf-list "higher-layer-if" with operation "create".
+     * @param higherLayerIfValue The value to mark
+     */
+    public void markHigherLayerIfCreate(InterfaceRef higherLayerIfValue)
+            throws JNCException {
+        markLeafCreate("higher-layer-if[name='" + higherLayerIfValue + "']");
+    }
+
+    /**
+     * Marks the leaf-list "higher-layer-if" with operation "delete".
+     * @param higherLayerIfValue The value to mark
+     */
+    public void markHigherLayerIfDelete(InterfaceRef higherLayerIfValue)
+            throws JNCException {
+        markLeafDelete("higher-layer-if[name='" + higherLayerIfValue + "']");
+    }
+
+    /**
+     * Marks the leaf-list "higher-layer-if" with operation "remove".
+     * @param higherLayerIfValue The value to mark
+     */
+    public void markHigherLayerIfRemove(InterfaceRef higherLayerIfValue)
+            throws JNCException {
+        markLeafRemove("higher-layer-if[name='" + higherLayerIfValue + "']");
+    }
+
+    /* Access methods for optional leaf-list child: "lower-layer-if". */
+
+    /**
+     * Iterator method for the leaf-list "lower-layer-if".
+     * @return An iterator for the leaf-list.
+     */
+    public ElementLeafListValueIterator lowerLayerIfIterator() {
+        return new ElementLeafListValueIterator(children, "lower-layer-if");
+    }
+
+    /**
+     * List method for the leaf-list "lower-layer-if".
+     * @return An List for the leaf-list.
+     */
+    public List<com.airlenet.yang.model.ietfInterfaces.InterfaceRef> getLowerLayerIfList() {
+        List<com.airlenet.yang.model.ietfInterfaces.InterfaceRef> list = new ArrayList<>();
+        ElementLeafListValueIterator iterator = lowerLayerIfIterator();
+        if(iterator==null){
+            return null;
+        }
+        while (iterator.hasNext()){
+            com.airlenet.yang.model.ietfInterfaces.InterfaceRef next =(com.airlenet.yang.model.ietfInterfaces.InterfaceRef) iterator.next();
+            list.add(next);
+        }
+        return list;
+    }
+
+    /**
+     * Sets the value for child leaf-list "lower-layer-if",
+     * using a JNC type value.
+     * @param lowerLayerIfValue The value to set.
+     * @param lowerLayerIfValue used during instantiation.
+     */
+    public void setLowerLayerIfValue(com.airlenet.yang.model.ietfInterfaces.InterfaceRef lowerLayerIfValue)
+            throws JNCException {
+        setLeafListValue(IfPrefix.NAMESPACE,
+            "lower-layer-if",
+            lowerLayerIfValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf-list "lower-layer-if",
+     * using a String value.
+     * @param lowerLayerIfValue used during instantiation.
+     */
+    public void setLowerLayerIfValue(String lowerLayerIfValue)
+            throws JNCException {
+        setLowerLayerIfValue(new com.airlenet.yang.model.ietfInterfaces.InterfaceRef(lowerLayerIfValue));
+    }
+
+    /**
+     * Deletes leaf-list entry "lowerLayerIf".
+     * @param lowerLayerIfValue Value to delete.
+     */
+    public void deleteLowerLayerIf(InterfaceRef lowerLayerIfValue)
+            throws JNCException {
+        String path = "lower-layer-if[lowerLayerIfValue]";
+        delete(path);
+    }
+
+    /**
+     * Deletes leaf-list entry "lowerLayerIf".
+     * The value is specified as a string.
+     * @param lowerLayerIfValue Value to delete.
+     */
+    public void deleteLowerLayerIf(String lowerLayerIfValue)
+            throws JNCException {
+        String path = "lower-layer-if[lowerLayerIfValue]";
+        delete(path);
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "lower-layer-if" leaf-list will not have a value.
+     */
+    public void addLowerLayerIf() throws JNCException {
+        setLeafListValue(IfPrefix.NAMESPACE,
+            "lower-layer-if",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf-list "lower-layer-if" with operation "replace".
+     * @param lowerLayerIfValue The value to mark
+     */
+    public void markLowerLayerIfReplace(InterfaceRef lowerLayerIfValue)
+            throws JNCException {
+        markLeafReplace("lower-layer-if[name='" + lowerLayerIfValue + "']");
+    }
+
+    /**
+     * Marks the leaf-list "lower-layer-if" with operation "merge".
+     * @param lowerLayerIfValue The value to mark
+     */
+    public void markLowerLayerIfMerge(InterfaceRef lowerLayerIfValue)
+            throws JNCException {
+        markLeafMerge("lower-layer-if[name='" + lowerLayerIfValue + "']");
+    }
+
+    /**
+     * Marks the leaf-list "lower-layer-if" with operation "create".
+     * @param lowerLayerIfValue The value to mark
+     */
+    public void markLowerLayerIfCreate(InterfaceRef lowerLayerIfValue)
+            throws JNCException {
+        markLeafCreate("lower-layer-if[name='" + lowerLayerIfValue + "']");
+    }
+
+    /**
+     * Marks the leaf-list "lower-layer-if" with operation "delete".
+     * @param lowerLayerIfValue The value to mark
+     */
+    public void markLowerLayerIfDelete(InterfaceRef lowerLayerIfValue)
+            throws JNCException {
+        markLeafDelete("lower-layer-if[name='" + lowerLayerIfValue + "']");
+    }
+
+    /**
+     * Marks the leaf-list "lower-layer-if" with operation "remove".
+     * @param lowerLayerIfValue The value to mark
+     */
+    public void markLowerLayerIfRemove(InterfaceRef lowerLayerIfValue)
+            throws JNCException {
+        markLeafRemove("lower-layer-if[name='" + lowerLayerIfValue + "']");
+    }
+
+    /* Access methods for optional leaf child: "speed". */
+
+    /**
+     * Gets the value for child leaf "speed".
+     * @return The value of the leaf.
+     */
+    public com.airlenet.yang.model.ietfYangTypes.Gauge64 getSpeedValue()
+            throws JNCException {
+        return (com.airlenet.yang.model.ietfYangTypes.Gauge64)getValue("speed");
+    }
+
+    /**
+     * Sets the value for child leaf "speed",
+     * using a JNC type value.
+     * @param speedValue The value to set.
+     * @param speedValue used during instantiation.
+     */
+    public void setSpeedValue(com.airlenet.yang.model.ietfYangTypes.Gauge64 speedValue)
+            throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "speed",
+            speedValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "speed",
+     * using Java primitive values.
+     * @param speedValue used during instantiation.
+     */
+    public void setSpeedValue(java.math.BigInteger speedValue)
+            throws JNCException {
+        setSpeedValue(new com.airlenet.yang.model.ietfYangTypes.Gauge64(speedValue));
+    }
+
+    /**
+     * Sets the value for child leaf "speed",
+     * using a String value.
+     * @param speedValue used during instantiation.
+     */
+    public void setSpeedValue(String speedValue) throws JNCException {
+        setSpeedValue(new com.airlenet.yang.model.ietfYangTypes.Gauge64(speedValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "speed".
+     */
+    public void unsetSpeedValue() throws JNCException {
+        delete("speed");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "speed" leaf will not have a value.
+     */
+    public void addSpeed() throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "speed",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "speed" with operation "replace".
+     */
+    public void markSpeedReplace() throws JNCException {
+        markLeafReplace("speed");
+    }
+
+    /**
+     * Marks the leaf "speed" with operation "merge".
+     */
+    public void markSpeedMerge() throws JNCException {
+        markLeafMerge("speed");
+    }
+
+    /**
+     * Marks the leaf "speed" with operation "create".
+     */
+    public void markSpeedCreate() throws JNCException {
+        markLeafCreate("speed");
+    }
+
+    /**
+     * Marks the leaf "speed" with operation "delete".
+     */
+    public void markSpeedDelete() throws JNCException {
+        markLeafDelete("speed");
+    }
+
+    /**
+     * Marks the leaf "speed" with operation "remove".
+     */
+    public void markSpeedRemove() throws JNCException {
+        markLeafRemove("speed");
+    }
+
+    /* Access methods for container child: "statistics". */
+
+    /**
+     * Adds container entry "statistics", using an existing object.
+     * @param statistics The object to add.
+     * @return The added child.
+     */
+    public Statistics addStatistics(Statistics statistics) throws JNCException {
+        this.statistics = statistics;
+        insertChild(statistics, sharedChildrenNames());
+        return statistics;
+    }
+
+    /**
+     * Adds container entry "statistics".
+     * This method is used for creating subtree filters.
+     * @return The added child.
+     */
+    public Statistics addStatistics() throws JNCException {
+        Statistics statistics = new Statistics();
+        this.statistics = statistics;
+        insertChild(statistics, sharedChildrenNames());
+        return statistics;
+    }
+
+    /**
+     * Deletes container entry "statistics".
+     * @return An array of the deleted element nodes.
+     */
+    public NodeSet deleteStatistics() throws JNCException {
+        this.statistics = null;
+        String path = "statistics";
+        return delete(path);
+    }
+
+    /* Access methods for container child: "ipv4". */
+
+    /**
+     * Adds container entry "ipv4", using an existing object.
+     * @param ipv4 The object to add.
+     * @return The added child.
+     */
+    public Ipv4 addIpv4(Ipv4 ipv4) throws JNCException {
+        this.ipv4 = ipv4;
+        insertChild(ipv4, sharedChildrenNames());
+        return ipv4;
+    }
+
+    /**
+     * Adds container entry "ipv4".
+     * This method is used for creating subtree filters.
+     * @return The added child.
+     */
+    public Ipv4 addIpv4() throws JNCException {
+        Ipv4 ipv4 = new Ipv4();
+        this.ipv4 = ipv4;
+        insertChild(ipv4, sharedChildrenNames());
+        return ipv4;
+    }
+
+    /**
+     * Deletes container entry "ipv4".
+     * @return An array of the deleted element nodes.
+     */
+    public NodeSet deleteIpv4() throws JNCException {
+        this.ipv4 = null;
+        String path = "ipv4";
+        return delete(path);
+    }
+
+    /* Access methods for container child: "ipv6". */
+
+    /**
+     * Adds container entry "ipv6", using an existing object.
+     * @param ipv6 The object to add.
+     * @return The added child.
+     */
+    public Ipv6 addIpv6(Ipv6 ipv6) throws JNCException {
+        this.ipv6 = ipv6;
+        insertChild(ipv6, sharedChildrenNames());
+        return ipv6;
+    }
+
+    /**
+     * Adds container entry "ipv6".
+     * This method is used for creating subtree filters.
+     * @return The added child.
+     */
+    public Ipv6 addIpv6() throws JNCException {
+        Ipv6 ipv6 = new Ipv6();
+        this.ipv6 = ipv6;
+        insertChild(ipv6, sharedChildrenNames());
+        return ipv6;
+    }
+
+    /**
+     * Deletes container entry "ipv6".
+     * @return An array of the deleted element nodes.
+     */
+    public NodeSet deleteIpv6() throws JNCException {
+        this.ipv6 = null;
+        String path = "ipv6";
+        return delete(path);
+    }
+
+    /**
+     * Support method for addChild.
+     * Adds a child to this object.
+     * 
+     * @param child The child to add
+     */
+    public void addChild(Element child) {
+        super.addChild(child);
+        if (child instanceof Statistics) statistics = (Statistics)child;
+        else if (child instanceof Ipv4) ipv4 = (Ipv4)child;
+        else if (child instanceof Ipv6) ipv6 = (Ipv6)child;
+    }
+
+    /**
+     * Support method for setLeafValue.
+     * Sets the value of a leaf by name, without reflection.
+     */
+    protected void setLeafValueByName(String name, String value)
+            throws JNCException, ReflectiveOperationException {
+        switch (name) {
+        case "name":
+            setNameValue(value);
+            break;
+        case "description":
+            setDescriptionValue(value);
+            break;
+        case "type":
+            setTypeValue(value);
+            break;
+        case "location":
+            setLocationValue(value);
+            break;
+        case "enabled":
+            setEnabledValue(value);
+            break;
+        case "oper-status":
+            setOperStatusValue(value);
+            break;
+        case "last-change":
+            setLastChangeValue(value);
+            break;
+        case "if-index":
+            setIfIndexValue(value);
+            break;
+        case "mtu":
+            setMtuValue(value);
+            break;
+        case "link-up-down-trap-enable":
+            setLinkUpDownTrapEnableValue(value);
+            break;
+        case "phys-address":
+            setPhysAddressValue(value);
+            break;
+        case "higher-layer-if":
+            setHigherLayerIfValue(value);
+            break;
+        case "lower-layer-if":
+            setLowerLayerIfValue(value);
+            break;
+        case "speed":
+            setSpeedValue(value);
+            break;
+        default:
+            super.setLeafValueByName(name, value);
+        }
+    }
+
+    /**
+     * Support method for createInstance.
+     * Adds a child by name, without reflection.
+     * 
+     * @return The added child, or null if it is a leaf.
+     */
+    protected Element addChildByName(String childName)
+            throws JNCException, ReflectiveOperationException {
+        switch (childName) {
+        case "name":
+            addName();
+            return null;
+        case "description":
+            addDescription();
+            return null;
+        case "type":
+            addType();
+            return null;
+        case "location":
+            addLocation();
+            return null;
+        case "enabled":
+            addEnabled();
+            return null;
+        case "oper-status":
+            addOperStatus();
+            return null;
+        case "last-change":
+            addLastChange();
+            return null;
+        case "if-index":
+            addIfIndex();
+            return null;
+        case "mtu":
+            addMtu();
+            return null;
+        case "link-up-down-trap-enable":
+            addLinkUpDownTrapEnable();
+            return null;
+        case "phys-address":
+            addPhysAddress();
+            return null;
+        case "higher-layer-if":
+            addHigherLayerIf();
+            return null;
+        case "lower-layer-if":
+            addLowerLayerIf();
+            return null;
+        case "speed":
+            addSpeed();
+            return null;
+        case "statistics":
+            return addStatistics();
+        case "ipv4":
+            return addIpv4();
+        case "ipv6":
+            return addIpv6();
+        default:
+            return super.addChildByName(childName);
+        }
+    }
+
+}
@@ -0,0 +1,732 @@
+/* 
+ * @(#)Ipv6.java        1.0
+ *
+ * This file has been auto-generated by JNC, the
+ * Java output format plug-in of pyang.
+ * Origin: module "ietf-interfaces", revision: "2012-09-05".
+ */
+
+package com.airlenet.yang.model.ietfInterfaces.interfaces.interface_;
+
+import com.airlenet.yang.model.ietfInterfaces.interfaces.interface_.ipv6.Address;
+import com.airlenet.yang.model.ietfInterfaces.interfaces.interface_.ipv6.Autoconf;
+import com.airlenet.yang.model.ietfInterfaces.interfaces.interface_.ipv6.Neighbor;
+import com.airlenet.yang.model.ietfIp.IpPrefix;
+import com.tailf.jnc.Element;
+import com.tailf.jnc.ElementChildrenIterator;
+import com.tailf.jnc.JNCException;
+import com.tailf.jnc.NodeSet;
+import com.tailf.jnc.YangBoolean;
+import com.tailf.jnc.YangElement;
+import com.tailf.jnc.YangUInt32;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class represents an element from 
+ * the namespace urn:ietf:params:xml:ns:yang:ietf-interfaces
+ * generated to "_/ipv6"
+ * <p>
+ * See line 163 in
+ * g
+ *
+ * @version 1.0
+ * @author Auto Generated
+ */
+public class Ipv6 extends YangElement {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Field for child container "autoconf".
+     */
+    public Autoconf autoconf = null;
+    public Autoconf getAutoconf() {
+        return this.autoconf;
+    }
+
+    /**
+     * Constructor for an empty Ipv6 object.
+     */
+    public Ipv6() {
+        super(IpPrefix.NAMESPACE, "ipv6");
+        setDefaultPrefix();
+        setPrefix(IpPrefix.PREFIX);
+    }
+
+    /**
+     * Clones this object, returning an exact copy.
+     * @return A clone of the object.
+     */
+    public Ipv6 clone() {
+        return (Ipv6)cloneContent(new Ipv6());
+    }
+
+    /**
+     * Clones this object, returning a shallow copy.
+     * @return A clone of the object. Children are not included.
+     */
+    public Ipv6 cloneShallow() {
+        return (Ipv6)cloneShallowContent(new Ipv6());
+    }
+
+    private static final String[] CHILDREN_NAMES = {
+        "enabled",
+        "ip-forwarding",
+        "address",
+        "neighbor",
+        "dup-addr-detect-transmits",
+        "autoconf",
+    };
+
+    private static final java.util.Map<String, Integer> CHILDREN_ORDINALS =
+            ordinals(CHILDREN_NAMES);
+
+    /**
+     * @return An array with the identifiers of any key children
+     */
+    public String[] keyNames() {
+        return null;
+    }
+
+    /**
+     * @return An array with the identifiers of any children, in order.
+     */
+    public String[] childrenNames() {
+        return CHILDREN_NAMES.clone();
+    }
+
+    /**
+     * @return The identifiers of any children, in order, not to be modified.
+     */
+    protected String[] sharedChildrenNames() {
+        return CHILDREN_NAMES;
+    }
+
+    /**
+     * @return The position of each identifier in sharedChildrenNames.
+     */
+    protected java.util.Map<String, Integer> childrenOrdinals() {
+        return CHILDREN_ORDINALS;
+    }
+
+    /* Access methods for optional leaf child: "enabled". */
+
+    /**
+     * Gets the value for child leaf "enabled".
+     * @return The value of the leaf.
+     */
+    public com.tailf.jnc.YangBoolean getEnabledValue() throws JNCException {
+        com.tailf.jnc.YangBoolean enabled = (com.tailf.jnc.YangBoolean)getValue("enabled");
+        if (enabled == null) {
+            enabled = new com.tailf.jnc.YangBoolean("true");  // default
+        }
+        return enabled;
+    }
+
+    /**
+     * Sets the value for child leaf "enabled",
+     * using instance of generated typedef class.
+     * @param enabledValue The value to set.
+     * @param enabledValue used during instantiation.
+     */
+    public void setEnabledValue(com.tailf.jnc.YangBoolean enabledValue)
+            throws JNCException {
+        setLeafValue(IpPrefix.NAMESPACE,
+            "enabled",
+            enabledValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "enabled",
+     * using Java primitive values.
+     * @param enabledValue used during instantiation.
+     */
+    public void setEnabledValue(Boolean enabledValue) throws JNCException {
+        setEnabledValue(new com.tailf.jnc.YangBoolean(enabledValue));
+    }
+
+    /**
+     * Sets the value for child leaf "enabled",
+     * using a String value.
+     * @param enabledValue used during instantiation.
+     */
+    public void setEnabledValue(String enabledValue) throws JNCException {
+        setEnabledValue(new com.tailf.jnc.YangBoolean(enabledValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "enabled".
+     */
+    public void unsetEnabledValue() throws JNCException {
+        delete("enabled");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "enabled" leaf will not have a value.
+     */
+    public void addEnabled() throws JNCException {
+        setLeafValue(IpPrefix.NAMESPACE,
+            "enabled",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "enabled" with operation "replace".
+     */
+    public void markEnabledReplace() throws JNCException {
+        markLeafReplace("enabled");
+    }
+
+    /**
+     * Marks the leaf "enabled" with operation "merge".
+     */
+    public void markEnabledMerge() throws JNCException {
+        markLeafMerge("enabled");
+    }
+
+    /**
+     * Marks the leaf "enabled" with operation "create".
+     */
+    public void markEnabledCreate() throws JNCException {
+        markLeafCreate("enabled");
+    }
+
+    /**
+     * Marks the leaf "enabled" with operation "delete".
+     */
+    public void markEnabledDelete() throws JNCException {
+        markLeafDelete("enabled");
+    }
+
+    /**
+     * Marks the leaf "enabled" with operation "remove".
+     */
+    public void markEnabledRemove() throws JNCException {
+        markLeafRemove("enabled");
+    }
+
+    /* Access methods for optional leaf child: "ip-forwarding". */
+
+    /**
+     * Gets the value for child leaf "ip-forwarding".
+     * @return The value of the leaf.
+     */
+    public com.tailf.jnc.YangBoolean getIpForwardingValue() throws JNCException {
+        com.tailf.jnc.YangBoolean ipForwarding = (com.tailf.jnc.YangBoolean)getValue("ip-forwarding");
+        if (ipForwarding == null) {
+            ipForwarding = new com.tailf.jnc.YangBoolean("false");  // default
+        }
+        return ipForwarding;
+    }
+
+    /**
+     * Sets the value for child leaf "ip-forwarding",
+     * using instance of generated typedef class.
+     * @param ipForwardingValue The value to set.
+     * @param ipForwardingValue used during instantiation.
+     */
+    public void setIpForwardingValue(com.tailf.jnc.YangBoolean ipForwardingValue)
+            throws JNCException {
+        setLeafValue(IpPrefix.NAMESPACE,
+            "ip-forwarding",
+            ipForwardingValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "ip-forwarding",
+     * using Java primitive values.
+     * @param ipForwardingValue used during instantiation.
+     */
+    public void setIpForwardingValue(Boolean ipForwardingValue)
+            throws JNCException {
+        setIpForwardingValue(new com.tailf.jnc.YangBoolean(ipForwardingValue));
+    }
+
+    /**
+     * Sets the value for child leaf "ip-forwarding",
+     * using a String value.
+     * @param ipForwardingValue used during instantiation.
+     */
+    public void setIpForwardingValue(String ipForwardingValue)
+            throws JNCException {
+        setIpForwardingValue(new com.tailf.jnc.YangBoolean(ipForwardingValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "ip-forwarding".
+     */
+    public void unsetIpForwardingValue() throws JNCException {
+        delete("ip-forwarding");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "ip-forwarding" leaf will not have a value.
+     */
+    public void addIpForwarding() throws JNCException {
+        setLeafValue(IpPrefix.NAMESPACE,
+            "ip-forwarding",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "ip-forwarding" with operation "replace".
+     */
+    public void markIpForwardingReplace() throws JNCException {
+        markLeafReplace("ip-forwarding");
+    }
+
+    /**
+     * Marks the leaf "ip-forwarding" with operation "merge".
+     */
+    public void markIpForwardingMerge() throws JNCException {
+        markLeafMerge("ip-forwarding");
+    }
+
+    /**
+     * Marks the leaf "ip-forwarding" with operation "create".
+     */
+    public void markIpForwardingCreate() throws JNCException {
+        markLeafCreate("ip-forwarding");
+    }
+
+    /**
+     * Marks the leaf "ip-forwarding" with operation "delete".
+     */
+    public void markIpForwardingDelete() throws JNCException {
+        markLeafDelete("ip-forwarding");
+    }
+
+    /**
+     * Marks the leaf "ip-forwarding" with operation "remove".
+     */
+    public void markIpForwardingRemove() throws JNCException {
+        markLeafRemove("ip-forwarding");
+    }
+
+    /* Access methods for list child: "address". */
+
+    /**
+     * Gets list entry "address", with specified keys.
+     * @param ipValue Key argument of child.
+     */
+    public Address getAddress(com.airlenet.yang.model.ietfInetTypes.Ipv6Address ipValue)
+            throws JNCException {
+        String path = "address[ip='" + ipValue + "']";
+        return (Address)searchOne(path);
+    }
+
+    /**
+     * Gets list entry "address", with specified keys.
+     * The keys are specified as strings.
+     * @param ipValue Key argument of child.
+     */
+    public Address getAddress(String ipValue) throws JNCException {
+        String path = "address[ip='" + ipValue + "']";
+        return (Address)searchOne(path);
+    }
+
+    /**
+     * Iterator method for the list "address".
+     * @return An iterator for the list.
+     */
+    public ElementChildrenIterator addressIterator() {
+        return new ElementChildrenIterator(children, "address");
+    }
+
+    /**
+     * List method for the list "address".
+     * @return An List for the list.
+     */
+    public List<Address> getAddressList() {
+        List<Address> list = new ArrayList<>();
+        ElementChildrenIterator iterator = addressIterator();
+        if(iterator==null){
+            return null;
+        }
+        while (iterator.hasNext()){
+            Address next =(Address) iterator.next();
+            list.add(next);
+        }
+        return list;
+    }
+
+    /**
+     * Adds list entry "address", using an existing object.
+     * @param address The object to add.
+     * @return The added child.
+     */
+    public Address addAddress(Address address) throws JNCException {
+        insertChild(address, sharedChildrenNames());
+        return address;
+    }
+
+    /**
+     * Adds list entry "address", with specified keys.
+     * @param ipValue Key argument of child.
+     * @return The added child.
+     */
+    public Address addAddress(com.airlenet.yang.model.ietfInetTypes.Ipv6Address ipValue)
+            throws JNCException {
+        Address address = new Address(ipValue);
+        return addAddress(address);
+    }
+
+    /**
+     * Adds list entry "address", with specified keys.
+     * The keys are specified as strings.
+     * @param ipValue Key argument of child.
+     * @return The added child.
+     */
+    public Address addAddress(String ipValue) throws JNCException {
+        Address address = new Address(ipValue);
+        return addAddress(address);
+    }
+
+    /**
+     * Adds list entry "address".
+     * This method is used for creating subtree filters.
+     * @return The added child.
+     */
+    public Address addAddress() throws JNCException {
+        Address address = new Address();
+        insertChild(address, sharedChildrenNames());
+        return address;
+    }
+
+    /**
+     * Deletes list entry "address", with specified keys.
+     * @param ipValue Key argument of child.
+     */
+    public void deleteAddress(com.airlenet.yang.model.ietfInetTypes.Ipv6Address ipValue)
+            throws JNCException {
+        String path = "address[ip='" + ipValue + "']";
+        delete(path);
+    }
+
+    /**
+     * Deletes list entry "address", with specified keys.
+     * The keys are specified as strings.
+     * @param ipValue Key argument of child.
+     */
+    public void deleteAddress(String ipValue) throws JNCException {
+        String path = "address[ip='" + ipValue + "']";
+        delete(path);
+    }
+
+    /* Access methods for list child: "neighbor". */
+
+    /**
+     * Gets list entry "neighbor", with specified keys.
+     * @param ipValue Key argument of child.
+     */
+    public Neighbor getNeighbor(com.airlenet.yang.model.ietfInetTypes.Ipv6Address ipValue)
+            throws JNCException {
+        String path = "neighbor[ip='" + ipValue + "']";
+        return (Neighbor)searchOne(path);
+    }
+
+    /**
+     * Gets list entry "neighbor", with specified keys.
+     * The keys are specified as strings.
+     * @param ipValue Key argument of child.
+     */
+    public Neighbor getNeighbor(String ipValue) throws JNCException {
+        String path = "neighbor[ip='" + ipValue + "']";
+        return (Neighbor)searchOne(path);
+    }
+
+    /**
+     * Iterator method for the list "neighbor".
+     * @return An iterator for the list.
+     */
+    public ElementChildrenIterator neighborIterator() {
+        return new ElementChildrenIterator(children, "neighbor");
+    }
+
+    /**
+     * List method for the list "neighbor".
+     * @return An List for the list.
+     */
+    public List<Neighbor> getNeighborList() {
+        List<Neighbor> list = new ArrayList<>();
+        ElementChildrenIterator iterator = neighborIterator();
+        if(iterator==null){
+            return null;
+        }
+        while (iterator.hasNext()){
+            Neighbor next =(Neighbor) iterator.next();
+            list.add(next);
+        }
+        return list;
+    }
+
+    /**
+     * Adds list entry "neighbor", using an existing object.
+     * @param neighbor The object to add.
+     * @return The added child.
+     */
+    public Neighbor addNeighbor(Neighbor neighbor) throws JNCException {
+        insertChild(neighbor, sharedChildrenNames());
+        return neighbor;
+    }
+
+    /**
+     * Adds list entry "neighbor", with specified keys.
+     * @param ipValue Key argument of child.
+     * @return The added child.
+     */
+    public Neighbor addNeighbor(com.airlenet.yang.model.ietfInetTypes.Ipv6Address ipValue)
+            throws JNCException {
+        Neighbor neighbor = new Neighbor(ipValue);
+        return addNeighbor(neighbor);
+    }
+
+    /**
+     * Adds list entry "neighbor", with specified keys.
+     * The keys are specified as strings.
+     * @param ipValue Key argument of child.
+     * @return The added child.
+     */
+    public Neighbor addNeighbor(String ipValue) throws JNCException {
+        Neighbor neighbor = new Neighbor(ipValue);
+        return addNeighbor(neighbor);
+    }
+
+    /**
+     * Adds list entry "neighbor".
+     * This method is used for creating subtree filters.
+     * @return The added child.
+     */
+    public Neighbor addNeighbor() throws JNCException {
+        Neighbor neighbor = new Neighbor();
+        insertChild(neighbor, sharedChildrenNames());
+        return neighbor;
+    }
+
+    /**
+     * Deletes list entry "neighbor", with specified keys.
+     * @param ipValue Key argument of child.
+     */
+    public void deleteNeighbor(com.airlenet.yang.model.ietfInetTypes.Ipv6Address ipValue)
+            throws JNCException {
+        String path = "neighbor[ip='" + ipValue + "']";
+        delete(path);
+    }
+
+    /**
+     * Deletes list entry "neighbor", with specified keys.
+     * The keys are specified as strings.
+     * @param ipValue Key argument of child.
+     */
+    public void deleteNeighbor(String ipValue) throws JNCException {
+        String path = "neighbor[ip='" + ipValue + "']";
+        delete(path);
+    }
+
+    /* Access methods for optional leaf child: "dup-addr-detect-transmits". */
+
+    /**
+     * Gets the value for child leaf "dup-addr-detect-transmits".
+     * @return The value of the leaf.
+     */
+    public com.tailf.jnc.YangUInt32 getDupAddrDetectTransmitsValue()
+            throws JNCException {
+        com.tailf.jnc.YangUInt32 dupAddrDetectTransmits = (com.tailf.jnc.YangUInt32)getValue("dup-addr-detect-transmits");
+        if (dupAddrDetectTransmits == null) {
+            dupAddrDetectTransmits = new com.tailf.jnc.YangUInt32("1");  // default
+        }
+        return dupAddrDetectTransmits;
+    }
+
+    /**
+     * Sets the value for child leaf "dup-addr-detect-transmits",
+     * using instance of generated typedef class.
+     * @param dupAddrDetectTransmitsValue The value to set.
+     * @param dupAddrDetectTransmitsValue used during instantiation.
+     */
+    public void setDupAddrDetectTransmitsValue(com.tailf.jnc.YangUInt32 dupAddrDetectTransmitsValue)
+            throws JNCException {
+        setLeafValue(IpPrefix.NAMESPACE,
+            "dup-addr-detect-transmits",
+            dupAddrDetectTransmitsValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "dup-addr-detect-transmits",
+     * using Java primitive values.
+     * @param dupAddrDetectTransmitsValue used during instantiation.
+     */
+    public void setDupAddrDetectTransmitsValue(long dupAddrDetectTransmitsValue)
+            throws JNCException {
+        setDupAddrDetectTransmitsValue(new com.tailf.jnc.YangUInt32(dupAddrDetectTransmitsValue));
+    }
+
+    /**
+     * Sets the value for child leaf "dup-addr-detect-transmits",
+     * using a String value.
+     * @param dupAddrDetectTransmitsValue used during instantiation.
+     */
+    public void setDupAddrDetectTransmitsValue(String dupAddrDetectTransmitsValue)
+            throws JNCException {
+        setDupAddrDetectTransmitsValue(new com.tailf.jnc.YangUInt32(dupAddrDetectTransmitsValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "dup-addr-detect-transmits".
+     */
+    public void unsetDupAddrDetectTransmitsValue() throws JNCException {
+        delete("dup-addr-detect-transmits");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "dup-addr-detect-transmits" leaf will not have a value.
+     */
+    public void addDupAddrDetectTransmits() throws JNCException {
+        setLeafValue(IpPrefix.NAMESPACE,
+            "dup-addr-detect-transmits",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "dup-addr-detect-transmits" with operation "replace".
+     */
+    public void markDupAddrDetectTransmitsReplace() throws JNCException {
+        markLeafReplace("dup-addr-detect-transmits");
+    }
+
+    /**
+     * Marks the leaf "dup-addr-detect-transmits" with operation "merge".
+     */
+    public void markDupAddrDetectTransmitsMerge() throws JNCException {
+        markLeafMerge("dup-addr-detect-transmits");
+    }
+
+    /**
+     * Marks the leaf "dup-addr-detect-transmits" with operation "create".
+     */
+    public void markDupAddrDetectTransmitsCreate() throws JNCException {
+        markLeafCreate("dup-addr-detect-transmits");
+    }
+
+    /**
+     * Marks the leaf "dup-addr-detect-transmits" with operation "delete".
+     */
+    public void markDupAddrDetectTransmitsDelete() throws JNCException {
+        markLeafDelete("dup-addr-detect-transmits");
+    }
+
+    /**
+     * Marks the leaf "dup-addr-detect-transmits" with operation "remove".
+     */
+    public void markDupAddrDetectTransmitsRemove() throws JNCException {
+        markLeafRemove("dup-addr-detect-transmits");
+    }
+
+    /* Access methods for container child: "autoconf". */
+
+    /**
+     * Adds container entry "autoconf", using an existing object.
+     * @param autoconf The object to add.
+     * @return The added child.
+     */
+    public Autoconf addAutoconf(Autoconf autoconf) throws JNCException {
+        this.autoconf = autoconf;
+        insertChild(autoconf, sharedChildrenNames());
+        return autoconf;
+    }
+
+    /**
+     * Adds container entry "autoconf".
+     * This method is used for creating subtree filters.
+     * @return The added child.
+     */
+    public Autoconf addAutoconf() throws JNCException {
+        Autoconf autoconf = new Autoconf();
+        this.autoconf = autoconf;
+        insertChild(autoconf, sharedChildrenNames());
+        return autoconf;
+    }
+
+    /**
+     * Deletes container entry "autoconf".
+     * @return An array of the deleted element nodes.
+     */
+    public NodeSet deleteAutoconf() throws JNCException {
+        this.autoconf = null;
+        String path = "autoconf";
+        return delete(path);
+    }
+
+    /**
+     * Support method for addChild.
+     * Adds a child to this object.
+     * 
+     * @param child The child to add
+     */
+    public void addChild(Element child) {
+        super.addChild(child);
+        if (child instanceof Autoconf) autoconf = (Autoconf)child;
+    }
+
+    /**
+     * Support method for setLeafValue.
+     * Sets the value of a leaf by name, without reflection.
+     */
+    protected void setLeafValueByName(String name, String value)
+            throws JNCException, ReflectiveOperationException {
+        switch (name) {
+        case "enabled":
+            setEnabledValue(value);
+            break;
+        case "ip-forwarding":
+            setIpForwardingValue(value);
+            break;
+        case "dup-addr-detect-transmits":
+            setDupAddrDetectTransmitsValue(value);
+            break;
+        default:
+            super.setLeafValueByName(name, value);
+        }
+    }
+
+    /**
+     * Support method for createInstance.
+     * Adds a child by name, without reflection.
+     * 
+     * @return The added child, or null if it is a leaf.
+     */
+    protected Element addChildByName(String childName)
+            throws JNCException, ReflectiveOperationException {
+        switch (childName) {
+        case "enabled":
+            addEnabled();
+            return null;
+        case "ip-forwarding":
+            addIpForwarding();
+            return null;
+        case "address":
+            return addAddress();
+        case "neighbor":
+            return addNeighbor();
+        case "dup-addr-detect-transmits":
+            addDupAddrDetectTransmits();
+            return null;
+        case "autoconf":
+            return addAutoconf();
+        default:
+            return super.addChildByName(childName);
+        }
+    }
+
+}
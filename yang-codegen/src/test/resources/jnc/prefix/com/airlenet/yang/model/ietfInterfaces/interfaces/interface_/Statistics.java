@@ -0,0 +1,1578 @@
+/* 
+ * @(#)Statistics.java        1.0
+ *
+ * This file has been auto-generated by JNC, the
+ * Java output format plug-in of pyang.
+ * Origin: module "ietf-interfaces", revision: "2012-09-05".
+ */
+
+package com.airlenet.yang.model.ietfInterfaces.interfaces.interface_;
+
+import com.airlenet.yang.model.ietfInterfaces.IfPrefix;
+import com.airlenet.yang.model.ietfYangTypes.Counter32;
+import com.airlenet.yang.model.ietfYangTypes.Counter64;
+import com.airlenet.yang.model.ietfYangTypes.DateAndTime;
+import com.tailf.jnc.Element;
+import com.tailf.jnc.JNCException;
+import com.tailf.jnc.YangElement;
+
+/**
+ * This class represents an element from 
+ * the namespace urn:ietf:params:xml:ns:yang:ietf-interfaces
+ * generated to "_/statistics"
+ * <p>
+ * See line 355 in
+ * g
+ *
+ * @version 1.0
+ * @author Auto Generated
+ */
+public class Statistics extends YangElement {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor for an empty Statistics object.
+     */
+    public Statistics() {
+        super(IfPrefix.NAMESPACE, "statistics");
+    }
+
+    /**
+     * Clones this object, returning an exact copy.
+     * @return A clone of the object.
+     */
+    public Statistics clone() {
+        return (Statistics)cloneContent(new Statistics());
+    }
+
+    /**
+     * Clones this object, returning a shallow copy.
+     * @return A clone of the object. Children are not included.
+     */
+    public Statistics cloneShallow() {
+        return (Statistics)cloneShallowContent(new Statistics());
+    }
+
+    private static final String[] CHILDREN_NAMES = {
+        "discontinuity-time",
+        "in-octets",
+        "in-unicast-pkts",
+        "in-broadcast-pkts",
+        "in-multicast-pkts",
+        "in-discards",
+        "in-errors",
+        "in-unknown-protos",
+        "out-octets",
+        "out-unicast-pkts",
+        "out-broadcast-pkts",
+        "out-multicast-pkts",
+        "out-discards",
+        "out-errors",
+    };
+
+    private static final java.util.Map<String, Integer> CHILDREN_ORDINALS =
+            ordinals(CHILDREN_NAMES);
+
+    /**
+     * @return An array with the identifiers of any key children
+     */
+    public String[] keyNames() {
+        return null;
+    }
+
+    /**
+     * @return An array with the identifiers of any children, in order.
+     */
+    public String[] childrenNames() {
+        return CHILDREN_NAMES.clone();
+    }
+
+    /**
+     * @return The identifiers of any children, in order, not to be modified.
+     */
+    protected String[] sharedChildrenNames() {
+        return CHILDREN_NAMES;
+    }
+
+    /**
+     * @return The position of each identifier in sharedChildrenNames.
+     */
+    protected java.util.Map<String, Integer> childrenOrdinals() {
+        return CHILDREN_ORDINALS;
+    }
+
+    /* Access methods for optional leaf child: "discontinuity-time". */
+
+    /**
+     * Gets the value for child leaf "discontinuity-time".
+     * @return The value of the leaf.
+     */
+    public com.airlenet.yang.model.ietfYangTypes.DateAndTime getDiscontinuityTimeValue()
+            throws JNCException {
+        return (com.airlenet.yang.model.ietfYangTypes.DateAndTime)getValue("discontinuity-time");
+    }
+
+    /**
+     * Sets the value for child leaf "discontinuity-time",
+     * using a JNC type value.
+     * @param discontinuityTimeValue The value to set.
+     * @param discontinuityTimeValue used during instantiation.
+     */
+    public void setDiscontinuityTimeValue(com.airlenet.yang.model.ietfYangTypes.DateAndTime discontinuityTimeValue)
+            throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "discontinuity-time",
+            discontinuityTimeValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "discontinuity-time",
+     * using a String value.
+     * @param discontinuityTimeValue used during instantiation.
+     */
+    public void setDiscontinuityTimeValue(String discontinuityTimeValue)
+            throws JNCException {
+        setDiscontinuityTimeValue(new com.airlenet.yang.model.ietfYangTypes.DateAndTime(discontinuityTimeValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "discontinuity-time".
+     */
+    public void unsetDiscontinuityTimeValue() throws JNCException {
+        delete("discontinuity-time");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "discontinuity-time" leaf will not have a value.
+     */
+    public void addDiscontinuityTime() throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "discontinuity-time",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "discontinuity-time" with operation "replace".
+     */
+    public void markDiscontinuityTimeReplace() throws JNCException {
+        markLeafReplace("discontinuity-time");
+    }
+
+    /**
+     * Marks the leaf "discontinuity-time" with operation "merge".
+     */
+    public void markDiscontinuityTimeMerge() throws JNCException {
+        markLeafMerge("discontinuity-time");
+    }
+
+    /**
+     * Marks the leaf "discontinuity-time" with operation "create".
+     */
+    public void markDiscontinuityTimeCreate() throws JNCException {
+        markLeafCreate("discontinuity-time");
+    }
+
+    /**
+     * Marks the leaf "discontinuity-time" with operation "delete".
+     */
+    public void markDiscontinuityTimeDelete() throws JNCException {
+        markLeafDelete("discontinuity-time");
+    }
+
+    /**
+     * Marks the leaf "discontinuity-time" with operation "remove".
+     */
+    public void markDiscontinuityTimeRemove() throws JNCException {
+        markLeafRemove("discontinuity-time");
+    }
+
+    /* Access methods for optional leaf child: "in-octets". */
+
+    /**
+     * Gets the value for child leaf "in-octets".
+     * @return The value of the leaf.
+     */
+    public com.airlenet.yang.model.ietfYangTypes.Counter64 getInOctetsValue()
+            throws JNCException {
+        return (com.airlenet.yang.model.ietfYangTypes.Counter64)getValue("in-octets");
+    }
+
+    /**
+     * Sets the value for child leaf "in-octets",
+     * using a JNC type value.
+     * @param inOctetsValue The value to set.
+     * @param inOctetsValue used during instantiation.
+     */
+    public void setInOctetsValue(com.airlenet.yang.model.ietfYangTypes.Counter64 inOctetsValue)
+            throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "in-octets",
+            inOctetsValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "in-octets",
+     * using Java primitive values.
+     * @param inOctetsValue used during instantiation.
+     */
+    public void setInOctetsValue(java.math.BigInteger inOctetsValue)
+            throws JNCException {
+        setInOctetsValue(new com.airlenet.yang.model.ietfYangTypes.Counter64(inOctetsValue));
+    }
+
+    /**
+     * Sets the value for child leaf "in-octets",
+     * using a String value.
+     * @param inOctetsValue used during instantiation.
+     */
+    public void setInOctetsValue(String inOctetsValue) throws JNCException {
+        setInOctetsValue(new com.airlenet.yang.model.ietfYangTypes.Counter64(inOctetsValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "in-octets".
+     */
+    public void unsetInOctetsValue() throws JNCException {
+        delete("in-octets");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "in-octets" leaf will not have a value.
+     */
+    public void addInOctets() throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "in-octets",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "in-octets" with operation "replace".
+     */
+    public void markInOctetsReplace() throws JNCException {
+        markLeafReplace("in-octets");
+    }
+
+    /**
+     * Marks the leaf "in-octets" with operation "merge".
+     */
+    public void markInOctetsMerge() throws JNCException {
+        markLeafMerge("in-octets");
+    }
+
+    /**
+     * Marks the leaf "in-octets" with operation "create".
+     */
+    public void markInOctetsCreate() throws JNCException {
+        markLeafCreate("in-octets");
+    }
+
+    /**
+     * Marks the leaf "in-octets" with operation "delete".
+     */
+    public void markInOctetsDelete() throws JNCException {
+        markLeafDelete("in-octets");
+    }
+
+    /**
+     * Marks the leaf "in-octets" with operation "remove".
+     */
+    public void markInOctetsRemove() throws JNCException {
+        markLeafRemove("in-octets");
+    }
+
+    /* Access methods for optional leaf child: "in-unicast-pkts". */
+
+    /**
+     * Gets the value for child leaf "in-unicast-pkts".
+     * @return The value of the leaf.
+     */
+    public com.airlenet.yang.model.ietfYangTypes.Counter64 getInUnicastPktsValue()
+            throws JNCException {
+        return (com.airlenet.yang.model.ietfYangTypes.Counter64)getValue("in-unicast-pkts");
+    }
+
+    /**
+     * Sets the value for child leaf "in-unicast-pkts",
+     * using a JNC type value.
+     * @param inUnicastPktsValue The value to set.
+     * @param inUnicastPktsValue used during instantiation.
+     */
+    public void setInUnicastPktsValue(com.airlenet.yang.model.ietfYangTypes.Counter64 inUnicastPktsValue)
+            throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "in-unicast-pkts",
+            inUnicastPktsValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "in-unicast-pkts",
+     * using Java primitive values.
+     * @param inUnicastPktsValue used during instantiation.
+     */
+    public void setInUnicastPktsValue(java.math.BigInteger inUnicastPktsValue)
+            throws JNCException {
+        setInUnicastPktsValue(new com.airlenet.yang.model.ietfYangTypes.Counter64(inUnicastPktsValue));
+    }
+
+    /**
+     * Sets the value for child leaf "in-unicast-pkts",
+     * using a String value.
+     * @param inUnicastPktsValue used during instantiation.
+     */
+    public void setInUnicastPktsValue(String inUnicastPktsValue)
+            throws JNCException {
+        setInUnicastPktsValue(new com.airlenet.yang.model.ietfYangTypes.Counter64(inUnicastPktsValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "in-unicast-pkts".
+     */
+    public void unsetInUnicastPktsValue() throws JNCException {
+        delete("in-unicast-pkts");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "in-unicast-pkts" leaf will not have a value.
+     */
+    public void addInUnicastPkts() throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "in-unicast-pkts",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "in-unicast-pkts" with operation "replace".
+     */
+    public void markInUnicastPktsReplace() throws JNCException {
+        markLeafReplace("in-unicast-pkts");
+    }
+
+    /**
+     * Marks the leaf "in-unicast-pkts" with operation "merge".
+     */
+    public void markInUnicastPktsMerge() throws JNCException {
+        markLeafMerge("in-unicast-pkts");
+    }
+
+    /**
+     * Marks the leaf "in-unicast-pkts" with operation "create".
+     */
+    public void markInUnicastPktsCreate() throws JNCException {
+        markLeafCreate("in-unicast-pkts");
+    }
+
+    /**
+     * Marks the leaf "in-unicast-pkts" with operation "delete".
+     */
+    public void markInUnicastPktsDelete() throws JNCException {
+        markLeafDelete("in-unicast-pkts");
+    }
+
+    /**
+     * Marks the leaf "in-unicast-pkts" with operation "remove".
+     */
+    public void markInUnicastPktsRemove() throws JNCException {
+        markLeafRemove("in-unicast-pkts");
+    }
+
+    /* Access methods for optional leaf child: "in-broadcast-pkts". */
+
+    /**
+     * Gets the value for child leaf "in-broadcast-pkts".
+     * @return The value of the leaf.
+     */
+    public com.airlenet.yang.model.ietfYangTypes.Counter64 getInBroadcastPktsValue()
+            throws JNCException {
+        return (com.airlenet.yang.model.ietfYangTypes.Counter64)getValue("in-broadcast-pkts");
+    }
+
+    /**
+     * Sets the value for child leaf "in-broadcast-pkts",
+     * using a JNC type value.
+     * @param inBroadcastPktsValue The value to set.
+     * @param inBroadcastPktsValue used during instantiation.
+     */
+    public void setInBroadcastPktsValue(com.airlenet.yang.model.ietfYangTypes.Counter64 inBroadcastPktsValue)
+            throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "in-broadcast-pkts",
+            inBroadcastPktsValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "in-broadcast-pkts",
+     * using Java primitive values.
+     * @param inBroadcastPktsValue used during instantiation.
+     */
+    public void setInBroadcastPktsValue(java.math.BigInteger inBroadcastPktsValue)
+            throws JNCException {
+        setInBroadcastPktsValue(new com.airlenet.yang.model.ietfYangTypes.Counter64(inBroadcastPktsValue));
+    }
+
+    /**
+     * Sets the value for child leaf "in-broadcast-pkts",
+     * using a String value.
+     * @param inBroadcastPktsValue used during instantiation.
+     */
+    public void setInBroadcastPktsValue(String inBroadcastPktsValue)
+            throws JNCException {
+        setInBroadcastPktsValue(new com.airlenet.yang.model.ietfYangTypes.Counter64(inBroadcastPktsValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "in-broadcast-pkts".
+     */
+    public void unsetInBroadcastPktsValue() throws JNCException {
+        delete("in-broadcast-pkts");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "in-broadcast-pkts" leaf will not have a value.
+     */
+    public void addInBroadcastPkts() throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "in-broadcast-pkts",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "in-broadcast-pkts" with operation "replace".
+     */
+    public void markInBroadcastPktsReplace() throws JNCException {
+        markLeafReplace("in-broadcast-pkts");
+    }
+
+    /**
+     * Marks the leaf "in-broadcast-pkts" with operation "merge".
+     */
+    public void markInBroadcastPktsMerge() throws JNCException {
+        markLeafMerge("in-broadcast-pkts");
+    }
+
+    /**
+     * Marks the leaf "in-broadcast-pkts" with operation "create".
+     */
+    public void markInBroadcastPktsCreate() throws JNCException {
+        markLeafCreate("in-broadcast-pkts");
+    }
+
+    /**
+     * Marks the leaf "in-broadcast-pkts" with operation "delete".
+     */
+    public void markInBroadcastPktsDelete() throws JNCException {
+        markLeafDelete("in-broadcast-pkts");
+    }
+
+    /**
+     * Marks the leaf "in-broadcast-pkts" with operation "remove".
+     */
+    public void markInBroadcastPktsRemove() throws JNCException {
+        markLeafRemove("in-broadcast-pkts");
+    }
+
+    /* Access methods for optional leaf child: "in-multicast-pkts". */
+
+    /**
+     * Gets the value for child leaf "in-multicast-pkts".
+     * @return The value of the leaf.
+     */
+    public com.airlenet.yang.model.ietfYangTypes.Counter64 getInMulticastPktsValue()
+            throws JNCException {
+        return (com.airlenet.yang.model.ietfYangTypes.Counter64)getValue("in-multicast-pkts");
+    }
+
+    /**
+     * Sets the value for child leaf "in-multicast-pkts",
+     * using a JNC type value.
+     * @param inMulticastPktsValue The value to set.
+     * @param inMulticastPktsValue used during instantiation.
+     */
+    public void setInMulticastPktsValue(com.airlenet.yang.model.ietfYangTypes.Counter64 inMulticastPktsValue)
+            throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "in-multicast-pkts",
+            inMulticastPktsValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "in-multicast-pkts",
+     * using Java primitive values.
+     * @param inMulticastPktsValue used during instantiation.
+     */
+    public void setInMulticastPktsValue(java.math.BigInteger inMulticastPktsValue)
+            throws JNCException {
+        setInMulticastPktsValue(new com.airlenet.yang.model.ietfYangTypes.Counter64(inMulticastPktsValue));
+    }
+
+    /**
+     * Sets the value for child leaf "in-multicast-pkts",
+     * using a String value.
+     * @param inMulticastPktsValue used during instantiation.
+     */
+    public void setInMulticastPktsValue(String inMulticastPktsValue)
+            throws JNCException {
+        setInMulticastPktsValue(new com.airlenet.yang.model.ietfYangTypes.Counter64(inMulticastPktsValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "in-multicast-pkts".
+     */
+    public void unsetInMulticastPktsValue() throws JNCException {
+        delete("in-multicast-pkts");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "in-multicast-pkts" leaf will not have a value.
+     */
+    public void addInMulticastPkts() throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "in-multicast-pkts",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "in-multicast-pkts" with operation "replace".
+     */
+    public void markInMulticastPktsReplace() throws JNCException {
+        markLeafReplace("in-multicast-pkts");
+    }
+
+    /**
+     * Marks the leaf "in-multicast-pkts" with operation "merge".
+     */
+    public void markInMulticastPktsMerge() throws JNCException {
+        markLeafMerge("in-multicast-pkts");
+    }
+
+    /**
+     * Marks the leaf "in-multicast-pkts" with operation "create".
+     */
+    public void markInMulticastPktsCreate() throws JNCException {
+        markLeafCreate("in-multicast-pkts");
+    }
+
+    /**
+     * Marks the leaf "in-multicast-pkts" with operation "delete".
+     */
+    public void markInMulticastPktsDelete() throws JNCException {
+        markLeafDelete("in-multicast-pkts");
+    }
+
+    /**
+     * Marks the leaf "in-multicast-pkts" with operation "remove".
+     */
+    public void markInMulticastPktsRemove() throws JNCException {
+        markLeafRemove("in-multicast-pkts");
+    }
+
+    /* Access methods for optional leaf child: "in-discards". */
+
+    /**
+     * Gets the value for child leaf "in-discards".
+     * @return The value of the leaf.
+     */
+    public com.airlenet.yang.model.ietfYangTypes.Counter32 getInDiscardsValue()
+            throws JNCException {
+        return (com.airlenet.yang.model.ietfYangTypes.Counter32)getValue("in-discards");
+    }
+
+    /**
+     * Sets the value for child leaf "in-discards",
+     * using a JNC type value.
+     * @param inDiscardsValue The value to set.
+     * @param inDiscardsValue used during instantiation.
+     */
+    public void setInDiscardsValue(com.airlenet.yang.model.ietfYangTypes.Counter32 inDiscardsValue)
+            throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "in-discards",
+            inDiscardsValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "in-discards",
+     * using Java primitive values.
+     * @param inDiscardsValue used during instantiation.
+     */
+    public void setInDiscardsValue(long inDiscardsValue) throws JNCException {
+        setInDiscardsValue(new com.airlenet.yang.model.ietfYangTypes.Counter32(inDiscardsValue));
+    }
+
+    /**
+     * Sets the value for child leaf "in-discards",
+     * using a String value.
+     * @param inDiscardsValue used during instantiation.
+     */
+    public void setInDiscardsValue(String inDiscardsValue) throws JNCException {
+        setInDiscardsValue(new com.airlenet.yang.model.ietfYangTypes.Counter32(inDiscardsValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "in-discards".
+     */
+    public void unsetInDiscardsValue() throws JNCException {
+        delete("in-discards");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "in-discards" leaf will not have a value.
+     */
+    public void addInDiscards() throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "in-discards",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "in-discards" with operation "replace".
+     */
+    public void markInDiscardsReplace() throws JNCException {
+        markLeafReplace("in-discards");
+    }
+
+    /**
+     * Marks the leaf "in-discards" with operation "merge".
+     */
+    public void markInDiscardsMerge() throws JNCException {
+        markLeafMerge("in-discards");
+    }
+
+    /**
+     * Marks the leaf "in-discards" with operation "create".
+     */
+    public void markInDiscardsCreate() throws JNCException {
+        markLeafCreate("in-discards");
+    }
+
+    /**
+     * Marks the leaf "in-discards" with operation "delete".
+     */
+    public void markInDiscardsDelete() throws JNCException {
+        markLeafDelete("in-discards");
+    }
+
+    /**
+     * Marks the leaf "in-discards" with operation "remove".
+     */
+    public void markInDiscardsRemove() throws JNCException {
+        markLeafRemove("in-discards");
+    }
+
+    /* Access methods for optional leaf child: "in-errors". */
+
+    /**
+     * Gets the value for child leaf "in-errors".
+     * @return The value of the leaf.
+     */
+    public com.airlenet.yang.model.ietfYangTypes.Counter32 getInErrorsValue()
+            throws JNCException {
+        return (com.airlenet.yang.model.ietfYangTypes.Counter32)getValue("in-errors");
+    }
+
+    /**
+     * Sets the value for child leaf "in-errors",
+     * using a JNC type value.
+     * @param inErrorsValue The value to set.
+     * @param inErrorsValue used during instantiation.
+     */
+    public void setInErrorsValue(com.airlenet.yang.model.ietfYangTypes.Counter32 inErrorsValue)
+            throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "in-errors",
+            inErrorsValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "in-errors",
+     * using Java primitive values.
+     * @param inErrorsValue used during instantiation.
+     */
+    public void setInErrorsValue(long inErrorsValue) throws JNCException {
+        setInErrorsValue(new com.airlenet.yang.model.ietfYangTypes.Counter32(inErrorsValue));
+    }
+
+    /**
+     * Sets the value for child leaf "in-errors",
+     * using a String value.
+     * @param inErrorsValue used during instantiation.
+     */
+    public void setInErrorsValue(String inErrorsValue) throws JNCException {
+        setInErrorsValue(new com.airlenet.yang.model.ietfYangTypes.Counter32(inErrorsValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "in-errors".
+     */
+    public void unsetInErrorsValue() throws JNCException {
+        delete("in-errors");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "in-errors" leaf will not have a value.
+     */
+    public void addInErrors() throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "in-errors",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "in-errors" with operation "replace".
+     */
+    public void markInErrorsReplace() throws JNCException {
+        markLeafReplace("in-errors");
+    }
+
+    /**
+     * Marks the leaf "in-errors" with operation "merge".
+     */
+    public void markInErrorsMerge() throws JNCException {
+        markLeafMerge("in-errors");
+    }
+
+    /**
+     * Marks the leaf "in-errors" with operation "create".
+     */
+    public void markInErrorsCreate() throws JNCException {
+        markLeafCreate("in-errors");
+    }
+
+    /**
+     * Marks the leaf "in-errors" with operation "delete".
+     */
+    public void markInErrorsDelete() throws JNCException {
+        markLeafDelete("in-errors");
+    }
+
+    /**
+     * Marks the leaf "in-errors" with operation "remove".
+     */
+    public void markInErrorsRemove() throws JNCException {
+        markLeafRemove("in-errors");
+    }
+
+    /* Access methods for optional leaf child: "in-unknown-protos". */
+
+    /**
+     * Gets the value for child leaf "in-unknown-protos".
+     * @return The value of the leaf.
+     */
+    public com.airlenet.yang.model.ietfYangTypes.Counter32 getInUnknownProtosValue()
+            throws JNCException {
+        return (com.airlenet.yang.model.ietfYangTypes.Counter32)getValue("in-unknown-protos");
+    }
+
+    /**
+     * Sets the value for child leaf "in-unknown-protos",
+     * using a JNC type value.
+     * @param inUnknownProtosValue The value to set.
+     * @param inUnknownProtosValue used during instantiation.
+     */
+    public void setInUnknownProtosValue(com.airlenet.yang.model.ietfYangTypes.Counter32 inUnknownProtosValue)
+            throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "in-unknown-protos",
+            inUnknownProtosValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "in-unknown-protos",
+     * using Java primitive values.
+     * @param inUnknownProtosValue used during instantiation.
+     */
+    public void setInUnknownProtosValue(long inUnknownProtosValue)
+            throws JNCException {
+        setInUnknownProtosValue(new com.airlenet.yang.model.ietfYangTypes.Counter32(inUnknownProtosValue));
+    }
+
+    /**
+     * Sets the value for child leaf "in-unknown-protos",
+     * using a String value.
+     * @param inUnknownProtosValue used during instantiation.
+     */
+    public void setInUnknownProtosValue(String inUnknownProtosValue)
+            throws JNCException {
+        setInUnknownProtosValue(new com.airlenet.yang.model.ietfYangTypes.Counter32(inUnknownProtosValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "in-unknown-protos".
+     */
+    public void unsetInUnknownProtosValue() throws JNCException {
+        delete("in-unknown-protos");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "in-unknown-protos" leaf will not have a value.
+     */
+    public void addInUnknownProtos() throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "in-unknown-protos",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "in-unknown-protos" with operation "replace".
+     */
+    public void markInUnknownProtosReplace() throws JNCException {
+        markLeafReplace("in-unknown-protos");
+    }
+
+    /**
+     * Marks the leaf "in-unknown-protos" with operation "merge".
+     */
+    public void markInUnknownProtosMerge() throws JNCException {
+        markLeafMerge("in-unknown-protos");
+    }
+
+    /**
+     * Marks the leaf "in-unknown-protos" with operation "create".
+     */
+    public void markInUnknownProtosCreate() throws JNCException {
+        markLeafCreate("in-unknown-protos");
+    }
+
+    /**
+     * Marks the leaf "in-unknown-protos" with operation "delete".
+     */
+    public void markInUnknownProtosDelete() throws JNCException {
+        markLeafDelete("in-unknown-protos");
+    }
+
+    /**
+     * Marks the leaf "in-unknown-protos" with operation "remove".
+     */
+    public void markInUnknownProtosRemove() throws JNCException {
+        markLeafRemove("in-unknown-protos");
+    }
+
+    /* Access methods for optional leaf child: "out-octets". */
+
+    /**
+     * Gets the value for child leaf "out-octets".
+     * @return The value of the leaf.
+     */
+    public com.airlenet.yang.model.ietfYangTypes.Counter64 getOutOctetsValue()
+            throws JNCException {
+        return (com.airlenet.yang.model.ietfYangTypes.Counter64)getValue("out-octets");
+    }
+
+    /**
+     * Sets the value for child leaf "out-octets",
+     * using a JNC type value.
+     * @param outOctetsValue The value to set.
+     * @param outOctetsValue used during instantiation.
+     */
+    public void setOutOctetsValue(com.airlenet.yang.model.ietfYangTypes.Counter64 outOctetsValue)
+            throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "out-octets",
+            outOctetsValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "out-octets",
+     * using Java primitive values.
+     * @param outOctetsValue used during instantiation.
+     */
+    public void setOutOctetsValue(java.math.BigInteger outOctetsValue)
+            throws JNCException {
+        setOutOctetsValue(new com.airlenet.yang.model.ietfYangTypes.Counter64(outOctetsValue));
+    }
+
+    /**
+     * Sets the value for child leaf "out-octets",
+     * using a String value.
+     * @param outOctetsValue used during instantiation.
+     */
+    public void setOutOctetsValue(String outOctetsValue) throws JNCException {
+        setOutOctetsValue(new com.airlenet.yang.model.ietfYangTypes.Counter64(outOctetsValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "out-octets".
+     */
+    public void unsetOutOctetsValue() throws JNCException {
+        delete("out-octets");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "out-octets" leaf will not have a value.
+     */
+    public void addOutOctets() throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "out-octets",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "out-octets" with operation "replace".
+     */
+    public void markOutOctetsReplace() throws JNCException {
+        markLeafReplace("out-octets");
+    }
+
+    /**
+     * Marks the leaf "out-octets" with operation "merge".
+     */
+    public void markOutOctetsMerge() throws JNCException {
+        markLeafMerge("out-octets");
+    }
+
+    /**
+     * Marks the leaf "out-octets" with operation "create".
+     */
+    public void markOutOctetsCreate() throws JNCException {
+        markLeafCreate("out-octets");
+    }
+
+    /**
+     * Marks the leaf "out-octets" with operation "delete".
+     */
+    public void markOutOctetsDelete() throws JNCException {
+        markLeafDelete("out-octets");
+    }
+
+    /**
+     * Marks the leaf "out-octets" with operation "remove".
+     */
+    public void markOutOctetsRemove() throws JNCException {
+        markLeafRemove("out-octets");
+    }
+
+    /* Access methods for optional leaf child: "out-unicast-pkts". */
+
+    /**
+     * Gets the value for child leaf "out-unicast-pkts".
+     * @return The value of the leaf.
+     */
+    public com.airlenet.yang.model.ietfYangTypes.Counter64 getOutUnicastPktsValue()
+            throws JNCException {
+        return (com.airlenet.yang.model.ietfYangTypes.Counter64)getValue("out-unicast-pkts");
+    }
+
+    /**
+     * Sets the value for child leaf "out-unicast-pkts",
+     * using a JNC type value.
+     * @param outUnicastPktsValue The value to set.
+     * @param outUnicastPktsValue used during instantiation.
+     */
+    public void setOutUnicastPktsValue(com.airlenet.yang.model.ietfYangTypes.Counter64 outUnicastPktsValue)
+            throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "out-unicast-pkts",
+            outUnicastPktsValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "out-unicast-pkts",
+     * using Java primitive values.
+     * @param outUnicastPktsValue used during instantiation.
+     */
+    public void setOutUnicastPktsValue(java.math.BigInteger outUnicastPktsValue)
+            throws JNCException {
+        setOutUnicastPktsValue(new com.airlenet.yang.model.ietfYangTypes.Counter64(outUnicastPktsValue));
+    }
+
+    /**
+     * Sets the value for child leaf "out-unicast-pkts",
+     * using a String value.
+     * @param outUnicastPktsValue used during instantiation.
+     */
+    public void setOutUnicastPktsValue(String outUnicastPktsValue)
+            throws JNCException {
+        setOutUnicastPktsValue(new com.airlenet.yang.model.ietfYangTypes.Counter64(outUnicastPktsValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "out-unicast-pkts".
+     */
+    public void unsetOutUnicastPktsValue() throws JNCException {
+        delete("out-unicast-pkts");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "out-unicast-pkts" leaf will not have a value.
+     */
+    public void addOutUnicastPkts() throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "out-unicast-pkts",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "out-unicast-pkts" with operation "replace".
+     */
+    public void markOutUnicastPktsReplace() throws JNCException {
+        markLeafReplace("out-unicast-pkts");
+    }
+
+    /**
+     * Marks the leaf "out-unicast-pkts" with operation "merge".
+     */
+    public void markOutUnicastPktsMerge() throws JNCException {
+        markLeafMerge("out-unicast-pkts");
+    }
+
+    /**
+     * Marks the leaf "out-unicast-pkts" with operation "create".
+     */
+    public void markOutUnicastPktsCreate() throws JNCException {
+        markLeafCreate("out-unicast-pkts");
+    }
+
+    /**
+     * Marks the leaf "out-unicast-pkts" with operation "delete".
+     */
+    public void markOutUnicastPktsDelete() throws JNCException {
+        markLeafDelete("out-unicast-pkts");
+    }
+
+    /**
+     * Marks the leaf "out-unicast-pkts" with operation "remove".
+     */
+    public void markOutUnicastPktsRemove() throws JNCException {
+        markLeafRemove("out-unicast-pkts");
+    }
+
+    /* Access methods for optional leaf child: "out-broadcast-pkts". */
+
+    /**
+     * Gets the value for child leaf "out-broadcast-pkts".
+     * @return The value of the leaf.
+     */
+    public com.airlenet.yang.model.ietfYangTypes.Counter64 getOutBroadcastPktsValue()
+            throws JNCException {
+        return (com.airlenet.yang.model.ietfYangTypes.Counter64)getValue("out-broadcast-pkts");
+    }
+
+    /**
+     * Sets the value for child leaf "out-broadcast-pkts",
+     * using a JNC type value.
+     * @param outBroadcastPktsValue The value to set.
+     * @param outBroadcastPktsValue used during instantiation.
+     */
+    public void setOutBroadcastPktsValue(com.airlenet.yang.model.ietfYangTypes.Counter64 outBroadcastPktsValue)
+            throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "out-broadcast-pkts",
+            outBroadcastPktsValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "out-broadcast-pkts",
+     * using Java primitive values.
+     * @param outBroadcastPktsValue used during instantiation.
+     */
+    public void setOutBroadcastPktsValue(java.math.BigInteger outBroadcastPktsValue)
+            throws JNCException {
+        setOutBroadcastPktsValue(new com.airlenet.yang.model.ietfYangTypes.Counter64(outBroadcastPktsValue));
+    }
+
+    /**
+     * Sets the value for child leaf "out-broadcast-pkts",
+     * using a String value.
+     * @param outBroadcastPktsValue used during instantiation.
+     */
+    public void setOutBroadcastPktsValue(String outBroadcastPktsValue)
+            throws JNCException {
+        setOutBroadcastPktsValue(new com.airlenet.yang.model.ietfYangTypes.Counter64(outBroadcastPktsValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "out-broadcast-pkts".
+     */
+    public void unsetOutBroadcastPktsValue() throws JNCException {
+        delete("out-broadcast-pkts");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "out-broadcast-pkts" leaf will not have a value.
+     */
+    public void addOutBroadcastPkts() throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "out-broadcast-pkts",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "out-broadcast-pkts" with operation "replace".
+     */
+    public void markOutBroadcastPktsReplace() throws JNCException {
+        markLeafReplace("out-broadcast-pkts");
+    }
+
+    /**
+     * Marks the leaf "out-broadcast-pkts" with operation "merge".
+     */
+    public void markOutBroadcastPktsMerge() throws JNCException {
+        markLeafMerge("out-broadcast-pkts");
+    }
+
+    /**
+     * Marks the leaf "out-broadcast-pkts" with operation "create".
+     */
+    public void markOutBroadcastPktsCreate() throws JNCException {
+        markLeafCreate("out-broadcast-pkts");
+    }
+
+    /**
+     * Marks the leaf "out-broadcast-pkts" with operation "delete".
+     */
+    public void markOutBroadcastPktsDelete() throws JNCException {
+        markLeafDelete("out-broadcast-pkts");
+    }
+
+    /**
+     * Marks the leaf "out-broadcast-pkts" with operation "remove".
+     */
+    public void markOutBroadcastPktsRemove() throws JNCException {
+        markLeafRemove("out-broadcast-pkts");
+    }
+
+    /* Access methods for optional leaf child: "out-multicast-pkts". */
+
+    /**
+     * Gets the value for child leaf "out-multicast-pkts".
+     * @return The value of the leaf.
+     */
+    public com.airlenet.yang.model.ietfYangTypes.Counter64 getOutMulticastPktsValue()
+            throws JNCException {
+        return (com.airlenet.yang.model.ietfYangTypes.Counter64)getValue("out-multicast-pkts");
+    }
+
+    /**
+     * Sets the value for child leaf "out-multicast-pkts",
+     * using a JNC type value.
+     * @param outMulticastPktsValue The value to set.
+     * @param outMulticastPktsValue used during instantiation.
+     */
+    public void setOutMulticastPktsValue(com.airlenet.yang.model.ietfYangTypes.Counter64 outMulticastPktsValue)
+            throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "out-multicast-pkts",
+            outMulticastPktsValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "out-multicast-pkts",
+     * using Java primitive values.
+     * @param outMulticastPktsValue used during instantiation.
+     */
+    public void setOutMulticastPktsValue(java.math.BigInteger outMulticastPktsValue)
+            throws JNCException {
+        setOutMulticastPktsValue(new com.airlenet.yang.model.ietfYangTypes.Counter64(outMulticastPktsValue));
+    }
+
+    /**
+     * Sets the value for child leaf "out-multicast-pkts",
+     * using a String value.
+     * @param outMulticastPktsValue used during instantiation.
+     */
+    public void setOutMulticastPktsValue(String outMulticastPktsValue)
+            throws JNCException {
+        setOutMulticastPktsValue(new com.airlenet.yang.model.ietfYangTypes.Counter64(outMulticastPktsValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "out-multicast-pkts".
+     */
+    public void unsetOutMulticastPktsValue() throws JNCException {
+        delete("out-multicast-pkts");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "out-multicast-pkts" leaf will not have a value.
+     */
+    public void addOutMulticastPkts() throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "out-multicast-pkts",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "out-multicast-pkts" with operation "replace".
+     */
+    public void markOutMulticastPktsReplace() throws JNCException {
+        markLeafReplace("out-multicast-pkts");
+    }
+
+    /**
+     * Marks the leaf "out-multicast-pkts" with operation "merge".
+     */
+    public void markOutMulticastPktsMerge() throws JNCException {
+        markLeafMerge("out-multicast-pkts");
+    }
+
+    /**
+     * Marks the leaf "out-multicast-pkts" with operation "create".
+     */
+    public void markOutMulticastPktsCreate() throws JNCException {
+        markLeafCreate("out-multicast-pkts");
+    }
+
+    /**
+     * Marks the leaf "out-multicast-pkts" with operation "delete".
+     */
+    public void markOutMulticastPktsDelete() throws JNCException {
+        markLeafDelete("out-multicast-pkts");
+    }
+
+    /**
+     * Marks the leaf "out-multicast-pkts" with operation "remove".
+     */
+    public void markOutMulticastPktsRemove() throws JNCException {
+        markLeafRemove("out-multicast-pkts");
+    }
+
+    /* Access methods for optional leaf child: "out-discards". */
+
+    /**
+     * Gets the value for child leaf "out-discards".
+     * @return The value of the leaf.
+     */
+    public com.airlenet.yang.model.ietfYangTypes.Counter32 getOutDiscardsValue()
+            throws JNCException {
+        return (com.airlenet.yang.model.ietfYangTypes.Counter32)getValue("out-discards");
+    }
+
+    /**
+     * Sets the value for child leaf "out-discards",
+     * using a JNC type value.
+     * @param outDiscardsValue The value to set.
+     * @param outDiscardsValue used during instantiation.
+     */
+    public void setOutDiscardsValue(com.airlenet.yang.model.ietfYangTypes.Counter32 outDiscardsValue)
+            throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "out-discards",
+            outDiscardsValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "out-discards",
+     * using Java primitive values.
+     * @param outDiscardsValue used during instantiation.
+     */
+    public void setOutDiscardsValue(long outDiscardsValue) throws JNCException {
+        setOutDiscardsValue(new com.airlenet.yang.model.ietfYangTypes.Counter32(outDiscardsValue));
+    }
+
+    /**
+     * Sets the value for child leaf "out-discards",
+     * using a String value.
+     * @param outDiscardsValue used during instantiation.
+     */
+    public void setOutDiscardsValue(String outDiscardsValue)
+            throws JNCException {
+        setOutDiscardsValue(new com.airlenet.yang.model.ietfYangTypes.Counter32(outDiscardsValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "out-discards".
+     */
+    public void unsetOutDiscardsValue() throws JNCException {
+        delete("out-discards");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "out-discards" leaf will not have a value.
+     */
+    public void addOutDiscards() throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "out-discards",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "out-discards" with operation "replace".
+     */
+    public void markOutDiscardsReplace() throws JNCException {
+        markLeafReplace("out-discards");
+    }
+
+    /**
+     * Marks the leaf "out-discards" with operation "merge".
+     */
+    public void markOutDiscardsMerge() throws JNCException {
+        markLeafMerge("out-discards");
+    }
+
+    /**
+     * Marks the leaf "out-discards" with operation "create".
+     */
+    public void markOutDiscardsCreate() throws JNCException {
+        markLeafCreate("out-discards");
+    }
+
+    /**
+     * Marks the leaf "out-discards" with operation "delete".
+     */
+    public void markOutDiscardsDelete() throws JNCException {
+        markLeafDelete("out-discards");
+    }
+
+    /**
+     * Marks the leaf "out-discards" with operation "remove".
+     */
+    public void markOutDiscardsRemove() throws JNCException {
+        markLeafRemove("out-discards");
+    }
+
+    /* Access methods for optional leaf child: "out-errors". */
+
+    /**
+     * Gets the value for child leaf "out-errors".
+     * @return The value of the leaf.
+     */
+    public com.airlenet.yang.model.ietfYangTypes.Counter32 getOutErrorsValue()
+            throws JNCException {
+        return (com.airlenet.yang.model.ietfYangTypes.Counter32)getValue("out-errors");
+    }
+
+    /**
+     * Sets the value for child leaf "out-errors",
+     * using a JNC type value.
+     * @param outErrorsValue The value to set.
+     * @param outErrorsValue used during instantiation.
+     */
+    public void setOutErrorsValue(com.airlenet.yang.model.ietfYangTypes.Counter32 outErrorsValue)
+            throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "out-errors",
+            outErrorsValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "out-errors",
+     * using Java primitive values.
+     * @param outErrorsValue used during instantiation.
+     */
+    public void setOutErrorsValue(long outErrorsValue) throws JNCException {
+        setOutErrorsValue(new com.airlenet.yang.model.ietfYangTypes.Counter32(outErrorsValue));
+    }
+
+    /**
+     * Sets the value for child leaf "out-errors",
+     * using a String value.
+     * @param outErrorsValue used during instantiation.
+     */
+    public void setOutErrorsValue(String outErrorsValue) throws JNCException {
+        setOutErrorsValue(new com.airlenet.yang.model.ietfYangTypes.Counter32(outErrorsValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "out-errors".
+     */
+    public void unsetOutErrorsValue() throws JNCException {
+        delete("out-errors");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "out-errors" leaf will not have a value.
+     */
+    public void addOutErrors() throws JNCException {
+        setLeafValue(IfPrefix.NAMESPACE,
+            "out-errors",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "out-errors" with operation "replace".
+     */
+    public void markOutErrorsReplace() throws JNCException {
+        markLeafReplace("out-errors");
+    }
+
+    /**
+     * Marks the leaf "out-errors" with operation "merge".
+     */
+    public void markOutErrorsMerge() throws JNCException {
+        markLeafMerge("out-errors");
+    }
+
+    /**
+     * Marks the leaf "out-errors" with operation "create".
+     */
+    public void markOutErrorsCreate() throws JNCException {
+        markLeafCreate("out-errors");
+    }
+
+    /**
+     * Marks the leaf "out-errors" with operation "delete".
+     */
+    public void markOutErrorsDelete() throws JNCException {
+        markLeafDelete("out-errors");
+    }
+
+    /**
+     * Marks the leaf "out-errors" with operation "remove".
+     */
+    public void markOutErrorsRemove() throws JNCException {
+        markLeafRemove("out-errors");
+    }
+
+    /**
+     * Support method for addChild.
+     * Adds a child to this object.
+     * 
+     * @param child The child to add
+     */
+    public void addChild(Element child) {
+        super.addChild(child);
+    }
+
+    /**
+     * Support method for setLeafValue.
+     * Sets the value of a leaf by name, without reflection.
+     */
+    protected void setLeafValueByName(String name, String value)
+            throws JNCException, ReflectiveOperationException {
+        switch (name) {
+        case "discontinuity-time":
+            setDiscontinuityTimeValue(value);
+            break;
+        case "in-octets":
+            setInOctetsValue(value);
+            break;
+        case "in-unicast-pkts":
+            setInUnicastPktsValue(value);
+            break;
+        case "in-broadcast-pkts":
+            setInBroadcastPktsValue(value);
+            break;
+        case "in-multicast-pkts":
+            setInMulticastPktsValue(value);
+            break;
+        case "in-discards":
+            setInDiscardsValue(value);
+            break;
+        case "in-errors":
+            setInErrorsValue(value);
+            break;
+        case "in-unknown-protos":
+            setInUnknownProtosValue(value);
+            break;
+        case "out-octets":
+            setOutOctetsValue(value);
+            break;
+        case "out-unicast-pkts":
+            setOutUnicastPktsValue(value);
+            break;
+        case "out-broadcast-pkts":
+            setOutBroadcastPktsValue(value);
+            break;
+        case "out-multicast-pkts":
+            setOutMulticastPktsValue(value);
+            break;
+        case "out-discards":
+            setOutDiscardsValue(value);
+            break;
+        case "out-errors":
+            setOutErrorsValue(value);
+            break;
+        default:
+            super.setLeafValueByName(name, value);
+        }
+    }
+
+    /**
+     * Support method for createInstance.
+     * Adds a child by name, without reflection.
+     * 
+     * @return The added child, or null if it is a leaf.
+     */
+    protected Element addChildByName(String childName)
+            throws JNCException, ReflectiveOperationException {
+        switch (childName) {
+        case "discontinuity-time":
+            addDiscontinuityTime();
+            return null;
+        case "in-octets":
+            addInOctets();
+            return null;
+        case "in-unicast-pkts":
+            addInUnicastPkts();
+            return null;
+        case "in-broadcast-pkts":
+            addInBroadcastPkts();
+            return null;
+        case "in-multicast-pkts":
+            addInMulticastPkts();
+            return null;
+        case "in-discards":
+            addInDiscards();
+            return null;
+        case "in-errors":
+            addInErrors();
+            return null;
+        case "in-unknown-protos":
+            addInUnknownProtos();
+            return null;
+        case "out-octets":
+            addOutOctets();
+            return null;
+        case "out-unicast-pkts":
+            addOutUnicastPkts();
+            return null;
+        case "out-broadcast-pkts":
+            addOutBroadcastPkts();
+            return null;
+        case "out-multicast-pkts":
+            addOutMulticastPkts();
+            return null;
+        case "out-discards":
+            addOutDiscards();
+            return null;
+        case "out-errors":
+            addOutErrors();
+            return null;
+        default:
+            return super.addChildByName(childName);
+        }
+    }
+
+}
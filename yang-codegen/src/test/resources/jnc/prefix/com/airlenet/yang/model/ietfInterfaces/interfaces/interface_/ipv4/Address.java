@@ -0,0 +1,428 @@
+/* 
+ * @(#)Address.java        1.0
+ *
+ * This file has been auto-generated by JNC, the
+ * Java output format plug-in of pyang.
+ * Origin: module "ietf-interfaces", revision: "2012-09-05".
+ */
+
+package com.airlenet.yang.model.ietfInterfaces.interfaces.interface_.ipv4;
+
+import com.airlenet.yang.model.ietfInetTypes.Ipv4Address;
+import com.airlenet.yang.model.ietfIp.IpPrefix;
+import com.tailf.jnc.Element;
+import com.tailf.jnc.JNCException;
+import com.tailf.jnc.Leaf;
+import com.tailf.jnc.YangElement;
+import com.tailf.jnc.YangUInt8;
+
+/**
+ * This class represents an element from 
+ * the namespace urn:ietf:params:xml:ns:yang:ietf-interfaces
+ * generated to "4/address"
+ * <p>
+ * See line 103 in
+ * g
+ *
+ * @version 1.0
+ * @author Auto Generated
+ */
+public class Address extends YangElement {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor for an empty Address object.
+     */
+    public Address() {
+        super(IpPrefix.NAMESPACE, "address");
+    }
+
+    /**
+     * Constructor for an initialized Address object,
+     * 
+     * @param ipValue Key argument of child.
+     */
+    public Address(Ipv4Address ipValue) throws JNCException {
+        super(IpPrefix.NAMESPACE, "address");
+        Leaf ip = new Leaf(IpPrefix.NAMESPACE, "ip");
+        ip.setValue(ipValue);
+        insertChild(ip, sharedChildrenNames());
+    }
+
+    /**
+     * Constructor for an initialized Address object,
+     * with String keys.
+     * @param ipValue Key argument of child.
+     */
+    public Address(String ipValue) throws JNCException {
+        super(IpPrefix.NAMESPACE, "address");
+        Leaf ip = new Leaf(IpPrefix.NAMESPACE, "ip");
+        ip.setValue(new com.airlenet.yang.model.ietfInetTypes.Ipv4Address(ipValue));
+        insertChild(ip, sharedChildrenNames());
+    }
+
+    /**
+     * Clones this object, returning an exact copy.
+     * @return A clone of the object.
+     */
+    public Address clone() {
+        Address copy;
+        try {
+            copy = new Address(getIpValue().toString());
+        } catch (JNCException e) {
+            copy = null;
+        }
+        return (Address)cloneContent(copy);
+    }
+
+    /**
+     * Clones this object, returning a shallow copy.
+     * @return A clone of the object. Children are not included.
+     */
+    public Address cloneShallow() {
+        Address copy;
+        try {
+            copy = new Address(getIpValue().toString());
+        } catch (JNCException e) {
+            copy = null;
+        }
+        return (Address)cloneShallowContent(copy);
+    }
+
+    private static final String[] KEY_NAMES = {
+        "ip",
+    };
+
+    private static final String[] CHILDREN_NAMES = {
+        "ip",
+        "prefix-length",
+        "netmask",
+    };
+
+    private static final java.util.Map<String, Integer> CHILDREN_ORDINALS =
+            ordinals(CHILDREN_NAMES);
+
+    /**
+     * @return An array with the identifiers of any key children
+     */
+    public String[] keyNames() {
+        return KEY_NAMES.clone();
+    }
+
+    /**
+     * @return The identifiers of the key children, not to be modified.
+     */
+    protected String[] sharedKeyNames() {
+        return KEY_NAMES;
+    }
+
+    /**
+     * @return An array with the identifiers of any children, in order.
+     */
+    public String[] childrenNames() {
+        return CHILDREN_NAMES.clone();
+    }
+
+    /**
+     * @return The identifiers of any children, in order, not to be modified.
+     */
+    protected String[] sharedChildrenNames() {
+        return CHILDREN_NAMES;
+    }
+
+    /**
+     * @return The position of each identifier in sharedChildrenNames.
+     */
+    protected java.util.Map<String, Integer> childrenOrdinals() {
+        return CHILDREN_ORDINALS;
+    }
+
+    /* Access methods for leaf child: "ip". */
+
+    /**
+     * Gets the value for child leaf "ip".
+     * @return The value of the leaf.
+     */
+    public com.airlenet.yang.model.ietfInetTypes.Ipv4Address getIpValue()
+            throws JNCException {
+        return (com.airlenet.yang.model.ietfInetTypes.Ipv4Address)getValue("ip");
+    }
+
+    /**
+     * Sets the value for child leaf "ip",
+     * using a JNC type value.
+     * @param ipValue The value to set.
+     * @param ipValue used during instantiation.
+     */
+    public void setIpValue(com.airlenet.yang.model.ietfInetTypes.Ipv4Address ipValue)
+            throws JNCException {
+        setLeafValue(IpPrefix.NAMESPACE,
+            "ip",
+            ipValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "ip",
+     * using a String value.
+     * @param ipValue used during instantiation.
+     */
+    public void setIpValue(String ipValue) throws JNCException {
+        setIpValue(new com.airlenet.yang.model.ietfInetTypes.Ipv4Address(ipValue));
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "ip" leaf will not have a value.
+     */
+    public void addIp() throws JNCException {
+        setLeafValue(IpPrefix.NAMESPACE,
+            "ip",
+            null,
+            sharedChildrenNames());
+    }
+
+    /* Access methods for optional leaf child: "prefix-length". */
+
+    /**
+     * Gets the value for child leaf "prefix-length".
+     * @return The value of the leaf.
+     */
+    public com.tailf.jnc.YangUInt8 getPrefixLengthValue() throws JNCException {
+        com.tailf.jnc.YangUInt8 prefixLength = (com.tailf.jnc.YangUInt8)getValue("prefix-length");
+        if (prefixLength == null) {
+            prefixLength = new com.tailf.jnc.YangUInt8("32");  // default
+        }
+        return prefixLength;
+    }
+
+    /**
+     * Sets the value for child leaf "prefix-length",
+     * using instance of generated typedef class.
+     * @param prefixLengthValue The value to set.
+     * @param prefixLengthValue used during instantiation.
+     */
+    public void setPrefixLengthValue(com.tailf.jnc.YangUInt8 prefixLengthValue)
+            throws JNCException {
+        setLeafValue(IpPrefix.NAMESPACE,
+            "prefix-length",
+            prefixLengthValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "prefix-length",
+     * using Java primitive values.
+     * @param prefixLengthValue used during instantiation.
+     */
+    public void setPrefixLengthValue(short prefixLengthValue)
+            throws JNCException {
+        setPrefixLengthValue(new com.tailf.jnc.YangUInt8(prefixLengthValue));
+    }
+
+    /**
+     * Sets the value for child leaf "prefix-length",
+     * using a String value.
+     * @param prefixLengthValue used during instantiation.
+     */
+    public void setPrefixLengthValue(String prefixLengthValue)
+            throws JNCException {
+        setPrefixLengthValue(new com.tailf.jnc.YangUInt8(prefixLengthValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "prefix-length".
+     */
+    public void unsetPrefixLengthValue() throws JNCException {
+        delete("prefix-length");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "prefix-length" leaf will not have a value.
+     */
+    public void addPrefixLength() throws JNCException {
+        setLeafValue(IpPrefix.NAMESPACE,
+            "prefix-length",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "prefix-length" with operation "replace".
+     */
+    public void markPrefixLengthReplace() throws JNCException {
+        markLeafReplace("prefix-length");
+    }
+
+    /**
+     * Marks the leaf "prefix-length" with operation "merge".
+     */
+    public void markPrefixLengthMerge() throws JNCException {
+        markLeafMerge("prefix-length");
+    }
+
+    /**
+     * Marks the leaf "prefix-length" with operation "create".
+     */
+    public void markPrefixLengthCreate() throws JNCException {
+        markLeafCreate("prefix-length");
+    }
+
+    /**
+     * Marks the leaf "prefix-length" with operation "delete".
+     */
+    public void markPrefixLengthDelete() throws JNCException {
+        markLeafDelete("prefix-length");
+    }
+
+    /**
+     * Marks the leaf "prefix-length" with operation "remove".
+     */
+    public void markPrefixLengthRemove() throws JNCException {
+        markLeafRemove("prefix-length");
+    }
+
+    /* Access methods for optional leaf child: "netmask". */
+
+    /**
+     * Gets the value for child leaf "netmask".
+     * @return The value of the leaf.
+     */
+    public com.airlenet.yang.model.ietfInetTypes.Ipv4Address getNetmaskValue()
+            throws JNCException {
+        return (com.airlenet.yang.model.ietfInetTypes.Ipv4Address)getValue("netmask");
+    }
+
+    /**
+     * Sets the value for child leaf "netmask",
+     * using a JNC type value.
+     * @param netmaskValue The value to set.
+     * @param netmaskValue used during instantiation.
+     */
+    public void setNetmaskValue(com.airlenet.yang.model.ietfInetTypes.Ipv4Address netmaskValue)
+            throws JNCException {
+        setLeafValue(IpPrefix.NAMESPACE,
+            "netmask",
+            netmaskValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "netmask",
+     * using a String value.
+     * @param netmaskValue used during instantiation.
+     */
+    public void setNetmaskValue(String netmaskValue) throws JNCException {
+        setNetmaskValue(new com.airlenet.yang.model.ietfInetTypes.Ipv4Address(netmaskValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "netmask".
+     */
+    public void unsetNetmaskValue() throws JNCException {
+        delete("netmask");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "netmask" leaf will not have a value.
+     */
+    public void addNetmask() throws JNCException {
+        setLeafValue(IpPrefix.NAMESPACE,
+            "netmask",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "netmask" with operation "replace".
+     */
+    public void markNetmaskReplace() throws JNCException {
+        markLeafReplace("netmask");
+    }
+
+    /**
+     * Marks the leaf "netmask" with operation "merge".
+     */
+    public void markNetmaskMerge() throws JNCException {
+        markLeafMerge("netmask");
+    }
+
+    /**
+     * Marks the leaf "netmask" with operation "create".
+     */
+    public void markNetmaskCreate() throws JNCException {
+        markLeafCreate("netmask");
+    }
+
+    /**
+     * Marks the leaf "netmask" with operation "delete".
+     */
+    public void markNetmaskDelete() throws JNCException {
+        markLeafDelete("netmask");
+    }
+
+    /**
+     * Marks the leaf "netmask" with operation "remove".
+     */
+    public void markNetmaskRemove() throws JNCException {
+        markLeafRemove("netmask");
+    }
+
+    /**
+     * Support method for addChild.
+     * Adds a child to this object.
+     * 
+     * @param child The child to add
+     */
+    public void addChild(Element child) {
+        super.addChild(child);
+    }
+
+    /**
+     * Support method for setLeafValue.
+     * Sets the value of a leaf by name, without reflection.
+     */
+    protected void setLeafValueByName(String name, String value)
+            throws JNCException, ReflectiveOperationException {
+        switch (name) {
+        case "ip":
+            setIpValue(value);
+            break;
+        case "prefix-length":
+            setPrefixLengthValue(value);
+            break;
+        case "netmask":
+            setNetmaskValue(value);
+            break;
+        default:
+            super.setLeafValueByName(name, value);
+        }
+    }
+
+    /**
+     * Support method for createInstance.
+     * Adds a child by name, without reflection.
+     * 
+     * @return The added child, or null if it is a leaf.
+     */
+    protected Element addChildByName(String childName)
+            throws JNCException, ReflectiveOperationException {
+        switch (childName) {
+        case "ip":
+            addIp();
+            return null;
+        case "prefix-length":
+            addPrefixLength();
+            return null;
+        case "netmask":
+            addNetmask();
+            return null;
+        default:
+            return super.addChildByName(childName);
+        }
+    }
+
+}
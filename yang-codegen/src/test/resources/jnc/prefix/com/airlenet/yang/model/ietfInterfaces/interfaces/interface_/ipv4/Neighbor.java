@@ -0,0 +1,321 @@
+/* 
+ * @(#)Neighbor.java        1.0
+ *
+ * This file has been auto-generated by JNC, the
+ * Java output format plug-in of pyang.
+ * Origin: module "ietf-interfaces", revision: "2012-09-05".
+ */
+
+package com.airlenet.yang.model.ietfInterfaces.interfaces.interface_.ipv4;
+
+import com.airlenet.yang.model.ietfInetTypes.Ipv4Address;
+import com.airlenet.yang.model.ietfIp.IpPrefix;
+import com.airlenet.yang.model.ietfYangTypes.PhysAddress;
+import com.tailf.jnc.Element;
+import com.tailf.jnc.JNCException;
+import com.tailf.jnc.Leaf;
+import com.tailf.jnc.YangElement;
+
+/**
+ * This class represents an element from 
+ * the namespace urn:ietf:params:xml:ns:yang:ietf-interfaces
+ * generated to "4/neighbor"
+ * <p>
+ * See line 138 in
+ * g
+ *
+ * @version 1.0
+ * @author Auto Generated
+ */
+public class Neighbor extends YangElement {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor for an empty Neighbor object.
+     */
+    public Neighbor() {
+        super(IpPrefix.NAMESPACE, "neighbor");
+    }
+
+    /**
+     * Constructor for an initialized Neighbor object,
+     * 
+     * @param ipValue Key argument of child.
+     */
+    public Neighbor(Ipv4Address ipValue) throws JNCException {
+        super(IpPrefix.NAMESPACE, "neighbor");
+        Leaf ip = new Leaf(IpPrefix.NAMESPACE, "ip");
+        ip.setValue(ipValue);
+        insertChild(ip, sharedChildrenNames());
+    }
+
+    /**
+     * Constructor for an initialized Neighbor object,
+     * with String keys.
+     * @param ipValue Key argument of child.
+     */
+    public Neighbor(String ipValue) throws JNCException {
+        super(IpPrefix.NAMESPACE, "neighbor");
+        Leaf ip = new Leaf(IpPrefix.NAMESPACE, "ip");
+        ip.setValue(new com.airlenet.yang.model.ietfInetTypes.Ipv4Address(ipValue));
+        insertChild(ip, sharedChildrenNames());
+    }
+
+    /**
+     * Clones this object, returning an exact copy.
+     * @return A clone of the object.
+     */
+    public Neighbor clone() {
+        Neighbor copy;
+        try {
+            copy = new Neighbor(getIpValue().toString());
+        } catch (JNCException e) {
+            copy = null;
+        }
+        return (Neighbor)cloneContent(copy);
+    }
+
+    /**
+     * Clones this object, returning a shallow copy.
+     * @return A clone of the object. Children are not included.
+     */
+    public Neighbor cloneShallow() {
+        Neighbor copy;
+        try {
+            copy = new Neighbor(getIpValue().toString());
+        } catch (JNCException e) {
+            copy = null;
+        }
+        return (Neighbor)cloneShallowContent(copy);
+    }
+
+    private static final String[] KEY_NAMES = {
+        "ip",
+    };
+
+    private static final String[] CHILDREN_NAMES = {
+        "ip",
+        "phys-address",
+    };
+
+    private static final java.util.Map<String, Integer> CHILDREN_ORDINALS =
+            ordinals(CHILDREN_NAMES);
+
+    /**
+     * @return An array with the identifiers of any key children
+     */
+    public String[] keyNames() {
+        return KEY_NAMES.clone();
+    }
+
+    /**
+     * @return The identifiers of the key children, not to be modified.
+     */
+    protected String[] sharedKeyNames() {
+        return KEY_NAMES;
+    }
+
+    /**
+     * @return An array with the identifiers of any children, in order.
+     */
+    public String[] childrenNames() {
+        return CHILDREN_NAMES.clone();
+    }
+
+    /**
+     * @return The identifiers of any children, in order, not to be modified.
+     */
+    protected String[] sharedChildrenNames() {
+        return CHILDREN_NAMES;
+    }
+
+    /**
+     * @return The position of each identifier in sharedChildrenNames.
+     */
+    protected java.util.Map<String, Integer> childrenOrdinals() {
+        return CHILDREN_ORDINALS;
+    }
+
+    /* Access methods for leaf child: "ip". */
+
+    /**
+     * Gets the value for child leaf "ip".
+     * @return The value of the leaf.
+     */
+    public com.airlenet.yang.model.ietfInetTypes.Ipv4Address getIpValue()
+            throws JNCException {
+        return (com.airlenet.yang.model.ietfInetTypes.Ipv4Address)getValue("ip");
+    }
+
+    /**
+     * Sets the value for child leaf "ip",
+     * using a JNC type value.
+     * @param ipValue The value to set.
+     * @param ipValue used during instantiation.
+     */
+    public void setIpValue(com.airlenet.yang.model.ietfInetTypes.Ipv4Address ipValue)
+            throws JNCException {
+        setLeafValue(IpPrefix.NAMESPACE,
+            "ip",
+            ipValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "ip",
+     * using a String value.
+     * @param ipValue used during instantiation.
+     */
+    public void setIpValue(String ipValue) throws JNCException {
+        setIpValue(new com.airlenet.yang.model.ietfInetTypes.Ipv4Address(ipValue));
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "ip" leaf will not have a value.
+     */
+    public void addIp() throws JNCException {
+        setLeafValue(IpPrefix.NAMESPACE,
+            "ip",
+            null,
+            sharedChildrenNames());
+    }
+
+    /* Access methods for optional leaf child: "phys-address". */
+
+    /**
+     * Gets the value for child leaf "phys-address".
+     * @return The value of the leaf.
+     */
+    public com.airlenet.yang.model.ietfYangTypes.PhysAddress getPhysAddressValue()
+            throws JNCException {
+        return (com.airlenet.yang.model.ietfYangTypes.PhysAddress)getValue("phys-address");
+    }
+
+    /**
+     * Sets the value for child leaf "phys-address",
+     * using a JNC type value.
+     * @param physAddressValue The value to set.
+     * @param physAddressValue used during instantiation.
+     */
+    public void setPhysAddressValue(com.airlenet.yang.model.ietfYangTypes.PhysAddress physAddressValue)
+            throws JNCException {
+        setLeafValue(IpPrefix.NAMESPACE,
+            "phys-address",
+            physAddressValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "phys-address",
+     * using a String value.
+     * @param physAddressValue used during instantiation.
+     */
+    public void setPhysAddressValue(String physAddressValue)
+            throws JNCException {
+        setPhysAddressValue(new com.airlenet.yang.model.ietfYangTypes.PhysAddress(physAddressValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "phys-address".
+     */
+    public void unsetPhysAddressValue() throws JNCException {
+        delete("phys-address");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "phys-address" leaf will not have a value.
+     */
+    public void addPhysAddress() throws JNCException {
+        setLeafValue(IpPrefix.NAMESPACE,
+            "phys-address",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "phys-address" with operation "replace".
+     */
+    public void markPhysAddressReplace() throws JNCException {
+        markLeafReplace("phys-address");
+    }
+
+    /**
+     * Marks the leaf "phys-address" with operation "merge".
+     */
+    public void markPhysAddressMerge() throws JNCException {
+        markLeafMerge("phys-address");
+    }
+
+    /**
+     * Marks the leaf "phys-address" with operation "create".
+     */
+    public void markPhysAddressCreate() throws JNCException {
+        markLeafCreate("phys-address");
+    }
+
+    /**
+     * Marks the leaf "phys-address" with operation "delete".
+     */
+    public void markPhysAddressDelete() throws JNCException {
+        markLeafDelete("phys-address");
+    }
+
+    /**
+     * Marks the leaf "phys-address" with operation "remove".
+     */
+    public void markPhysAddressRemove() throws JNCException {
+        markLeafRemove("phys-address");
+    }
+
+    /**
+     * Support method for addChild.
+     * Adds a child to this object.
+     * 
+     * @param child The child to add
+     */
+    public void addChild(Element child) {
+        super.addChild(child);
+    }
+
+    /**
+     * Support method for setLeafValue.
+     * Sets the value of a leaf by name, without reflection.
+     */
+    protected void setLeafValueByName(String name, String value)
+            throws JNCException, ReflectiveOperationException {
+        switch (name) {
+        case "ip":
+            setIpValue(value);
+            break;
+        case "phys-address":
+            setPhysAddressValue(value);
+            break;
+        default:
+            super.setLeafValueByName(name, value);
+        }
+    }
+
+    /**
+     * Support method for createInstance.
+     * Adds a child by name, without reflection.
+     * 
+     * @return The added child, or null if it is a leaf.
+     */
+    protected Element addChildByName(String childName)
+            throws JNCException, ReflectiveOperationException {
+        switch (childName) {
+        case "ip":
+            addIp();
+            return null;
+        case "phys-address":
+            addPhysAddress();
+            return null;
+        default:
+            return super.addChildByName(childName);
+        }
+    }
+
+}
@@ -0,0 +1,562 @@
+/* 
+ * @(#)Autoconf.java        1.0
+ *
+ * This file has been auto-generated by JNC, the
+ * Java output format plug-in of pyang.
+ * Origin: module "ietf-interfaces", revision: "2012-09-05".
+ */
+
+package com.airlenet.yang.model.ietfInterfaces.interfaces.interface_.ipv6;
+
+import com.airlenet.yang.model.ietfIp.IpPrefix;
+import com.tailf.jnc.Element;
+import com.tailf.jnc.JNCException;
+import com.tailf.jnc.YangBoolean;
+import com.tailf.jnc.YangElement;
+import com.tailf.jnc.YangUInt32;
+
+/**
+ * This class represents an element from 
+ * the namespace urn:ietf:params:xml:ns:yang:ietf-interfaces
+ * generated to "6/autoconf"
+ * <p>
+ * See line 247 in
+ * g
+ *
+ * @version 1.0
+ * @author Auto Generated
+ */
+public class Autoconf extends YangElement {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor for an empty Autoconf object.
+     */
+    public Autoconf() {
+        super(IpPrefix.NAMESPACE, "autoconf");
+    }
+
+    /**
+     * Clones this object, returning an exact copy.
+     * @return A clone of the object.
+     */
+    public Autoconf clone() {
+        return (Autoconf)cloneContent(new Autoconf());
+    }
+
+    /**
+     * Clones this object, returning a shallow copy.
+     * @return A clone of the object. Children are not included.
+     */
+    public Autoconf cloneShallow() {
+        return (Autoconf)cloneShallowContent(new Autoconf());
+    }
+
+    private static final String[] CHILDREN_NAMES = {
+        "create-global-addresses",
+        "create-temporary-addresses",
+        "temporary-valid-lifetime",
+        "temporary-preferred-lifetime",
+    };
+
+    private static final java.util.Map<String, Integer> CHILDREN_ORDINALS =
+            ordinals(CHILDREN_NAMES);
+
+    /**
+     * @return An array with the identifiers of any key children
+     */
+    public String[] keyNames() {
+        return null;
+    }
+
+    /**
+     * @return An array with the identifiers of any children, in order.
+     */
+    public String[] childrenNames() {
+        return CHILDREN_NAMES.clone();
+    }
+
+    /**
+     * @return The identifiers of any children, in order, not to be modified.
+     */
+    protected String[] sharedChildrenNames() {
+        return CHILDREN_NAMES;
+    }
+
+    /**
+     * @return The position of each identifier in sharedChildrenNames.
+     */
+    protected java.util.Map<String, Integer> childrenOrdinals() {
+        return CHILDREN_ORDINALS;
+    }
+
+    /* Access methods for optional leaf child: "create-global-addresses". */
+
+    /**
+     * Gets the value for child leaf "create-global-addresses".
+     * @return The value of the leaf.
+     */
+    public com.tailf.jnc.YangBoolean getCreateGlobalAddressesValue()
+            throws JNCException {
+        com.tailf.jnc.YangBoolean createGlobalAddresses = (com.tailf.jnc.YangBoolean)getValue("create-global-addresses");
+        if (createGlobalAddresses == null) {
+            createGlobalAddresses = new com.tailf.jnc.YangBoolean("true");  // default
+        }
+        return createGlobalAddresses;
+    }
+
+    /**
+     * Sets the value for child leaf "create-global-addresses",
+     * using instance of generated typedef class.
+     * @param createGlobalAddressesValue The value to set.
+     * @param createGlobalAddressesValue used during instantiation.
+     */
+    public void setCreateGlobalAddressesValue(com.tailf.jnc.YangBoolean createGlobalAddressesValue)
+            throws JNCException {
+        setLeafValue(IpPrefix.NAMESPACE,
+            "create-global-addresses",
+            createGlobalAddressesValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "create-global-addresses",
+     * using Java primitive values.
+     * @param createGlobalAddressesValue used during instantiation.
+     */
+    public void setCreateGlobalAddressesValue(Boolean createGlobalAddressesValue)
+            throws JNCException {
+        setCreateGlobalAddressesValue(new com.tailf.jnc.YangBoolean(createGlobalAddressesValue));
+    }
+
+    /**
+     * Sets the value for child leaf "create-global-addresses",
+     * using a String value.
+     * @param createGlobalAddressesValue used during instantiation.
+     */
+    public void setCreateGlobalAddressesValue(String createGlobalAddressesValue)
+            throws JNCException {
+        setCreateGlobalAddressesValue(new com.tailf.jnc.YangBoolean(createGlobalAddressesValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "create-global-addresses".
+     */
+    public void unsetCreateGlobalAddressesValue() throws JNCException {
+        delete("create-global-addresses");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "create-global-addresses" leaf will not have a value.
+     */
+    public void addCreateGlobalAddresses() throws JNCException {
+        setLeafValue(IpPrefix.NAMESPACE,
+            "create-global-addresses",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "create-global-addresses" with operation "replace".
+     */
+    public void markCreateGlobalAddressesReplace() throws JNCException {
+        markLeafReplace("create-global-addresses");
+    }
+
+    /**
+     * Marks the leaf "create-global-addresses" with operation "merge".
+     */
+    public void markCreateGlobalAddressesMerge() throws JNCException {
+        markLeafMerge("create-global-addresses");
+    }
+
+    /**
+     * Marks the leaf "create-global-addresses" with operation "create".
+     */
+    public void markCreateGlobalAddressesCreate() throws JNCException {
+        markLeafCreate("create-global-addresses");
+    }
+
+    /**
+     * Marks the leaf "create-global-addresses" with operation "delete".
+     */
+    public void markCreateGlobalAddressesDelete() throws JNCException {
+        markLeafDelete("create-global-addresses");
+    }
+
+    /**
+     * Marks the leaf "create-global-addresses" with operation "remove".
+     */
+    public void markCreateGlobalAddressesRemove() throws JNCException {
+        markLeafRemove("create-global-addresses");
+    }
+
+    /* Access methods for optional leaf child: "create-temporary-addresses". */
+
+    /**
+     * Gets the value for child leaf "create-temporary-addresses".
+     * @return The value of the leaf.
+     */
+    public com.tailf.jnc.YangBoolean getCreateTemporaryAddressesValue()
+            throws JNCException {
+        com.tailf.jnc.YangBoolean createTemporaryAddresses = (com.tailf.jnc.YangBoolean)getValue("create-temporary-addresses");
+        if (createTemporaryAddresses == null) {
+            createTemporaryAddresses = new com.tailf.jnc.YangBoolean("false");  // default
+        }
+        return createTemporaryAddresses;
+    }
+
+    /**
+     * Sets the value for child leaf "create-temporary-addresses",
+     * using instance of generated typedef class.
+     * @param createTemporaryAddressesValue The value to set.
+     * @param createTemporaryAddressesValue used during instantiation.
+     */
+    public void setCreateTemporaryAddressesValue(com.tailf.jnc.YangBoolean createTemporaryAddressesValue)
+            throws JNCException {
+        setLeafValue(IpPrefix.NAMESPACE,
+            "create-temporary-addresses",
+            createTemporaryAddressesValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "create-temporary-addresses",
+     * using Java primitive values.
+     * @param createTemporaryAddressesValue used during instantiation.
+     */
+    public void setCreateTemporaryAddressesValue(Boolean createTemporaryAddressesValue)
+            throws JNCException {
+        setCreateTemporaryAddressesValue(new com.tailf.jnc.YangBoolean(createTemporaryAddressesValue));
+    }
+
+    /**
+     * Sets the value for child leaf "create-temporary-addresses",
+     * using a String value.
+     * @param createTemporaryAddressesValue used during instantiation.
+     */
+    public void setCreateTemporaryAddressesValue(String createTemporaryAddressesValue)
+            throws JNCException {
+        setCreateTemporaryAddressesValue(new com.tailf.jnc.YangBoolean(createTemporaryAddressesValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "create-temporary-addresses".
+     */
+    public void unsetCreateTemporaryAddressesValue() throws JNCException {
+        delete("create-temporary-addresses");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "create-temporary-addresses" leaf will not have a value.
+     */
+    public void addCreateTemporaryAddresses() throws JNCException {
+        setLeafValue(IpPrefix.NAMESPACE,
+            "create-temporary-addresses",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "create-temporary-addresses" with operation "replace".
+     */
+    public void markCreateTemporaryAddressesReplace() throws JNCException {
+        markLeafReplace("create-temporary-addresses");
+    }
+
+    /**
+     * Marks the leaf "create-temporary-addresses" with operation "merge".
+     */
+    public void markCreateTemporaryAddressesMerge() throws JNCException {
+        markLeafMerge("create-temporary-addresses");
+    }
+
+    /**
+     * Marks the leaf "create-temporary-addresses" with operation "create".
+     */
+    public void markCreateTemporaryAddressesCreate() throws JNCException {
+        markLeafCreate("create-temporary-addresses");
+    }
+
+    /**
+     * Marks the leaf "create-temporary-addresses" with operation "delete".
+     */
+    public void markCreateTemporaryAddressesDelete() throws JNCException {
+        markLeafDelete("create-temporary-addresses");
+    }
+
+    /**
+     * Marks the leaf "create-temporary-addresses" with operation "remove".
+     */
+    public void markCreateTemporaryAddressesRemove() throws JNCException {
+        markLeafRemove("create-temporary-addresses");
+    }
+
+    /* Access methods for optional leaf child: "temporary-valid-lifetime". */
+
+    /**
+     * Gets the value for child leaf "temporary-valid-lifetime".
+     * @return The value of the leaf.
+     */
+    public com.tailf.jnc.YangUInt32 getTemporaryValidLifetimeValue()
+            throws JNCException {
+        com.tailf.jnc.YangUInt32 temporaryValidLifetime = (com.tailf.jnc.YangUInt32)getValue("temporary-valid-lifetime");
+        if (temporaryValidLifetime == null) {
+            temporaryValidLifetime = new com.tailf.jnc.YangUInt32("604800");  // default
+        }
+        return temporaryValidLifetime;
+    }
+
+    /**
+     * Sets the value for child leaf "temporary-valid-lifetime",
+     * using instance of generated typedef class.
+     * @param temporaryValidLifetimeValue The value to set.
+     * @param temporaryValidLifetimeValue used during instantiation.
+     */
+    public void setTemporaryValidLifetimeValue(com.tailf.jnc.YangUInt32 temporaryValidLifetimeValue)
+            throws JNCException {
+        setLeafValue(IpPrefix.NAMESPACE,
+            "temporary-valid-lifetime",
+            temporaryValidLifetimeValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "temporary-valid-lifetime",
+     * using Java primitive values.
+     * @param temporaryValidLifetimeValue used during instantiation.
+     */
+    public void setTemporaryValidLifetimeValue(long temporaryValidLifetimeValue)
+            throws JNCException {
+        setTemporaryValidLifetimeValue(new com.tailf.jnc.YangUInt32(temporaryValidLifetimeValue));
+    }
+
+    /**
+     * Sets the value for child leaf "temporary-valid-lifetime",
+     * using a String value.
+     * @param temporaryValidLifetimeValue used during instantiation.
+     */
+    public void setTemporaryValidLifetimeValue(String temporaryValidLifetimeValue)
+            throws JNCException {
+        setTemporaryValidLifetimeValue(new com.tailf.jnc.YangUInt32(temporaryValidLifetimeValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "temporary-valid-lifetime".
+     */
+    public void unsetTemporaryValidLifetimeValue() throws JNCException {
+        delete("temporary-valid-lifetime");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "temporary-valid-lifetime" leaf will not have a value.
+     */
+    public void addTemporaryValidLifetime() throws JNCException {
+        setLeafValue(IpPrefix.NAMESPACE,
+            "temporary-valid-lifetime",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "temporary-valid-lifetime" with operation "replace".
+     */
+    public void markTemporaryValidLifetimeReplace() throws JNCException {
+        markLeafReplace("temporary-valid-lifetime");
+    }
+
+    /**
+     * Marks the leaf "temporary-valid-lifetime" with operation "merge".
+     */
+    public void markTemporaryValidLifetimeMerge() throws JNCException {
+        markLeafMerge("temporary-valid-lifetime");
+    }
+
+    /**
+     * Marks the leaf "temporary-valid-lifetime" with operation "create".
+     */
+    public void markTemporaryValidLifetimeCreate() throws JNCException {
+        markLeafCreate("temporary-valid-lifetime");
+    }
+
+    /**
+     * Marks the leaf "temporary-valid-lifetime" with operation "delete".
+     */
+    public void markTemporaryValidLifetimeDelete() throws JNCException {
+        markLeafDelete("temporary-valid-lifetime");
+    }
+
+    /**
+     * Marks the leaf "temporary-valid-lifetime" with operation "remove".
+     */
+    public void markTemporaryValidLifetimeRemove() throws JNCException {
+        markLeafRemove("temporary-valid-lifetime");
+    }
+
+    /* Access methods for optional leaf child: "temporary-preferred-lifetime". */
+
+    /**
+     * Gets the value for child leaf "temporary-preferred-lifetime".
+     * @return The value of the leaf.
+     */
+    public com.tailf.jnc.YangUInt32 getTemporaryPreferredLifetimeValue()
+            throws JNCException {
+        com.tailf.jnc.YangUInt32 temporaryPreferredLifetime = (com.tailf.jnc.YangUInt32)getValue("temporary-preferred-lifetime");
+        if (temporaryPreferredLifetime == null) {
+            temporaryPreferredLifetime = new com.tailf.jnc.YangUInt32("86400");  // default
+        }
+        return temporaryPreferredLifetime;
+    }
+
+    /**
+     * Sets the value for child leaf "temporary-preferred-lifetime",
+     * using instance of generated typedef class.
+     * @param temporaryPreferredLifetimeValue The value to set.
+     * @param temporaryPreferredLifetimeValue used during instantiation.
+     */
+    public void setTemporaryPreferredLifetimeValue(com.tailf.jnc.YangUInt32 temporaryPreferredLifetimeValue)
+            throws JNCException {
+        setLeafValue(IpPrefix.NAMESPACE,
+            "temporary-preferred-lifetime",
+            temporaryPreferredLifetimeValue,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Sets the value for child leaf "temporary-preferred-lifetime",
+     * using Java primitive values.
+     * @param temporaryPreferredLifetimeValue used during instantiation.
+     */
+    public void setTemporaryPreferredLifetimeValue(long temporaryPreferredLifetimeValue)
+            throws JNCException {
+        setTemporaryPreferredLifetimeValue(new com.tailf.jnc.YangUInt32(temporaryPreferredLifetimeValue));
+    }
+
+    /**
+     * Sets the value for child leaf "temporary-preferred-lifetime",
+     * using a String value.
+     * @param temporaryPreferredLifetimeValue used during instantiation.
+     */
+    public void setTemporaryPreferredLifetimeValue(String temporaryPreferredLifetimeValue)
+            throws JNCException {
+        setTemporaryPreferredLifetimeValue(new com.tailf.jnc.YangUInt32(temporaryPreferredLifetimeValue));
+    }
+
+    /**
+     * Unsets the value for child leaf "temporary-preferred-lifetime".
+     */
+    public void unsetTemporaryPreferredLifetimeValue() throws JNCException {
+        delete("temporary-preferred-lifetime");
+    }
+
+    /**
+     * This method is used for creating a subtree filter.
+     * The added "temporary-preferred-lifetime" leaf will not have a value.
+     */
+    public void addTemporaryPreferredLifetime() throws JNCException {
+        setLeafValue(IpPrefix.NAMESPACE,
+            "temporary-preferred-lifetime",
+            null,
+            sharedChildrenNames());
+    }
+
+    /**
+     * Marks the leaf "temporary-preferred-lifetime" with operation "replace".
+     */
+    public void markTemporaryPreferredLifetimeReplace() throws JNCException {
+        markLeafReplace("temporary-preferred-lifetime");
+    }
+
+    /**
+     * Marks the leaf "temporary-preferred-lifetime" with operation "merge".
+     */
+    public void markTemporaryPreferredLifetimeMerge() throws JNCException {
+        markLeafMerge("temporary-preferred-lifetime");
+    }
+
+    /**
+     * Marks the leaf "temporary-preferred-lifetime" with operation "create".
+     */
+    public void markTemporaryPreferredLifetimeCreate() throws JNCException {
+        markLeafCreate("temporary-preferred-lifetime");
+    }
+
+    /**
+     * Marks the leaf "temporary-preferred-lifetime" with operation "delete".
+     */
+    public void markTemporaryPreferredLifetimeDelete() throws JNCException {
+        markLeafDelete("temporary-preferred-lifetime");
+    }
+
+    /**
+     * Marks the leaf "temporary-preferred-lifetime" with operation "remove".
+     */
+    public void markTemporaryPreferredLifetimeRemove() throws JNCException {
+        markLeafRemove("temporary-preferred-lifetime");
+    }
+
+    /**
+     * Support method for addChild.
+     * Adds a child to this object.
+     * 
+     * @param child The child to add
+     */
+    public void addChild(Element child) {
+        super.addChild(child);
+    }
+
+    /**
+     * Support method for setLeafValue.
+     * Sets the value of a leaf by name, without reflection.
+     */
+    protected void setLeafValueByName(String name, String value)
+            throws JNCException, ReflectiveOperationException {
+        switch (name) {
+        case "create-global-addresses":
+            setCreateGlobalAddressesValue(value);
+            break;
+        case "create-temporary-addresses":
+            setCreateTemporaryAddressesValue(value);
+            break;
+        case "temporary-valid-lifetime":
+            setTemporaryValidLifetimeValue(value);
+            break;
+        case "temporary-preferred-lifetime":
+            setTemporaryPreferredLifetimeValue(value);
+            break;
+        default:
+            super.setLeafValueByName(name, value);
+        }
+    }
+
+    /**
+     * Support method for createInstance.
+     * Adds a child by name, without reflection.
+     * 
+     * @return The added child, or null if it is a leaf.
+     */
+    protected Element addChildByName(String childName)
+            throws JNCException, ReflectiveOperationException {
+        switch (childName) {
+        case "create-global-addresses":
+            addCreateGlobalAddresses();
+            return null;
+        case "create-temporary-addresses":
+            addCreateTemporaryAddresses();
+            return null;
+        case "temporary-valid-lifetime":
+            addTemporaryValidLifetime();
+            return null;
+        case "temporary-preferred-lifetime":
+            addTemporaryPreferredLifetime();
+            return null;
+        default:
+            return super.addChildByName(childName);
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+/* 
+ * @(#)Gauge64.java        1.0
+ *
+ * This file has been auto-generated by JNC, the
+ * Java output format plug-in of pyang.
+ * Origin: module "ietf-yang-types", revision: "2010-09-24".
+ */
+
+package com.airlenet.yang.model.ietfYangTypes;
+
+import com.tailf.jnc.YangException;
+import com.tailf.jnc.YangUInt64;
+
+import java.math.BigInteger;
+
+/**
+ * This class represents an element from 
+ * the namespace 
+ * generated to "s/gauge64"
+ * <p>
+ * See line 181 in
+ * g
+ *
+ * @version 1.0
+ * @author Auto Generated
+ */
+public class Gauge64 extends YangUInt64 {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor for Gauge64 object from a string.
+     * @param value Value to construct the Gauge64 from.
+     */
+    public Gauge64(String value) throws YangException {
+        super(value);
+        check();
+    }
+
+    /**
+     * Constructor for Gauge64 object from a java.math.BigInteger.
+     * @param value Value to construct the Gauge64 from.
+     */
+    public Gauge64(BigInteger value) throws YangException {
+        super(value);
+        check();
+    }
+
+    /**
+     * Sets the value using a string value.
+     * @param value The value to set.
+     */
+    public void setValue(String value) throws YangException {
+        super.setValue(value);
+        check();
+    }
+
+    /**
+     * Sets the value using a value of type java.math.BigInteger.
+     * @param value The value to set.
+     */
+    public void setValue(BigInteger value) throws YangException {
+        super.setValue(value);
+        check();
+    }
+
+    /**
+     * Checks all restrictions (if any).
+     */
+    public void check() throws YangException {
+    }
+
+}
@@ -0,0 +1,53 @@
+/* 
+ * @(#)ObjectIdentifier.java        1.0
+ *
+ * This file has been auto-generated by JNC, the
+ * Java output format plug-in of pyang.
+ * Origin: module "ietf-yang-types", revision: "2010-09-24".
+ */
+
+package com.airlenet.yang.model.ietfYangTypes;
+
+import com.tailf.jnc.YangException;
+import com.tailf.jnc.YangString;
+
+/**
+ * This class represents an element from 
+ * the namespace 
+ * generated to "s/object-identifier"
+ * <p>
+ * See line 207 in
+ * g
+ *
+ * @version 1.0
+ * @author Auto Generated
+ */
+public class ObjectIdentifier extends YangString {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor for ObjectIdentifier object from a string.
+     * @param value Value to construct the ObjectIdentifier from.
+     */
+    public ObjectIdentifier(String value) throws YangException {
+        super(value);
+        check();
+    }
+
+    /**
+     * Sets the value using a string value.
+     * @param value The value to set.
+     */
+    public void setValue(String value) throws YangException {
+        super.setValue(value);
+        check();
+    }
+
+    /**
+     * Checks all restrictions (if any).
+     */
+    public void check() throws YangException {
+    }
+
+}
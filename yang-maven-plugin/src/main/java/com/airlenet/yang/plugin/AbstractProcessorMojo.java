@@ -5,8 +5,11 @@
  */
 package com.airlenet.yang.plugin;
 
+import com.airlenet.yang.codegen.JythonPyang;
+import com.airlenet.yang.codegen.ProcessResult;
 import com.airlenet.yang.codegen.ProcessUtil;
 import com.airlenet.yang.codegen.PyangInstall;
+import com.airlenet.yang.codegen.PyangWorker;
 import com.google.common.base.Joiner;
 import org.apache.commons.io.FileUtils;
 import org.apache.maven.artifact.Artifact;
@@ -19,6 +22,7 @@ import org.sonatype.plexus.build.incremental.BuildContext;
 
 import java.io.File;
 import java.io.FileFilter;
+import java.io.IOException;
 import java.util.*;
 
 /**
@@ -106,6 +110,135 @@ public abstract class AbstractProcessorMojo extends AbstractMojo {
      */
     protected boolean ignoreErrors = false;
 
+    /**
+     * Number of yang files converted by one pyang invocation. 1 runs pyang
+     * once per file, 0 (or less) passes all files to a single invocation.
+     *
+     * @parameter
+     */
+    protected int batchSize = 1;
+
+    /**
+     * Number of pyang processes converting independent groups of yang files
+     * in parallel, defaults to the number of available processors.
+     *
+     * @parameter
+     */
+    protected int threads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Only convert yang files that changed, or whose imported modules changed,
+     * since the last build. The fingerprints are kept in
+     * target/yang-maven-plugin/codegen.manifest
+     *
+     * @parameter expression="${yang.incremental}"
+     */
+    protected boolean incremental = true;
+
+    /**
+     * Run pyang in long running worker processes, started once and shared by
+     * all modules of the build, instead of starting pyang for every
+     * invocation.
+     *
+     * @parameter expression="${yang.worker}"
+     */
+    protected boolean worker = true;
+
+    /**
+     * Run pyang in the build JVM on an embedded Jython interpreter, so no
+     * python has to be installed. Jython is installed to ~/.jython if it is
+     * missing.
+     *
+     * @parameter expression="${yang.embedded}"
+     */
+    protected boolean embedded = false;
+
+    /**
+     * Seconds a single pyang invocation may take before it is killed, 0 for
+     * no limit. Not applied to the embedded interpreter.
+     *
+     * @parameter expression="${yang.timeout}"
+     */
+    protected int timeout = 0;
+
+    /**
+     * Code generator converting the yang files: "pyang" runs the jnc plugin
+     * of pyang, "java" parses the yang files and generates the classes in
+     * the build JVM without starting an interpreter. Files the java
+     * generator rejects, and any run with extraCommands, fall back to pyang.
+     *
+     * @parameter expression="${yang.generator}"
+     */
+    protected String generator = "pyang";
+
+    /**
+     * Write the schema files in the binary format of JNC instead of XML,
+     * they keep their names and are loaded by the same generated code.
+     *
+     * @parameter expression="${yang.binarySchema}"
+     */
+    protected boolean binarySchema = false;
+
+    /**
+     * Build the schema of each module in its root class, when the schema
+     * is first registered, instead of reading a schema file at runtime.
+     *
+     * @parameter expression="${yang.staticSchema}"
+     */
+    protected boolean staticSchema = false;
+
+    /**
+     * Refer to leaves from fields of the generated classes, kept in sync with
+     * the children, so leaf getters and setters need no path lookup.
+     *
+     * @parameter expression="${yang.leafFields}"
+     */
+    protected boolean leafFields = false;
+
+    /**
+     * Generate methods encoding the leaves of the generated classes to XML
+     * without prefix lookups, and numbers without escaping.
+     *
+     * @parameter expression="${yang.marshallers}"
+     */
+    protected boolean marshallers = false;
+
+    /**
+     * Generate methods reading the leaves of the generated classes from XML
+     * streams by their typed setters, without adding them first.
+     *
+     * @parameter expression="${yang.unmarshallers}"
+     */
+    protected boolean unmarshallers = false;
+
+    /**
+     * Data node paths like /interfaces/interface. If given, only the classes
+     * and schema nodes on and below them are generated, leaves of their
+     * ancestors included. Other data of the modules can not be parsed into
+     * generated classes then.
+     *
+     * @parameter
+     */
+    protected List<String> roots;
+
+    /**
+     * Number of slowest pyang or java generator invocations logged at the end
+     * of the goal, all timings are written to target/yang-codegen-report.json
+     *
+     * @parameter
+     */
+    protected int reportSlowest = 10;
+
+    /**
+     * @parameter expression="${plugin.version}" readonly=true
+     */
+    protected String pluginVersion;
+
+    /**
+     * @parameter expression="${reactorProjects}" readonly=true
+     */
+    protected List<MavenProject> reactorProjects;
+
     /**
      * 额外命令
      *
@@ -165,15 +298,39 @@ public abstract class AbstractProcessorMojo extends AbstractMojo {
     String osName = System.getProperty("os.name");
     File python = null;
     File pythonHome = null;
+    File pyangScript = null;
     boolean windows = false;
 
     public void checkPyang() throws MojoExecutionException {
+        if (embedded) {
+            checkJython();
+            return;
+        }
         if(pyangFilePath!=null && pyangFilePath.exists()){
             return;
         }
         if (osName.startsWith("Window") || osName.startsWith("window")) {
             windows = true;
         }
+        File toolchainFile = new File(System.getProperty("user.home"), ".jnc" + File.separator + "toolchain.properties");
+        String bundle;
+        String fingerprint;
+        try {
+            bundle = PyangInstall.bundle();
+            fingerprint = Toolchain.fingerprint(pluginVersion, bundle, jythonHome);
+        } catch (IOException e) {
+            throw new MojoExecutionException(e.getMessage(), e);
+        }
+        Toolchain toolchain = Toolchain.get(fingerprint, toolchainFile);
+        if (toolchain != null) {
+            pythonUsing = toolchain.pythonUsing;
+            python = toolchain.python;
+            pythonHome = toolchain.pythonHome;
+            pyangScript = toolchain.pyangScript;
+            getLog().debug("using toolchain " + toolchain);
+            return;
+        }
+        String pyangVersion;
         try {//检测 Python
             ProcessUtil.process("python", "-V");
             pythonUsing = true;
@@ -241,7 +398,7 @@ public abstract class AbstractProcessorMojo extends AbstractMojo {
                 commandList.add(pyang.getAbsolutePath());
             }
             commandList.add("-v");
-            ProcessUtil.process(commandList);
+            pyangVersion = ProcessUtil.process(null, 0, commandList).getOutput().trim();
         } catch (Exception e) {
             try {//安装pyang
                 getLog().info("pyang is not installed. Start installation");
@@ -249,20 +406,192 @@ public abstract class AbstractProcessorMojo extends AbstractMojo {
                 if (pythonUsing) {
                     if (windows) {
                         ProcessUtil.process(pyangSource, "python", new File(pyangSource, "setup.py").getAbsolutePath(), "install");
-                        ProcessUtil.process(python.getAbsolutePath(), new File(pythonHome, "Scripts/pyang").getAbsolutePath(), "-v");
+                        pyangVersion = ProcessUtil.process(null, 0, Arrays.asList(python.getAbsolutePath(), new File(pythonHome, "Scripts/pyang").getAbsolutePath(), "-v")).getOutput().trim();
                     } else {
                         ProcessUtil.process(pyangSource, "python", new File(pyangSource, "setup.py").getAbsolutePath(), "install");
-                        ProcessUtil.process("pyang", "-v");
+                        pyangVersion = ProcessUtil.process(null, 0, Arrays.asList("pyang", "-v")).getOutput().trim();
                     }
                 } else {
                     ProcessUtil.process(pyangSource, jython.getAbsolutePath(), new File(pyangSource, "setup.py").getAbsolutePath(), "install");
-                    ProcessUtil.process(jython.getAbsolutePath(), pyang.getAbsolutePath(), "-v");
+                    pyangVersion = ProcessUtil.process(null, 0, Arrays.asList(jython.getAbsolutePath(), pyang.getAbsolutePath(), "-v")).getOutput().trim();
                 }
             } catch (Exception e1) {
                 getLog().error("install pyang fail", e1);
                 throw new MojoExecutionException(e1.getMessage(), e1);
             }
         }
+
+        List<File> files = new ArrayList<>();
+        if (pythonUsing) {
+            if (python != null) {
+                files.add(python);
+            } else if (pythonHome != null) {
+                files.add(pythonHome);
+            }
+            pyangScript = windows ? new File(pythonHome, "Scripts/pyang") : findOnPath("pyang");
+        } else {
+            files.add(jython);
+            pyangScript = pyang;
+        }
+        if (pyangScript != null) {
+            files.add(pyangScript);
+        }
+        toolchain = new Toolchain(pythonUsing, python, pythonHome, pyangScript, pyangVersion, bundle, files);
+        getLog().debug("resolved toolchain " + toolchain);
+        try {
+            Toolchain.put(fingerprint, toolchain, toolchainFile);
+        } catch (IOException e) {
+            getLog().warn("cannot write " + toolchainFile, e);
+        }
+    }
+
+    private static File findOnPath(String name) {
+        String envPath = System.getenv("PATH");
+        if (envPath != null) {
+            for (String path : envPath.split(File.pathSeparator)) {
+                File file = new File(path, name);
+                if (file.isFile()) {
+                    return file;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Installs Jython and pyang for the embedded interpreter, only looking
+     * at the installed files so no jython process is started when they exist.
+     */
+    private void checkJython() throws MojoExecutionException {
+        if (!new File(jythonHome, "jython.jar").isFile()) {
+            getLog().info("Jython is not installed. Start installation");
+            Installation.main(new String[]{"-s", "-d", jythonHome.getAbsolutePath(), "-t", "standard", "-e", "demo", "doc"});
+        }
+        if ((pyangFilePath == null || !pyangFilePath.exists()) && !pyang.isFile()) {
+            try {
+                getLog().info("pyang is not installed. Start installation");
+                PyangInstall.copy(jythonHome);
+                ProcessUtil.process(pyangSource, jython.getAbsolutePath(), new File(pyangSource, "setup.py").getAbsolutePath(), "install");
+            } catch (Exception e) {
+                getLog().error("install pyang fail", e);
+                throw new MojoExecutionException(e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * The python interpreter and the pyang script, as needed to start a
+     * pyang worker. A pyang script found on PATH is run by the interpreter
+     * of its "#!" line, which need not be the python on PATH, as for a pyang
+     * installed in a virtualenv.
+     *
+     * @return null if pyang can only be started as an executable
+     */
+    protected List<String> pyangInterpreter() {
+        if (pyangFilePath != null && pyangFilePath.exists()) {
+            List<String> interpreter = Toolchain.interpreter(pyangFilePath);
+            return withScript(interpreter != null ? interpreter : Arrays.asList("python"), pyangFilePath);
+        }
+        if (pythonUsing) {
+            if (pyangScript == null) {
+                return null;
+            }
+            if (windows) {
+                return Arrays.asList(python.getAbsolutePath(), pyangScript.getAbsolutePath());
+            }
+            List<String> interpreter = Toolchain.interpreter(pyangScript);
+            return interpreter != null ? withScript(interpreter, pyangScript) : null;
+        }
+        return Arrays.asList(jython.getAbsolutePath(), pyang.getAbsolutePath());
+    }
+
+    private static List<String> withScript(List<String> interpreter, File script) {
+        List<String> command = new ArrayList<>(interpreter);
+        command.add(script.getAbsolutePath());
+        return command;
+    }
+
+    /**
+     * Runs pyang with the given arguments on the embedded interpreter or in
+     * a pyang worker, or starts it with launcher when neither is enabled or
+     * available. The invocation is added to the report of the goal.
+     *
+     * @param files the yang files pyang is run for
+     */
+    protected ProcessResult runPyang(String goal, List<String> files, File base, List<String> launcher,
+                                     List<String> arguments) throws Exception {
+        long start = System.currentTimeMillis();
+        ProcessResult result = null;
+        try {
+            result = runPyang(base, launcher, arguments);
+            return result;
+        } finally {
+            if (result != null) {
+                getReport().invocation(goal, files, result.getWallTime(), result.getCpuTime(), false);
+            } else {
+                getReport().invocation(goal, files, System.currentTimeMillis() - start, -1, true);
+            }
+        }
+    }
+
+    private ProcessResult runPyang(File base, List<String> launcher, List<String> arguments) throws Exception {
+        ProcessResult result;
+        if (embedded) {
+            String script = pyangFilePath != null && pyangFilePath.exists() ? pyangFilePath.getAbsolutePath()
+                    : pyang.getAbsolutePath();
+            JythonPyang jythonPyang = JythonPyang.acquire(jythonHome, script);
+            try {
+                result = jythonPyang.process(arguments);
+            } finally {
+                JythonPyang.release(jythonPyang);
+            }
+        } else {
+            List<String> interpreter = worker ? pyangInterpreter() : null;
+            if (interpreter != null) {
+                PyangWorker pyangWorker = PyangWorker.acquire(interpreter, null);
+                try {
+                    result = pyangWorker.process(arguments, timeout * 1000L);
+                } finally {
+                    PyangWorker.release(pyangWorker);
+                }
+            } else {
+                List<String> command = new ArrayList<>(launcher);
+                command.addAll(arguments);
+                result = ProcessUtil.process(base, timeout * 1000L, command);
+            }
+        }
+        getLog().debug("pyang " + result);
+        return result;
+    }
+
+    protected CodegenReport getReport() {
+        return CodegenReport.of(new File(project.getBuild().getDirectory(), "yang-codegen-report.json"));
+    }
+
+    /**
+     * Writes the report and logs the slowest invocations of the goal.
+     */
+    protected void writeReport(String goal, long start) {
+        CodegenReport report = getReport();
+        report.count(goal, "wallTime", System.currentTimeMillis() - start);
+        report.logSlowest(goal, reportSlowest, getLog());
+        try {
+            report.write();
+        } catch (IOException e) {
+            getLog().warn("cannot write yang-codegen-report.json", e);
+        }
+    }
+
+    /**
+     * Stops the pyang workers and embedded interpreters once the last module
+     * of the reactor is done.
+     */
+    protected void shutdownWorkers() {
+        if (reactorProjects == null || reactorProjects.isEmpty()
+                || reactorProjects.get(reactorProjects.size() - 1) == project) {
+            PyangWorker.shutdown();
+            JythonPyang.shutdown();
+        }
     }
 
     /**
@@ -361,6 +690,30 @@ public abstract class AbstractProcessorMojo extends AbstractMojo {
         return yangList;
     }
 
+    /**
+     * All yang files matching {@link #includes} and {@link #excludes},
+     * regardless of the m2e build delta.
+     */
+    public List<String> getAllYangFileList() {
+        String[] filters = ALL_YANG_FILES_FILTER;
+        if (includes != null && !includes.isEmpty()) {
+            filters = includes.toArray(new String[includes.size()]);
+        }
+        List<String> yangList = new ArrayList<>();
+        for (File directory : getYangSourceDirectories()) {
+            Scanner scanner = buildContext.newScanner(directory, true);
+            scanner.setIncludes(filters);
+            if (excludes != null && !excludes.isEmpty()) {
+                scanner.setExcludes(excludes.toArray(new String[0]));
+            }
+            scanner.scan();
+            for (String includedFile : scanner.getIncludedFiles()) {
+                yangList.add(new File(scanner.getBasedir(), includedFile).getAbsolutePath());
+            }
+        }
+        return yangList;
+    }
+
     private List<String> getTestCompileSourceRoots() {
         @SuppressWarnings("unchecked")
         final List<String> testCompileSourceRoots = project.getTestCompileSourceRoots();
@@ -468,4 +821,60 @@ public abstract class AbstractProcessorMojo extends AbstractMojo {
         this.outputDirectory = outputDirectory;
     }
 
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    public void setWorker(boolean worker) {
+        this.worker = worker;
+    }
+
+    public void setEmbedded(boolean embedded) {
+        this.embedded = embedded;
+    }
+
+    public void setTimeout(int timeout) {
+        this.timeout = timeout;
+    }
+
+    public void setGenerator(String generator) {
+        this.generator = generator;
+    }
+
+    public void setBinarySchema(boolean binarySchema) {
+        this.binarySchema = binarySchema;
+    }
+
+    public void setStaticSchema(boolean staticSchema) {
+        this.staticSchema = staticSchema;
+    }
+
+    public void setLeafFields(boolean leafFields) {
+        this.leafFields = leafFields;
+    }
+
+    public void setMarshallers(boolean marshallers) {
+        this.marshallers = marshallers;
+    }
+
+    public void setUnmarshallers(boolean unmarshallers) {
+        this.unmarshallers = unmarshallers;
+    }
+
+    public void setRoots(List<String> roots) {
+        this.roots = roots;
+    }
+
+    public void setReactorProjects(List<MavenProject> reactorProjects) {
+        this.reactorProjects = reactorProjects;
+    }
+
 }
@@ -0,0 +1,226 @@
+package com.airlenet.yang.plugin;
+
+import org.apache.maven.plugin.logging.Log;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Timings of the pyang and java generator invocations of a project and what
+ * they generated, written to target/yang-codegen-report.json. The validate and process goals
+ * of a project add to the same report within one build.
+ */
+class CodegenReport {
+
+    private static final Map<File, CodegenReport> reports = new HashMap<>();
+
+    private final File file;
+    private final Map<String, Map<String, Long>> goals = new LinkedHashMap<>();
+    private final List<Invocation> invocations = new ArrayList<>();
+    private final Map<String, long[]> modules = new TreeMap<>();
+
+    private CodegenReport(File file) {
+        this.file = file;
+    }
+
+    /**
+     * @return the report of this build for the given file, created empty
+     * for the first goal using it
+     */
+    static synchronized CodegenReport of(File file) {
+        CodegenReport report = reports.get(file);
+        if (report == null) {
+            report = new CodegenReport(file);
+            reports.put(file, report);
+        }
+        return report;
+    }
+
+    /**
+     * Clears what an earlier execution of the goal recorded in this build.
+     */
+    synchronized void start(String goal) {
+        goals.put(goal, new LinkedHashMap<>());
+        invocations.removeIf(invocation -> invocation.goal.equals(goal));
+        if ("process".equals(goal)) {
+            modules.clear();
+        }
+    }
+
+    /**
+     * Adds to a counter of the goal, like the number of up to date files.
+     */
+    synchronized void count(String goal, String name, long value) {
+        goals.computeIfAbsent(goal, key -> new LinkedHashMap<>()).merge(name, value, Long::sum);
+    }
+
+    /**
+     * Records a pyang invocation. pyang parses and generates in one process,
+     * so the two cannot be timed apart.
+     *
+     * @param cpuTime CPU time in milliseconds, -1 if unknown
+     */
+    synchronized void invocation(String goal, List<String> files, long wallTime, long cpuTime, boolean failed) {
+        invocation(goal, files, wallTime, cpuTime, -1, -1, failed);
+    }
+
+    /**
+     * @param cpuTime CPU time in milliseconds, -1 if unknown
+     * @param parseTime milliseconds spent parsing the files, -1 if unknown
+     * @param generateTime milliseconds spent generating from them, -1 if unknown
+     */
+    synchronized void invocation(String goal, List<String> files, long wallTime, long cpuTime,
+                                 long parseTime, long generateTime, boolean failed) {
+        invocations.add(new Invocation(goal, new ArrayList<>(files), wallTime, cpuTime, parseTime, generateTime,
+                failed));
+        count(goal, failed ? "failedInvocations" : "invocations", 1);
+        count(goal, "pyangTime", wallTime);
+        if (parseTime >= 0) {
+            count(goal, "parseTime", parseTime);
+        }
+        if (generateTime >= 0) {
+            count(goal, "generateTime", generateTime);
+        }
+    }
+
+    /**
+     * Files and bytes generated for a module package, and how many of the
+     * files changed in the output directory.
+     */
+    synchronized void module(String name, long files, long bytes, long changed) {
+        long[] values = modules.computeIfAbsent(name, key -> new long[3]);
+        values[0] += files;
+        values[1] += bytes;
+        values[2] += changed;
+    }
+
+    /**
+     * Logs the slowest invocations of the goal.
+     */
+    synchronized void logSlowest(String goal, int count, Log log) {
+        List<Invocation> slowest = new ArrayList<>();
+        for (Invocation invocation : invocations) {
+            if (invocation.goal.equals(goal)) {
+                slowest.add(invocation);
+            }
+        }
+        if (count <= 0 || slowest.isEmpty()) {
+            return;
+        }
+        slowest.sort(Comparator.comparingLong((Invocation invocation) -> invocation.wallTime).reversed());
+        log.info("slowest generator invocations:");
+        for (Invocation invocation : slowest.subList(0, Math.min(count, slowest.size()))) {
+            StringBuilder line = new StringBuilder();
+            line.append(String.format("%8d ms", invocation.wallTime));
+            if (invocation.cpuTime >= 0) {
+                line.append(String.format(" (cpu %d ms)", invocation.cpuTime));
+            }
+            if (invocation.parseTime >= 0) {
+                line.append(String.format(" (parse %d ms, generate %d ms)", invocation.parseTime,
+                        invocation.generateTime));
+            }
+            if (invocation.failed) {
+                line.append(" failed");
+            }
+            for (String yangFile : invocation.files) {
+                line.append(' ').append(new File(yangFile).getName());
+            }
+            log.info(line);
+        }
+    }
+
+    synchronized void write() throws IOException {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"goals\": {");
+        String separator = "\n";
+        for (Map.Entry<String, Map<String, Long>> goal : goals.entrySet()) {
+            json.append(separator).append("    ").append(quote(goal.getKey())).append(": {");
+            String valueSeparator = "";
+            for (Map.Entry<String, Long> value : goal.getValue().entrySet()) {
+                json.append(valueSeparator).append(quote(value.getKey())).append(": ").append(value.getValue());
+                valueSeparator = ", ";
+            }
+            json.append('}');
+            separator = ",\n";
+        }
+        json.append("\n  },\n  \"modules\": [");
+        separator = "\n";
+        for (Map.Entry<String, long[]> module : modules.entrySet()) {
+            long[] values = module.getValue();
+            json.append(separator).append("    {\"package\": ").append(quote(module.getKey()))
+                    .append(", \"files\": ").append(values[0])
+                    .append(", \"bytes\": ").append(values[1])
+                    .append(", \"changed\": ").append(values[2]).append('}');
+            separator = ",\n";
+        }
+        json.append("\n  ],\n  \"invocations\": [");
+        separator = "\n";
+        for (Invocation invocation : invocations) {
+            json.append(separator).append("    {\"goal\": ").append(quote(invocation.goal))
+                    .append(", \"wallTime\": ").append(invocation.wallTime)
+                    .append(", \"cpuTime\": ").append(invocation.cpuTime)
+                    .append(", \"parseTime\": ").append(invocation.parseTime)
+                    .append(", \"generateTime\": ").append(invocation.generateTime)
+                    .append(", \"failed\": ").append(invocation.failed)
+                    .append(", \"files\": [");
+            String fileSeparator = "";
+            for (String yangFile : invocation.files) {
+                json.append(fileSeparator).append(quote(yangFile));
+                fileSeparator = ", ";
+            }
+            json.append("]}");
+            separator = ",\n";
+        }
+        json.append("\n  ]\n}\n");
+        file.getParentFile().mkdirs();
+        try (Writer writer = new OutputStreamWriter(Files.newOutputStream(file.toPath()), StandardCharsets.UTF_8)) {
+            writer.write(json.toString());
+        }
+    }
+
+    private static String quote(String string) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : string.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if (c < 0x20) {
+                quoted.append(String.format("\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    private static class Invocation {
+        final String goal;
+        final List<String> files;
+        final long wallTime;
+        final long cpuTime;
+        final long parseTime;
+        final long generateTime;
+        final boolean failed;
+
+        Invocation(String goal, List<String> files, long wallTime, long cpuTime, long parseTime, long generateTime,
+                   boolean failed) {
+            this.goal = goal;
+            this.files = files;
+            this.wallTime = wallTime;
+            this.cpuTime = cpuTime;
+            this.parseTime = parseTime;
+            this.generateTime = generateTime;
+            this.failed = failed;
+        }
+    }
+}
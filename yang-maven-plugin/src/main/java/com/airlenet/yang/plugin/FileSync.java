@@ -11,6 +11,8 @@ import org.apache.commons.io.FileUtils;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -19,13 +21,25 @@ import java.util.Set;
 public class FileSync {
 
     public static void syncFiles(File source, File target) throws IOException {
+        syncFiles(source, target, new ArrayList<File>(), true);
+    }
+
+    /**
+     * Moves the files of source to target, files with unchanged content are
+     * left untouched.
+     *
+     * @param changed receives the target files that were written or deleted
+     * @param delete  whether files missing in source are deleted from target
+     */
+    public static void syncFiles(File source, File target, List<File> changed, boolean delete) throws IOException {
         Set<String> sourceFiles = Sets.newHashSet(source.list());
+        target.mkdirs();
         Set<String> targetFiles = Sets.newHashSet(target.list());
 
         // remove files from target that are not in source
         for (String targetFile : targetFiles) {
-            if (!sourceFiles.contains(targetFile)) {
-                deleteFile(new File(target, targetFile));
+            if (delete && !sourceFiles.contains(targetFile)) {
+                deleteFile(new File(target, targetFile), changed);
             }
         }
 
@@ -33,18 +47,19 @@ public class FileSync {
             File file = new File(source, sourceFile);
             File file2 = new File(target, sourceFile);
             if (file.isFile()) {
-                copyIfChanged(file, file2);
+                if (copyIfChanged(file, file2)) {
+                    changed.add(file2);
+                }
             } else {
-                file2.mkdir();
-                syncFiles(file, file2);
+                syncFiles(file, file2, changed, delete);
             }
         }
     }
 
-    private static void copyIfChanged(File source, File target) throws IOException {
+    private static boolean copyIfChanged(File source, File target) throws IOException {
         if (target.exists()) {
             if (source.length() == target.length() && FileUtils.checksumCRC32(source) == FileUtils.checksumCRC32(target)) {
-                return;
+                return false;
             } else {
                 target.delete();
             }
@@ -52,13 +67,15 @@ public class FileSync {
         if (!source.renameTo(target)) {
             Files.move(source, target);
         }
+        return true;
     }
 
-    private static void deleteFile(File file) throws IOException {
+    static void deleteFile(File file, List<File> changed) throws IOException {
         if (file.isDirectory()) {
+            changed.addAll(FileUtils.listFiles(file, null, true));
             FileUtils.deleteDirectory(file);
-        } else {
-            file.delete();
+        } else if (file.delete()) {
+            changed.add(file);
         }
     }
 
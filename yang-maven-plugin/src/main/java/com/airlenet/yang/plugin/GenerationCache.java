@@ -0,0 +1,190 @@
+package com.airlenet.yang.plugin;
+
+import com.airlenet.yang.codegen.JncNames;
+import com.airlenet.yang.codegen.YangDependencyGraph;
+import com.airlenet.yang.codegen.YangModule;
+import com.airlenet.yang.codegen.YangModuleScanner;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Files;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Manifest of the yang files converted by a previous build. Each file is
+ * stored with a fingerprint of its own content and the content of all modules
+ * it imports or includes, directly or indirectly. The fingerprints are dropped
+ * as a whole when the generator options changed. The manifest also lists the
+ * module packages generated so far and the packages of the modules found by
+ * the last scan, to prune those of removed modules.
+ */
+class GenerationCache {
+
+    private static final String OPTIONS_KEY = "options";
+    private static final String PACKAGES_KEY = "packages";
+    private static final String MODULES_KEY = "modules";
+
+    private final File file;
+    private final Properties entries = new Properties();
+    private final YangDependencyGraph graph;
+    private final Map<String, String> fingerprints = new LinkedHashMap<>();
+
+    private GenerationCache(File file, YangDependencyGraph graph) {
+        this.file = file;
+        this.graph = graph;
+    }
+
+    /**
+     * @param file    manifest file, need not exist
+     * @param options fingerprint of the generator and its options
+     * @param graph   modules that may be imported or included
+     */
+    static GenerationCache load(File file, String options, YangDependencyGraph graph) throws IOException {
+        GenerationCache cache = new GenerationCache(file, graph);
+        if (file.exists()) {
+            try (InputStream in = new FileInputStream(file)) {
+                cache.entries.load(in);
+            }
+            if (!options.equals(cache.entries.getProperty(OPTIONS_KEY))) {
+                cache.clear();
+            }
+        }
+        cache.entries.setProperty(OPTIONS_KEY, options);
+        return cache;
+    }
+
+    /**
+     * @return the files whose fingerprint differs from the manifest
+     */
+    List<String> changed(Collection<String> yangFiles) throws IOException {
+        List<String> changed = new ArrayList<>();
+        for (String yangFile : yangFiles) {
+            String fingerprint = fingerprint(yangFile);
+            fingerprints.put(yangFile, fingerprint);
+            if (!fingerprint.equals(entries.getProperty(yangFile))) {
+                changed.add(yangFile);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Records the current fingerprint of converted files.
+     */
+    void update(Collection<String> yangFiles) throws IOException {
+        for (String yangFile : yangFiles) {
+            String fingerprint = fingerprints.get(yangFile);
+            entries.setProperty(yangFile, fingerprint != null ? fingerprint : fingerprint(yangFile));
+        }
+    }
+
+    /**
+     * Forgets the files that have been deleted.
+     */
+    void prune() {
+        for (String key : entries.stringPropertyNames()) {
+            if (!OPTIONS_KEY.equals(key) && !PACKAGES_KEY.equals(key) && !MODULES_KEY.equals(key)
+                    && !new File(key).exists()) {
+                entries.remove(key);
+            }
+        }
+    }
+
+    /**
+     * @return names of the module packages generated below the package
+     * directory in the output directory
+     */
+    Set<String> getPackages() {
+        return getNames(PACKAGES_KEY);
+    }
+
+    void setPackages(Set<String> packages) {
+        entries.setProperty(PACKAGES_KEY, String.join(",", packages));
+    }
+
+    /**
+     * Records the packages of the modules in the graph and returns the
+     * generated packages whose module was in the graph of an earlier build
+     * but is gone now. Packages of modules that were never in the graph, as
+     * those generated for modules pyang finds in its own module directory,
+     * are never returned.
+     */
+    Set<String> removedPackages() {
+        Set<String> modulePackages = new TreeSet<>();
+        for (YangModule module : graph.getModules()) {
+            if (!module.isSubmodule()) {
+                modulePackages.add(JncNames.camelize(module.getName()));
+            }
+        }
+        Set<String> removed = getNames(MODULES_KEY);
+        removed.removeAll(modulePackages);
+        removed.retainAll(getPackages());
+        entries.setProperty(MODULES_KEY, String.join(",", modulePackages));
+        return removed;
+    }
+
+    private Set<String> getNames(String key) {
+        Set<String> names = new TreeSet<>();
+        for (String name : entries.getProperty(key, "").split(",")) {
+            if (!name.isEmpty()) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Forgets the fingerprints, all files are reported as changed.
+     */
+    void clear() {
+        String options = entries.getProperty(OPTIONS_KEY);
+        String packages = entries.getProperty(PACKAGES_KEY);
+        String modules = entries.getProperty(MODULES_KEY);
+        entries.clear();
+        entries.setProperty(OPTIONS_KEY, options);
+        if (packages != null) {
+            entries.setProperty(PACKAGES_KEY, packages);
+        }
+        if (modules != null) {
+            entries.setProperty(MODULES_KEY, modules);
+        }
+    }
+
+    void save() throws IOException {
+        file.getParentFile().mkdirs();
+        try (OutputStream out = new FileOutputStream(file)) {
+            entries.store(out, "yang-maven-plugin generated files");
+        }
+    }
+
+    private String fingerprint(String yangFile) throws IOException {
+        File file = new File(yangFile);
+        Hasher hasher = Hashing.sha1().newHasher();
+        hasher.putBytes(Files.toByteArray(file));
+        YangModule module = graph.getModule(file);
+        if (module == null) {
+            module = YangModuleScanner.scan(file);
+        }
+        for (String name : graph.dependencies(module)) {
+            YangModule dependency = graph.getModule(name);
+            hasher.putUnencodedChars(name);
+            if (dependency != null) {
+                hasher.putBytes(Files.toByteArray(dependency.getFile()));
+            }
+        }
+        return hasher.hash().toString();
+    }
+}
@@ -6,13 +6,37 @@
 package com.airlenet.yang.plugin;
 
 import com.airlenet.yang.codegen.IOUtil;
-import com.airlenet.yang.codegen.ProcessUtil;
+import com.airlenet.yang.codegen.YangDependencyGraph;
+import com.airlenet.yang.codegen.YangModuleGroups;
+import com.airlenet.yang.codegen.jnc.JncGenerator;
+import com.airlenet.yang.codegen.yang.Statement;
+import com.airlenet.yang.codegen.yang.YangContext;
+import com.airlenet.yang.codegen.yang.YangModelException;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.maven.plugin.MojoExecutionException;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -25,6 +49,14 @@ import java.util.stream.Collectors;
  */
 public class ProcessorAnnotationMojo extends AbstractProcessorMojo {
 
+    private static final Pattern MODULE_ERROR = Pattern.compile("(\\S+) contains errors");
+
+    private final Set<String> failedFiles = ConcurrentHashMap.newKeySet();
+
+    private YangDependencyGraph graph;
+
+    private boolean pyangChecked;
+
     public void execute() throws MojoExecutionException {
         if (getOutputDirectory() == null) {
             return;
@@ -36,97 +68,492 @@ public class ProcessorAnnotationMojo extends AbstractProcessorMojo {
         if (!getOutputDirectory().exists()) {
             getOutputDirectory().mkdirs();
         }
-        checkPyang();
 
         getLog().debug("Using build context: " + buildContext);
         List<String> yangImportRoots = getYangImportRoots();
 
         File yangSourceRoot = getYangSourceRoot();
+        long start = System.currentTimeMillis();
+        CodegenReport report = getReport();
+        report.start("process");
 
         try {
             List<String> yangList = getYangFileList();
+            report.count("process", "yangFiles", yangList.size());
+            List<File> yangRoots = new ArrayList<>();
+            yangRoots.add(yangSourceRoot);
+            for (String importRoot : yangImportRoots) {
+                yangRoots.add(new File(importRoot));
+            }
+            graph = YangDependencyGraph.scan(yangRoots);
 
-            StringBuilder builder = new StringBuilder();
-            builder.append(yangSourceRoot.getAbsolutePath());
-            for (String importFile : yangImportRoots) {
-                builder.append(System.getProperty("path.separator"));
-                builder.append(importFile);
-            }
-            String path = builder.toString();
-
-            getLog().info("Total " + yangList.size() + " yang files to be converter");
-            String jncHome = null;
-            if(jncHomeDirectory==null){
-                jncHome = System.getProperty("user.home") + File.separator + ".jnc";
-                String jnc = jncHome + File.separator + "jnc.py";
-                if (!new File(jncHome).exists()) {
-                    new File(jncHome).mkdirs();
+            GenerationCache cache = GenerationCache.load(new File(getWorkDirectory(), "codegen.manifest"),
+                    optionsFingerprint(), graph);
+            String[] generated = getOutputDirectory().list();
+            if (generated == null || generated.length == 0) {
+                cache.clear();
+            }
+            if (incremental) {
+                List<String> changed = cache.changed(yangList);
+                getLog().info((yangList.size() - changed.size()) + " of " + yangList.size() + " yang files up to date");
+                report.count("process", "upToDate", yangList.size() - changed.size());
+                yangList = changed;
+            }
+            List<File> changedFiles = new ArrayList<>();
+            if (!yangList.isEmpty()) {
+                yangList = withDependents(yangList);
+                if (!"java".equals(generator)) {
+                    ensurePyang();
                 }
-                if (new File(jnc).exists()) {
-                    new File(jnc).delete();
-                    new File(jncHome + File.separator + "jnc.pyc").delete();
+
+                StringBuilder builder = new StringBuilder();
+                builder.append(yangSourceRoot.getAbsolutePath());
+                for (String importFile : yangImportRoots) {
+                    builder.append(System.getProperty("path.separator"));
+                    builder.append(importFile);
+                }
+                String path = builder.toString();
+
+                getLog().info("Total " + yangList.size() + " yang files to be converter");
+                String jncHome = jncHome();
+                getLog().info("pyang -f jnc --plugindir " + jncHome + " --jnc-output " + getOutputDirectory().getAbsolutePath() + "/" + packageName + " --jnc-prefix " + prefix + " -p " + path + " --jnc-classpath-schema-loading" + (binarySchema ? " --jnc-binary-schema" : "")
+                        + (staticSchema ? " --jnc-static-schema" : "") + (leafFields ? " --jnc-leaf-fields" : "")
+                        + (marshallers ? " --jnc-marshallers" : "") + (unmarshallers ? " --jnc-unmarshallers" : "")
+                        + (roots != null && !roots.isEmpty() ? " --jnc-root " + String.join(" --jnc-root ", roots) : ""));
+                getLog().info("total yang file " + yangList.size());
+                List<List<String>> groups = YangModuleGroups.partition(graph, yangList, threads);
+                List<File> stagingDirectories;
+                if (groups.size() <= 1) {
+                    File stagingDirectory = new File(getWorkDirectory(), "staging" + File.separator + "java");
+                    FileUtils.deleteDirectory(stagingDirectory);
+                    stagingDirectory.mkdirs();
+                    convert(yangList, jncHome, path, stagingDirectory);
+                    stagingDirectories = Collections.singletonList(stagingDirectory);
+                } else {
+                    stagingDirectories = convertParallel(groups, jncHome, path);
                 }
-                IOUtil.cp(getClass().getClassLoader().getResourceAsStream("jnc.py"), jnc);
-            }else{
-                jncHome = jncHomeDirectory.getAbsolutePath();
-            }
-            getLog().info("pyang -f jnc --plugindir " + jncHome + " --jnc-output " + getOutputDirectory().getAbsolutePath() + "/" + packageName + " --jnc-prefix " + prefix + " -p " + path + " --jnc-classpath-schema-loading");
-            int count =yangList.size();
-            getLog().info("total yang file "+ count);
-            int i=0;
-            for (String yangfile : yangList) {
-                getLog().info("convert yang file ("+(++i)+"/"+count+")" + yangfile);
+                publish(stagingDirectories, cache, changedFiles);
+
+                List<String> converted = new ArrayList<>(yangList);
+                converted.removeAll(failedFiles);
+                cache.update(converted);
+                report.count("process", "converted", converted.size());
+                report.count("process", "failed", yangList.size() - converted.size());
+            }
+            prunePackages(cache, changedFiles);
+            cache.prune();
+            cache.save();
+
+            getLog().info(changedFiles.size() + " generated files changed");
+            for (File file : changedFiles) {
+                buildContext.refresh(file);
+            }
+        } catch (Exception e) {
+            getLog().error("execute error", e);
+            throw new MojoExecutionException(e.getMessage(), e);
+        } finally {
+            shutdownWorkers();
+            writeReport("process", start);
+        }
+    }
+
+    /**
+     * Adds the yang files that import or include one of the changed files,
+     * directly or indirectly, as their generated code may change too.
+     */
+    private List<String> withDependents(List<String> changed) {
+        Set<File> changedFiles = new LinkedHashSet<>();
+        for (String yangfile : changed) {
+            changedFiles.add(new File(yangfile));
+        }
+        Set<File> dependents = graph.dependents(changedFiles);
+        Set<String> result = new LinkedHashSet<>(changed);
+        for (String yangfile : getAllYangFileList()) {
+            if (dependents.contains(new File(yangfile).getAbsoluteFile()) && result.add(yangfile)) {
+                getLog().debug("convert dependent yang file " + yangfile);
+            }
+        }
+        return new ArrayList<>(result);
+    }
+
+    /**
+     * Checks the python and pyang installation once, when the first file is
+     * converted by pyang.
+     */
+    private synchronized void ensurePyang() throws MojoExecutionException {
+        if (!pyangChecked) {
+            checkPyang();
+            pyangChecked = true;
+        }
+    }
+
+    private String jncHome() {
+        if (jncHomeDirectory != null) {
+            return jncHomeDirectory.getAbsolutePath();
+        }
+        String jncHome = System.getProperty("user.home") + File.separator + ".jnc";
+        String jnc = jncHome + File.separator + "jnc.py";
+        if (!new File(jncHome).exists()) {
+            new File(jncHome).mkdirs();
+        }
+        if (new File(jnc).exists()) {
+            new File(jnc).delete();
+            new File(jncHome + File.separator + "jnc.pyc").delete();
+        }
+        IOUtil.cp(getClass().getClassLoader().getResourceAsStream("jnc.py"), jnc);
+        return jncHome;
+    }
+
+    /**
+     * Fingerprint of everything besides the yang files that affects the
+     * generated code: plugin version, jnc.py and the generator options.
+     */
+    private String optionsFingerprint() throws IOException {
+        Hasher hasher = Hashing.sha1().newHasher();
+        hasher.putUnencodedChars(String.valueOf(pluginVersion));
+        if (jncHomeDirectory != null) {
+            hasher.putBytes(com.google.common.io.Files.toByteArray(new File(jncHomeDirectory, "jnc.py")));
+        } else {
+            try (InputStream in = getClass().getClassLoader().getResourceAsStream("jnc.py")) {
+                hasher.putBytes(IOUtils.toByteArray(in));
+            }
+        }
+        hasher.putUnencodedChars(getOutputDirectory().getAbsolutePath())
+                .putUnencodedChars(packageName)
+                .putUnencodedChars(prefix)
+                .putBoolean(ignoreErrors)
+                .putUnencodedChars(String.valueOf(generator))
+                .putBoolean(binarySchema)
+                .putBoolean(staticSchema)
+                .putBoolean(leafFields)
+                .putBoolean(marshallers)
+                .putBoolean(unmarshallers)
+                .putUnencodedChars(String.valueOf(roots))
+                .putUnencodedChars(String.valueOf(extraCommands));
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Converts the yang files of a group, batchSize files per pyang
+     * invocation, generating into outputDirectory.
+     */
+    private void convert(List<String> yangList, String jncHome, String path, File outputDirectory) throws Exception {
+        int count = yangList.size();
+        int size = batchSize > 0 ? batchSize : Math.max(count, 1);
+        for (int i = 0; i < count; i += size) {
+            List<String> batch = yangList.subList(i, Math.min(i + size, count));
+            if (batch.size() == 1) {
+                getLog().info("convert yang file (" + (i + 1) + "/" + count + ")" + batch.get(0));
+            } else {
+                getLog().info("convert yang files (" + (i + 1) + "-" + (i + batch.size()) + "/" + count + ")");
+            }
+            convertBatch(batch, jncHome, path, outputDirectory);
+        }
+    }
+
+    /**
+     * Converts each group in its own pyang process. Groups generate into
+     * separate staging directories, so modules imported by several groups
+     * never get written concurrently.
+     *
+     * @return the staging directories
+     */
+    private List<File> convertParallel(List<List<String>> groups, String jncHome, String path) throws Exception {
+        getLog().info("convert yang files with " + groups.size() + " threads");
+        ExecutorService executor = Executors.newFixedThreadPool(groups.size());
+        try {
+            List<Future<File>> futures = new ArrayList<>();
+            for (int i = 0; i < groups.size(); i++) {
+                final List<String> group = groups.get(i);
+                final File workerDirectory = new File(getWorkDirectory(), "worker-" + i + File.separator + "java");
+                FileUtils.deleteDirectory(workerDirectory);
+                workerDirectory.mkdirs();
+                futures.add(executor.submit(() -> {
+                    convert(group, jncHome, path, workerDirectory);
+                    return workerDirectory;
+                }));
+            }
+            List<File> workerDirectories = new ArrayList<>();
+            for (Future<File> future : futures) {
                 try {
-                    List<String> command = new ArrayList<>();
-                    if(pyangFilePath!=null && pyangFilePath.exists()){
-                        jython = null;
-                        command.add("python");
-                        command.add(pyangFilePath.getAbsolutePath());
-                    }else{
-                        if (pythonUsing) {
-                            jython = null;
-                            if (windows) {
-                                command.add(python.getAbsolutePath());
-                                command.add(new File(pythonHome, "Scripts/pyang").getAbsolutePath());
-                            } else {
-                                command.add("pyang");
-                            }
-                        } else {
-                            command.add(pyang.getAbsolutePath());
-                        }
+                    workerDirectories.add(future.get());
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof Exception) {
+                        throw (Exception) e.getCause();
                     }
+                    throw e;
+                }
+            }
+            return workerDirectories;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 
-                    command.add("-f");
-                    command.add("jnc");
-                    command.add("--plugindir");
-                    command.add(jncHome);
-                    command.add("--jnc-output");
-                    command.add(getOutputDirectory().getAbsolutePath() + "/" + packageName);
-                    command.add("--jnc-prefix");
-                    command.add(prefix);
-                    if(ignoreErrors)
-                    command.add("--ignore-errors");
-                    if(extraCommands!=null){
-                        command.addAll(extraCommands);
+    /**
+     * Moves the generated module packages from the staging directories to the
+     * output directory. Files whose content did not change keep their
+     * timestamp, so the compiler does not see them as modified.
+     */
+    private void publish(List<File> stagingDirectories, GenerationCache cache, List<File> changedFiles) throws IOException {
+        String packagePath = packageName.replace('.', File.separatorChar);
+        File target = new File(getOutputDirectory(), packagePath);
+        Set<String> packages = new TreeSet<>(cache.getPackages());
+        for (File stagingDirectory : stagingDirectories) {
+            File[] modulePackages = new File(stagingDirectory, packagePath).listFiles(File::isDirectory);
+            if (modulePackages != null) {
+                for (File modulePackage : modulePackages) {
+                    long bytes = 0;
+                    Collection<File> files = FileUtils.listFiles(modulePackage, null, true);
+                    for (File file : files) {
+                        bytes += file.length();
                     }
-                    command.add("-p");
-                    command.add(path);
-                    command.add("--jnc-classpath-schema-loading");
-//                    command.add("--lax-quote-checks");
-                    command.add(yangfile);
-                    getLog().debug(command.stream().collect(Collectors.joining(" ")));
-//                    getLog().debug(String.join(" ", command));
-                    ProcessUtil.process(jython, command);
-                } catch (Exception e) {
-                    getLog().error("convert yang file error  ("+i+"/"+count+")" + yangfile, e);
-                    if (errorAbort)
-                        throw e;
+                    int changed = changedFiles.size();
+                    FileSync.syncFiles(modulePackage, new File(target, modulePackage.getName()), changedFiles, false);
+                    packages.add(modulePackage.getName());
+                    getReport().module(modulePackage.getName(), files.size(), bytes, changedFiles.size() - changed);
                 }
             }
+            FileUtils.deleteDirectory(stagingDirectory.getParentFile());
+        }
+        cache.setPackages(packages);
+    }
+
+    /**
+     * Deletes the generated packages of modules that no longer exist. Only
+     * modules found below the yang source and import roots by an earlier
+     * build count, so the packages pyang generates for the modules it
+     * resolves elsewhere are kept.
+     */
+    private void prunePackages(GenerationCache cache, List<File> changedFiles) throws IOException {
+        File target = new File(getOutputDirectory(), packageName.replace('.', File.separatorChar));
+        Set<String> packages = new TreeSet<>(cache.getPackages());
+        for (String modulePackage : cache.removedPackages()) {
+            getLog().info("delete generated package of removed module " + modulePackage);
+            FileSync.deleteFile(new File(target, modulePackage), changedFiles);
+            packages.remove(modulePackage);
+        }
+        cache.setPackages(packages);
+    }
+
+    private File getWorkDirectory() {
+        return new File(project.getBuild().getDirectory(), "yang-maven-plugin");
+    }
+
+    /**
+     * Converts a batch of yang files with one pyang invocation. When the batch
+     * fails, the files named in the error output are reported and the rest
+     * of the batch is converted again; if no file can be blamed the batch
+     * falls back to one invocation per file.
+     */
+    private void convertBatch(List<String> batch, String jncHome, String path, File outputDirectory) throws Exception {
+        try {
+            List<File> batchFiles = new ArrayList<>();
+            for (String yangfile : batch) {
+                batchFiles.add(new File(yangfile));
+            }
+            List<String> searchPath = graph.searchPath(batchFiles);
+            boolean converted = searchPath != null
+                    ? convertInJava(batch, String.join(File.pathSeparator, searchPath), true, outputDirectory)
+                    : convertInJava(batch, path, false, outputDirectory);
+            if (converted) {
+                return;
+            }
+            ensurePyang();
+            List<String> arguments;
+            if (searchPath != null) {
+                arguments = pyangArguments(jncHome, String.join(File.pathSeparator, searchPath), outputDirectory);
+                arguments.add("--no-path-recurse");
+            } else {
+                arguments = pyangArguments(jncHome, path, outputDirectory);
+            }
+            arguments.addAll(batch);
+            getLog().debug(arguments.stream().collect(Collectors.joining(" ")));
+            runPyang("process", batch, processBase(), pyangLauncher(), arguments);
         } catch (Exception e) {
-            getLog().error("execute error", e);
-            throw new MojoExecutionException(e.getMessage(), e);
+            if (batch.size() == 1) {
+                getLog().error("convert yang file error " + batch.get(0), e);
+                failedFiles.add(batch.get(0));
+                if (errorAbort)
+                    throw e;
+                return;
+            }
+            Set<String> failed = failedFiles(e.getMessage(), batch);
+            if (failed.isEmpty()) {
+                getLog().warn("convert yang files error, converting " + batch.size() + " files one by one");
+                for (String yangfile : batch) {
+                    convertBatch(Collections.singletonList(yangfile), jncHome, path, outputDirectory);
+                }
+                return;
+            }
+            for (String yangfile : failed) {
+                getLog().error("convert yang file error " + yangfile);
+            }
+            failedFiles.addAll(failed);
+            if (errorAbort)
+                throw e;
+            getLog().debug(e.getMessage());
+            List<String> rest = new ArrayList<>(batch);
+            rest.removeAll(failed);
+            if (!rest.isEmpty()) {
+                convertBatch(rest, jncHome, path, outputDirectory);
+            }
         }
     }
 
+    /**
+     * Converts a batch of yang files with the java generator, when it is
+     * selected and no extraCommands are given.
+     *
+     * @return false if the batch has to be converted by pyang
+     */
+    private boolean convertInJava(List<String> batch, String path, boolean noPathRecurse, File outputDirectory) {
+        if (!"java".equals(generator) || (extraCommands != null && !extraCommands.isEmpty())) {
+            return false;
+        }
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        long cpuTime = threadBean.isCurrentThreadCpuTimeSupported() ? threadBean.getCurrentThreadCpuTime() : -1;
+        long start = System.currentTimeMillis();
+        long parseTime;
+        long generateTime;
+        try {
+            YangContext context = new YangContext(path, noPathRecurse);
+            List<Statement> modules = new ArrayList<>();
+            for (String yangfile : batch) {
+                Statement module = context.addModule(new File(yangfile));
+                if (module == null) {
+                    throw new YangModelException(yangfile + " contains errors");
+                }
+                modules.add(module);
+            }
+            parseTime = System.currentTimeMillis() - start;
+            JncGenerator generator = new JncGenerator(context,
+                    outputDirectory.getAbsolutePath() + "/" + packageName, prefix, true);
+            generator.setBinarySchema(binarySchema);
+            generator.setStaticSchema(staticSchema);
+            generator.setLeafFields(leafFields);
+            generator.setMarshallers(marshallers);
+            generator.setUnmarshallers(unmarshallers);
+            generator.setRoots(roots);
+            generator.generate(modules);
+            generateTime = System.currentTimeMillis() - start - parseTime;
+        } catch (IOException | RuntimeException e) {
+            getLog().info("java generator cannot convert " + batch + ", using pyang: " + e.getMessage());
+            getReport().count("process", "javaFallbacks", 1);
+            return false;
+        }
+        if (cpuTime >= 0) {
+            cpuTime = (threadBean.getCurrentThreadCpuTime() - cpuTime) / 1000000;
+        }
+        getReport().invocation("process", batch, System.currentTimeMillis() - start, cpuTime,
+                parseTime, generateTime, false);
+        return true;
+    }
+
+    private List<String> pyangLauncher() {
+        List<String> command = new ArrayList<>();
+        if (pyangFilePath != null && pyangFilePath.exists()) {
+            command.add("python");
+            command.add(pyangFilePath.getAbsolutePath());
+        } else {
+            if (pythonUsing) {
+                if (windows) {
+                    command.add(python.getAbsolutePath());
+                    command.add(new File(pythonHome, "Scripts/pyang").getAbsolutePath());
+                } else {
+                    command.add("pyang");
+                }
+            } else {
+                command.add(pyang.getAbsolutePath());
+            }
+        }
+        return command;
+    }
+
+    private List<String> pyangArguments(String jncHome, String path, File outputDirectory) {
+        List<String> command = new ArrayList<>();
+        command.add("-f");
+        command.add("jnc");
+        command.add("--plugindir");
+        command.add(jncHome);
+        command.add("--jnc-output");
+        command.add(outputDirectory.getAbsolutePath() + "/" + packageName);
+        command.add("--jnc-prefix");
+        command.add(prefix);
+        if (ignoreErrors)
+            command.add("--ignore-errors");
+        if (extraCommands != null) {
+            command.addAll(extraCommands);
+        }
+        command.add("-p");
+        command.add(path);
+        command.add("--jnc-classpath-schema-loading");
+        if (binarySchema) {
+            command.add("--jnc-binary-schema");
+        }
+        if (staticSchema) {
+            command.add("--jnc-static-schema");
+        }
+        if (leafFields) {
+            command.add("--jnc-leaf-fields");
+        }
+        if (marshallers) {
+            command.add("--jnc-marshallers");
+        }
+        if (unmarshallers) {
+            command.add("--jnc-unmarshallers");
+        }
+        if (roots != null) {
+            for (String root : roots) {
+                command.add("--jnc-root");
+                command.add(root);
+            }
+        }
+//        command.add("--lax-quote-checks");
+        return command;
+    }
+
+    /**
+     * pyang runs in the jython bin directory when it is started by jython
+     */
+    private File processBase() {
+        if ((pyangFilePath != null && pyangFilePath.exists()) || pythonUsing) {
+            return null;
+        }
+        return jython.getParentFile();
+    }
+
+    /**
+     * Picks the files of a batch that pyang blamed in its error output, either
+     * by an "file:line: error: ..." line or by jnc's "module contains errors".
+     */
+    static Set<String> failedFiles(String error, List<String> batch) {
+        Set<String> failed = new LinkedHashSet<>();
+        if (error == null) {
+            return failed;
+        }
+        for (String line : error.split("\\r?\\n")) {
+            Matcher matcher = MODULE_ERROR.matcher(line.trim());
+            String module = matcher.matches() ? matcher.group(1) : null;
+            for (String yangfile : batch) {
+                if (line.startsWith(yangfile + ":") && line.contains(": error: ")) {
+                    failed.add(yangfile);
+                } else if (module != null && module.equals(moduleName(yangfile))) {
+                    failed.add(yangfile);
+                }
+            }
+        }
+        return failed;
+    }
+
+    private static String moduleName(String yangfile) {
+        String name = new File(yangfile).getName();
+        int end = name.indexOf('@');
+        if (end < 0) {
+            end = name.lastIndexOf('.');
+        }
+        return end < 0 ? name : name.substring(0, end);
+    }
+
+
 }
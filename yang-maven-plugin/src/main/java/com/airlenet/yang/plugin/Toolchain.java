@@ -0,0 +1,198 @@
+package com.airlenet.yang.plugin;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * The python or jython installation and the pyang found by
+ * {@link AbstractProcessorMojo#checkPyang()}. Probing starts several
+ * processes, so the result is kept for the build and stored in
+ * ~/.jnc/toolchain.properties for later builds.
+ * <p>
+ * A toolchain is identified by a fingerprint of everything the probing
+ * depends on: plugin version, pyang bundle, operating system, PATH and the
+ * jython directory. A stored toolchain is only used while the interpreter
+ * and pyang script it found have the same size and modification time.
+ */
+class Toolchain {
+
+    private static final Map<String, Toolchain> toolchains = new HashMap<>();
+
+    final boolean pythonUsing;
+    final File python;
+    final File pythonHome;
+    final File pyangScript;
+    final String pyangVersion;
+    final String bundle;
+    private final List<File> files;
+
+    Toolchain(boolean pythonUsing, File python, File pythonHome, File pyangScript, String pyangVersion, String bundle,
+              List<File> files) {
+        this.pythonUsing = pythonUsing;
+        this.python = python;
+        this.pythonHome = pythonHome;
+        this.pyangScript = pyangScript;
+        this.pyangVersion = pyangVersion;
+        this.bundle = bundle;
+        this.files = files;
+    }
+
+    /**
+     * @return fingerprint of the environment the toolchain is probed in
+     */
+    static String fingerprint(String pluginVersion, String bundle, File jythonHome) {
+        Hasher hasher = Hashing.sha1().newHasher();
+        hasher.putString(String.valueOf(pluginVersion), StandardCharsets.UTF_8);
+        hasher.putString("\n" + bundle, StandardCharsets.UTF_8);
+        hasher.putString("\n" + System.getProperty("os.name"), StandardCharsets.UTF_8);
+        hasher.putString("\n" + System.getenv("PATH"), StandardCharsets.UTF_8);
+        hasher.putString("\n" + jythonHome.getAbsolutePath(), StandardCharsets.UTF_8);
+        return hasher.hash().toString();
+    }
+
+    /**
+     * @return the toolchain resolved for the fingerprint in this build or a
+     * previous one, null if it has to be probed
+     */
+    static synchronized Toolchain get(String fingerprint, File file) {
+        Toolchain toolchain = toolchains.get(fingerprint);
+        if (toolchain != null) {
+            return toolchain;
+        }
+        if (!file.isFile()) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = new FileInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            return null;
+        }
+        if (!fingerprint.equals(properties.getProperty("fingerprint"))) {
+            return null;
+        }
+        List<File> files = new ArrayList<>();
+        for (String path : properties.getProperty("files", "").split(File.pathSeparator)) {
+            if (!path.isEmpty()) {
+                files.add(new File(path));
+            }
+        }
+        if (!stamp(files).equals(properties.getProperty("stamp"))) {
+            return null;
+        }
+        toolchain = new Toolchain(Boolean.parseBoolean(properties.getProperty("pythonUsing")),
+                file(properties.getProperty("python")), file(properties.getProperty("pythonHome")),
+                file(properties.getProperty("pyangScript")), properties.getProperty("pyangVersion"),
+                properties.getProperty("bundle"), files);
+        toolchains.put(fingerprint, toolchain);
+        return toolchain;
+    }
+
+    /**
+     * Keeps the toolchain for this build and stores it in file.
+     */
+    static synchronized void put(String fingerprint, Toolchain toolchain, File file) throws IOException {
+        toolchains.put(fingerprint, toolchain);
+        Properties properties = new Properties();
+        properties.setProperty("fingerprint", fingerprint);
+        properties.setProperty("pythonUsing", String.valueOf(toolchain.pythonUsing));
+        if (toolchain.python != null) {
+            properties.setProperty("python", toolchain.python.getAbsolutePath());
+        }
+        if (toolchain.pythonHome != null) {
+            properties.setProperty("pythonHome", toolchain.pythonHome.getAbsolutePath());
+        }
+        if (toolchain.pyangScript != null) {
+            properties.setProperty("pyangScript", toolchain.pyangScript.getAbsolutePath());
+        }
+        if (toolchain.pyangVersion != null) {
+            properties.setProperty("pyangVersion", toolchain.pyangVersion);
+        }
+        if (toolchain.bundle != null) {
+            properties.setProperty("bundle", toolchain.bundle);
+        }
+        StringBuilder files = new StringBuilder();
+        for (File toolchainFile : toolchain.files) {
+            if (files.length() > 0) {
+                files.append(File.pathSeparator);
+            }
+            files.append(toolchainFile.getAbsolutePath());
+        }
+        properties.setProperty("files", files.toString());
+        properties.setProperty("stamp", stamp(toolchain.files));
+        file.getParentFile().mkdirs();
+        File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+        try (OutputStream out = new FileOutputStream(temp)) {
+            properties.store(out, "yang-maven-plugin toolchain");
+        }
+        if (!temp.renameTo(file)) {
+            file.delete();
+            if (!temp.renameTo(file)) {
+                throw new IOException("cannot write " + file);
+            }
+        }
+    }
+
+    private static String stamp(List<File> files) {
+        Hasher hasher = Hashing.sha1().newHasher();
+        for (File file : files) {
+            hasher.putString(file.getAbsolutePath(), StandardCharsets.UTF_8);
+            hasher.putLong(file.isFile() ? file.length() : -1);
+            hasher.putLong(file.lastModified());
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * The interpreter a script names in its "#!" line, split into words, as
+     * [/usr/bin/env, python3] for "#!/usr/bin/env python3".
+     *
+     * @return null if the script has no such line or cannot be read
+     */
+    static List<String> interpreter(File script) {
+        byte[] head = new byte[256];
+        int length = 0;
+        try (InputStream in = new FileInputStream(script)) {
+            int read;
+            while (length < head.length && (read = in.read(head, length, head.length - length)) > 0) {
+                length += read;
+            }
+        } catch (IOException e) {
+            return null;
+        }
+        String line = new String(head, 0, length, StandardCharsets.ISO_8859_1);
+        if (!line.startsWith("#!")) {
+            return null;
+        }
+        int end = line.indexOf('\n');
+        if (end < 0) {
+            return null;
+        }
+        String command = line.substring(2, end).trim();
+        return command.isEmpty() ? null : Arrays.asList(command.split("\\s+"));
+    }
+
+    private static File file(String path) {
+        return path == null ? null : new File(path);
+    }
+
+    @Override
+    public String toString() {
+        return (pythonUsing ? "python " + (python != null ? python : pythonHome) : "jython")
+                + ", " + pyangVersion;
+    }
+}
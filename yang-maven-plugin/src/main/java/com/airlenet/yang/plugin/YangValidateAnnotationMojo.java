@@ -4,11 +4,13 @@ package com.airlenet.yang.plugin;
  * Created by airshiplay on 2017/9/2.
  */
 
-import com.airlenet.yang.codegen.ProcessUtil;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Mojo;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -34,9 +36,13 @@ public class YangValidateAnnotationMojo extends AbstractProcessorMojo {
         List<String> yangImportRoots = getYangImportRoots();
 
         File yangSourceRoot = getYangSourceRoot();
+        long start = System.currentTimeMillis();
+        CodegenReport report = getReport();
+        report.start("validate");
 
         try {
             List<String> yangList = getYangFileList();
+            report.count("validate", "yangFiles", yangList.size());
 
             StringBuilder builder = new StringBuilder();
             builder.append(yangSourceRoot.getAbsolutePath());
@@ -53,22 +59,27 @@ public class YangValidateAnnotationMojo extends AbstractProcessorMojo {
             for (String yangfile : yangList) {
                 getLog().info("convert yang file " + yangfile);
                 try {
+                    List<String> launcher = new ArrayList<>();
+                    List<String> arguments = new ArrayList<>(Arrays.asList(yangfile, "-p", path, "--lax-quote-checks"));
+                    File base = null;
                     if (pythonUsing) {
                         if (windows) {
-                            if (showWarnings) {
-                                ProcessUtil.process(python.getAbsolutePath(), new File(pythonHome, "Scripts/pyang").getAbsolutePath(), yangfile, "-p", path, "--lax-quote-checks");
-                            } else {
-                                ProcessUtil.process(python.getAbsolutePath(), new File(pythonHome, "Scripts/pyang").getAbsolutePath(), yangfile, "-p", path, "--lax-quote-checks", "-W", "none");
+                            launcher.add(python.getAbsolutePath());
+                            launcher.add(new File(pythonHome, "Scripts/pyang").getAbsolutePath());
+                            if (!showWarnings) {
+                                arguments.addAll(Arrays.asList("-W", "none"));
                             }
                         } else {
-                            ProcessUtil.process("pyang", yangfile, "-p", path, "--lax-quote-checks", "-W", "none");
+                            launcher.add("pyang");
+                            arguments.addAll(Arrays.asList("-W", "none"));
                         }
-
                     } else {
-                        ProcessUtil.process(jython, pyang.getAbsolutePath(), yangfile,
-                                "-p", path, "--lax-quote-checks ");
+                        launcher.add(pyang.getAbsolutePath());
+                        base = jython.getParentFile();
                     }
+                    runPyang("validate", Collections.singletonList(yangfile), base, launcher, arguments);
                 } catch (Exception e) {
+                    report.count("validate", "failed", 1);
                     getLog().error("convert yang file error " + yangfile, e);
                     if (errorAbort)
                         throw e;
@@ -78,6 +89,9 @@ public class YangValidateAnnotationMojo extends AbstractProcessorMojo {
         } catch (Exception e) {
             getLog().error("execute error", e);
             throw new MojoExecutionException(e.getMessage(), e);
+        } finally {
+            shutdownWorkers();
+            writeReport("validate", start);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.airlenet.yang.plugin;
+
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CodegenReportTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void parseAndGenerateTimes() throws Exception {
+        File file = new File(folder.getRoot(), "target/yang-codegen-report.json");
+        CodegenReport report = CodegenReport.of(file);
+        report.start("process");
+        report.invocation("process", Collections.singletonList("a.yang"), 900, 700, false);
+        report.invocation("process", Arrays.asList("b.yang", "c.yang"), 100, 90, 30, 60, false);
+        report.invocation("process", Collections.singletonList("d.yang"), 50, 40, 20, 25, false);
+        report.write();
+
+        String json = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        assertTrue(json, json.contains("\"pyangTime\": 1050, \"parseTime\": 50, \"generateTime\": 85"));
+        assertTrue(json, json.contains("\"wallTime\": 900, \"cpuTime\": 700, \"parseTime\": -1, \"generateTime\": -1"));
+        assertTrue(json, json.contains("\"wallTime\": 100, \"cpuTime\": 90, \"parseTime\": 30, \"generateTime\": 60"));
+
+        final List<String> lines = new ArrayList<>();
+        report.logSlowest("process", 2, new SystemStreamLog() {
+            @Override
+            public void info(CharSequence content) {
+                lines.add(content.toString());
+            }
+        });
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(1), lines.get(1).endsWith(" (cpu 700 ms) a.yang"));
+        assertTrue(lines.get(2), lines.get(2).endsWith(" (cpu 90 ms) (parse 30 ms, generate 60 ms) b.yang c.yang"));
+    }
+}
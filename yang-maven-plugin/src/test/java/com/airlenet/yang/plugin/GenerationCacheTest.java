@@ -0,0 +1,99 @@
+package com.airlenet.yang.plugin;
+
+import com.airlenet.yang.codegen.YangDependencyGraph;
+import org.apache.commons.io.FileUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class GenerationCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File sourceRoot;
+    private File importRoot;
+    private File manifest;
+
+    @Before
+    public void setUp() throws IOException {
+        sourceRoot = folder.newFolder("yang");
+        importRoot = folder.newFolder("imports");
+        manifest = new File(folder.getRoot(), "codegen.manifest");
+        write(new File(sourceRoot, "app.yang"), "module app {\n"
+                + "  namespace \"urn:app\";\n"
+                + "  prefix app;\n"
+                + "  import common { prefix c; }\n"
+                + "  import ietf-inet-types { prefix inet; }\n"
+                + "}\n");
+        write(new File(importRoot, "common.yang"), "module common {\n"
+                + "  namespace \"urn:common\";\n"
+                + "  prefix c;\n"
+                + "}\n");
+    }
+
+    /**
+     * Loads the manifest with a graph of both roots and records the packages
+     * pyang generated for app, the module it imports from the import root and
+     * the module it finds in its own module directory.
+     */
+    private GenerationCache build() throws IOException {
+        YangDependencyGraph graph = YangDependencyGraph.scan(Arrays.asList(sourceRoot, importRoot));
+        GenerationCache cache = GenerationCache.load(manifest, "options", graph);
+        Set<String> packages = cache.getPackages();
+        if (new File(sourceRoot, "app.yang").exists()) {
+            packages.addAll(Arrays.asList("app", "common", "ietfInetTypes"));
+        }
+        cache.setPackages(packages);
+        return cache;
+    }
+
+    @Test
+    public void keepsPackagesOfImportedModules() throws IOException {
+        GenerationCache cache = build();
+        assertEquals(Collections.emptySet(), cache.removedPackages());
+        cache.save();
+
+        cache = build();
+        assertEquals(Collections.emptySet(), cache.removedPackages());
+        assertEquals(new TreeSet<>(Arrays.asList("app", "common", "ietfInetTypes")), cache.getPackages());
+    }
+
+    @Test
+    public void removesPackagesOfDeletedModules() throws IOException {
+        GenerationCache cache = build();
+        cache.removedPackages();
+        cache.save();
+
+        assertTrue(new File(sourceRoot, "app.yang").delete());
+        cache = build();
+        assertEquals(Collections.singleton("app"), cache.removedPackages());
+        cache.save();
+
+        cache = build();
+        assertEquals(Collections.emptySet(), cache.removedPackages());
+    }
+
+    @Test
+    public void removesNothingWithoutAnEarlierScan() throws IOException {
+        assertTrue(new File(sourceRoot, "app.yang").delete());
+        GenerationCache cache = build();
+        cache.setPackages(new TreeSet<>(Arrays.asList("app", "common")));
+        assertEquals(Collections.emptySet(), cache.removedPackages());
+    }
+
+    private static void write(File file, String content) throws IOException {
+        FileUtils.writeStringToFile(file, content, "UTF-8");
+    }
+}
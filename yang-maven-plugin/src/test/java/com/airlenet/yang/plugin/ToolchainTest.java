@@ -0,0 +1,44 @@
+package com.airlenet.yang.plugin;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ToolchainTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File script(String content) throws IOException {
+        File script = folder.newFile();
+        FileUtils.writeStringToFile(script, content, "UTF-8");
+        return script;
+    }
+
+    @Test
+    public void interpreterOfVirtualenvScript() throws IOException {
+        File script = script("#!/home/dev/venv/bin/python\n# -*- coding: utf-8 -*-\nimport sys\n");
+        assertEquals(Arrays.asList("/home/dev/venv/bin/python"), Toolchain.interpreter(script));
+    }
+
+    @Test
+    public void interpreterWithArguments() throws IOException {
+        File script = script("#! /usr/bin/env  python3\r\nimport sys\n");
+        assertEquals(Arrays.asList("/usr/bin/env", "python3"), Toolchain.interpreter(script));
+    }
+
+    @Test
+    public void noInterpreter() throws IOException {
+        assertNull(Toolchain.interpreter(script("import sys\n")));
+        assertNull(Toolchain.interpreter(script("#!\n")));
+        assertNull(Toolchain.interpreter(new File(folder.getRoot(), "missing")));
+    }
+}